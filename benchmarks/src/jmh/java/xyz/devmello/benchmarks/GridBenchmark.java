@@ -0,0 +1,133 @@
+package xyz.devmello.benchmarks;
+
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.pathgen.Coord;
+import xyz.devmello.voyager.pathgen.DStarLiteSearch;
+import xyz.devmello.voyager.pathgen.FTCField;
+import xyz.devmello.voyager.pathgen.Grid;
+import xyz.devmello.voyager.pathgen.HierarchicalSearch;
+import xyz.devmello.voyager.pathgen.LocalizedGrid;
+import xyz.devmello.voyager.pathgen.NodeValidator;
+import xyz.devmello.voyager.pathgen.OccupancyGrid;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+
+/**
+ * Benchmarks building and updating the grids paths are searched on: a
+ * {@link Grid} of nodes versus an {@link OccupancyGrid}, validating zones
+ * by rasterizing them versus testing every cell, building a
+ * {@link HierarchicalSearch}, and repairing a {@link DStarLiteSearch}
+ * after a few cells on its path are blocked.
+ *
+ * <p>
+ * Every benchmark uses the walled field from {@link GridSearchBenchmark}.
+ * </p>
+ */
+@State(Scope.Thread)
+public class GridBenchmark {
+    private static final PointXY START = new PointXY(56, 0.4);
+    private static final PointXY END = new PointXY(-52.5, 0.4);
+
+    /**
+     * The size of a grid cell, in field units. 1.0 is a 144x144 grid, and
+     * 0.25 is a 576x576 grid.
+     */
+    @Param({ "1.0", "0.5", "0.25" })
+    public double scaling;
+
+    private final List<Zone> zones = GridSearchBenchmark.obstacles();
+    private int width;
+    private int height;
+    private OccupancyGrid grid;
+    private Coord start;
+    private Coord end;
+    private DStarLiteSearch incremental;
+    private Coord wall;
+    private boolean blocked = false;
+
+    private LocalizedGrid emptyGrid() {
+        return LocalizedGrid.generateLocalizedGrid(
+            scaling,
+            scaling,
+            FTCField.minX,
+            FTCField.minY,
+            FTCField.maxX,
+            FTCField.maxY
+        );
+    }
+
+    @Setup
+    public void setup() {
+        LocalizedGrid localized = emptyGrid();
+
+        NodeValidator.validateNodes(localized, zones);
+        grid = localized.getOccupancy();
+        width = grid.getWidth();
+        height = grid.getHeight();
+        start = localized.toCoord(START);
+        end = localized.toCoord(END);
+
+        // replan() toggles a short wall across the middle of this path
+        incremental = new DStarLiteSearch(grid.copy());
+        List<Coord> path = incremental.search(start, end);
+        wall = path.get(path.size() / 2);
+    }
+
+    @Benchmark
+    public Grid generateGrid() {
+        return Grid.generateGrid(width, height);
+    }
+
+    @Benchmark
+    public OccupancyGrid generateOccupancyGrid() {
+        return new OccupancyGrid(width, height);
+    }
+
+    @Benchmark
+    public LocalizedGrid validateNodes() {
+        LocalizedGrid grid = emptyGrid();
+
+        NodeValidator.validateNodes(grid, zones);
+
+        return grid;
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public LocalizedGrid validateNodesPointwise() {
+        LocalizedGrid grid = emptyGrid();
+
+        NodeValidator.validateNodesPointwise(grid, zones);
+
+        return grid;
+    }
+
+    @Benchmark
+    public HierarchicalSearch buildHierarchical() {
+        return new HierarchicalSearch(grid);
+    }
+
+    /**
+     * Block or unblock a few cells in the middle of the path and let D*
+     * Lite repair its previous search. Compare with
+     * {@link GridSearchBenchmark#search()} for A* from scratch.
+     */
+    @Benchmark
+    public List<Coord> replan() {
+        blocked = !blocked;
+
+        for (int dx = -2; dx <= 2; dx++) {
+            // leave cells that are inside a zone alone
+            if (grid.isValid(wall.x() + dx, wall.y())) {
+                incremental.setValid(wall.x() + dx, wall.y(), !blocked);
+            }
+        }
+
+        return incremental.search(start, end);
+    }
+}
@@ -0,0 +1,93 @@
+package xyz.devmello.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.pathgen.Coord;
+import xyz.devmello.voyager.pathgen.FTCField;
+import xyz.devmello.voyager.pathgen.GridSearch;
+import xyz.devmello.voyager.pathgen.LocalizedGrid;
+import xyz.devmello.voyager.pathgen.NodeValidator;
+import xyz.devmello.voyager.pathgen.SearchStrategy;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+
+/**
+ * Benchmarks each {@link SearchStrategy} on an FTC field.
+ *
+ * <p>
+ * The "empty" field has no obstacles and searches corner to corner. The
+ * "obstacles" field has walls around the middle of the field and searches
+ * from one side to the other, so the path has to go around them.
+ * </p>
+ *
+ * <p>
+ * {@link SearchStrategy#D_STAR_LITE} keeps its previous search around, so
+ * after the first call it only measures a repeated query on an unchanged
+ * grid. {@link GridBenchmark#replan()} measures it after the grid changes.
+ * </p>
+ */
+@State(Scope.Thread)
+public class GridSearchBenchmark {
+    /**
+     * The size of a grid cell, in field units. 1.0 is a 144x144 grid, and
+     * 0.25 is a 576x576 grid.
+     */
+    @Param({ "1.0", "0.5", "0.25" })
+    public double scaling;
+
+    @Param({ "empty", "obstacles" })
+    public String field;
+
+    @Param
+    public SearchStrategy strategy;
+
+    private Coord start;
+    private Coord end;
+    private GridSearch search;
+
+    static List<Zone> obstacles() {
+        List<Zone> zones = new ArrayList<>();
+
+        zones.add(new Zone(new Rectangle(new PointXY(-15.3, 24.5), new PointXY(14.8, -23.8))));
+        zones.add(new Zone(new Rectangle(new PointXY(-25.2, -24), new PointXY(24.9, -22))));
+        zones.add(new Zone(new Rectangle(new PointXY(-25.4, 25.0), new PointXY(24.7, 23))));
+        zones.add(new Zone(new Rectangle(new PointXY(30, -72), new PointXY(34, 40))));
+        zones.add(new Zone(new Rectangle(new PointXY(-34, -40), new PointXY(-30, 72))));
+
+        return zones;
+    }
+
+    @Setup
+    public void setup() {
+        boolean empty = field.equals("empty");
+        LocalizedGrid localized = LocalizedGrid.generateLocalizedGrid(
+            scaling,
+            scaling,
+            FTCField.minX,
+            FTCField.minY,
+            FTCField.maxX,
+            FTCField.maxY
+        );
+
+        if (!empty) NodeValidator.validateNodes(localized, obstacles());
+
+        start = localized.toCoord(empty
+            ? new PointXY(-60, -60)
+            : new PointXY(56, 0.4));
+        end = localized.toCoord(empty
+            ? new PointXY(60, 55)
+            : new PointXY(-52.5, 0.4));
+        search = GridSearch.create(localized.getOccupancy(), strategy);
+    }
+
+    @Benchmark
+    public List<Coord> search() {
+        return search.search(start, end);
+    }
+}
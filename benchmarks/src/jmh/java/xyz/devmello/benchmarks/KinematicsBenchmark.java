@@ -0,0 +1,74 @@
+package xyz.devmello.benchmarks;
+
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.math.kinematics.MecanumKinematics;
+import xyz.devmello.voyager.math.kinematics.MecanumState;
+import xyz.devmello.voyager.math.kinematics.RelativeMecanumKinematics;
+import xyz.devmello.voyager.math.kinematics.SwerveDriveKinematics;
+import xyz.devmello.voyager.math.kinematics.SwerveState;
+
+/**
+ * Benchmarks {@code calculate(Translation)} for
+ * {@link MecanumKinematics}, {@link RelativeMecanumKinematics} and
+ * {@link SwerveDriveKinematics}, which drives call once per tick.
+ */
+@State(Scope.Thread)
+public class KinematicsBenchmark {
+    private static final int QUERIES = 1024;
+
+    private final MecanumKinematics mecanum = new MecanumKinematics(14, 14);
+    private final RelativeMecanumKinematics relativeMecanum =
+        new RelativeMecanumKinematics(0, 1, Angle.fromDeg(0));
+    private final SwerveDriveKinematics swerve = new SwerveDriveKinematics(
+        new PointXY(7, 7),
+        new PointXY(-7, 7),
+        new PointXY(7, -7),
+        new PointXY(-7, -7)
+    );
+    private final Translation[] translations = new Translation[QUERIES];
+    private int index = 0;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(2021);
+
+        for (int i = 0; i < QUERIES; i++) {
+            translations[i] = new Translation(
+                random.nextDouble() * 2 - 1,
+                random.nextDouble() * 2 - 1,
+                random.nextDouble() * 2 - 1
+            );
+        }
+    }
+
+    private Translation next() {
+        index = (index + 1) & (QUERIES - 1);
+
+        return translations[index];
+    }
+
+    @Benchmark
+    public MecanumState mecanum() {
+        return mecanum.calculate(next());
+    }
+
+    @Benchmark
+    public MecanumState relativeMecanum() {
+        return relativeMecanum.calculate(next());
+    }
+
+    @Benchmark
+    public SwerveState swerve() {
+        // SwerveDriveKinematics has no center of rotation until one is
+        // passed in, so it's passed in every time. it's the same point
+        // every time, so the inverse kinematics matrix is only built once
+        return swerve.calculate(next(), PointXY.ZERO);
+    }
+}
@@ -0,0 +1,76 @@
+package xyz.devmello.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import xyz.devmello.voyager.logging.AsyncLogSink;
+import xyz.devmello.voyager.logging.LogLevel;
+import xyz.devmello.voyager.logging.Logger;
+
+/**
+ * Benchmarks a debug-level {@link Logger} call with logging disabled (the
+ * level is above debug), enabled with synchronous output, and enabled
+ * with an {@link AsyncLogSink}.
+ *
+ * <p>
+ * Each mode is measured with boxed varargs arguments and with the
+ * primitive overloads. Output goes to a consumer that only counts
+ * characters, so the cost of the console isn't measured.
+ * </p>
+ */
+@State(Scope.Thread)
+public class LoggerBenchmark {
+    /**
+     * Whether debug logs are dropped, written synchronously, or written
+     * by an asynchronous sink.
+     */
+    @Param({ "disabled", "enabled", "async" })
+    public String mode;
+
+    private double x = 12.5;
+    private volatile long characters = 0;
+
+    @Setup
+    public void setup() {
+        Logger.setOutput(line -> characters += line.length());
+
+        switch (mode) {
+            case "enabled":
+                Logger.setLoggingLevel(LogLevel.DEBUG);
+                Logger.useSyncOutput();
+                break;
+            case "async":
+                Logger.setLoggingLevel(LogLevel.DEBUG);
+                Logger.useAsyncOutput(
+                    4_096,
+                    AsyncLogSink.OverflowPolicy.DROP_OLDEST
+                );
+                break;
+            default:
+                Logger.setLoggingLevel(LogLevel.WARN);
+                Logger.useSyncOutput();
+                break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Logger.useSyncOutput();
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.setOutput(null);
+    }
+
+    @Benchmark
+    public void objectArguments() {
+        // the varargs overload boxes its argument
+        Logger.debug(LoggerBenchmark.class, "x: <%s>", x);
+    }
+
+    @Benchmark
+    public void primitiveArguments() {
+        Logger.debugDouble(LoggerBenchmark.class, "x: <%s>", x);
+    }
+}
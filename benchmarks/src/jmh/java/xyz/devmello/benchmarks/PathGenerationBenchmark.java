@@ -0,0 +1,114 @@
+package xyz.devmello.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.pathgen.FTCField;
+import xyz.devmello.voyager.pathgen.LocalizedGrid;
+import xyz.devmello.voyager.pathgen.LocalizedPathGen;
+import xyz.devmello.voyager.pathgen.Node;
+import xyz.devmello.voyager.pathgen.NodeValidator;
+import xyz.devmello.voyager.pathgen.PathGen;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+
+/**
+ * Benchmarks {@link PathGen#findPath()}, the old list-based
+ * {@link PathGen#findPathLinearScan()} it replaced, and
+ * {@link LocalizedPathGen#getPath(PointXY, PointXY, double)} on an FTC
+ * field, at several grid resolutions and obstacle densities.
+ *
+ * <p>
+ * Obstacles are small squares scattered across the middle of the field
+ * with a fixed seed, so every run sees the same field. Path and grid
+ * caching are left off, so every call does the full search.
+ * </p>
+ */
+@State(Scope.Thread)
+public class PathGenerationBenchmark {
+    private static final PointXY START = new PointXY(56, 0.4);
+    private static final PointXY END = new PointXY(-52.5, 0.4);
+
+    /**
+     * The size of a grid cell, in field units. 1.0 is a 144x144 grid, and
+     * 0.5 is a 288x288 grid.
+     */
+    @Param({ "2.0", "1.0", "0.5" })
+    public double scaling;
+
+    /**
+     * How many obstacles are on the field.
+     */
+    @Param({ "0", "8", "32" })
+    public int zoneCount;
+
+    private LocalizedGrid grid;
+    private Node start;
+    private Node end;
+    private LocalizedPathGen localizedPathGen;
+
+    private static List<Zone> zones(int count) {
+        Random random = new Random(2021);
+        List<Zone> zones = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            // keep obstacles away from the start and end points
+            double x = random.nextDouble() * 80 - 40;
+            double y = random.nextDouble() * 120 - 60;
+            double size = 2 + random.nextDouble() * 6;
+
+            zones.add(new Zone(new Rectangle(x, y, x + size, y + size)));
+        }
+
+        return zones;
+    }
+
+    @Setup
+    public void setup() {
+        List<Zone> zones = zones(zoneCount);
+
+        grid = LocalizedGrid.generateLocalizedGrid(
+            scaling,
+            scaling,
+            FTCField.minX,
+            FTCField.minY,
+            FTCField.maxX,
+            FTCField.maxY
+        );
+        NodeValidator.validateNodes(grid, zones);
+        start = grid.getNode(START);
+        end = grid.getNode(END);
+
+        localizedPathGen = new LocalizedPathGen(
+            zones,
+            scaling,
+            scaling,
+            FTCField.minX,
+            FTCField.minY,
+            FTCField.maxX,
+            FTCField.maxY
+        );
+    }
+
+    @Benchmark
+    public List<Node> findPath() {
+        return new PathGen(grid.getGrid(), start, end).findPath();
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public List<Node> findPathLinearScan() {
+        return new PathGen(grid.getGrid(), start, end).findPathLinearScan();
+    }
+
+    @Benchmark
+    public List<PointXY> getPath() {
+        return localizedPathGen.getPath(START, END, 0.5);
+    }
+}
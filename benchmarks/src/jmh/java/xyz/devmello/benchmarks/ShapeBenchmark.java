@@ -0,0 +1,70 @@
+package xyz.devmello.benchmarks;
+
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.math.geometry.Circle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.math.geometry.Triangle;
+
+/**
+ * Benchmarks {@code isPointInShape} for {@link Rectangle}, {@link Triangle}
+ * and {@link Circle}, which zones call for every grid cell when a grid is
+ * validated and for the robot's position every tick.
+ *
+ * <p>
+ * Query points are spread randomly (with a fixed seed) over an area about
+ * four times the size of each shape, so roughly a quarter of the queries
+ * are inside.
+ * </p>
+ */
+@State(Scope.Thread)
+public class ShapeBenchmark {
+    private static final int QUERIES = 1024;
+
+    private final Rectangle rectangle = new Rectangle(-10, -10, 10, 10);
+    private final Triangle triangle = new Triangle(
+        new PointXY(-10, -10),
+        new PointXY(10, -10),
+        new PointXY(0, 10)
+    );
+    private final Circle circle = new Circle(new PointXY(0, 0), 10);
+    private final PointXY[] points = new PointXY[QUERIES];
+    private int index = 0;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(2021);
+
+        for (int i = 0; i < QUERIES; i++) {
+            points[i] = new PointXY(
+                random.nextDouble() * 40 - 20,
+                random.nextDouble() * 40 - 20
+            );
+        }
+    }
+
+    private PointXY next() {
+        index = (index + 1) & (QUERIES - 1);
+
+        return points[index];
+    }
+
+    @Benchmark
+    public boolean rectangle() {
+        return rectangle.isPointInShape(next());
+    }
+
+    @Benchmark
+    public boolean triangle() {
+        return triangle.isPointInShape(next());
+    }
+
+    @Benchmark
+    public boolean circle() {
+        return circle.isPointInShape(next());
+    }
+}
@@ -0,0 +1,88 @@
+package xyz.devmello.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectory;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import xyz.devmello.voyager.math.MonotoneCubicSpline;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+
+/**
+ * Benchmarks {@link MonotoneCubicSpline#interpolateY(double)} and
+ * {@link AdvancedSplineTrajectory#nextMarker(PointXYZ)}.
+ *
+ * <p>
+ * Each invocation queries the next of a fixed set of inputs spread evenly
+ * along the spline, so the benchmark sees the same access pattern as a
+ * robot moving along a path.
+ * </p>
+ */
+@State(Scope.Thread)
+public class SplineBenchmark {
+    private static final int QUERIES = 1024;
+
+    /**
+     * How many control points the spline has.
+     */
+    @Param({ "4", "16", "64" })
+    public int points;
+
+    private MonotoneCubicSpline spline;
+    private AdvancedSplineTrajectory trajectory;
+    private double[] xs;
+    private PointXYZ[] positions;
+    private int index = 0;
+
+    @Setup
+    public void setup() {
+        double[] x = new double[points];
+        double[] y = new double[points];
+        AdvancedSplineTrajectoryBuilder builder = new AdvancedSplineTrajectoryBuilder()
+            .setStep(0.5)
+            .setSpeed(0.5)
+            .setTolerance(2)
+            .setAngleTolerance(Angle.fromDeg(5));
+
+        for (int i = 0; i < points; i++) {
+            x[i] = i * 10;
+            y[i] = i * 5 + Math.sin(i * 0.5) * 2;
+            builder.add(new PointXYZ(x[i], y[i], 90.0 * i / points));
+        }
+
+        spline = new MonotoneCubicSpline(x, y);
+        trajectory = builder.build();
+
+        double maxX = x[points - 1];
+        xs = new double[QUERIES];
+        positions = new PointXYZ[QUERIES];
+
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = maxX * i / QUERIES;
+            positions[i] = new PointXYZ(
+                xs[i],
+                spline.interpolateY(xs[i]) + 1,
+                0
+            );
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (QUERIES - 1);
+
+        return index;
+    }
+
+    @Benchmark
+    public double interpolateY() {
+        return spline.interpolateY(xs[next()]);
+    }
+
+    @Benchmark
+    public PointXYZ nextMarker() {
+        return trajectory.nextMarker(positions[next()]);
+    }
+}
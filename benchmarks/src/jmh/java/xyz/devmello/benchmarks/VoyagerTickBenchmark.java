@@ -0,0 +1,79 @@
+package xyz.devmello.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.devmello.voyager.Voyager;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.robot.AbstractDrive;
+import xyz.devmello.voyager.robot.AbstractOdometry;
+import xyz.devmello.voyager.robot.Robot;
+
+/**
+ * Benchmarks a single {@link Voyager#tick()} against a stub drive and
+ * odometry system, so only the library's own work is measured.
+ *
+ * <p>
+ * The robot never moves, so a follower never finishes - every tick is a
+ * steady-state tick of the same follower.
+ * </p>
+ */
+@State(Scope.Thread)
+public class VoyagerTickBenchmark {
+    /**
+     * What the robot is doing: nothing, following a linear trajectory, or
+     * following a spline trajectory.
+     */
+    @Param({ "idle", "linear", "spline" })
+    public String mode;
+
+    private Voyager voyager;
+    private Translation lastTranslation = Translation.ZERO;
+
+    @Setup
+    public void setup() {
+        AbstractOdometry odometry = new AbstractOdometry() {
+            private final PointXYZ position = new PointXYZ(0, 0, 0);
+
+            @Override
+            public PointXYZ getRawPosition() {
+                return position;
+            }
+        };
+
+        AbstractDrive drive = new AbstractDrive(
+            translation -> lastTranslation = translation,
+            () -> lastTranslation
+        );
+
+        voyager = new Voyager(new Robot(drive, odometry), 0.01)
+            .setSpeed(0.5)
+            .setTolerance(2)
+            .setAngleTolerance(Angle.fromDeg(5));
+
+        switch (mode) {
+            case "linear":
+                voyager.goTo(new PointXYZ(1_000, 1_000, 90));
+                break;
+            case "spline":
+                voyager.splineTo(
+                    new PointXYZ(10, 10, 0),
+                    new PointXYZ(20, 40, 45),
+                    new PointXYZ(60, 60, 90),
+                    new PointXYZ(100, 80, 90)
+                );
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Benchmark
+    public Voyager tick() {
+        return voyager.tick();
+    }
+}
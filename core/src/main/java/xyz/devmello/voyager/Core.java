@@ -50,6 +50,12 @@ public class Core {
      */
     public static final boolean pathfinderDefaultIsMinimal = false;
 
+    /**
+     * Whether new instances of {@code Pathfinder} read the robot's position
+     * once per tick, rather than every time it's requested.
+     */
+    public static final boolean pathfinderDefaultIsUsingPoseSnapshot = true;
+
     /**
      * The default random string length for new instances of
      * {@code Pathfinder}.
@@ -36,6 +36,7 @@ public class TickConfig {
     );
     private final List<Runnable> onTick = new ArrayList<>(3);
     private final List<Runnable> onFinish = new ArrayList<>(3);
+    private TickScheduler scheduler = null;
 
     /**
      * Set the configuration's delay, in milliseconds. The default delay is
@@ -113,6 +114,38 @@ public class TickConfig {
         return this;
     }
 
+    /**
+     * Tick at a fixed rate, rather than as fast as possible. This is the
+     * same as {@code setScheduler(new TickScheduler(rateHz))}.
+     *
+     * @param rateHz how many times per second Pathfinder should be ticked.
+     * @return {@code this}, used for method chaining.
+     * @since 1.2.0
+     */
+    public TickConfig setRateHz(double rateHz) {
+        return setScheduler(new TickScheduler(rateHz));
+    }
+
+    /**
+     * Set the scheduler used to pace ticks. By default, there's no
+     * scheduler, and Pathfinder is ticked as fast as possible. The
+     * scheduler's statistics (overruns and jitter) can be read after the
+     * {@code tickUntil} method has finished.
+     *
+     * @param scheduler the scheduler to use, or null to tick as fast as
+     *                  possible.
+     * @return {@code this}, used for method chaining.
+     * @since 1.2.0
+     */
+    public TickConfig setScheduler(TickScheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
     public double getDelayMs() {
         return delayMs;
     }
@@ -12,6 +12,8 @@ package xyz.devmello.voyager;
 
 import xyz.devmello.voyager.execution.ExecutorManager;
 import xyz.devmello.voyager.plugin.PathfinderPluginManager;
+import xyz.devmello.voyager.profiling.TickPhase;
+import xyz.devmello.voyager.profiling.TickProfiler;
 
 import xyz.devmello.voyager.pathgen.zones.ZoneProcessor;
 
@@ -33,11 +35,19 @@ public class TickProcessor {
         PathfinderPluginManager pluginManager,
         ZoneProcessor zoneProcessor
     ) {
+        TickProfiler profiler = voyager.getProfiler();
+        long time = TickProfiler.start(profiler);
+
         voyager.getRobot().odometry().tick();
+        voyager.capturePoseSnapshot();
+        time = TickProfiler.lap(profiler, TickPhase.ODOMETRY, time);
+
         pluginManager.preTick(voyager);
+        time = TickProfiler.lap(profiler, TickPhase.PRE_TICK, time);
 
         if (!isMinimal) {
             zoneProcessor.update(voyager);
+            TickProfiler.lap(profiler, TickPhase.ZONES, time);
         }
 
         return voyager;
@@ -47,8 +57,13 @@ public class TickProcessor {
         Voyager voyager,
         ExecutorManager executorManager
     ) {
+        TickProfiler profiler = voyager.getProfiler();
+        long time = TickProfiler.start(profiler);
+
         executorManager.tick();
 
+        TickProfiler.lap(profiler, TickPhase.EXECUTOR, time);
+
         return voyager;
     }
 
@@ -58,12 +73,17 @@ public class TickProcessor {
         PathfinderPluginManager pluginManager,
         Runnable runOnTickOperations
     ) {
+        TickProfiler profiler = voyager.getProfiler();
+        long time = TickProfiler.start(profiler);
+
         pluginManager.onTick(voyager);
 
         if (!isMinimal) {
             runOnTickOperations.run();
         }
 
+        TickProfiler.lap(profiler, TickPhase.ON_TICK, time);
+
         return voyager;
     }
 }
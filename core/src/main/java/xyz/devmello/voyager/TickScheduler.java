@@ -0,0 +1,205 @@
+package xyz.devmello.voyager;
+
+import xyz.devmello.voyager.profiling.LatencyHistogram;
+import xyz.devmello.voyager.utils.StringUtils;
+import xyz.devmello.voyager.utils.time.Time;
+
+/**
+ * Paces a loop so it runs at a fixed rate, like 200 ticks per second,
+ * rather than as fast as possible.
+ *
+ * <p>
+ * Deadlines are kept in {@link Time#nanoTime()} units. Each tick's
+ * deadline is exactly one period after the previous tick's deadline, so
+ * small delays don't accumulate into drift. While waiting for a deadline,
+ * the scheduler parks the thread until shortly before the deadline (so it
+ * doesn't burn a whole core), then spins for the last
+ * {@link #getSpinNanos()} nanoseconds, because parking on most systems
+ * wakes up late by anywhere from tens of microseconds to a millisecond.
+ * With a {@link xyz.devmello.voyager.utils.time.VirtualClock}, the clock
+ * jumps straight to each deadline instead, so the loop runs as fast as
+ * possible while still seeing uniform time steps.
+ * </p>
+ *
+ * <p>
+ * If a tick takes longer than a whole period, it's counted as an overrun,
+ * and the schedule restarts from the current time - the scheduler doesn't
+ * try to catch up by running several ticks back to back, which would give
+ * controllers a burst of tiny time deltas. The difference between every
+ * actual period and the target period is recorded in a
+ * {@link LatencyHistogram}, available from {@link #getJitter()}.
+ * </p>
+ *
+ * <p>
+ * A scheduler can be used by passing it to
+ * {@link TickConfig#setScheduler(TickScheduler)} (or using
+ * {@link TickConfig#setRateHz(double)}), or in any loop directly:
+ * <pre>{@code
+ * TickScheduler scheduler = new TickScheduler(200);
+ *
+ * while (opModeIsActive()) {
+ *     voyager.tick();
+ *     scheduler.awaitNextTick();
+ * }
+ * }</pre>
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class TickScheduler {
+    /**
+     * The default amount of time to spin (rather than park) before each
+     * deadline, in nanoseconds.
+     */
+    public static final long DEFAULT_SPIN_NANOS = 1_000_000;
+
+    private final long periodNanos;
+    private final LatencyHistogram jitter = new LatencyHistogram();
+    private long spinNanos = DEFAULT_SPIN_NANOS;
+    private boolean isStarted = false;
+    private long deadline = 0;
+    private long lastTick = 0;
+    private long ticks = 0;
+    private long overruns = 0;
+    private long maxOverrunNanos = 0;
+
+    /**
+     * Create a new {@code TickScheduler}.
+     *
+     * @param rateHz how many times per second the loop should run.
+     */
+    public TickScheduler(double rateHz) {
+        if (!(rateHz > 0) || Double.isInfinite(rateHz)) {
+            throw new IllegalArgumentException(
+                "Tick rate must be a positive, finite number!"
+            );
+        }
+
+        this.periodNanos = Math.max(1, Math.round(1_000_000_000 / rateHz));
+    }
+
+    /**
+     * Set how long to spin before each deadline, rather than park. Higher
+     * values use more CPU time, but deadlines are hit more precisely.
+     *
+     * @param spinNanos how long to spin for, in nanoseconds. 0 means the
+     *                  scheduler will only park.
+     * @return {@code this}, used for method chaining.
+     */
+    public TickScheduler setSpinNanos(long spinNanos) {
+        if (spinNanos < 0) throw new IllegalArgumentException(
+            "Spin time may not be negative!"
+        );
+
+        this.spinNanos = spinNanos;
+
+        return this;
+    }
+
+    public long getSpinNanos() {
+        return spinNanos;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    /**
+     * Start a new schedule, with the first deadline one period from now.
+     * This is called automatically by the first call to
+     * {@link #awaitNextTick()}, so it's only needed to restart a schedule
+     * after a pause.
+     */
+    public void start() {
+        long now = Time.nanoTime();
+
+        deadline = now + periodNanos;
+        lastTick = now;
+        isStarted = true;
+    }
+
+    /**
+     * Block until the next deadline. This should be called once per tick,
+     * after the tick's work is done.
+     */
+    public void awaitNextTick() {
+        if (!isStarted) start();
+
+        long now = Time.nanoTime();
+
+        if (now - deadline > 0) {
+            // the tick took longer than a whole period - don't wait, and
+            // start the schedule again from now
+            overruns++;
+            maxOverrunNanos = Math.max(maxOverrunNanos, now - deadline);
+            deadline = now;
+        } else {
+            Time.sleepUntil(deadline, spinNanos);
+            now = Time.nanoTime();
+        }
+
+        jitter.record(Math.abs((now - lastTick) - periodNanos));
+        lastTick = now;
+        deadline += periodNanos;
+        ticks++;
+    }
+
+    /**
+     * Get the number of ticks that have been scheduled.
+     *
+     * @return how many times {@link #awaitNextTick()} has returned.
+     */
+    public long getTickCount() {
+        return ticks;
+    }
+
+    /**
+     * Get the number of ticks that took longer than a whole period.
+     *
+     * @return how many ticks overran their deadline.
+     */
+    public long getOverrunCount() {
+        return overruns;
+    }
+
+    /**
+     * Get the largest amount any tick has overrun its deadline by.
+     *
+     * @return the longest overrun, in nanoseconds.
+     */
+    public long getMaxOverrunNanos() {
+        return maxOverrunNanos;
+    }
+
+    /**
+     * Get a histogram of how far every period was from the target period,
+     * in nanoseconds.
+     *
+     * @return the period jitter histogram.
+     */
+    public LatencyHistogram getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Reset the tick count, overrun statistics, and jitter histogram. The
+     * schedule itself isn't affected.
+     */
+    public void resetStatistics() {
+        jitter.reset();
+        ticks = 0;
+        overruns = 0;
+        maxOverrunNanos = 0;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "TickScheduler(period=%sus, ticks=%s, overruns=%s, jitter: %s)",
+            periodNanos / 1_000,
+            ticks,
+            overruns,
+            jitter
+        );
+    }
+}
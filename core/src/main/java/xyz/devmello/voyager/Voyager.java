@@ -32,6 +32,8 @@ import xyz.devmello.voyager.plugin.bundled.PositionLocker;
 import xyz.devmello.voyager.plugin.bundled.StatTracker;
 import xyz.devmello.voyager.plugin.prebuilt.AutoRotator;
 import xyz.devmello.voyager.plugin.prebuilt.HeadingLock;
+import xyz.devmello.voyager.profiling.TickPhase;
+import xyz.devmello.voyager.profiling.TickProfiler;
 import xyz.devmello.voyager.robot.Drive;
 import xyz.devmello.voyager.robot.Odometry;
 import xyz.devmello.voyager.robot.Robot;
@@ -129,10 +131,17 @@ public class Voyager {
     private static final Map<String, Trajectory> TRAJECTORY_MAP = new HashMap<>();
 
     /**
-     * Globally-accessible map of stack traces for where trajectories were
-     * added from.
+     * Globally-accessible map of where trajectories were added from. Stack
+     * traces are only captured while debug logging is enabled (capturing
+     * one walks the whole stack), and are only formatted when they're
+     * needed (see {@link #getStackTraceMap()}).
      */
-    private static final Map<String, String> STACK_TRACE_MAP = new HashMap<>();
+    private static final Map<String, Throwable> STACK_TRACE_MAP = new HashMap<>();
+
+    /**
+     * How many stack frames are included in a formatted stack trace.
+     */
+    private static final int STACK_TRACE_DEPTH = 10;
 
     /**
      * The {@code Robot} (made up of {@code Drive} and {@code Odometry}) that
@@ -211,6 +220,23 @@ public class Voyager {
      */
     private boolean isMinimal = Core.pathfinderDefaultIsMinimal;
 
+    /**
+     * Should the robot's position be read once per tick?
+     */
+    private boolean isUsingPoseSnapshot =
+        Core.pathfinderDefaultIsUsingPoseSnapshot;
+
+    /**
+     * The robot's raw position, as it was read at the start of the current
+     * tick. This is null outside of a tick.
+     */
+    private PointXYZ tickRawPosition = null;
+
+    /**
+     * The tick profiler, or null if profiling is disabled.
+     */
+    private TickProfiler profiler = null;
+
     /**
      * Create a new {@code Pathfinder} instance. This constructor will
      * conditionally load any automatically loading plugins - if the plugin's
@@ -309,7 +335,7 @@ public class Voyager {
         this.robot = robot;
         this.generator = generator;
         this.turnController = turnController;
-        this.executorManager = new ExecutorManager(robot);
+        this.executorManager = new ExecutorManager(robot, this::getPosition);
         this.zoneProcessor = new ZoneProcessor();
         this.pluginManager = new PathfinderPluginManager();
         this.onTickOperations = new HashMap<>();
@@ -580,27 +606,45 @@ public class Voyager {
             "named <" +
             trajectoryName +
             "> because a trajectory " +
-            "with that name already exists! The existing " +
-            "trajectory was added from here: " +
-            STACK_TRACE_MAP.get(trajectoryName)
+            "with that name already exists! " +
+            describeOrigin(STACK_TRACE_MAP.get(trajectoryName))
         );
 
-        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
-
-        if (stackTrace.length > 10) {
-            StackTraceElement[] temp = new StackTraceElement[10];
-            System.arraycopy(stackTrace, 0, temp, 0, 10);
-            stackTrace = temp;
+        if (Logger.isDebugEnabled()) {
+            STACK_TRACE_MAP.put(trajectoryName, new Throwable());
         }
 
-        StringBuilder builder = new StringBuilder(stackTrace.length * 20);
-        for (StackTraceElement element : stackTrace) {
-            builder.append(element);
+        TRAJECTORY_MAP.put(trajectoryName, trajectory);
+    }
+
+    private static String describeOrigin(Throwable throwable) {
+        if (throwable == null) return "Enable debug logging to see " +
+            "where the existing trajectory was added from.";
+
+        return "The existing trajectory was added from here: " +
+            formatStackTrace(throwable);
+    }
+
+    /**
+     * Format the first few frames of a stack trace.
+     *
+     * @param throwable the throwable to get the stack trace from. This may
+     *                  be null.
+     * @return the formatted stack trace.
+     */
+    private static String formatStackTrace(Throwable throwable) {
+        if (throwable == null) return "";
+
+        StackTraceElement[] stackTrace = throwable.getStackTrace();
+        int depth = Math.min(stackTrace.length, STACK_TRACE_DEPTH);
+
+        StringBuilder builder = new StringBuilder(depth * 20);
+        for (int i = 0; i < depth; i++) {
+            builder.append(stackTrace[i]);
             builder.append("\n");
         }
 
-        STACK_TRACE_MAP.put(trajectoryName, builder.toString());
-        TRAJECTORY_MAP.put(trajectoryName, trajectory);
+        return builder.toString();
     }
 
     /**
@@ -696,10 +740,24 @@ public class Voyager {
      * name twice. Ideally, you'll never even know that this map exists, but...
      * things don't always go ideally, unfortunately.
      *
+     * <p>
+     * Only trajectories that were added while debug logging was enabled
+     * have a stack trace. Stack traces are formatted every time this
+     * method is called, and the returned map is a copy: modifying it won't
+     * affect the trajectory map.
+     * </p>
+     *
      * @return Pathfinder's global stack trace map.
      */
     public static Map<String, String> getStackTraceMap() {
-        return STACK_TRACE_MAP;
+        Map<String, String> map = new HashMap<>(STACK_TRACE_MAP.size());
+
+        for (Map.Entry<String, Throwable> entry : STACK_TRACE_MAP.entrySet()) map.put(
+            entry.getKey(),
+            formatStackTrace(entry.getValue())
+        );
+
+        return map;
     }
 
     /**
@@ -716,6 +774,104 @@ public class Voyager {
         return this;
     }
 
+    /**
+     * Set whether the robot's position should be read once per tick.
+     *
+     * <p>
+     * By default, the robot's raw position is read from the odometry system
+     * once, at the start of every tick (after {@link Odometry#tick()}), and
+     * every call to {@link #getPosition()} or {@link #getRawPosition()}
+     * during that tick returns that same position, instead of reading
+     * the sensors again. Offsets applied during the tick (for example, by
+     * {@link xyz.devmello.voyager.plugin.bundled.PositionLocker}) are still
+     * reflected straight away. Outside of a tick, positions are always read
+     * live.
+     * </p>
+     *
+     * <p>
+     * Code that needs a fresh reading in the middle of a tick can use
+     * {@link #getLivePosition()} instead, or disable snapshots entirely
+     * with this method.
+     * </p>
+     *
+     * @param isUsingPoseSnapshot true if the position should be read once
+     *                            per tick, false if it should be read every
+     *                            time it's requested.
+     * @return {@code this}, used for method chaining.
+     */
+    public Voyager setIsUsingPoseSnapshot(boolean isUsingPoseSnapshot) {
+        this.isUsingPoseSnapshot = isUsingPoseSnapshot;
+
+        if (!isUsingPoseSnapshot) tickRawPosition = null;
+
+        return this;
+    }
+
+    public boolean isUsingPoseSnapshot() {
+        return isUsingPoseSnapshot;
+    }
+
+    /**
+     * Start profiling every tick with a new {@link TickProfiler}. If a
+     * profiler is already in use, it's replaced.
+     *
+     * @return the new profiler.
+     */
+    public TickProfiler enableProfiling() {
+        profiler = new TickProfiler();
+
+        return profiler;
+    }
+
+    /**
+     * Stop profiling ticks.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public Voyager disableProfiling() {
+        profiler = null;
+
+        return this;
+    }
+
+    /**
+     * Set the profiler used to profile every tick.
+     *
+     * @param profiler the profiler, or null to disable profiling.
+     * @return {@code this}, used for method chaining.
+     */
+    public Voyager setProfiler(TickProfiler profiler) {
+        this.profiler = profiler;
+
+        return this;
+    }
+
+    /**
+     * Get the tick profiler.
+     *
+     * @return the profiler, or null if profiling is disabled.
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Read the robot's raw position and keep it for the rest of the tick.
+     * This is called by {@link TickProcessor#runPreTick}.
+     */
+    void capturePoseSnapshot() {
+        tickRawPosition = isUsingPoseSnapshot
+            ? getOdometry().getRawPosition()
+            : null;
+    }
+
+    /**
+     * Discard the position read at the start of the tick.
+     */
+    void releasePoseSnapshot() {
+        tickRawPosition = null;
+    }
+
     /**
      * Get Pathfinder's data map.
      *
@@ -1044,10 +1200,18 @@ public class Voyager {
     }
 
     private void runOnTickOperations() {
-        for (Map.Entry<String, Consumer<Voyager>> entry : onTickOperations.entrySet()) {
-            Consumer<Voyager> consumer = entry.getValue();
+        TickProfiler profiler = this.profiler;
+        long time = TickProfiler.start(profiler);
+
+        Set<Map.Entry<String, Consumer<Voyager>>> operations =
+            onTickOperations.entrySet();
+
+        for (Map.Entry<String, Consumer<Voyager>> operation : operations) {
+            Consumer<Voyager> consumer = operation.getValue();
 
             consumer.accept(this);
+
+            if (profiler != null) time = profiler.lap(operation.getKey(), time);
         }
     }
 
@@ -1145,8 +1309,13 @@ public class Voyager {
         Voyager voyager,
         PathfinderPluginManager plugins
     ) {
+        TickProfiler profiler = voyager.getProfiler();
+        long time = TickProfiler.start(profiler);
+
         plugins.postTick(voyager);
 
+        TickProfiler.lap(profiler, TickPhase.POST_TICK, time);
+
         return voyager;
     }
 
@@ -1194,7 +1363,16 @@ public class Voyager {
      * @return {@code this}, used for method chaining.
      */
     public Voyager tick() {
-        return runPreTick().runExecutorTick().runOnTick().runPostTick();
+        TickProfiler profiler = this.profiler;
+        long time = TickProfiler.start(profiler);
+
+        try {
+            return runPreTick().runExecutorTick().runOnTick().runPostTick();
+        } finally {
+            releasePoseSnapshot();
+
+            TickProfiler.lap(profiler, TickPhase.TOTAL, time);
+        }
     }
 
     /**
@@ -1224,6 +1402,33 @@ public class Voyager {
         return this;
     }
 
+    /**
+     * Tick Pathfinder for a certain amount of time, specified in
+     * milliseconds, at the rate set by a {@link TickScheduler}, rather than
+     * as fast as possible.
+     *
+     * @param timeMs    the amount of time, in milliseconds, that Pathfinder
+     *                  should be continually ticked for.
+     * @param scheduler the scheduler used to pace each tick.
+     * @return {@code this}, used for method chaining.
+     * @since 1.2.0
+     */
+    public Voyager tickFor(double timeMs, TickScheduler scheduler) {
+        ValidationUtils.validate(timeMs, "timeMs");
+        ValidationUtils.validate(scheduler, "scheduler");
+
+        long end = Time.nanoTime() + (long) (timeMs * 1_000_000);
+
+        scheduler.start();
+
+        while (Time.nanoTime() - end < 0) {
+            tick();
+            scheduler.awaitNextTick();
+        }
+
+        return this;
+    }
+
     /**
      * Tick Pathfinder according to a {@code TickConfig}.
      *
@@ -1232,11 +1437,13 @@ public class Voyager {
      */
     public Voyager tickUntil(TickConfig config) {
         double delayMs = config.getDelayMs();
+        TickScheduler scheduler = config.getScheduler();
 
         if (delayMs > 0) {
-            ElapsedTimer delayTimer = new ElapsedTimer(true);
-
-            while (delayTimer.elapsedMs() <= delayMs);
+            Time.sleepUntil(
+                Time.nanoTime() + (long) (delayMs * 1_000_000),
+                TickScheduler.DEFAULT_SPIN_NANOS
+            );
         }
 
         double timeoutMs = config.getTimeoutMs();
@@ -1247,6 +1454,8 @@ public class Voyager {
         List<Runnable> onTick = config.getOnTick();
         List<Runnable> onFinish = config.getOnFinish();
 
+        if (scheduler != null) scheduler.start();
+
         while (timer.elapsedMs() <= timeoutMs) {
             for (Supplier<Boolean> supplier : shouldContinueRunning) {
                 if (!supplier.get()) {
@@ -1265,6 +1474,8 @@ public class Voyager {
             for (Runnable runnable : onTick) {
                 runnable.run();
             }
+
+            if (scheduler != null) scheduler.awaitNextTick();
         }
 
         for (Runnable runnable : onFinish) {
@@ -2683,18 +2894,46 @@ public class Voyager {
      * odometry class' {@link Odometry#getPosition()} to access the
      * robot's current position.
      *
+     * <p>
+     * During a tick, this returns the position read at the start of the
+     * tick (with the odometry system's current offset applied), unless
+     * pose snapshots have been disabled with
+     * {@link #setIsUsingPoseSnapshot(boolean)}.
+     * </p>
+     *
      * @return the robot's current position.
      */
     public PointXYZ getPosition() {
+        PointXYZ rawPosition = tickRawPosition;
+
+        if (rawPosition != null) {
+            return getOdometry().toPosition(rawPosition);
+        }
+
         return getOdometry().getPosition();
     }
 
     /**
-     * Get the robot's raw position.
+     * Read the robot's position from the odometry system, even if a
+     * position has already been read during the current tick.
+     *
+     * @return the robot's current position.
+     */
+    public PointXYZ getLivePosition() {
+        return getOdometry().getPosition();
+    }
+
+    /**
+     * Get the robot's raw position. During a tick, this is the raw position
+     * read at the start of the tick.
      *
      * @return the robot's raw position.
      */
     public PointXYZ getRawPosition() {
+        PointXYZ rawPosition = tickRawPosition;
+
+        if (rawPosition != null) return rawPosition;
+
         return getOdometry().getRawPosition();
     }
 
@@ -12,7 +12,9 @@ package xyz.devmello.voyager.execution;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import xyz.devmello.voyager.execution.follower.Follower;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
 import xyz.devmello.voyager.robot.Drive;
 import xyz.devmello.voyager.robot.Odometry;
 import xyz.devmello.voyager.robot.Robot;
@@ -52,6 +54,10 @@ public class ExecutorManager {
      * The manager's drive.
      */
     private final Drive drive;
+    /**
+     * Where followers get the robot's position from.
+     */
+    private final Supplier<PointXYZ> position;
     /**
      * A list of follower executors. This list can be added to and cleared,
      * but otherwise, cannot be modified externally.
@@ -84,6 +90,32 @@ public class ExecutorManager {
 
         this.odometry = robot.odometry();
         this.drive = robot.drive();
+        this.position = odometry::getPosition;
+    }
+
+    /**
+     * Create a new {@code ExecutorManager} whose followers get the robot's
+     * position from somewhere other than the robot's odometry - for
+     * example, a position that's only read once per tick.
+     *
+     * @param robot    the robot.
+     * @param position supplies the robot's position.
+     * @since 1.2.0
+     */
+    public ExecutorManager(Robot robot, Supplier<PointXYZ> position) {
+        if (robot == null) throw new NullPointerException(
+            "Attempted to create an " +
+            "ExecutorManager with a null Robot object!"
+        );
+
+        if (position == null) throw new NullPointerException(
+            "Attempted to create an " +
+            "ExecutorManager with a null position supplier!"
+        );
+
+        this.odometry = robot.odometry();
+        this.drive = robot.drive();
+        this.position = position;
     }
 
     /**
@@ -99,7 +131,9 @@ public class ExecutorManager {
             "Attempted to use addExecutor " + "with a null List<Follower>!"
         );
 
-        executors.add(new FollowerExecutor(odometry, drive, followers));
+        executors.add(
+            new FollowerExecutor(odometry, drive, followers, position)
+        );
     }
 
     /**
@@ -114,7 +148,9 @@ public class ExecutorManager {
             "Attempted to use addExecutor " + "with a null Follower!"
         );
 
-        executors.add(new FollowerExecutor(odometry, drive, follower));
+        executors.add(
+            new FollowerExecutor(odometry, drive, follower, position)
+        );
     }
 
     /**
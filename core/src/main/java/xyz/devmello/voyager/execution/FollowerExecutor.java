@@ -13,8 +13,10 @@ package xyz.devmello.voyager.execution;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import xyz.devmello.voyager.execution.follower.Follower;
 import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.Translation;
 import xyz.devmello.voyager.logging.Logger;
 import xyz.devmello.voyager.robot.Drive;
 import xyz.devmello.voyager.robot.Odometry;
@@ -45,6 +47,16 @@ public class FollowerExecutor {
      */
     private final List<Follower> followers;
 
+    /**
+     * Where the executor gets the robot's position from.
+     */
+    private final Supplier<PointXYZ> position;
+
+    /**
+     * Where the executor sends translations to.
+     */
+    private final Consumer<Translation> translationConsumer;
+
     /**
      * Create a new {@code FollowerExecutor}.
      *
@@ -56,10 +68,35 @@ public class FollowerExecutor {
         Odometry odometry,
         Drive drive,
         List<Follower> followers
+    ) {
+        this(
+            ValidationUtils.validate(odometry, "odometry"),
+            drive,
+            followers,
+            odometry::getPosition
+        );
+    }
+
+    /**
+     * Create a new {@code FollowerExecutor} that gets the robot's position
+     * from somewhere other than {@link Odometry#getPosition()}.
+     *
+     * @param odometry  the odometry system the executor should use.
+     * @param drive     the drivetrain the executor should use.
+     * @param followers a list of followers the executor should execute.
+     * @param position  supplies the robot's position.
+     * @since 1.2.0
+     */
+    public FollowerExecutor(
+        Odometry odometry,
+        Drive drive,
+        List<Follower> followers,
+        Supplier<PointXYZ> position
     ) {
         ValidationUtils.validate(odometry, "odometry");
         ValidationUtils.validate(drive, "drive");
         ValidationUtils.validate(followers, "followers");
+        ValidationUtils.validate(position, "position");
 
         for (Follower follower : followers) ValidationUtils.validate(follower);
 
@@ -75,6 +112,8 @@ public class FollowerExecutor {
         this.odometry = odometry;
         this.drive = drive;
         this.followers = followers;
+        this.position = position;
+        this.translationConsumer = drive::setTranslation;
     }
 
     /**
@@ -97,11 +136,40 @@ public class FollowerExecutor {
         );
     }
 
+    /**
+     * Create a new {@code FollowerExecutor} that gets the robot's position
+     * from somewhere other than {@link Odometry#getPosition()}.
+     *
+     * @param odometry the odometry system the executor should use.
+     * @param drive    the drivetrain the executor should use.
+     * @param follower the follower to execute.
+     * @param position supplies the robot's position.
+     * @since 1.2.0
+     */
+    public FollowerExecutor(
+        Odometry odometry,
+        Drive drive,
+        Follower follower,
+        Supplier<PointXYZ> position
+    ) {
+        this(
+            odometry,
+            drive,
+            new ArrayList<Follower>() {
+
+                {
+                    add(follower);
+                }
+            },
+            position
+        );
+    }
+
     private boolean tickCurrentFollower() {
         return Follower.tickFollower(
             followers.get(0),
-            odometry::getPosition,
-            drive::setTranslation
+            position,
+            translationConsumer
         );
     }
 
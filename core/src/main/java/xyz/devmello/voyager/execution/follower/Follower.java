@@ -15,6 +15,7 @@ import java.util.function.Supplier;
 import xyz.devmello.voyager.math.geometry.Angle;
 import xyz.devmello.voyager.math.geometry.PointXY;
 import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.PoseMath;
 import xyz.devmello.voyager.math.geometry.Translation;
 import xyz.devmello.voyager.logging.Logger;
 import xyz.devmello.voyager.execution.trajectory.Trajectory;
@@ -92,11 +93,15 @@ public interface Follower {
             turn
         );
 
-        Angle angle = current.angleTo(target).fix();
-
-        PointXYZ targetPoint = PointXYZ.ZERO.inDirection(speed, angle);
+        double angle = PoseMath.fix(
+            PoseMath.angleTo(current.x(), current.y(), target.x(), target.y())
+        );
 
-        return new Translation(targetPoint.x(), targetPoint.y(), turn);
+        return new Translation(
+            PoseMath.inDirectionX(speed, angle),
+            PoseMath.inDirectionY(speed, angle),
+            turn
+        );
     }
 
     /**
@@ -118,29 +123,58 @@ public interface Follower {
         double speed,
         double turn
     ) {
-        Translation absoluteTranslation = getAbsoluteTranslation(
-            current,
-            target,
-            speed,
-            turn
-        );
+        ValidationUtils.validate(current, "current");
+        ValidationUtils.validate(target, "target");
+        ValidationUtils.validate(speed, "speed");
+        ValidationUtils.validate(turn, "turn");
+
+        // this is the same math as getAbsoluteTranslation followed by
+        // Translation#toRelative, but without creating any intermediate
+        // points, angles, or translations - this is called every tick
+        double absoluteX = 0;
+        double absoluteY = 0;
 
-        Translation relativeTranslation = absoluteTranslation.toRelative(
-            current.z()
+        if (!PointXY.equals(current, target)) {
+            double angle = PoseMath.fix(
+                PoseMath.angleTo(
+                    current.x(),
+                    current.y(),
+                    target.x(),
+                    target.y()
+                )
+            );
+
+            absoluteX = PoseMath.inDirectionX(speed, angle);
+            absoluteY = PoseMath.inDirectionY(speed, angle);
+        }
+
+        double distance = Math.hypot(absoluteX, absoluteY);
+        double direction = PoseMath.relativeDirection(
+            absoluteX,
+            absoluteY,
+            current.z().rad()
         );
 
-        Logger.trace(
-            Follower.class,
-            "absolute translation: <%s> relative translation: <%s> " +
-            "current: <%s> target: <%s> speed: <%s> turn: <%s>",
-            absoluteTranslation,
-            relativeTranslation,
-            current,
-            target,
-            speed,
+        Translation relativeTranslation = new Translation(
+            PoseMath.inDirectionX(distance, direction),
+            PoseMath.inDirectionY(distance, direction),
             turn
         );
 
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                Follower.class,
+                "absolute translation: <%s> relative translation: <%s> " +
+                "current: <%s> target: <%s> speed: <%s> turn: <%s>",
+                new Translation(absoluteX, absoluteY, turn),
+                relativeTranslation,
+                current,
+                target,
+                speed,
+                turn
+            );
+        }
+
         return relativeTranslation;
     }
 
@@ -12,8 +12,8 @@ package xyz.devmello.voyager.execution.follower;
 
 import java.util.function.Consumer;
 import xyz.devmello.voyager.math.control.Controller;
-import xyz.devmello.voyager.math.geometry.Angle;
 import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.PoseMath;
 import xyz.devmello.voyager.math.geometry.Translation;
 import xyz.devmello.voyager.logging.Logger;
 import xyz.devmello.voyager.execution.trajectory.Trajectory;
@@ -111,12 +111,14 @@ public class GenericFollower implements Follower {
         ValidationUtils.validate(current, "current");
         ValidationUtils.validate(consumer, "consumer");
 
-        Logger.trace(
-            GenericFollower.class,
-            "Ticking follower (current pos: <%s>)",
-            current,
-            consumer
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                GenericFollower.class,
+                "Ticking follower (current pos: <%s>)",
+                current,
+                consumer
+            );
+        }
 
         // if the trajectory is done, we should stop executing this method
         // right here.
@@ -152,7 +154,10 @@ public class GenericFollower implements Follower {
 
         // determine the delta between the two angles, so we can calculate
         // turn in just a moment.
-        double angleDelta = Angle.minimumDelta(current.z(), nextMarker.z());
+        double angleDelta = PoseMath.minimumDelta(
+            current.z().deg(),
+            nextMarker.z().deg()
+        );
 
         // and calculate turn. remember, the turn controller's only job is to
         // get the delta to zero, so by feeding it the delta it should output
@@ -168,16 +173,18 @@ public class GenericFollower implements Follower {
             turn
         );
 
-        Logger.trace(
-            GenericFollower.class,
-            "Next marker: <%s>, speed: <%s>, angle delta: <%s deg>, " +
-            "turn value: <%s>, current translation: <%s>",
-            nextMarker,
-            speed,
-            angleDelta,
-            turn,
-            translation
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                GenericFollower.class,
+                "Next marker: <%s>, speed: <%s>, angle delta: <%s deg>, " +
+                "turn value: <%s>, current translation: <%s>",
+                nextMarker,
+                speed,
+                angleDelta,
+                turn,
+                translation
+            );
+        }
 
         // use the consumer to accept a translation we create.
         // instead of creating an absolute translation, which would only help
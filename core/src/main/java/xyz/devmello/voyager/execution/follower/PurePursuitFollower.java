@@ -0,0 +1,302 @@
+package xyz.devmello.voyager.execution.follower;
+
+import java.util.function.Consumer;
+import xyz.devmello.voyager.execution.trajectory.Trajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.math.control.Controller;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.PoseMath;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.utils.StringUtils;
+import xyz.devmello.voyager.utils.ValidationUtils;
+
+/**
+ * A pure pursuit {@link Follower}, which follows the polyline of a
+ * {@link BakedTrajectory}.
+ *
+ * <p>
+ * Every tick, the follower:
+ * <ul>
+ *     <li>
+ *         Projects the robot's position onto the polyline to find the
+ *         robot's progress along the path.
+ *     </li>
+ *     <li>
+ *         Picks a lookahead distance based on the path's speed at the
+ *         robot's progress: {@code minLookahead} when the speed is 0, up
+ *         to {@code maxLookahead} when the speed is 1. Looking further
+ *         ahead at high speed keeps the robot from oscillating around the
+ *         path, and looking closer at low speed lets it follow tight
+ *         curves.
+ *     </li>
+ *     <li>
+ *         Steers towards the furthest point along the path that's exactly
+ *         one lookahead distance away from the robot: the intersection of
+ *         the path and a circle around the robot. If the robot has been
+ *         pushed off the path, this point pulls it back onto the path,
+ *         instead of just moving it parallel to the path like
+ *         {@link GenericFollower} does with most trajectories. If the robot
+ *         is so far off the path that the circle doesn't reach it, the
+ *         robot steers towards the point one lookahead distance ahead of
+ *         its progress.
+ *     </li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The follower keeps a {@link BakedTrajectory.Cursor}: the segment the
+ * robot was on last tick. Progress only moves forwards, and both searches
+ * only look at the segments within a couple lookahead distances of the
+ * cursor, so each tick takes the same amount of time no matter how long
+ * the path is.
+ * </p>
+ *
+ * @see xyz.devmello.voyager.execution.follower.generators.PurePursuitFollowerGenerator
+ * @since 1.2.0
+ */
+public class PurePursuitFollower implements Follower {
+    /**
+     * How far ahead of the robot's last progress the path is searched, as
+     * a multiple of the lookahead distance.
+     */
+    private static final double SEARCH_LOOKAHEADS = 2;
+
+    private final Trajectory trajectory;
+    private final BakedTrajectory path;
+    private final Controller turnController;
+    private final double minLookahead;
+    private final double maxLookahead;
+    private final int last;
+    private final BakedTrajectory.Cursor cursor;
+
+    private double lookahead;
+
+    /**
+     * Create a new {@code PurePursuitFollower}.
+     *
+     * <p>
+     * In addition to creating a {@code PurePursuitFollower}, this
+     * constructor will set the turn controller's target to 0.
+     * </p>
+     *
+     * @param trajectory     the trajectory the follower is following. This
+     *                       is only used for {@link #getTrajectory()}.
+     * @param path           the baked version of {@code trajectory}. The
+     *                       follower keeps track of its own progress, so
+     *                       the path isn't modified, and can be shared.
+     * @param turnController a turn controller, responsible for determining
+     *                       turn values. See {@link GenericFollower}.
+     * @param minLookahead   the lookahead distance when the robot's speed
+     *                       is 0. This must be greater than 0.
+     * @param maxLookahead   the lookahead distance when the robot's speed
+     *                       is 1. This must be at least
+     *                       {@code minLookahead}.
+     */
+    public PurePursuitFollower(
+        Trajectory trajectory,
+        BakedTrajectory path,
+        Controller turnController,
+        double minLookahead,
+        double maxLookahead
+    ) {
+        ValidationUtils.validate(trajectory, "trajectory");
+        ValidationUtils.validate(path, "path");
+        ValidationUtils.validate(turnController, "turnController");
+        ValidationUtils.validate(minLookahead, "minLookahead");
+        ValidationUtils.validate(maxLookahead, "maxLookahead");
+
+        if (!(minLookahead > 0)) throw new IllegalArgumentException(
+            "Minimum lookahead must be greater than 0!"
+        );
+
+        if (maxLookahead < minLookahead) throw new IllegalArgumentException(
+            "Maximum lookahead must be at least the minimum lookahead!"
+        );
+
+        this.trajectory = trajectory;
+        this.path = path;
+        this.turnController = turnController;
+        this.minLookahead = minLookahead;
+        this.maxLookahead = maxLookahead;
+        this.last = path.size() - 1;
+        this.cursor = path.newCursor();
+        this.lookahead = minLookahead;
+
+        turnController.setTarget(0);
+
+        Logger.debug(
+            PurePursuitFollower.class,
+            "Created PurePursuitFollower (trajectory: <%s> path: <%s> " +
+            "turn controller: <%s> lookahead: <%s> to <%s>)",
+            trajectory,
+            path,
+            turnController,
+            minLookahead,
+            maxLookahead
+        );
+    }
+
+    @Override
+    public Trajectory getTrajectory() {
+        return trajectory;
+    }
+
+    /**
+     * Get the path the follower is following.
+     *
+     * @return the follower's path.
+     */
+    public BakedTrajectory getPath() {
+        return path;
+    }
+
+    /**
+     * Get how far along the path the robot was the last time the follower
+     * was ticked.
+     *
+     * @return the distance along the path to the robot's progress.
+     */
+    public double getProgress() {
+        return cursor.progress();
+    }
+
+    /**
+     * Get the lookahead distance the follower used the last time it was
+     * ticked.
+     *
+     * @return the follower's current lookahead distance.
+     */
+    public double getLookahead() {
+        return lookahead;
+    }
+
+    private static double lerp(double a, double b, double fraction) {
+        return a + (b - a) * fraction;
+    }
+
+    /**
+     * Find the furthest point along the path, between the robot's progress
+     * and a couple lookahead distances past it, that's exactly one
+     * lookahead distance away from the robot.
+     *
+     * @return the distance along the path to the intersection, or NaN if
+     * the lookahead circle doesn't intersect the path.
+     */
+    private double intersect(double px, double py, double radius) {
+        double progress = cursor.progress();
+        double limit = progress + radius * SEARCH_LOOKAHEADS;
+        double radiusSquared = radius * radius;
+        double best = Double.NaN;
+
+        for (int i = cursor.segment(); i < last && path.distance(i) <= limit; i++) {
+            double ax = path.x(i) - px;
+            double ay = path.y(i) - py;
+            double dx = path.x(i + 1) - path.x(i);
+            double dy = path.y(i + 1) - path.y(i);
+
+            // |a + t * d| = radius, solved for t
+            double a = dx * dx + dy * dy;
+            double b = 2 * (ax * dx + ay * dy);
+            double c = ax * ax + ay * ay - radiusSquared;
+            double discriminant = b * b - 4 * a * c;
+
+            if (discriminant < 0) continue;
+
+            // the larger root is further along the segment
+            double t = (-b + Math.sqrt(discriminant)) / (2 * a);
+
+            if (t < 0 || t > 1) continue;
+
+            double along = lerp(path.distance(i), path.distance(i + 1), t);
+
+            if (along >= progress && !(along <= best)) best = along;
+        }
+
+        return best;
+    }
+
+    @Override
+    public boolean tick(PointXYZ current, Consumer<Translation> consumer) {
+        ValidationUtils.validate(current, "current");
+        ValidationUtils.validate(consumer, "consumer");
+
+        double px = current.x();
+        double py = current.y();
+
+        cursor.update(px, py, maxLookahead * SEARCH_LOOKAHEADS);
+
+        double progress = cursor.progress();
+        double speed = cursor.speed();
+
+        lookahead = minLookahead + (maxLookahead - minLookahead) * speed;
+
+        if (cursor.isDone(current, lookahead)) {
+            Logger.debug(
+                PurePursuitFollower.class,
+                "Finished follower for trajectory <%s>",
+                trajectory
+            );
+
+            consumer.accept(Translation.ZERO);
+
+            return true;
+        }
+
+        double length = path.length();
+        double target;
+
+        if (progress + lookahead >= length) {
+            // close enough to the end that the end is the target
+            target = length;
+        } else {
+            target = intersect(px, py, lookahead);
+
+            // the robot's too far from the path for the lookahead circle
+            // to reach it
+            if (Double.isNaN(target)) target = progress + lookahead;
+        }
+
+        PointXYZ marker = cursor.markerAt(target);
+        double heading = marker.z().deg();
+
+        double angleDelta = PoseMath.minimumDelta(current.z().deg(), heading);
+        double turn = turnController.calculate(angleDelta);
+
+        Translation translation = Follower.getRelativeTranslation(
+            current,
+            marker,
+            speed,
+            turn
+        );
+
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                PurePursuitFollower.class,
+                "progress: <%s> lookahead: <%s> target: <%s> marker: <%s> " +
+                "speed: <%s> angle delta: <%s deg> turn value: <%s> " +
+                "current translation: <%s>",
+                progress,
+                lookahead,
+                target,
+                marker,
+                speed,
+                angleDelta,
+                turn,
+                translation
+            );
+        }
+
+        consumer.accept(translation);
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PurePursuitFollower for trajectory <%s>",
+            trajectory
+        );
+    }
+}
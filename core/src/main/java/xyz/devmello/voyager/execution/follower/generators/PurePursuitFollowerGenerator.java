@@ -0,0 +1,185 @@
+package xyz.devmello.voyager.execution.follower.generators;
+
+import xyz.devmello.voyager.execution.follower.Follower;
+import xyz.devmello.voyager.execution.follower.FollowerGenerator;
+import xyz.devmello.voyager.execution.follower.GenericFollower;
+import xyz.devmello.voyager.execution.follower.PurePursuitFollower;
+import xyz.devmello.voyager.execution.trajectory.Trajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakeableTrajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.logging.exceptions.NullControllerException;
+import xyz.devmello.voyager.logging.exceptions.NullDriveException;
+import xyz.devmello.voyager.logging.exceptions.NullOdometryException;
+import xyz.devmello.voyager.logging.exceptions.NullTrajectoryException;
+import xyz.devmello.voyager.math.control.Controller;
+import xyz.devmello.voyager.robot.Robot;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * A {@link FollowerGenerator} that generates a {@link PurePursuitFollower}
+ * for any trajectory that can be baked.
+ *
+ * <p>
+ * {@link BakedTrajectory} instances are followed as-is. Any other
+ * {@link BakeableTrajectory} (spline trajectories, Hermite path
+ * trajectories, and multi-segment trajectories made of them) is baked when
+ * its follower is generated. Trajectories that can't be baked, like linear
+ * trajectories or multi-segment trajectories with a linear segment, get a
+ * {@link GenericFollower} instead, so this generator can be used for every
+ * trajectory a {@code Voyager} instance follows.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class PurePursuitFollowerGenerator implements FollowerGenerator {
+    /**
+     * The default spacing used to bake trajectories that haven't been
+     * baked yet.
+     */
+    public static final double DEFAULT_SPACING = 0.5;
+
+    private final Controller turnController;
+    private final double minLookahead;
+    private final double maxLookahead;
+    private final double spacing;
+
+    /**
+     * Create a new {@code PurePursuitFollowerGenerator}, which bakes
+     * trajectories with a spacing of {@link #DEFAULT_SPACING}.
+     *
+     * @param turnController the generator's turn controller. This turn
+     *                       controller will be used for all the generated
+     *                       followers.
+     * @param minLookahead   the lookahead distance when the robot's speed
+     *                       is 0.
+     * @param maxLookahead   the lookahead distance when the robot's speed
+     *                       is 1.
+     */
+    public PurePursuitFollowerGenerator(
+        Controller turnController,
+        double minLookahead,
+        double maxLookahead
+    ) {
+        this(turnController, minLookahead, maxLookahead, DEFAULT_SPACING);
+    }
+
+    /**
+     * Create a new {@code PurePursuitFollowerGenerator}.
+     *
+     * @param turnController the generator's turn controller. This turn
+     *                       controller will be used for all the generated
+     *                       followers.
+     * @param minLookahead   the lookahead distance when the robot's speed
+     *                       is 0. This must be greater than 0.
+     * @param maxLookahead   the lookahead distance when the robot's speed
+     *                       is 1. This must be at least
+     *                       {@code minLookahead}.
+     * @param spacing        the spacing used to bake trajectories that
+     *                       haven't been baked yet. See
+     *                       {@link BakeableTrajectory#bake(double)}.
+     */
+    public PurePursuitFollowerGenerator(
+        Controller turnController,
+        double minLookahead,
+        double maxLookahead,
+        double spacing
+    ) {
+        if (turnController == null) throw new NullControllerException(
+            "Can't create a pure pursuit follower generator with " +
+            "a null turn controller!"
+        );
+
+        if (!(minLookahead > 0)) throw new IllegalArgumentException(
+            "Minimum lookahead must be greater than 0!"
+        );
+
+        if (!(maxLookahead >= minLookahead)) throw new IllegalArgumentException(
+            "Maximum lookahead must be at least the minimum lookahead!"
+        );
+
+        if (!(spacing > 0)) throw new IllegalArgumentException(
+            "Spacing must be greater than 0!"
+        );
+
+        Logger.trace(
+            PurePursuitFollowerGenerator.class,
+            "Created new PurePursuitFollowerGenerator (controller: <%s> " +
+            "lookahead: <%s> to <%s> spacing: <%s>)",
+            turnController,
+            minLookahead,
+            maxLookahead,
+            spacing
+        );
+
+        this.turnController = turnController;
+        this.minLookahead = minLookahead;
+        this.maxLookahead = maxLookahead;
+        this.spacing = spacing;
+    }
+
+    /**
+     * Create a new {@link PurePursuitFollower}, given a robot and a
+     * trajectory. If the trajectory can't be baked, this creates a
+     * {@link GenericFollower} instead.
+     *
+     * @param robot      the robot the follower is acting upon.
+     * @param trajectory the trajectory the follower should follow.
+     * @return a new follower.
+     */
+    @Override
+    public Follower generate(Robot robot, Trajectory trajectory) {
+        if (robot.odometry() == null) {
+            throw new NullOdometryException(
+                "Can't generate a follower with null Odometry!"
+            );
+        }
+
+        if (robot.drive() == null) {
+            throw new NullDriveException(
+                "Can't generate a follower with null Drive"
+            );
+        }
+
+        if (trajectory == null) {
+            throw new NullTrajectoryException(
+                "Can't generate a follower with a null Trajectory!"
+            );
+        }
+
+        if (
+            !(trajectory instanceof BakeableTrajectory) ||
+            !((BakeableTrajectory) trajectory).isBakeable()
+        ) {
+            return new GenericFollower(trajectory, turnController);
+        }
+
+        BakedTrajectory path = trajectory instanceof BakedTrajectory
+            ? (BakedTrajectory) trajectory
+            : ((BakeableTrajectory) trajectory).bake(spacing);
+
+        return new PurePursuitFollower(
+            trajectory,
+            path,
+            turnController,
+            minLookahead,
+            maxLookahead
+        );
+    }
+
+    public Controller getTurnController() {
+        return turnController;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PurePursuitFollowerGenerator (turn controller: <%s>, " +
+            "lookahead: <%s> to <%s>, spacing: <%s>)",
+            turnController,
+            minLookahead,
+            maxLookahead,
+            spacing
+        );
+    }
+}
@@ -204,14 +204,16 @@ public class LinearTrajectory implements Trajectory {
     private boolean isDoneXY(PointXYZ current) {
         boolean isNear = current.isNear(this.target, this.tolerance);
 
-        Logger.trace(
-            LinearTrajectory.class,
-            "isDoneXY: <%s> (current: <%s> target: <%s> tolerance: <%s>)",
-            isNear,
-            current,
-            target,
-            tolerance
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                LinearTrajectory.class,
+                "isDoneXY: <%s> (current: <%s> target: <%s> tolerance: <%s>)",
+                isNear,
+                current,
+                target,
+                tolerance
+            );
+        }
 
         return isNear;
     }
@@ -221,14 +223,16 @@ public class LinearTrajectory implements Trajectory {
             .z()
             .isCloseDeg(target.z().fix(), angleTolerance.fix().deg());
 
-        Logger.trace(
-            LinearTrajectory.class,
-            "isDoneHeading: <%s> (current: <%s> target: <%s> tolerance: <%s>)",
-            isNear,
-            current.z(),
-            target.z(),
-            angleTolerance
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                LinearTrajectory.class,
+                "isDoneHeading: <%s> (current: <%s> target: <%s> tolerance: <%s>)",
+                isNear,
+                current.z(),
+                target.z(),
+                angleTolerance
+            );
+        }
 
         return isNear;
     }
@@ -35,6 +35,7 @@ public class TimedTrajectory implements Trajectory {
     private final double turnMultiplier;
     private double startTime = 0;
     private double elapsedTime = 0;
+    private boolean hasStarted = false;
 
     /**
      * Create a new {@code TimedTrajectory}.
@@ -72,8 +73,10 @@ public class TimedTrajectory implements Trajectory {
     private void updateTime() {
         double currentTime = Time.ms();
 
-        if (startTime == 0) {
+        // a clock's origin is arbitrary, so 0 is a perfectly valid time
+        if (!hasStarted) {
             startTime = currentTime;
+            hasStarted = true;
         }
 
         elapsedTime = currentTime - startTime;
@@ -81,6 +84,8 @@ public class TimedTrajectory implements Trajectory {
 
     @Override
     public PointXYZ nextMarker(PointXYZ current) {
+        updateTime();
+
         // my friend and my boyfriend (matt and alec respectively) decided
         // they wanted to write some code (they don't know how to code), so
         // i let them type their own comments. here they are!
@@ -97,6 +102,8 @@ public class TimedTrajectory implements Trajectory {
 
     @Override
     public boolean isDone(PointXYZ current) {
+        updateTime();
+
         return elapsedTime >= timeoutMs;
     }
 
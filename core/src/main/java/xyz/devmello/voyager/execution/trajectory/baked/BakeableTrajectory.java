@@ -0,0 +1,34 @@
+package xyz.devmello.voyager.execution.trajectory.baked;
+
+import xyz.devmello.voyager.execution.trajectory.Trajectory;
+
+/**
+ * A {@link Trajectory} that can be compiled into a
+ * {@link BakedTrajectory}.
+ *
+ * @since 1.2.0
+ */
+public interface BakeableTrajectory extends Trajectory {
+    /**
+     * Sample the trajectory into a {@link BakedTrajectory}. Baking doesn't
+     * change the state of this trajectory.
+     *
+     * @param spacing roughly how far apart (measured along the path) the
+     *                samples should be. This must be greater than 0.
+     * @return the baked trajectory.
+     */
+    BakedTrajectory bake(double spacing);
+
+    /**
+     * Determine whether this trajectory can actually be baked. Most
+     * trajectories always can be, but a trajectory made up of other
+     * trajectories (like a {@code MultiSegmentTrajectory}) can only be
+     * baked if every one of them can be.
+     *
+     * @return true if {@link #bake(double)} can be called, otherwise,
+     * false.
+     */
+    default boolean isBakeable() {
+        return true;
+    }
+}
@@ -0,0 +1,672 @@
+package xyz.devmello.voyager.execution.trajectory.baked;
+
+import java.util.List;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.logging.exceptions.InvalidSpeedException;
+import xyz.devmello.voyager.logging.exceptions.InvalidToleranceException;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.PoseMath;
+import xyz.devmello.voyager.utils.StringUtils;
+import xyz.devmello.voyager.utils.ValidationUtils;
+
+/**
+ * A trajectory that's been compiled into a polyline: dense arrays of
+ * position, heading, speed, and distance along the path for each sample.
+ *
+ * <p>
+ * Building a spline trajectory means solving for every spline's
+ * coefficients, and following one means evaluating those splines every
+ * tick. A baked trajectory does all of that work once, when it's baked,
+ * and can be saved to disk with a {@link TrajectoryCache} so later op
+ * modes can skip building the trajectory altogether. Following a baked
+ * trajectory only needs a few array reads and interpolations.
+ * </p>
+ *
+ * <p>
+ * Every time {@link #nextMarker(PointXYZ)} is called, the robot's position
+ * is projected onto the polyline to find how far along the path the robot
+ * is. Only the segments just ahead of the robot's last progress are
+ * searched, so progress never goes backwards and each tick takes the same
+ * amount of time no matter how many samples there are. The marker is the
+ * point {@code lookahead} further along the path than the robot.
+ * </p>
+ *
+ * <p>
+ * Like {@code HermitePathTrajectory}, this trajectory is stateful. Use
+ * {@link #copy()} to get a new instance (sharing the same samples) each
+ * time the trajectory is followed.
+ * </p>
+ *
+ * @see BakeableTrajectory
+ * @see TrajectoryCache
+ * @since 1.2.0
+ */
+public class BakedTrajectory implements BakeableTrajectory {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How far ahead of the robot's last progress the path is searched for
+     * the robot's new progress, as a multiple of the lookahead distance.
+     */
+    private static final double SEARCH_LOOKAHEADS = 2;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] heading;
+    private final double[] speed;
+    private final double[] distance;
+    private final double lookahead;
+    private final double tolerance;
+    private final Angle angleTolerance;
+    private final PointXY end;
+    private final int last;
+    private final Cursor cursor;
+
+    /**
+     * Create a new {@code BakedTrajectory}. The arrays aren't copied, so
+     * they shouldn't be modified after the trajectory is created.
+     *
+     * @param x              the X coordinate of each sample.
+     * @param y              the Y coordinate of each sample.
+     * @param heading        the target heading at each sample, in degrees.
+     * @param speed          the speed at each sample. Each speed must be
+     *                       between 0 and 1.
+     * @param distance       the distance along the path to each sample.
+     *                       This must start at 0 and be strictly
+     *                       increasing.
+     * @param lookahead      how far ahead of the robot (measured along the
+     *                       path) the marker should be. This must be
+     *                       greater than 0.
+     * @param tolerance      how close the robot has to be to the last sample
+     *                       for the trajectory to finish.
+     * @param angleTolerance how close the robot's heading has to be to the
+     *                       last sample's heading for the trajectory to
+     *                       finish.
+     */
+    public BakedTrajectory(
+        double[] x,
+        double[] y,
+        double[] heading,
+        double[] speed,
+        double[] distance,
+        double lookahead,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        if (
+            x == null ||
+            y == null ||
+            heading == null ||
+            speed == null ||
+            distance == null
+        ) throw new IllegalArgumentException("Samples may not be null!");
+
+        int size = x.length;
+
+        if (
+            y.length != size ||
+            heading.length != size ||
+            speed.length != size ||
+            distance.length != size
+        ) throw new IllegalArgumentException(
+            "Every sample array must have the same length!"
+        );
+
+        if (size < 2) throw new IllegalArgumentException(
+            "A baked trajectory needs at least 2 samples!"
+        );
+
+        ValidationUtils.validate(lookahead, "lookahead");
+        ValidationUtils.validate(tolerance, "tolerance");
+        ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        if (!(lookahead > 0)) throw new IllegalArgumentException(
+            "Lookahead must be greater than 0!"
+        );
+
+        InvalidToleranceException.throwIfInvalid(
+            "Invalid tolerance value!",
+            tolerance
+        );
+
+        if (distance[0] != 0) throw new IllegalArgumentException(
+            "The first sample's distance must be 0!"
+        );
+
+        for (int i = 0; i < size; i++) {
+            InvalidSpeedException.throwIfInvalid(
+                "Speed must be between 0 and 1!",
+                speed[i]
+            );
+
+            if (i > 0 && !(distance[i] > distance[i - 1])) throw new IllegalArgumentException(
+                "Sample distances must be strictly increasing! Sample " +
+                i +
+                " has distance " +
+                distance[i] +
+                ", but the sample before it has distance " +
+                distance[i - 1]
+            );
+        }
+
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.speed = speed;
+        this.distance = distance;
+        this.lookahead = lookahead;
+        this.tolerance = tolerance;
+        this.angleTolerance = angleTolerance;
+        this.last = size - 1;
+        this.end = new PointXY(x[last], y[last]);
+        this.cursor = new Cursor(this);
+    }
+
+    /**
+     * Create a new {@code BakedTrajectory} that shares another baked
+     * trajectory's samples, without copying or validating them again.
+     */
+    private BakedTrajectory(BakedTrajectory trajectory) {
+        this.x = trajectory.x;
+        this.y = trajectory.y;
+        this.heading = trajectory.heading;
+        this.speed = trajectory.speed;
+        this.distance = trajectory.distance;
+        this.lookahead = trajectory.lookahead;
+        this.tolerance = trajectory.tolerance;
+        this.angleTolerance = trajectory.angleTolerance;
+        this.last = trajectory.last;
+        this.end = trajectory.end;
+        this.cursor = new Cursor(this);
+    }
+
+    /**
+     * Join several baked trajectories into a single baked trajectory.
+     *
+     * <p>
+     * Each trajectory starts from whichever of its samples is closest to
+     * the end of the trajectory before it, so trajectories that overlap
+     * (like the segments of a {@code MultiSplineBuilder} trajectory) are
+     * joined without the path doubling back on itself. The lookahead and
+     * tolerances are taken from the last trajectory.
+     * </p>
+     *
+     * @param trajectories the trajectories to join, in order.
+     * @return a single trajectory that follows each of the trajectories.
+     */
+    public static BakedTrajectory concat(List<BakedTrajectory> trajectories) {
+        if (trajectories == null) throw new IllegalArgumentException(
+            "Trajectories may not be null!"
+        );
+
+        if (trajectories.isEmpty()) throw new IllegalArgumentException(
+            "Can't join an empty list of trajectories!"
+        );
+
+        if (trajectories.size() == 1) return trajectories.get(0).copy();
+
+        int capacity = 0;
+        for (BakedTrajectory trajectory : trajectories) capacity +=
+            trajectory.size();
+
+        double[] x = new double[capacity];
+        double[] y = new double[capacity];
+        double[] heading = new double[capacity];
+        double[] speed = new double[capacity];
+        double[] distance = new double[capacity];
+        int size = 0;
+
+        for (BakedTrajectory trajectory : trajectories) {
+            int start = 0;
+
+            if (size > 0) {
+                double lastX = x[size - 1];
+                double lastY = y[size - 1];
+                double best = Double.POSITIVE_INFINITY;
+
+                for (int i = 0; i < trajectory.size(); i++) {
+                    double dx = trajectory.x[i] - lastX;
+                    double dy = trajectory.y[i] - lastY;
+                    double squared = dx * dx + dy * dy;
+
+                    if (squared < best) {
+                        best = squared;
+                        start = i;
+                    }
+                }
+            }
+
+            for (int i = start; i < trajectory.size(); i++) {
+                double step = 0;
+
+                if (size > 0) {
+                    step =
+                        Math.hypot(
+                            trajectory.x[i] - x[size - 1],
+                            trajectory.y[i] - y[size - 1]
+                        );
+
+                    // two samples in the same place: keep the later one's
+                    // heading and speed, but don't add a zero-length segment
+                    if (step == 0) {
+                        heading[size - 1] = trajectory.heading[i];
+                        speed[size - 1] = trajectory.speed[i];
+                        continue;
+                    }
+                }
+
+                x[size] = trajectory.x[i];
+                y[size] = trajectory.y[i];
+                heading[size] = trajectory.heading[i];
+                speed[size] = trajectory.speed[i];
+                distance[size] = size > 0 ? distance[size - 1] + step : 0;
+                size++;
+            }
+        }
+
+        BakedTrajectory lastTrajectory = trajectories.get(
+            trajectories.size() - 1
+        );
+
+        return new BakedTrajectory(
+            copyOf(x, size),
+            copyOf(y, size),
+            copyOf(heading, size),
+            copyOf(speed, size),
+            copyOf(distance, size),
+            lastTrajectory.lookahead,
+            lastTrajectory.tolerance,
+            lastTrajectory.angleTolerance
+        );
+    }
+
+    private static double[] copyOf(double[] array, int length) {
+        double[] copy = new double[length];
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * Get a new, unfollowed instance of this trajectory. The new instance
+     * shares this trajectory's samples, so this is very cheap.
+     *
+     * @return a copy of this trajectory, with no progress.
+     */
+    public BakedTrajectory copy() {
+        return new BakedTrajectory(this);
+    }
+
+    /**
+     * Returns a copy of this trajectory: it's already been baked, so the
+     * spacing is ignored.
+     *
+     * @param spacing ignored.
+     * @return {@link #copy()}.
+     */
+    @Override
+    public BakedTrajectory bake(double spacing) {
+        return copy();
+    }
+
+    /**
+     * Get how many samples the trajectory has.
+     *
+     * @return how many samples the trajectory has.
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Get the X coordinate of a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's X coordinate.
+     */
+    public double x(int index) {
+        return x[index];
+    }
+
+    /**
+     * Get the Y coordinate of a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's Y coordinate.
+     */
+    public double y(int index) {
+        return y[index];
+    }
+
+    /**
+     * Get the target heading at a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's target heading, in degrees.
+     */
+    public double heading(int index) {
+        return heading[index];
+    }
+
+    /**
+     * Get the speed at a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's speed, between 0 and 1.
+     */
+    public double speed(int index) {
+        return speed[index];
+    }
+
+    /**
+     * Get the distance along the path to a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's distance along the path.
+     */
+    public double distance(int index) {
+        return distance[index];
+    }
+
+    /**
+     * Get the length of the path.
+     *
+     * @return the distance along the path to the last sample.
+     */
+    public double length() {
+        return distance[last];
+    }
+
+    /**
+     * Get how far ahead of the robot the trajectory's marker is.
+     *
+     * @return the trajectory's lookahead distance.
+     */
+    public double lookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Get how close the robot has to be to the end of the path for the
+     * trajectory to finish.
+     *
+     * @return the trajectory's tolerance.
+     */
+    public double tolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Get how close the robot's heading has to be to the final heading for
+     * the trajectory to finish.
+     *
+     * @return the trajectory's angle tolerance.
+     */
+    public Angle angleTolerance() {
+        return angleTolerance;
+    }
+
+    /**
+     * Get how far along the path the robot was the last time
+     * {@link #nextMarker(PointXYZ)} was called.
+     *
+     * @return the distance along the path to the robot's progress.
+     */
+    public double getProgress() {
+        return cursor.progress();
+    }
+
+    /**
+     * Create a new {@link Cursor} at the start of this trajectory. Each
+     * cursor keeps track of its own progress, so this trajectory can be
+     * followed by several cursors at once.
+     *
+     * @return a new cursor.
+     */
+    public Cursor newCursor() {
+        return new Cursor(this);
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        cursor.update(current.x(), current.y(), lookahead * SEARCH_LOOKAHEADS);
+
+        double target = Math.min(cursor.progress() + lookahead, distance[last]);
+
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                BakedTrajectory.class,
+                "progress: <%s> target: <%s> length: <%s> current: <%s>",
+                cursor.progress(),
+                target,
+                distance[last],
+                current
+            );
+        }
+
+        return cursor.markerAt(target);
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        ValidationUtils.validate(current, "current");
+
+        return cursor.isDone(current, lookahead);
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        return cursor.speed();
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "BakedTrajectory to <%s> (samples: <%s>, length: <%s>, " +
+            "lookahead: <%s>, tolerance: <%s>, angle tolerance: <%s>)",
+            end,
+            x.length,
+            distance[last],
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    /**
+     * Keeps track of how far along a {@link BakedTrajectory} the robot is:
+     * its progress, and the segment that progress is on.
+     *
+     * <p>
+     * Progress only moves forwards, and {@link #update(double, double, double)}
+     * only searches the segments just ahead of the robot's last progress,
+     * so each update takes the same amount of time no matter how long the
+     * path is. This is used by {@link BakedTrajectory} itself, and by
+     * followers that do their own steering along a baked trajectory.
+     * </p>
+     *
+     * @since 1.2.0
+     */
+    public static final class Cursor {
+        private final BakedTrajectory path;
+
+        private int segment = 0;
+        private double progress = 0;
+        private boolean hasCompletedTrajectory = false;
+
+        private Cursor(BakedTrajectory path) {
+            this.path = path;
+        }
+
+        /**
+         * Get the trajectory this cursor moves along.
+         *
+         * @return the cursor's trajectory.
+         */
+        public BakedTrajectory path() {
+            return path;
+        }
+
+        /**
+         * Get the index of the segment the robot's progress is on. The
+         * segment goes from this sample to the next one.
+         *
+         * @return the index of the robot's segment.
+         */
+        public int segment() {
+            return segment;
+        }
+
+        /**
+         * Get how far along the path the robot was the last time the
+         * cursor was updated.
+         *
+         * @return the distance along the path to the robot's progress.
+         */
+        public double progress() {
+            return progress;
+        }
+
+        /**
+         * Project the robot's position onto the segments just ahead of its
+         * last progress, moving the cursor to whichever segment is closest.
+         *
+         * @param px             the robot's X coordinate.
+         * @param py             the robot's Y coordinate.
+         * @param searchDistance how far past the robot's last progress to
+         *                       search the path.
+         */
+        public void update(double px, double py, double searchDistance) {
+            double[] x = path.x;
+            double[] y = path.y;
+            double[] distance = path.distance;
+            int last = path.last;
+            double limit = progress + searchDistance;
+            double bestSquared = Double.POSITIVE_INFINITY;
+            double bestProgress = progress;
+            int bestSegment = segment;
+
+            for (int i = segment; i < last && distance[i] <= limit; i++) {
+                double ax = x[i];
+                double ay = y[i];
+                double dx = x[i + 1] - ax;
+                double dy = y[i + 1] - ay;
+                double start = distance[i];
+                double span = distance[i + 1] - start;
+
+                double t = ((px - ax) * dx + (py - ay) * dy) / (dx * dx + dy * dy);
+                if (t < 0) t = 0; else if (t > 1) t = 1;
+
+                // never go backwards
+                double along = start + span * t;
+                if (along < progress) {
+                    along = progress;
+                    t = (along - start) / span;
+                }
+
+                double cx = ax + dx * t - px;
+                double cy = ay + dy * t - py;
+                double squared = cx * cx + cy * cy;
+
+                if (squared < bestSquared) {
+                    bestSquared = squared;
+                    bestProgress = along;
+                    bestSegment = i;
+                }
+            }
+
+            segment = bestSegment;
+            progress = bestProgress;
+        }
+
+        /**
+         * Find the segment containing a distance at or after the cursor.
+         */
+        private int segmentAt(double target) {
+            double[] distance = path.distance;
+            int i = segment;
+
+            while (i < path.last - 1 && distance[i + 1] <= target) i++;
+
+            return i;
+        }
+
+        private double fraction(int i, double target) {
+            double[] distance = path.distance;
+            double fraction =
+                (target - distance[i]) / (distance[i + 1] - distance[i]);
+
+            if (fraction < 0) return 0; else if (fraction > 1) return 1;
+
+            return fraction;
+        }
+
+        /**
+         * Get the speed at the robot's progress.
+         *
+         * @return the speed at the robot's progress, interpolated between
+         * the samples either side of it.
+         */
+        public double speed() {
+            double[] speed = path.speed;
+            double fraction = fraction(segment, progress);
+
+            return speed[segment] + (speed[segment + 1] - speed[segment]) * fraction;
+        }
+
+        /**
+         * Get the point at a distance along the path, at or after the
+         * robot's progress.
+         *
+         * @param target the distance along the path.
+         * @return the point at that distance, with the heading interpolated
+         * between the samples either side of it.
+         */
+        public PointXYZ markerAt(double target) {
+            double[] x = path.x;
+            double[] y = path.y;
+            double[] heading = path.heading;
+            int i = segmentAt(target);
+            double fraction = fraction(i, target);
+
+            return new PointXYZ(
+                x[i] + (x[i + 1] - x[i]) * fraction,
+                y[i] + (y[i + 1] - y[i]) * fraction,
+                PoseMath.fromDeg(
+                    heading[i] +
+                    PoseMath.minimumDelta(heading[i], heading[i + 1]) * fraction
+                )
+            );
+        }
+
+        /**
+         * Determine whether the robot has finished the path: it's made it
+         * to the end of the path and is facing the last sample's heading.
+         * Once the robot has made it to the end of the path, it stays
+         * there, even if it's pushed away afterwards.
+         *
+         * @param current   the robot's position.
+         * @param lookahead how far from the end of the path the robot's
+         *                  progress has to be to count as being at the end.
+         * @return true if the robot has finished the path.
+         */
+        public boolean isDone(PointXYZ current, double lookahead) {
+            // the robot has to have made it to the end of the path, not
+            // just be near the end point: the path might start where it
+            // ends
+            if (
+                progress + lookahead >= path.distance[path.last] &&
+                current.isNear(path.end, path.tolerance)
+            ) {
+                hasCompletedTrajectory = true;
+            }
+
+            return hasCompletedTrajectory && Angle.isCloseDeg(
+                current.z().fix(),
+                Angle.fixedDeg(path.heading[path.last]),
+                path.angleTolerance.deg()
+            );
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package xyz.devmello.voyager.execution.trajectory.baked;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Supplier;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.math.geometry.Angle;
+
+/**
+ * Stores {@link BakedTrajectory} instances on disk, so trajectories only
+ * have to be built and baked once, instead of every time an op mode is
+ * initialized.
+ *
+ * <p>
+ * Each trajectory is stored in its own file, named after a key: a hash of
+ * everything that was used to build the trajectory (see
+ * {@link TrajectoryHash}, and the {@code cacheKey()} methods on trajectory
+ * builders). If the trajectory's inputs change, so does the key, and the
+ * trajectory is baked again. Usage looks something like this:
+ * <pre>{@code
+ * AdvancedSplineTrajectoryBuilder builder = new AdvancedSplineTrajectoryBuilder()
+ *     .setStep(0.5)
+ *     // ...
+ *     .add(30, 30, Angle.fixedDeg(90));
+ *
+ * TrajectoryCache cache = new TrajectoryCache(new File("/sdcard/FIRST/voyager"));
+ * BakedTrajectory trajectory = cache.getOrBake(
+ *     builder.cacheKey(),
+ *     0.25,
+ *     builder::build
+ * );
+ * }</pre>
+ * Note that the builder's {@code build()} method is only called if the
+ * trajectory isn't already in the cache.
+ * </p>
+ *
+ * <p>
+ * Files are written to a temporary file and then renamed, so a file is
+ * never half-written. Files are read by memory-mapping them. A file that
+ * can't be read - because it's been corrupted, or because it was written
+ * by a different version of the library's file format or baking code - is
+ * treated as missing, and is replaced the next time the trajectory is
+ * baked.
+ * </p>
+ *
+ * <p>
+ * The file format, all big-endian:
+ * <ul>
+ *     <li>magic number ({@code int}, {@link #MAGIC})</li>
+ *     <li>format version ({@code int}, {@link #VERSION})</li>
+ *     <li>key ({@code long})</li>
+ *     <li>sample count ({@code int})</li>
+ *     <li>lookahead, tolerance, angle tolerance in degrees
+ *     ({@code double}s)</li>
+ *     <li>X, Y, heading, speed, and distance arrays ({@code double}s,
+ *     one array after another)</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class TrajectoryCache {
+    /**
+     * The first 4 bytes of every file: "VBTJ".
+     */
+    public static final int MAGIC = 0x5642544a;
+
+    /**
+     * The version of the file format and of the way trajectories are
+     * baked. This is bumped whenever either one changes, so trajectories
+     * baked by an older version are baked again. Files with any other
+     * version are ignored.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The extension of every file in the cache.
+     */
+    public static final String EXTENSION = ".vbt";
+
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 8 * 3;
+    private static final int ARRAYS = 5;
+
+    private final File directory;
+
+    /**
+     * Create a new {@code TrajectoryCache}.
+     *
+     * @param directory the directory to store trajectories in. This will
+     *                  be created if it doesn't exist.
+     */
+    public TrajectoryCache(File directory) {
+        if (directory == null) throw new IllegalArgumentException(
+            "Directory may not be null!"
+        );
+
+        this.directory = directory;
+    }
+
+    /**
+     * Get the file a trajectory with a certain key is stored in.
+     *
+     * @param key the trajectory's key.
+     * @return the file the trajectory is (or would be) stored in.
+     */
+    public File fileFor(long key) {
+        return new File(directory, String.format("%016x", key) + EXTENSION);
+    }
+
+    /**
+     * Load a trajectory from the cache.
+     *
+     * @param key the trajectory's key.
+     * @return the trajectory, or null if it's not in the cache or its file
+     * couldn't be read.
+     */
+    public BakedTrajectory load(long key) {
+        File file = fileFor(key);
+
+        if (!file.isFile()) return null;
+
+        try (
+            RandomAccessFile input = new RandomAccessFile(file, "r");
+            FileChannel channel = input.getChannel()
+        ) {
+            long length = channel.size();
+
+            if (length < HEADER_BYTES) {
+                Logger.warn(
+                    TrajectoryCache.class,
+                    "Ignoring truncated trajectory file <%s>",
+                    file
+                );
+                return null;
+            }
+
+            ByteBuffer buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                0,
+                length
+            );
+
+            int magic = buffer.getInt();
+            int version = buffer.getInt();
+            long fileKey = buffer.getLong();
+            int count = buffer.getInt();
+
+            if (magic != MAGIC || version != VERSION || fileKey != key) {
+                Logger.warn(
+                    TrajectoryCache.class,
+                    "Ignoring trajectory file <%s> (magic: <%s> version: " +
+                    "<%s> key: <%s>)",
+                    file,
+                    magic,
+                    version,
+                    fileKey
+                );
+                return null;
+            }
+
+            if (
+                count < 2 ||
+                length != HEADER_BYTES + (long) ARRAYS * count * 8
+            ) {
+                Logger.warn(
+                    TrajectoryCache.class,
+                    "Ignoring trajectory file <%s> with <%s> samples and " +
+                    "<%s> bytes",
+                    file,
+                    count,
+                    length
+                );
+                return null;
+            }
+
+            double lookahead = buffer.getDouble();
+            double tolerance = buffer.getDouble();
+            double angleTolerance = buffer.getDouble();
+
+            DoubleBuffer doubles = buffer.asDoubleBuffer();
+            double[] x = new double[count];
+            double[] y = new double[count];
+            double[] heading = new double[count];
+            double[] speed = new double[count];
+            double[] distance = new double[count];
+
+            doubles.get(x);
+            doubles.get(y);
+            doubles.get(heading);
+            doubles.get(speed);
+            doubles.get(distance);
+
+            return new BakedTrajectory(
+                x,
+                y,
+                heading,
+                speed,
+                distance,
+                lookahead,
+                tolerance,
+                Angle.fromDeg(angleTolerance)
+            );
+        } catch (IOException | RuntimeException e) {
+            Logger.warn(
+                TrajectoryCache.class,
+                "Could not load trajectory file <%s>: <%s>",
+                file,
+                e
+            );
+            return null;
+        }
+    }
+
+    /**
+     * Save a trajectory to the cache, replacing any trajectory that's
+     * already been saved with the same key. If the trajectory can't be
+     * saved, a warning is logged instead of throwing an exception: the
+     * trajectory will just be baked again next time.
+     *
+     * @param key        the trajectory's key.
+     * @param trajectory the trajectory to save.
+     * @return true if the trajectory was saved, otherwise, false.
+     */
+    public boolean save(long key, BakedTrajectory trajectory) {
+        if (trajectory == null) throw new IllegalArgumentException(
+            "Trajectory may not be null!"
+        );
+
+        File file = fileFor(key);
+        File temp = new File(directory, file.getName() + ".tmp");
+        int count = trajectory.size();
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Logger.warn(
+                TrajectoryCache.class,
+                "Could not create trajectory cache directory <%s>",
+                directory
+            );
+            return false;
+        }
+
+        try (
+            DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp))
+            )
+        ) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(key);
+            output.writeInt(count);
+            output.writeDouble(trajectory.lookahead());
+            output.writeDouble(trajectory.tolerance());
+            output.writeDouble(trajectory.angleTolerance().deg());
+
+            for (int i = 0; i < count; i++) output.writeDouble(trajectory.x(i));
+            for (int i = 0; i < count; i++) output.writeDouble(trajectory.y(i));
+            for (int i = 0; i < count; i++) output.writeDouble(trajectory.heading(i));
+            for (int i = 0; i < count; i++) output.writeDouble(trajectory.speed(i));
+            for (int i = 0; i < count; i++) output.writeDouble(trajectory.distance(i));
+        } catch (IOException e) {
+            Logger.warn(
+                TrajectoryCache.class,
+                "Could not write trajectory file <%s>: <%s>",
+                temp,
+                e
+            );
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return false;
+        }
+
+        // renaming over an existing file fails on some platforms
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+
+        if (!temp.renameTo(file)) {
+            Logger.warn(
+                TrajectoryCache.class,
+                "Could not move <%s> to <%s>",
+                temp,
+                file
+            );
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Load a trajectory from the cache or, if it's not in the cache, build
+     * it, bake it, and save it to the cache.
+     *
+     * @param key        the key of the trajectory. This should be a hash of
+     *                   everything used to build the trajectory. The
+     *                   spacing is added to the key, so the same trajectory
+     *                   can be cached with several different spacings.
+     * @param spacing    the spacing to bake the trajectory with. See
+     *                   {@link BakeableTrajectory#bake(double)}.
+     * @param trajectory supplies the trajectory to bake. This is only
+     *                   called if the trajectory isn't in the cache.
+     * @return the baked trajectory.
+     */
+    public BakedTrajectory getOrBake(
+        long key,
+        double spacing,
+        Supplier<? extends BakeableTrajectory> trajectory
+    ) {
+        if (trajectory == null) throw new IllegalArgumentException(
+            "Trajectory supplier may not be null!"
+        );
+
+        long fileKey = new TrajectoryHash().add(key).add(spacing).value();
+        BakedTrajectory baked = load(fileKey);
+
+        if (baked != null) return baked;
+
+        BakeableTrajectory bakeable = trajectory.get();
+
+        if (bakeable == null) throw new IllegalArgumentException(
+            "Trajectory supplier returned null!"
+        );
+
+        baked = bakeable.bake(spacing);
+        save(fileKey, baked);
+
+        return baked;
+    }
+}
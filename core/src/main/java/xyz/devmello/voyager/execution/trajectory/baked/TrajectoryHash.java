@@ -0,0 +1,110 @@
+package xyz.devmello.voyager.execution.trajectory.baked;
+
+import xyz.devmello.voyager.math.geometry.Angle;
+
+/**
+ * A 64-bit FNV-1a hash of the inputs used to build a trajectory. Builders
+ * use this to generate keys for a {@link TrajectoryCache}: if any input
+ * changes, the key changes, and the trajectory is baked again instead of
+ * being loaded from the cache.
+ *
+ * <p>
+ * Doubles are hashed by their exact bits, so {@code 1.0} and
+ * {@code 1.0000001} have different hashes.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class TrajectoryHash {
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public TrajectoryHash() {}
+
+    /**
+     * Add a {@code long} to the hash.
+     *
+     * @param value the value to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryHash add(long value) {
+        long h = hash;
+
+        for (int i = 0; i < 8; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= PRIME;
+        }
+
+        hash = h;
+        return this;
+    }
+
+    /**
+     * Add an {@code int} to the hash.
+     *
+     * @param value the value to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryHash add(int value) {
+        return add((long) value);
+    }
+
+    /**
+     * Add a {@code double} to the hash.
+     *
+     * @param value the value to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryHash add(double value) {
+        return add(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Add an angle to the hash.
+     *
+     * @param angle the angle to add. This may be null.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryHash add(Angle angle) {
+        if (angle == null) return add(0L).add(false);
+
+        return add(angle.deg()).add(true);
+    }
+
+    /**
+     * Add a {@code boolean} to the hash.
+     *
+     * @param value the value to add.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryHash add(boolean value) {
+        return add(value ? 1 : 0);
+    }
+
+    /**
+     * Add a string to the hash.
+     *
+     * @param value the value to add. This may be null.
+     * @return {@code this}, used for method chaining.
+     */
+    public TrajectoryHash add(String value) {
+        if (value == null) return add(-1);
+
+        add(value.length());
+
+        for (int i = 0; i < value.length(); i++) add(value.charAt(i));
+
+        return this;
+    }
+
+    /**
+     * Get the hash of everything that's been added so far.
+     *
+     * @return the hash.
+     */
+    public long value() {
+        return hash;
+    }
+}
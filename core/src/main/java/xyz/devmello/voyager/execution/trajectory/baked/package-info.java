@@ -0,0 +1,7 @@
+/**
+ * Trajectories compiled ahead of time into dense arrays of samples, and a
+ * cache for storing them on disk between op modes.
+ *
+ * @since 1.2.0
+ */
+package xyz.devmello.voyager.execution.trajectory.baked;
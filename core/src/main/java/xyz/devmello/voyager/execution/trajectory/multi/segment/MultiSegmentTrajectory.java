@@ -10,8 +10,11 @@
 
 package xyz.devmello.voyager.execution.trajectory.multi.segment;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import xyz.devmello.voyager.execution.trajectory.baked.BakeableTrajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
 import xyz.devmello.voyager.math.geometry.PointXYZ;
 import xyz.devmello.voyager.execution.trajectory.Trajectory;
 
@@ -22,7 +25,7 @@ import xyz.devmello.voyager.execution.trajectory.Trajectory;
  * @author Colin Robertson
  * @since 0.6.1
  */
-public class MultiSegmentTrajectory implements Trajectory {
+public class MultiSegmentTrajectory implements BakeableTrajectory {
     /**
      * A pseudo-queue data structure.
      */
@@ -93,6 +96,64 @@ public class MultiSegmentTrajectory implements Trajectory {
         return 0.0;
     }
 
+    /**
+     * Bake each of the remaining segments and join them into a single
+     * trajectory. See {@link BakedTrajectory#concat(List)}.
+     *
+     * <p>
+     * The baked trajectory doesn't stop to check whether each segment has
+     * finished - the robot just follows the joined path from one segment
+     * to the next.
+     * </p>
+     *
+     * @param spacing roughly how far apart (measured along the path) the
+     *                samples should be. This must be greater than 0.
+     * @return the baked trajectory.
+     * @throws IllegalStateException if the trajectory isn't bakeable. See
+     *                               {@link #isBakeable()}.
+     */
+    @Override
+    public BakedTrajectory bake(double spacing) {
+        if (trajectories.isEmpty()) throw new IllegalStateException(
+            "Can't bake a trajectory with no segments!"
+        );
+
+        List<BakedTrajectory> baked = new ArrayList<>(trajectories.size());
+
+        for (Trajectory trajectory : trajectories) {
+            if (!(trajectory instanceof BakeableTrajectory)) throw new IllegalStateException(
+                "Can't bake segment <" +
+                trajectory +
+                "> because it isn't a BakeableTrajectory!"
+            );
+
+            baked.add(((BakeableTrajectory) trajectory).bake(spacing));
+        }
+
+        return BakedTrajectory.concat(baked);
+    }
+
+    /**
+     * Determine whether this trajectory can be baked: it has at least one
+     * segment, and every segment can be baked.
+     *
+     * @return true if {@link #bake(double)} can be called, otherwise,
+     * false.
+     */
+    @Override
+    public boolean isBakeable() {
+        if (trajectories.isEmpty()) return false;
+
+        for (Trajectory trajectory : trajectories) {
+            if (
+                !(trajectory instanceof BakeableTrajectory) ||
+                !((BakeableTrajectory) trajectory).isBakeable()
+            ) return false;
+        }
+
+        return true;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -10,7 +10,10 @@
 
 package xyz.devmello.voyager.execution.trajectory.spline;
 
+import java.util.Arrays;
 import xyz.devmello.voyager.Core;
+import xyz.devmello.voyager.execution.trajectory.baked.BakeableTrajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
 import xyz.devmello.voyager.logging.exceptions.InvalidSpeedException;
 import xyz.devmello.voyager.logging.exceptions.InvalidToleranceException;
 import xyz.devmello.voyager.math.geometry.Angle;
@@ -49,7 +52,19 @@ import xyz.devmello.voyager.utils.ValidationUtils;
  * @see MultiSplineBuilder
  * @since 0.6.1
  */
-public class AdvancedSplineTrajectory implements Trajectory {
+public class AdvancedSplineTrajectory implements BakeableTrajectory {
+    /**
+     * How many points the spline is evaluated at, at least, per sample
+     * while baking.
+     */
+    private static final int BAKE_OVERSAMPLING = 8;
+
+    /**
+     * The smallest X increment used while baking, as a fraction of the
+     * longest chord between two evaluated points.
+     */
+    private static final double MIN_BAKE_INCREMENT = 1e-6;
+
     private final Spline spline;
     private final AngleSpline angleSpline;
     private final Spline speedSpline;
@@ -231,13 +246,15 @@ public class AdvancedSplineTrajectory implements Trajectory {
         boolean isDoneXY = isDoneXY(current);
         boolean isDoneZ = isDoneZ(current);
 
-        Logger.trace(
-            AdvancedSplineTrajectory.class,
-            "isDoneXY: <%s> isDoneZ: <%s> current: <%s>",
-            isDoneXY,
-            isDoneZ,
-            current
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                AdvancedSplineTrajectory.class,
+                "isDoneXY: <%s> isDoneZ: <%s> current: <%s>",
+                isDoneXY,
+                isDoneZ,
+                current
+            );
+        }
 
         return isDoneXY && isDoneZ;
     }
@@ -248,12 +265,14 @@ public class AdvancedSplineTrajectory implements Trajectory {
 
         double speed = speedSpline.interpolateY(clipX(current.x()));
 
-        Logger.trace(
-            AdvancedSplineTrajectory.class,
-            "speed: <%s> current: <%s>",
-            speed,
-            current
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                AdvancedSplineTrajectory.class,
+                "speed: <%s> current: <%s>",
+                speed,
+                current
+            );
+        }
 
         if (speed < 0 || speed > 1) throw new InvalidSpeedException(
             "AdvancedSplineTrajectory " +
@@ -265,6 +284,105 @@ public class AdvancedSplineTrajectory implements Trajectory {
         return speed;
     }
 
+    /**
+     * Bake the trajectory. The spline is walked from its start to its end
+     * in X increments that are shrunk wherever the spline is steep, so no
+     * chord between two evaluated points is longer than a fraction of
+     * {@code spacing}, and a sample is kept every time the path has
+     * covered {@code spacing} worth of distance. The baked trajectory's
+     * lookahead is the absolute value of this trajectory's step.
+     *
+     * @param spacing roughly how far apart (measured along the path) the
+     *                samples should be. This must be greater than 0.
+     * @return the baked trajectory.
+     */
+    @Override
+    public BakedTrajectory bake(double spacing) {
+        if (!(spacing > 0)) throw new IllegalArgumentException(
+            "Spacing must be greater than 0!"
+        );
+
+        double startX = spline.getStartPoint().x();
+        double endX = spline.getEndPoint().x();
+        double direction = endX < startX ? -1 : 1;
+
+        // the longest chord between two evaluated points. X increments are
+        // never longer than their chords, so this is also the longest X
+        // increment, and the smallest one is only there to get past
+        // discontinuities
+        double maxChord = spacing / BAKE_OVERSAMPLING;
+        double minIncrement = maxChord * MIN_BAKE_INCREMENT;
+        double increment = maxChord;
+
+        int capacity = 16;
+        double[] x = new double[capacity];
+        double[] y = new double[capacity];
+        double[] heading = new double[capacity];
+        double[] speed = new double[capacity];
+        double[] distance = new double[capacity];
+        int count = 0;
+        double lastX = startX;
+        double lastY = spline.interpolateY(startX);
+        double travelled = 0;
+        boolean isLast = false;
+
+        while (true) {
+            boolean keep = count == 0 ||
+                (travelled > distance[count - 1] &&
+                    (isLast || travelled - distance[count - 1] >= spacing));
+
+            if (keep) {
+                if (count == capacity) {
+                    capacity *= 2;
+                    x = Arrays.copyOf(x, capacity);
+                    y = Arrays.copyOf(y, capacity);
+                    heading = Arrays.copyOf(heading, capacity);
+                    speed = Arrays.copyOf(speed, capacity);
+                    distance = Arrays.copyOf(distance, capacity);
+                }
+
+                x[count] = lastX;
+                y[count] = lastY;
+                heading[count] = angleSpline.getAngleTarget(lastX).deg();
+                speed[count] = speedSpline.interpolateY(lastX);
+                distance[count] = travelled;
+                count++;
+            }
+
+            if (isLast) break;
+
+            double sampleX = lastX + increment * direction;
+            if ((endX - sampleX) * direction <= 0) sampleX = endX;
+            double sampleY = spline.interpolateY(sampleX);
+            double chord = Math.hypot(sampleX - lastX, sampleY - lastY);
+
+            // too steep here: try again with a smaller increment
+            if (chord > maxChord && increment > minIncrement) {
+                increment /= 2;
+                continue;
+            }
+
+            travelled += chord;
+            lastX = sampleX;
+            lastY = sampleY;
+            isLast = sampleX == endX;
+
+            // flat enough to take bigger steps again
+            if (chord < maxChord / 2) increment = Math.min(increment * 2, maxChord);
+        }
+
+        return new BakedTrajectory(
+            Arrays.copyOf(x, count),
+            Arrays.copyOf(y, count),
+            Arrays.copyOf(heading, count),
+            Arrays.copyOf(speed, count),
+            Arrays.copyOf(distance, count),
+            Math.abs(step),
+            tolerance,
+            angleTolerance
+        );
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof AdvancedSplineTrajectory) {
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import xyz.devmello.voyager.Core;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryCache;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryHash;
 import xyz.devmello.voyager.logging.exceptions.InvalidSpeedException;
 import xyz.devmello.voyager.logging.exceptions.InvalidToleranceException;
 import xyz.devmello.voyager.logging.exceptions.NullAngleException;
@@ -204,6 +206,41 @@ public class AdvancedSplineTrajectoryBuilder {
         return this;
     }
 
+    /**
+     * Get a key for this builder's trajectory, for use with a
+     * {@link TrajectoryCache}. The key is a hash of every value that's been
+     * set on the builder, so changing any of them changes the key.
+     *
+     * @return a key for the trajectory this builder would build.
+     * @throws IllegalStateException if the builder uses a custom spline
+     *                               generator: the generator can't be
+     *                               hashed, so changing it wouldn't change
+     *                               the key.
+     */
+    public long cacheKey() {
+        if (interpolationMode == InterpolationMode.CUSTOM) throw new IllegalStateException(
+            "Can't get a cache key for a trajectory that uses a custom " +
+            "spline generator!"
+        );
+
+        TrajectoryHash hash = new TrajectoryHash()
+            .add(AdvancedSplineTrajectoryBuilder.class.getName())
+            .add(String.valueOf(interpolationMode))
+            .add(step)
+            .add(tolerance)
+            .add(angleTolerance)
+            .add(Core.advancedSplineTrajectoryDuplicateOffset)
+            .add(xValues.size());
+
+        for (int i = 0; i < xValues.size(); i++) hash
+            .add(xValues.get(i))
+            .add(yValues.get(i))
+            .add(angleTargets.get(i))
+            .add(speeds.get(i));
+
+        return hash.value();
+    }
+
     public AdvancedSplineTrajectory build() {
         boolean invalidStep = step == Double.MAX_VALUE;
         boolean invalidSpeed = speed == Double.MAX_VALUE;
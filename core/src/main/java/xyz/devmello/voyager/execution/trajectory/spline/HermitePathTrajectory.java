@@ -0,0 +1,382 @@
+package xyz.devmello.voyager.execution.trajectory.spline;
+
+import xyz.devmello.voyager.execution.trajectory.Trajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakeableTrajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.logging.exceptions.InvalidSpeedException;
+import xyz.devmello.voyager.logging.exceptions.InvalidToleranceException;
+import xyz.devmello.voyager.math.HermitePath;
+import xyz.devmello.voyager.math.VelocityProfile;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.PoseMath;
+import xyz.devmello.voyager.utils.StringUtils;
+import xyz.devmello.voyager.utils.ValidationUtils;
+
+/**
+ * A {@link Trajectory} that follows a {@link HermitePath}, keeping track of
+ * the robot's progress by distance along the path.
+ *
+ * <p>
+ * Every time {@link #nextMarker(PointXYZ)} is called, the robot's position
+ * is projected onto the path to find how far along the path the robot is.
+ * Only the part of the path just ahead of the robot's last known progress
+ * is searched, so progress never goes backwards, and paths that loop or
+ * cross themselves are followed in order instead of jumping to whichever
+ * pass is closest. The marker is the point {@code lookahead} further along
+ * the path than the robot.
+ * </p>
+ *
+ * <p>
+ * Because the path is indexed by arc length, finding the robot's progress
+ * and the next marker takes about the same amount of time no matter how
+ * long the path is or how many control points it has.
+ * </p>
+ *
+ * <p>
+ * Each control point has a heading. The target heading between two control
+ * points is interpolated by distance along the path, turning whichever way
+ * is shorter.
+ * </p>
+ *
+ * <p>
+ * The robot either moves at a constant speed, or follows a
+ * {@link VelocityProfile}. With a profile, the speed is looked up from the
+ * profile at the robot's progress along the path, so the robot speeds up
+ * on straight sections and slows down before curves and the end of the
+ * path. Profiles usually start and end at rest, so a minimum speed keeps
+ * the robot moving at the very start and end of the path.
+ * </p>
+ *
+ * <p>
+ * Unlike most trajectories, this trajectory is stateful: it remembers the
+ * robot's progress, so each instance should only be followed once.
+ * </p>
+ *
+ * @see HermitePathTrajectoryBuilder
+ * @since 1.2.0
+ */
+public class HermitePathTrajectory implements BakeableTrajectory {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How far ahead of the robot's last progress the path is searched for
+     * the robot's new progress, as a multiple of the lookahead distance.
+     */
+    private static final double SEARCH_LOOKAHEADS = 2;
+
+    private final HermitePath path;
+    private final double[] headings;
+    private final double speed;
+    private final VelocityProfile profile;
+    private final double lookahead;
+    private final double tolerance;
+    private final Angle angleTolerance;
+
+    private double progress = 0;
+    private boolean hasCompletedTrajectory = false;
+
+    /**
+     * Create a new {@code HermitePathTrajectory}.
+     *
+     * @param path           the path to follow.
+     * @param headings       the heading the robot should have at each of
+     *                       the path's control points.
+     * @param speed          the speed the robot should move at. This must
+     *                       be between 0 and 1.
+     * @param lookahead      how far ahead of the robot (measured along the
+     *                       path) the marker should be. Larger values cut
+     *                       corners more, but are more stable. This must
+     *                       be greater than 0.
+     * @param tolerance      how close the robot has to be to the end of the
+     *                       path for the trajectory to finish.
+     * @param angleTolerance how close the robot's heading has to be to the
+     *                       last control point's heading for the trajectory
+     *                       to finish.
+     */
+    public HermitePathTrajectory(
+        HermitePath path,
+        Angle[] headings,
+        double speed,
+        double lookahead,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        this(
+            path,
+            headings,
+            null,
+            speed,
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    /**
+     * Create a new {@code HermitePathTrajectory} that follows a velocity
+     * profile.
+     *
+     * @param path           the path to follow.
+     * @param headings       the heading the robot should have at each of
+     *                       the path's control points.
+     * @param profile        the velocity profile to follow. The profile's
+     *                       maximum velocity should be how fast the robot
+     *                       moves when it's given a speed of 1. If this is
+     *                       null, the robot moves at a constant speed of
+     *                       {@code minimumSpeed}.
+     * @param minimumSpeed   the slowest the robot should move, between 0
+     *                       and 1. This should be greater than 0 if the
+     *                       profile starts or ends at rest, otherwise the
+     *                       robot won't start moving, or might stop just
+     *                       short of the end of the path.
+     * @param lookahead      how far ahead of the robot (measured along the
+     *                       path) the marker should be. Larger values cut
+     *                       corners more, but are more stable. This must
+     *                       be greater than 0.
+     * @param tolerance      how close the robot has to be to the end of the
+     *                       path for the trajectory to finish.
+     * @param angleTolerance how close the robot's heading has to be to the
+     *                       last control point's heading for the trajectory
+     *                       to finish.
+     */
+    public HermitePathTrajectory(
+        HermitePath path,
+        Angle[] headings,
+        VelocityProfile profile,
+        double minimumSpeed,
+        double lookahead,
+        double tolerance,
+        Angle angleTolerance
+    ) {
+        ValidationUtils.validate(path, "path");
+        ValidationUtils.validate(minimumSpeed, "minimumSpeed");
+        ValidationUtils.validate(lookahead, "lookahead");
+        ValidationUtils.validate(tolerance, "tolerance");
+        ValidationUtils.validate(angleTolerance, "angleTolerance");
+
+        if (headings == null) throw new IllegalArgumentException(
+            "Headings may not be null!"
+        );
+
+        if (headings.length != path.controlPointCount()) throw new IllegalArgumentException(
+            "There must be exactly one heading for each control point! " +
+            "Control points: " +
+            path.controlPointCount() +
+            "; headings: " +
+            headings.length
+        );
+
+        InvalidSpeedException.throwIfInvalid(
+            "Speed must be between 0 and 1!",
+            minimumSpeed
+        );
+
+        InvalidToleranceException.throwIfInvalid(
+            "Invalid tolerance value!",
+            tolerance
+        );
+
+        if (!(lookahead > 0)) throw new IllegalArgumentException(
+            "Lookahead must be greater than 0!"
+        );
+
+        this.path = path;
+        this.headings = new double[headings.length];
+        this.speed = minimumSpeed;
+        this.profile = profile;
+        this.lookahead = lookahead;
+        this.tolerance = tolerance;
+        this.angleTolerance = angleTolerance;
+
+        for (int i = 0; i < headings.length; i++) {
+            ValidationUtils.validate(headings[i], "heading");
+
+            this.headings[i] = headings[i].deg();
+        }
+    }
+
+    /**
+     * Get the path this trajectory follows.
+     *
+     * @return the path this trajectory follows.
+     */
+    public HermitePath getPath() {
+        return path;
+    }
+
+    /**
+     * Get how far along the path the robot was the last time
+     * {@link #nextMarker(PointXYZ)} was called.
+     *
+     * @return the distance along the path to the robot's progress.
+     */
+    public double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Get the target heading at a point on the path.
+     *
+     * @param distance the distance along the path.
+     * @return the target heading, in degrees, in the same form as
+     * {@code Angle.deg()}.
+     */
+    public double headingAt(double distance) {
+        int segment = path.segmentAt(distance);
+        double start = path.controlPointDistance(segment);
+        double end = path.controlPointDistance(segment + 1);
+        double fraction = (distance - start) / (end - start);
+
+        if (fraction < 0) fraction = 0; else if (fraction > 1) fraction = 1;
+
+        double from = headings[segment];
+        double to = headings[segment + 1];
+
+        return PoseMath.fromDeg(
+            from + PoseMath.minimumDelta(from, to) * fraction
+        );
+    }
+
+    @Override
+    public PointXYZ nextMarker(PointXYZ current) {
+        progress =
+            path.project(
+                current.x(),
+                current.y(),
+                progress,
+                progress + lookahead * SEARCH_LOOKAHEADS
+            );
+
+        double target = Math.min(progress + lookahead, path.length());
+
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                HermitePathTrajectory.class,
+                "progress: <%s> target: <%s> length: <%s> current: <%s>",
+                progress,
+                target,
+                path.length(),
+                current
+            );
+        }
+
+        return new PointXYZ(
+            path.x(target),
+            path.y(target),
+            headingAt(target)
+        );
+    }
+
+    private boolean isDoneXY(PointXYZ current) {
+        // the robot has to have made it to the end of the path, not just be
+        // near the end point: the path might start where it ends
+        if (
+            progress + lookahead >= path.length() &&
+            current.isNear(path.getEndPoint(), tolerance)
+        ) {
+            hasCompletedTrajectory = true;
+        }
+
+        return hasCompletedTrajectory;
+    }
+
+    private boolean isDoneZ(PointXYZ current) {
+        return Angle.isCloseDeg(
+            current.z().fix(),
+            Angle.fixedDeg(headings[headings.length - 1]),
+            angleTolerance.deg()
+        );
+    }
+
+    @Override
+    public boolean isDone(PointXYZ current) {
+        ValidationUtils.validate(current, "current");
+
+        return isDoneXY(current) && isDoneZ(current);
+    }
+
+    /**
+     * Get the velocity profile this trajectory follows.
+     *
+     * @return the velocity profile this trajectory follows, or null if the
+     * trajectory moves at a constant speed.
+     */
+    public VelocityProfile getProfile() {
+        return profile;
+    }
+
+    private double speedAt(double distance) {
+        // without a profile, speed is the constant speed. with a profile,
+        // it's the minimum speed
+        if (profile == null) return speed;
+
+        return Math.max(profile.speedAt(distance), speed);
+    }
+
+    @Override
+    public double speed(PointXYZ current) {
+        return speedAt(progress);
+    }
+
+    /**
+     * Bake the trajectory, with samples spaced evenly along the path.
+     *
+     * @param spacing roughly how far apart (measured along the path) the
+     *                samples should be. This must be greater than 0.
+     * @return the baked trajectory.
+     */
+    @Override
+    public BakedTrajectory bake(double spacing) {
+        if (!(spacing > 0)) throw new IllegalArgumentException(
+            "Spacing must be greater than 0!"
+        );
+
+        double length = path.length();
+        int count = (int) Math.ceil(length / spacing) + 1;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        double[] heading = new double[count];
+        double[] speed = new double[count];
+        double[] distance = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            double d = i == count - 1 ? length : length * i / (count - 1);
+
+            x[i] = path.x(d);
+            y[i] = path.y(d);
+            heading[i] = headingAt(d);
+            speed[i] = speedAt(d);
+            distance[i] = d;
+        }
+
+        return new BakedTrajectory(
+            x,
+            y,
+            heading,
+            speed,
+            distance,
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+
+    @Override
+    public String toString() {
+        PointXY end = path.getEndPoint();
+
+        return StringUtils.format(
+            "HermitePathTrajectory to <%s> (path: <%s>, speed: <%s>, " +
+            "lookahead: <%s>, tolerance: <%s>, angle tolerance: <%s>)",
+            end,
+            path,
+            speed,
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+}
@@ -0,0 +1,264 @@
+package xyz.devmello.voyager.execution.trajectory.spline;
+
+import java.util.ArrayList;
+import java.util.List;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryCache;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryHash;
+import xyz.devmello.voyager.logging.exceptions.InvalidSpeedException;
+import xyz.devmello.voyager.logging.exceptions.InvalidToleranceException;
+import xyz.devmello.voyager.logging.exceptions.NullAngleException;
+import xyz.devmello.voyager.math.HermitePath;
+import xyz.devmello.voyager.math.VelocityProfile;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+
+/**
+ * A builder for the {@link HermitePathTrajectory} class. Control points can
+ * go in any direction - there's no need for X or Y values to be increasing
+ * or decreasing, like there is with {@link AdvancedSplineTrajectoryBuilder}.
+ *
+ * <p>
+ * The trajectory either moves at a constant speed (see
+ * {@link #setSpeed(double)}), or, if velocity constraints are set (see
+ * {@link #setVelocityConstraints(double, double, double)}), follows a
+ * {@link VelocityProfile} generated from those constraints when the
+ * trajectory is built.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class HermitePathTrajectoryBuilder {
+    public static final double DEFAULT_PROFILE_STEP = 0.5;
+    public static final double DEFAULT_MINIMUM_SPEED = 0.1;
+
+    private final List<PointXY> points = new ArrayList<>();
+    private final List<Angle> headings = new ArrayList<>();
+    private double speed = Double.MAX_VALUE;
+    private double lookahead = Double.MAX_VALUE;
+    private double tolerance = Double.MAX_VALUE;
+    private Angle angleTolerance;
+    private int samplesPerSegment = HermitePath.DEFAULT_SAMPLES_PER_SEGMENT;
+    private double maxVelocity = Double.NaN;
+    private double maxAcceleration = Double.NaN;
+    private double maxCentripetalAcceleration = Double.NaN;
+    private double profileStep = DEFAULT_PROFILE_STEP;
+    private double minimumSpeed = DEFAULT_MINIMUM_SPEED;
+
+    public HermitePathTrajectoryBuilder() {}
+
+    /**
+     * Set the trajectory's speed value.
+     *
+     * @param speed the trajectory's speed value.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setSpeed(double speed) {
+        this.speed = speed;
+
+        return this;
+    }
+
+    /**
+     * Set the trajectory's lookahead distance.
+     *
+     * @param lookahead how far ahead of the robot, along the path, the
+     *                  trajectory's marker should be.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setLookahead(double lookahead) {
+        this.lookahead = lookahead;
+
+        return this;
+    }
+
+    /**
+     * Set the trajectory's tolerance value.
+     *
+     * @param tolerance the trajectory's tolerance value.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+
+        return this;
+    }
+
+    /**
+     * Set the trajectory's angle tolerance value.
+     *
+     * @param angleTolerance the trajectory's angle tolerance value.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setAngleTolerance(
+        Angle angleTolerance
+    ) {
+        this.angleTolerance = angleTolerance;
+
+        return this;
+    }
+
+    /**
+     * Set how many samples each segment of the path is split into. See
+     * {@link HermitePath#HermitePath(PointXY[], PointXY[], int)}.
+     *
+     * @param samplesPerSegment how many samples each segment is split into.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setSamplesPerSegment(
+        int samplesPerSegment
+    ) {
+        this.samplesPerSegment = samplesPerSegment;
+
+        return this;
+    }
+
+    /**
+     * Make the trajectory follow a {@link VelocityProfile} instead of
+     * moving at a constant speed. See
+     * {@link VelocityProfile#generate(HermitePath, double, double, double, double)}.
+     *
+     * @param maxVelocity                how fast the robot moves when it's
+     *                                   given a speed of 1.
+     * @param maxAcceleration            the robot's maximum acceleration.
+     * @param maxCentripetalAcceleration the most centripetal acceleration
+     *                                   the robot can handle in a turn.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setVelocityConstraints(
+        double maxVelocity,
+        double maxAcceleration,
+        double maxCentripetalAcceleration
+    ) {
+        this.maxVelocity = maxVelocity;
+        this.maxAcceleration = maxAcceleration;
+        this.maxCentripetalAcceleration = maxCentripetalAcceleration;
+
+        return this;
+    }
+
+    /**
+     * Set the distance between the velocity profile's samples.
+     *
+     * @param profileStep the distance between the profile's samples.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setProfileStep(double profileStep) {
+        this.profileStep = profileStep;
+
+        return this;
+    }
+
+    /**
+     * Set the slowest speed the robot will move at while following a
+     * velocity profile.
+     *
+     * @param minimumSpeed the trajectory's minimum speed.
+     * @return {@code this}, used for method chaining.
+     */
+    public HermitePathTrajectoryBuilder setMinimumSpeed(double minimumSpeed) {
+        this.minimumSpeed = minimumSpeed;
+
+        return this;
+    }
+
+    public HermitePathTrajectoryBuilder add(PointXYZ target) {
+        points.add(new PointXY(target.x(), target.y()));
+        headings.add(target.z());
+
+        return this;
+    }
+
+    public HermitePathTrajectoryBuilder add(double x, double y, Angle z) {
+        return add(new PointXYZ(x, y, z));
+    }
+
+    public HermitePathTrajectoryBuilder add(double x, double y, double zDeg) {
+        return add(new PointXYZ(x, y, zDeg));
+    }
+
+    /**
+     * Get a key for this builder's trajectory, for use with a
+     * {@link TrajectoryCache}. The key is a hash of every value that's been
+     * set on the builder, so changing any of them changes the key.
+     *
+     * @return a key for the trajectory this builder would build.
+     */
+    public long cacheKey() {
+        TrajectoryHash hash = new TrajectoryHash()
+            .add(HermitePathTrajectoryBuilder.class.getName())
+            .add(speed)
+            .add(lookahead)
+            .add(tolerance)
+            .add(angleTolerance)
+            .add(samplesPerSegment)
+            .add(maxVelocity)
+            .add(maxAcceleration)
+            .add(maxCentripetalAcceleration)
+            .add(profileStep)
+            .add(minimumSpeed)
+            .add(points.size());
+
+        for (int i = 0; i < points.size(); i++) hash
+            .add(points.get(i).x())
+            .add(points.get(i).y())
+            .add(headings.get(i));
+
+        return hash.value();
+    }
+
+    public HermitePathTrajectory build() {
+        boolean hasProfile = !Double.isNaN(maxVelocity);
+
+        if (!hasProfile && speed == Double.MAX_VALUE) throw new InvalidSpeedException(
+            "Did not set a speed - use setSpeed() or " +
+            "setVelocityConstraints()."
+        );
+
+        if (lookahead == Double.MAX_VALUE) throw new IllegalArgumentException(
+            "Did not set a lookahead - use setLookahead()."
+        );
+
+        if (tolerance == Double.MAX_VALUE) throw new InvalidToleranceException(
+            "Did not set a tolerance - use setTolerance()."
+        );
+
+        if (angleTolerance == null) throw new NullAngleException(
+            "Null angle tolerance while creating a HermitePathTrajectory."
+        );
+
+        PointXY[] controlPoints = points.toArray(new PointXY[0]);
+        HermitePath path = new HermitePath(
+            controlPoints,
+            HermitePath.catmullRomTangents(controlPoints),
+            samplesPerSegment
+        );
+
+        Angle[] headingArray = headings.toArray(new Angle[0]);
+
+        if (!hasProfile) return new HermitePathTrajectory(
+            path,
+            headingArray,
+            speed,
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+
+        return new HermitePathTrajectory(
+            path,
+            headingArray,
+            VelocityProfile.generate(
+                path,
+                maxVelocity,
+                maxAcceleration,
+                maxCentripetalAcceleration,
+                profileStep
+            ),
+            minimumSpeed,
+            lookahead,
+            tolerance,
+            angleTolerance
+        );
+    }
+}
@@ -17,6 +17,8 @@ import xyz.devmello.voyager.math.geometry.Angle;
 import xyz.devmello.voyager.math.geometry.PointXY;
 import xyz.devmello.voyager.math.geometry.PointXYZ;
 import xyz.devmello.voyager.execution.trajectory.Trajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryCache;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryHash;
 import xyz.devmello.voyager.execution.trajectory.multi.segment.MultiSegmentTrajectory;
 import xyz.devmello.voyager.utils.StringUtils;
 import xyz.devmello.voyager.utils.Trio;
@@ -204,7 +206,36 @@ public class MultiSplineBuilder {
         return this;
     }
 
+    /**
+     * Get a key for this builder's trajectory, for use with a
+     * {@link TrajectoryCache}. The key is a hash of every control point and
+     * default value, so changing any of them changes the key.
+     *
+     * @return a key for the trajectory this builder would build.
+     */
+    public long cacheKey() {
+        TrajectoryHash hash = new TrajectoryHash()
+            .add(MultiSplineBuilder.class.getName())
+            .add(nodes.size());
+
+        defaultNode.hash(hash);
+        for (Node node : nodes) node.hash(hash);
+
+        return hash.value();
+    }
+
     public Trajectory build() {
+        return buildSegments();
+    }
+
+    /**
+     * Build this builder's trajectory as a {@link MultiSegmentTrajectory}.
+     * Unlike {@link #build()}, the result can be passed straight to
+     * {@link TrajectoryCache#getOrBake}.
+     *
+     * @return a multi-segment trajectory.
+     */
+    public MultiSegmentTrajectory buildSegments() {
         List<NodeTrio> trios = getTrios(nodes);
 
         // make sure all of the points are monotonic
@@ -268,6 +299,18 @@ public class MultiSplineBuilder {
             return new PointXYZ(x, y, zDeg);
         }
 
+        void hash(TrajectoryHash hash) {
+            hash
+                .add(x)
+                .add(y)
+                .add(zDeg)
+                .add(speed)
+                .add(tolerance)
+                .add(step)
+                .add(angleTolerance)
+                .add(String.valueOf(mode));
+        }
+
         @Override
         public String toString() {
             return StringUtils.format("(%s, %s)", x, y);
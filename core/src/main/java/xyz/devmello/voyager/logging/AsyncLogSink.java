@@ -0,0 +1,381 @@
+package xyz.devmello.voyager.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * An asynchronous log sink. Instead of formatting every log and handing it
+ * to the output on the thread that logged it (usually the thread running
+ * {@code Voyager.tick()}), logs are copied into a bounded ring buffer of
+ * preallocated events, and a background thread formats them and writes
+ * them to the output.
+ *
+ * <p>
+ * Each event stores the log's level, tag, format template, and the single
+ * primitive argument methods like {@link Logger#traceLong} take, so logging
+ * with one of those methods costs a slot claim and a few field writes - no
+ * boxing, no formatting, and no allocation. Logs with object arguments
+ * keep a reference to the argument array, which is formatted later, on the
+ * sink's thread - so a mutable argument is printed as it is when the message
+ * is drained, not when it was logged. Tags that are classes aren't converted
+ * to strings until the event is drained.
+ * </p>
+ *
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides whether the
+ * oldest queued event or the new event is thrown away. Either way,
+ * {@link #getDroppedCount()} is incremented. Slots are claimed under a
+ * short, uncontended lock, so any number of threads may log at once.
+ * </p>
+ *
+ * <p>
+ * To use a sink, create it and pass it to
+ * {@link Logger#setAsyncSink(AsyncLogSink)}, or call
+ * {@link Logger#useAsyncOutput(int, OverflowPolicy)}. The output set with
+ * {@link Logger#setOutput(java.util.function.Consumer)} is then called from
+ * the sink's thread, not the thread that logged the message.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class AsyncLogSink {
+    private static final byte NONE = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+
+    /**
+     * What to do when a message is logged and the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the oldest queued message to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard the new message.
+         */
+        DROP_NEWEST,
+    }
+
+    private final Event[] events;
+    private final int mask;
+    private final OverflowPolicy policy;
+    private final Object lock = new Object();
+    private final Event scratch = new Event();
+    private long head = 0;
+    private long tail = 0;
+    private long dropped = 0;
+    private long idleNanos = TimeUnit.MILLISECONDS.toNanos(2);
+    private volatile boolean running = false;
+    private Thread thread;
+
+    /**
+     * Create a new {@code AsyncLogSink}.
+     *
+     * @param capacity the minimum number of messages the buffer can hold.
+     *                 This is rounded up to the next power of two.
+     * @param policy   what to do when the buffer is full.
+     */
+    public AsyncLogSink(int capacity, OverflowPolicy policy) {
+        if (capacity < 1) throw new IllegalArgumentException(
+            "Capacity must be at least 1!"
+        );
+
+        if (policy == null) throw new IllegalArgumentException(
+            "Overflow policy may not be null!"
+        );
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+
+        this.events = new Event[size];
+        this.mask = size - 1;
+        this.policy = policy;
+
+        for (int i = 0; i < size; i++) events[i] = new Event();
+    }
+
+    /**
+     * Start the background thread that drains the buffer. If the sink is
+     * already running, this does nothing.
+     *
+     * @return this, used for method chaining.
+     */
+    public synchronized AsyncLogSink start() {
+        if (running) return this;
+
+        running = true;
+        thread = new Thread(this::run, "voyager-async-log");
+        thread.setDaemon(true);
+        thread.start();
+
+        return this;
+    }
+
+    /**
+     * Stop the background thread, and write every message that's still in
+     * the buffer on the calling thread.
+     */
+    public synchronized void stop() {
+        if (!running) return;
+
+        running = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+
+        drain();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Set how long the background thread sleeps when the buffer is empty.
+     * Logging threads never wake the background thread up, so this is
+     * also roughly the longest a message can wait before it's written.
+     *
+     * @param idleNanos how long to sleep, in nanoseconds.
+     * @return this, used for method chaining.
+     */
+    public AsyncLogSink setIdleNanos(long idleNanos) {
+        if (idleNanos < 1) throw new IllegalArgumentException(
+            "Idle time must be positive!"
+        );
+
+        this.idleNanos = idleNanos;
+
+        return this;
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) LockSupport.parkNanos(this, idleNanos);
+        }
+    }
+
+    // must be called while holding the lock. returns null if the message
+    // should be dropped
+    private Event claim() {
+        if (tail - head > mask) {
+            dropped++;
+
+            if (policy == OverflowPolicy.DROP_NEWEST) return null;
+
+            head++;
+        }
+
+        return events[(int) (tail++ & mask)];
+    }
+
+    /**
+     * Queue a message with object arguments. The argument array is not
+     * copied, so it shouldn't be modified after it's been queued.
+     *
+     * @param level     the message's level.
+     * @param tag       the message's tag - either a {@link String} or a
+     *                  {@link Class}.
+     * @param template  the message's format template.
+     * @param arguments the message's arguments.
+     */
+    public void publish(
+        LogLevel level,
+        Object tag,
+        String template,
+        Object[] arguments
+    ) {
+        synchronized (lock) {
+            Event event = claim();
+            if (event == null) return;
+
+            event.set(level, tag, template, NONE, 0);
+            event.objects = arguments;
+        }
+    }
+
+    /**
+     * Queue a message with a single integer argument.
+     *
+     * @param level    the message's level.
+     * @param tag      the message's tag.
+     * @param template the message's format template.
+     * @param a        the first argument.
+     */
+    public void publish(LogLevel level, Object tag, String template, long a) {
+        synchronized (lock) {
+            Event event = claim();
+            if (event == null) return;
+
+            event.set(level, tag, template, LONG, a);
+        }
+    }
+
+    /**
+     * Queue a message with a single decimal argument.
+     *
+     * @param level    the message's level.
+     * @param tag      the message's tag.
+     * @param template the message's format template.
+     * @param a        the first argument.
+     */
+    public void publish(
+        LogLevel level,
+        Object tag,
+        String template,
+        double a
+    ) {
+        synchronized (lock) {
+            Event event = claim();
+            if (event == null) return;
+
+            event.set(
+                level,
+                tag,
+                template,
+                DOUBLE,
+                Double.doubleToRawLongBits(a)
+            );
+        }
+    }
+
+    /**
+     * Format and write every message that's currently in the buffer, on
+     * the calling thread. The background thread calls this in a loop, but
+     * it's safe to call from anywhere - for example, to flush the buffer
+     * before the program exits.
+     *
+     * <p>
+     * If formatting or writing a message throws a {@link RuntimeException}
+     * (for example, an argument's {@code toString()} or the output itself),
+     * the message is counted as dropped and draining carries on.
+     * </p>
+     *
+     * @return how many messages were written.
+     */
+    public int drain() {
+        int count = 0;
+
+        // only one thread can use the scratch event at a time
+        synchronized (scratch) {
+            while (true) {
+                synchronized (lock) {
+                    if (head == tail) break;
+
+                    scratch.copyFrom(events[(int) (head & mask)]);
+                    events[(int) (head & mask)].objects = null;
+                    head++;
+                }
+
+                // a bad argument or output mustn't kill the sink's thread,
+                // or every later message would pile up and be dropped
+                try {
+                    write(scratch);
+                    count++;
+                } catch (RuntimeException e) {
+                    synchronized (lock) {
+                        dropped++;
+                    }
+                }
+
+                scratch.objects = null;
+            }
+        }
+
+        return count;
+    }
+
+    private static void write(Event event) {
+        String tag = event.tag instanceof Class
+            ? ((Class<?>) event.tag).getSimpleName()
+            : String.valueOf(event.tag);
+
+        String message;
+
+        if (event.objects != null) {
+            message = event.objects.length == 0
+                ? event.template
+                : StringUtils.format(event.template, event.objects);
+        } else if (event.kind == NONE) {
+            message = event.template;
+        } else {
+            Object argument = event.kind == LONG
+                ? (Object) event.bits
+                : (Object) Double.longBitsToDouble(event.bits);
+
+            message = StringUtils.format(event.template, argument);
+        }
+
+        InternalPathfinderLogger.log(Logger.formatLine(event.level, tag, message));
+    }
+
+    /**
+     * Get the number of messages that are waiting to be written.
+     *
+     * @return how many messages are in the buffer.
+     */
+    public int size() {
+        synchronized (lock) {
+            return (int) (tail - head);
+        }
+    }
+
+    public int getCapacity() {
+        return events.length;
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Get the number of messages that have been discarded because the
+     * buffer was full, or because they couldn't be formatted or written.
+     *
+     * @return how many messages have been dropped.
+     */
+    public long getDroppedCount() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    private static class Event {
+        private LogLevel level;
+        private Object tag;
+        private String template;
+        // the primitive argument's type, and its value - a double's raw
+        // bits if it's a decimal
+        private byte kind;
+        private long bits;
+        private Object[] objects;
+
+        private void set(
+            LogLevel level,
+            Object tag,
+            String template,
+            byte kind,
+            long bits
+        ) {
+            this.level = level;
+            this.tag = tag;
+            this.template = template;
+            this.kind = kind;
+            this.bits = bits;
+            this.objects = null;
+        }
+
+        private void copyFrom(Event event) {
+            set(event.level, event.tag, event.template, event.kind, event.bits);
+            objects = event.objects;
+        }
+    }
+}
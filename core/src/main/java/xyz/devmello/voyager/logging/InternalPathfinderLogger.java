@@ -10,8 +10,8 @@
 
 package xyz.devmello.voyager.logging;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import xyz.devmello.voyager.utils.StringUtils;
 
@@ -24,7 +24,10 @@ import xyz.devmello.voyager.utils.StringUtils;
 public class InternalPathfinderLogger {
     protected static Consumer<String> output = null;
     protected static boolean shouldFilter = true;
-    protected static Map<String, LogFilter> filters = new HashMap<>();
+    // logs may be written on an AsyncLogSink's thread while filters are
+    // added or removed on another one
+    protected static Map<String, LogFilter> filters =
+        new ConcurrentHashMap<>();
 
     public static void setOutput(Consumer<String> output) {
         InternalPathfinderLogger.output = output;
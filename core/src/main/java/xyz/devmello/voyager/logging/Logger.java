@@ -13,6 +13,7 @@ package xyz.devmello.voyager.logging;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import xyz.devmello.voyager.utils.StringUtils;
 
 //import android.util.Log;
@@ -30,6 +31,9 @@ import xyz.devmello.voyager.utils.StringUtils;
  *     <li>{@link #useSystemOutput()}</li>
  *     <li>{@link #setOutput(Consumer)}</li>
  * </ul>
+ * By default, logs are formatted and written on the thread that logged
+ * them. {@link #useAsyncOutput(int, AsyncLogSink.OverflowPolicy)} moves
+ * that work onto a background thread (see {@link AsyncLogSink}).
  *
  *
  * <p>
@@ -55,6 +59,7 @@ public class Logger {
     private static LogLevel loggingLevel = LogLevel.WARN;
     private static final Map<Object, String> map = new HashMap<>();
     private static boolean arePathfinderLogsEnabled = true;
+    private static volatile AsyncLogSink asyncSink = null;
 
     /**
      * Get the current logging level.
@@ -80,8 +85,9 @@ public class Logger {
     }
 
     public static void removeFilter(Object key) {
-        InternalPathfinderLogger.filters.remove(map.get(key));
-        map.remove(key);
+        String filter = map.remove(key);
+
+        if (filter != null) InternalPathfinderLogger.filters.remove(filter);
     }
 
     public static void setOutput(Consumer<String> output) {
@@ -122,28 +128,159 @@ public class Logger {
         setArePathfinderLogsEnabled(false);
     }
 
-    private static void internalLog(
-        LogLevel level,
-        String tag,
-        String message
+    /**
+     * Route logs through an {@link AsyncLogSink}, so they're formatted and
+     * written on the sink's thread instead of the thread that logged them.
+     * If the sink hasn't been started yet, it's started here, so logs
+     * never pile up in a buffer nothing drains. If there was already a
+     * sink, it's not stopped - any messages still in it will be written
+     * when it is.
+     *
+     * <p>
+     * Object arguments aren't copied or formatted until the sink's thread
+     * writes the message, so their {@code toString()} is called on that
+     * thread, some time after the log call. Pass immutable values (or
+     * format mutable ones yourself) if the message should show their state
+     * at the time they were logged. Messages whose formatting or output
+     * throws are counted by {@link AsyncLogSink#getDroppedCount()}.
+     * </p>
+     *
+     * @param sink the sink to use, or null to go back to writing logs
+     *             synchronously.
+     */
+    public static void setAsyncSink(AsyncLogSink sink) {
+        if (sink != null) sink.start();
+
+        asyncSink = sink;
+    }
+
+    public static AsyncLogSink getAsyncSink() {
+        return asyncSink;
+    }
+
+    /**
+     * Create and start an {@link AsyncLogSink}, stop the previous one (if
+     * there was one), and route logs through the new sink. Logs are still
+     * written to the output set with {@link #setOutput(Consumer)}, but
+     * from the sink's thread.
+     *
+     * <p>
+     * Object arguments aren't copied or formatted until the sink's thread
+     * writes the message, so their {@code toString()} is called on that
+     * thread, some time after the log call. Pass immutable values (or
+     * format mutable ones yourself) if the message should show their state
+     * at the time they were logged. Messages whose formatting or output
+     * throws are counted by {@link AsyncLogSink#getDroppedCount()}.
+     * </p>
+     *
+     * @param capacity how many messages the sink's buffer can hold.
+     * @param policy   what to do when the buffer is full.
+     * @return the new sink.
+     */
+    public static AsyncLogSink useAsyncOutput(
+        int capacity,
+        AsyncLogSink.OverflowPolicy policy
     ) {
-        // don't log if the logging level is too low
-        if (!loggingLevel.shouldLog(level)) return;
+        AsyncLogSink previous = asyncSink;
+        AsyncLogSink sink = new AsyncLogSink(capacity, policy).start();
+
+        asyncSink = sink;
+
+        if (previous != null) previous.stop();
 
+        return sink;
+    }
+
+    /**
+     * Stop the current {@link AsyncLogSink} (writing any messages still in
+     * its buffer) and go back to writing logs synchronously.
+     */
+    public static void useSyncOutput() {
+        AsyncLogSink previous = asyncSink;
+
+        asyncSink = null;
+
+        if (previous != null) previous.stop();
+    }
+
+    /**
+     * Would a log with the given level be outputted? This is false if
+     * there's no output, or if the logging level is too high.
+     *
+     * <p>
+     * Code that logs on every tick should check this (or
+     * {@link #isTraceEnabled()}/{@link #isDebugEnabled()}) before building
+     * any of the log's arguments, so a disabled log costs one branch and
+     * doesn't allocate anything.
+     * </p>
+     *
+     * @param level the log's level.
+     * @return true if a log with the given level would be outputted.
+     */
+    public static boolean isEnabled(LogLevel level) {
+        return InternalPathfinderLogger.output != null &&
+            loggingLevel.shouldLog(level);
+    }
+
+    /**
+     * Would a log with the given level and tag be outputted? This is the
+     * same as {@link #isEnabled(LogLevel)}, but it also accounts for
+     * Pathfinder's built-in logs being disabled.
+     *
+     * @param level the log's level.
+     * @param tag   the log's tag.
+     * @return true if a log with the given level and tag would be
+     * outputted.
+     */
+    public static boolean isEnabled(LogLevel level, Class<?> tag) {
+        if (!isEnabled(level)) return false;
+
+        return arePathfinderLogsEnabled || !isPathfinderClass(tag);
+    }
+
+    /**
+     * Would a {@link LogLevel#TRACE} log be outputted?
+     *
+     * @return true if trace logs are enabled.
+     */
+    public static boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    /**
+     * Would a {@link LogLevel#DEBUG} log be outputted?
+     *
+     * @return true if debug logs are enabled.
+     */
+    public static boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    private static boolean isPathfinderClass(Class<?> tag) {
+        return tag.getName().contains("xyz.devmello.voyager");
+    }
+
+    static String formatLine(LogLevel level, String tag, String message) {
         // (hopefully) over-allocate the StringBuilder used inside of
         // sizedFormat so that there's no need to re-allocate the builder's
         // buffer during formatting
-        InternalPathfinderLogger.log(
-            StringUtils.sizedFormat(
-                "[%s] [%s]: %s%n",
-                10 + tag.length() + (message.length() * 2),
-                level,
-                tag,
-                message
-            )
+        return StringUtils.sizedFormat(
+            "[%s] [%s]: %s%n",
+            10 + tag.length() + (message.length() * 2),
+            level,
+            tag,
+            message
         );
     }
 
+    private static void internalLog(
+        LogLevel level,
+        String tag,
+        String message
+    ) {
+        InternalPathfinderLogger.log(formatLine(level, tag, message));
+    }
+
     /**
      * Log a message to Pathfinder's logger system. If the logger is disabled
      * (if the logger as set by
@@ -181,7 +318,15 @@ public class Logger {
         String messageFormat,
         Object... formatSpecifiers
     ) {
-        if (InternalPathfinderLogger.output == null) return;
+        // check the level before formatting anything
+        if (!isEnabled(level)) return;
+
+        AsyncLogSink sink = asyncSink;
+
+        if (sink != null) {
+            sink.publish(level, tag, messageFormat, formatSpecifiers);
+            return;
+        }
 
         if (formatSpecifiers.length == 0) {
             internalLog(level, tag, messageFormat);
@@ -432,14 +577,18 @@ public class Logger {
         String messageFormat,
         Object... formatSpecifiers
     ) {
+        if (!isEnabled(level)) return;
+
         // if pathfinder's logs are disabled, check to see if the source
         // of the log is within pathfinder
-        if (!arePathfinderLogsEnabled) {
-            if (InternalPathfinderLogger.output == null) return;
+        if (!arePathfinderLogsEnabled && isPathfinderClass(tag)) return;
 
-            String className = tag.getName();
+        // the sink resolves the class's name on its own thread
+        AsyncLogSink sink = asyncSink;
 
-            if (className.contains("xyz.devmello.voyager")) return;
+        if (sink != null) {
+            sink.publish(level, tag, messageFormat, formatSpecifiers);
+            return;
         }
 
         log(level, tag.getSimpleName(), messageFormat, formatSpecifiers);
@@ -655,6 +804,133 @@ public class Logger {
         log(LogLevel.TRACE, tag, messageFormat, formatSpecifiers);
     }
 
+    /**
+     * Log a {@link LogLevel#TRACE} message with one numeric argument. The
+     * argument is only boxed if the message will actually be outputted, so
+     * this can be called on every tick without allocating anything.
+     *
+     * <p>
+     * This has its own name rather than overloading
+     * {@link #trace(Class, String, Object...)}: a boxed argument (which may
+     * be null) should still use the varargs overload, not be unboxed.
+     * </p>
+     *
+     * @param tag           the log's tag.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     */
+    public static void traceLong(Class<?> tag, String messageFormat, long a) {
+        if (!isEnabled(LogLevel.TRACE, tag)) return;
+
+        AsyncLogSink sink = asyncSink;
+
+        if (sink != null) {
+            sink.publish(LogLevel.TRACE, tag, messageFormat, a);
+        } else {
+            log(LogLevel.TRACE, tag, messageFormat, a);
+        }
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message with one numeric argument,
+     * without allocating anything if the message won't be outputted.
+     *
+     * @param tag           the log's tag.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     */
+    public static void traceDouble(
+        Class<?> tag,
+        String messageFormat,
+        double a
+    ) {
+        if (!isEnabled(LogLevel.TRACE, tag)) return;
+
+        AsyncLogSink sink = asyncSink;
+
+        if (sink != null) {
+            sink.publish(LogLevel.TRACE, tag, messageFormat, a);
+        } else {
+            log(LogLevel.TRACE, tag, messageFormat, a);
+        }
+    }
+
+    /**
+     * Log a {@link LogLevel#TRACE} message that's expensive to build. The
+     * supplier is only called if the message will actually be outputted.
+     *
+     * @param tag     the log's tag.
+     * @param message a supplier for the message.
+     */
+    public static void trace(Class<?> tag, Supplier<String> message) {
+        if (!isEnabled(LogLevel.TRACE, tag)) return;
+
+        log(LogLevel.TRACE, tag, message.get());
+    }
+
+    /**
+     * Log a {@link LogLevel#DEBUG} message with one numeric argument,
+     * without allocating anything if the message won't be outputted.
+     *
+     * <p>
+     * This has its own name rather than overloading
+     * {@link #debug(Class, String, Object...)}: a boxed argument (which may
+     * be null) should still use the varargs overload, not be unboxed.
+     * </p>
+     *
+     * @param tag           the log's tag.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     */
+    public static void debugLong(Class<?> tag, String messageFormat, long a) {
+        if (!isEnabled(LogLevel.DEBUG, tag)) return;
+
+        AsyncLogSink sink = asyncSink;
+
+        if (sink != null) {
+            sink.publish(LogLevel.DEBUG, tag, messageFormat, a);
+        } else {
+            log(LogLevel.DEBUG, tag, messageFormat, a);
+        }
+    }
+
+    /**
+     * Log a {@link LogLevel#DEBUG} message with one numeric argument,
+     * without allocating anything if the message won't be outputted.
+     *
+     * @param tag           the log's tag.
+     * @param messageFormat the format of the message.
+     * @param a             the first format argument.
+     */
+    public static void debugDouble(
+        Class<?> tag,
+        String messageFormat,
+        double a
+    ) {
+        if (!isEnabled(LogLevel.DEBUG, tag)) return;
+
+        AsyncLogSink sink = asyncSink;
+
+        if (sink != null) {
+            sink.publish(LogLevel.DEBUG, tag, messageFormat, a);
+        } else {
+            log(LogLevel.DEBUG, tag, messageFormat, a);
+        }
+    }
+
+    /**
+     * Log a {@link LogLevel#DEBUG} message that's expensive to build. The
+     * supplier is only called if the message will actually be outputted.
+     *
+     * @param tag     the log's tag.
+     * @param message a supplier for the message.
+     */
+    public static void debug(Class<?> tag, Supplier<String> message) {
+        if (!isEnabled(LogLevel.DEBUG, tag)) return;
+
+        log(LogLevel.DEBUG, tag, message.get());
+    }
+
     public static void run(LogLevel level, Runnable runnable) {
         LogLevel previousLevel = getLoggingLevel();
         Consumer<String> previousOutput = InternalPathfinderLogger.getOutput();
@@ -13,6 +13,7 @@ package xyz.devmello.voyager.math;
 import java.util.Arrays;
 import org.apache.commons.math3.analysis.interpolation.AkimaSplineInterpolator;
 import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
+import org.apache.commons.math3.analysis.polynomials.PolynomialFunction;
 import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
 import xyz.devmello.voyager.logging.exceptions.SplineException;
 import xyz.devmello.voyager.math.geometry.PointXY;
@@ -25,6 +26,15 @@ import xyz.devmello.voyager.utils.StringUtils;
  * you'll need to add Apache Commons Math as a dependency (preferably
  * version 3.6.1).
  *
+ * <p>
+ * The spline's polynomials are copied out of the
+ * {@link PolynomialSplineFunction} when the spline is created. Each
+ * {@link #interpolateY(double)} call finds its segment with a
+ * {@link SegmentLocator} - usually without searching, because followers
+ * move along splines a little bit at a time - and evaluates the segment's
+ * polynomial the same way {@link PolynomialFunction#value(double)} does.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 1.0.0
  */
@@ -36,6 +46,9 @@ public class ApacheSpline implements Spline {
     private final PointXY endPoint;
     private final double minX;
     private final double maxX;
+    private final double[] knots;
+    private final double[][] coefficients;
+    private final SegmentLocator locator;
 
     /**
      * Create a new {@code ApacheSpline}.
@@ -111,6 +124,14 @@ public class ApacheSpline implements Spline {
 
         minX = Min.of(x);
         maxX = Max.of(x);
+
+        PolynomialFunction[] polynomials = function.getPolynomials();
+
+        knots = function.getKnots();
+        coefficients = new double[polynomials.length][];
+        for (int i = 0; i < polynomials.length; i++) coefficients[i] =
+            polynomials[i].getCoefficients();
+        locator = new SegmentLocator(knots);
     }
 
     @Override
@@ -120,8 +141,18 @@ public class ApacheSpline implements Spline {
             x = startX - (x - startX);
         }
 
+        if (Double.isNaN(x)) return x;
         if (x < minX) x = minX; else if (x > maxX) x = maxX;
-        return function.value(x);
+
+        int i = locator.find(x);
+        double[] c = coefficients[i];
+        double t = x - knots[i];
+
+        // horner's method, highest order coefficient first
+        double result = c[c.length - 1];
+        for (int j = c.length - 2; j >= 0; j--) result = t * result + c[j];
+
+        return result;
     }
 
     @Override
@@ -0,0 +1,792 @@
+package xyz.devmello.voyager.math;
+
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.PoseMath;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * A parametric cubic Hermite path through a set of control points, indexed
+ * by arc length.
+ *
+ * <p>
+ * Unlike a {@link Spline}, which is a function of X, a {@code HermitePath}
+ * is a curve: X and Y are both functions of a parameter that runs from one
+ * control point to the next. That means a single path can loop, cross
+ * itself, double back, or go straight up and down, and there's no need to
+ * split it into monotonic pieces with a {@code MultiSplineBuilder}.
+ * </p>
+ *
+ * <p>
+ * Positions along the path are addressed by distance along the path (arc
+ * length), starting at 0 at the first control point and ending at
+ * {@link #length()} at the last control point. When the path is created,
+ * each segment between two control points is split into a fixed number of
+ * samples, and the arc length at each sample is calculated and stored, so
+ * converting a distance into a position only needs a lookup in that table
+ * (see {@link SegmentLocator}) and a single polynomial evaluation.
+ * </p>
+ *
+ * <p>
+ * Finding the point on the path closest to another point (see
+ * {@link #project(double, double, double, double)}) uses a tree of bounding
+ * boxes around the chords between samples. Branches that are too far away
+ * to contain a closer point, or that are outside the range of distances
+ * being searched, are skipped, so a query usually visits {@code O(log n)}
+ * boxes instead of every chord.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class HermitePath {
+    /**
+     * How many samples each segment is split into by default.
+     */
+    public static final int DEFAULT_SAMPLES_PER_SEGMENT = 16;
+
+    /**
+     * The most chords a leaf of the bounding box tree can have.
+     */
+    private static final int LEAF_SIZE = 4;
+
+    // 5 point gauss-legendre quadrature on [-1, 1]
+    private static final double[] GAUSS_NODES = {
+        0,
+        -0.5384693101056831,
+        0.5384693101056831,
+        -0.9061798459386640,
+        0.9061798459386640,
+    };
+    private static final double[] GAUSS_WEIGHTS = {
+        0.5688888888888889,
+        0.4786286704993665,
+        0.4786286704993665,
+        0.2369268850561891,
+        0.2369268850561891,
+    };
+
+    private final PointXY[] controlPoints;
+    private final int segments;
+    private final int samplesPerSegment;
+
+    // x(t) = x0 + t * (x1 + t * (x2 + t * x3)) for each segment, and the
+    // same thing for y. t goes from 0 to 1 along each segment.
+    private final double[] x0;
+    private final double[] x1;
+    private final double[] x2;
+    private final double[] x3;
+    private final double[] y0;
+    private final double[] y1;
+    private final double[] y2;
+    private final double[] y3;
+
+    // position and arc length at each sample. sample i is at parameter
+    // i / samplesPerSegment, where the integer part of the parameter is the
+    // segment and the fractional part is t.
+    private final double[] sampleX;
+    private final double[] sampleY;
+    private final double[] distances;
+    private final SegmentLocator locator;
+
+    // bounding box tree over the chords between samples. node 0 is the
+    // root. leaves have no children (left is -1) and contain chords
+    // first..last, inclusive.
+    private final double[] boxMinX;
+    private final double[] boxMinY;
+    private final double[] boxMaxX;
+    private final double[] boxMaxY;
+    private final int[] first;
+    private final int[] last;
+    private final int[] left;
+    private final int[] right;
+
+    /**
+     * Create a new {@code HermitePath}. The tangent at each control point
+     * is chosen automatically (a Catmull-Rom spline): interior control
+     * points point from the previous control point towards the next one,
+     * and the first and last control points point along the first and last
+     * segments.
+     *
+     * @param controlPoints the points the path passes through, in order.
+     *                      There must be at least 2, and adjacent points
+     *                      must not be the same point.
+     */
+    public HermitePath(PointXY... controlPoints) {
+        this(
+            controlPoints,
+            catmullRomTangents(controlPoints),
+            DEFAULT_SAMPLES_PER_SEGMENT
+        );
+    }
+
+    /**
+     * Create a new {@code HermitePath}.
+     *
+     * @param controlPoints     the points the path passes through, in
+     *                          order. There must be at least 2, and
+     *                          adjacent points must not be the same point.
+     * @param tangents          the path's velocity (with respect to the
+     *                          segment parameter) at each control point.
+     *                          The direction of a tangent is the direction
+     *                          the path is heading at that control point,
+     *                          and longer tangents make the path go
+     *                          straighter for longer before turning. There
+     *                          must be one tangent for each control point.
+     * @param samplesPerSegment how many samples each segment is split into
+     *                          for the arc length table. More samples make
+     *                          distances and projections more accurate. This
+     *                          must be at least 1.
+     */
+    public HermitePath(
+        PointXY[] controlPoints,
+        PointXY[] tangents,
+        int samplesPerSegment
+    ) {
+        validate(controlPoints);
+
+        if (tangents == null) throw new IllegalArgumentException(
+            "Tangents may not be null!"
+        );
+
+        if (tangents.length != controlPoints.length) throw new IllegalArgumentException(
+            "There must be exactly one tangent for each control point! " +
+            "Control points: " +
+            controlPoints.length +
+            "; tangents: " +
+            tangents.length
+        );
+
+        if (samplesPerSegment < 1) throw new IllegalArgumentException(
+            "Each segment needs at least 1 sample!"
+        );
+
+        this.controlPoints = controlPoints.clone();
+        this.segments = controlPoints.length - 1;
+        this.samplesPerSegment = samplesPerSegment;
+
+        x0 = new double[segments];
+        x1 = new double[segments];
+        x2 = new double[segments];
+        x3 = new double[segments];
+        y0 = new double[segments];
+        y1 = new double[segments];
+        y2 = new double[segments];
+        y3 = new double[segments];
+
+        for (int i = 0; i < segments; i++) {
+            PointXY a = controlPoints[i];
+            PointXY b = controlPoints[i + 1];
+            PointXY ma = tangents[i];
+            PointXY mb = tangents[i + 1];
+
+            if (ma == null || mb == null) throw new IllegalArgumentException(
+                "Tangents may not be null!"
+            );
+
+            x0[i] = a.x();
+            x1[i] = ma.x();
+            x2[i] = 3 * (b.x() - a.x()) - 2 * ma.x() - mb.x();
+            x3[i] = 2 * (a.x() - b.x()) + ma.x() + mb.x();
+            y0[i] = a.y();
+            y1[i] = ma.y();
+            y2[i] = 3 * (b.y() - a.y()) - 2 * ma.y() - mb.y();
+            y3[i] = 2 * (a.y() - b.y()) + ma.y() + mb.y();
+        }
+
+        int samples = segments * samplesPerSegment;
+        double dt = 1.0 / samplesPerSegment;
+
+        sampleX = new double[samples + 1];
+        sampleY = new double[samples + 1];
+        distances = new double[samples + 1];
+
+        sampleX[0] = x0[0];
+        sampleY[0] = y0[0];
+
+        for (int i = 1; i <= samples; i++) {
+            // sample i is the end of the section that starts at sample
+            // i - 1, so it's on the same segment as sample i - 1, even if
+            // it's the first sample of the next segment
+            int segment = (i - 1) / samplesPerSegment;
+            double t = (i - segment * samplesPerSegment) * dt;
+
+            sampleX[i] = x(segment, t);
+            sampleY[i] = y(segment, t);
+
+            double length = segmentLength(segment, t - dt, t);
+
+            if (!(length > 0)) throw new IllegalArgumentException(
+                "Path has a section with no length near " +
+                controlPoints[segment] +
+                " - check the tangents at that control point"
+            );
+
+            distances[i] = distances[i - 1] + length;
+        }
+
+        locator = new SegmentLocator(distances);
+
+        int nodes = 2 * samples;
+        boxMinX = new double[nodes];
+        boxMinY = new double[nodes];
+        boxMaxX = new double[nodes];
+        boxMaxY = new double[nodes];
+        first = new int[nodes];
+        last = new int[nodes];
+        left = new int[nodes];
+        right = new int[nodes];
+
+        buildTree(0, samples - 1, new int[] { 0 });
+    }
+
+    private static void validate(PointXY[] controlPoints) {
+        if (controlPoints == null) throw new IllegalArgumentException(
+            "Control points may not be null!"
+        );
+
+        if (controlPoints.length < 2) throw new IllegalArgumentException(
+            "A path needs at least 2 control points!"
+        );
+
+        for (int i = 0; i < controlPoints.length; i++) {
+            if (controlPoints[i] == null) throw new IllegalArgumentException(
+                "Control points may not be null!"
+            );
+
+            if (
+                i > 0 &&
+                controlPoints[i].x() == controlPoints[i - 1].x() &&
+                controlPoints[i].y() == controlPoints[i - 1].y()
+            ) throw new IllegalArgumentException(
+                "Adjacent control points may not be the same point! " +
+                "Duplicate point: " +
+                controlPoints[i]
+            );
+        }
+    }
+
+    /**
+     * Choose a tangent for each control point so the path is a Catmull-Rom
+     * spline. These are the tangents {@link #HermitePath(PointXY...)} uses.
+     *
+     * @param controlPoints the path's control points.
+     * @return a tangent for each control point.
+     */
+    public static PointXY[] catmullRomTangents(PointXY[] controlPoints) {
+        validate(controlPoints);
+
+        int n = controlPoints.length;
+        PointXY[] tangents = new PointXY[n];
+
+        for (int i = 0; i < n; i++) {
+            PointXY previous = controlPoints[Math.max(i - 1, 0)];
+            PointXY next = controlPoints[Math.min(i + 1, n - 1)];
+            double scale = (i == 0 || i == n - 1) ? 1 : 0.5;
+
+            tangents[i] =
+                new PointXY(
+                    (next.x() - previous.x()) * scale,
+                    (next.y() - previous.y()) * scale
+                );
+        }
+
+        return tangents;
+    }
+
+    private int buildTree(int firstChord, int lastChord, int[] next) {
+        int node = next[0]++;
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        for (int i = firstChord; i <= lastChord + 1; i++) {
+            minX = Math.min(minX, sampleX[i]);
+            minY = Math.min(minY, sampleY[i]);
+            maxX = Math.max(maxX, sampleX[i]);
+            maxY = Math.max(maxY, sampleY[i]);
+        }
+
+        boxMinX[node] = minX;
+        boxMinY[node] = minY;
+        boxMaxX[node] = maxX;
+        boxMaxY[node] = maxY;
+        first[node] = firstChord;
+        last[node] = lastChord;
+
+        if (lastChord - firstChord + 1 <= LEAF_SIZE) {
+            left[node] = -1;
+            right[node] = -1;
+        } else {
+            int middle = (firstChord + lastChord) >>> 1;
+
+            left[node] = buildTree(firstChord, middle, next);
+            right[node] = buildTree(middle + 1, lastChord, next);
+        }
+
+        return node;
+    }
+
+    private double x(int segment, double t) {
+        return (
+            x0[segment] +
+            t * (x1[segment] + t * (x2[segment] + t * x3[segment]))
+        );
+    }
+
+    private double y(int segment, double t) {
+        return (
+            y0[segment] +
+            t * (y1[segment] + t * (y2[segment] + t * y3[segment]))
+        );
+    }
+
+    private double dx(int segment, double t) {
+        return x1[segment] + t * (2 * x2[segment] + t * 3 * x3[segment]);
+    }
+
+    private double dy(int segment, double t) {
+        return y1[segment] + t * (2 * y2[segment] + t * 3 * y3[segment]);
+    }
+
+    private double segmentLength(int segment, double from, double to) {
+        double half = (to - from) / 2;
+        double middle = (to + from) / 2;
+        double length = 0;
+
+        for (int i = 0; i < GAUSS_NODES.length; i++) {
+            double t = middle + half * GAUSS_NODES[i];
+
+            length +=
+                GAUSS_WEIGHTS[i] * Math.hypot(dx(segment, t), dy(segment, t));
+        }
+
+        return length * half;
+    }
+
+    /**
+     * Convert a distance along the path into the path's parameter. The
+     * integer part of the parameter is the segment, and the fractional part
+     * is how far along that segment the point is. Distances are clipped to
+     * the path.
+     */
+    private double parameterAt(double distance) {
+        double length = length();
+
+        if (!(distance > 0)) return 0;
+        if (distance >= length) return segments;
+
+        int i = locator.find(distance);
+        double fraction =
+            (distance - distances[i]) / (distances[i + 1] - distances[i]);
+
+        return (i + fraction) / samplesPerSegment;
+    }
+
+    private int segmentOf(double parameter) {
+        return Math.min((int) parameter, segments - 1);
+    }
+
+    /**
+     * Get the total length of the path.
+     *
+     * @return the distance along the path from the first control point to
+     * the last control point.
+     */
+    public double length() {
+        return distances[distances.length - 1];
+    }
+
+    /**
+     * Get how many control points the path has.
+     *
+     * @return how many control points the path has.
+     */
+    public int controlPointCount() {
+        return controlPoints.length;
+    }
+
+    /**
+     * Get one of the path's control points.
+     *
+     * @param index the index of the control point.
+     * @return the control point.
+     */
+    public PointXY getControlPoint(int index) {
+        return controlPoints[index];
+    }
+
+    /**
+     * Get the distance along the path to one of its control points.
+     *
+     * @param index the index of the control point.
+     * @return the distance from the start of the path to the control point.
+     */
+    public double controlPointDistance(int index) {
+        return distances[index * samplesPerSegment];
+    }
+
+    /**
+     * Get which segment of the path a point is on. Segment {@code i} goes
+     * from control point {@code i} to control point {@code i + 1}.
+     *
+     * @param distance the distance along the path. This is clipped to the
+     *                 range [0, {@link #length()}].
+     * @return the index of the segment the point is on.
+     */
+    public int segmentAt(double distance) {
+        return segmentOf(parameterAt(distance));
+    }
+
+    /**
+     * Get the path's first control point.
+     *
+     * @return the path's first control point.
+     */
+    public PointXY getStartPoint() {
+        return controlPoints[0];
+    }
+
+    /**
+     * Get the path's last control point.
+     *
+     * @return the path's last control point.
+     */
+    public PointXY getEndPoint() {
+        return controlPoints[segments];
+    }
+
+    /**
+     * Get the X value of a point on the path.
+     *
+     * @param distance the distance along the path. This is clipped to the
+     *                 range [0, {@link #length()}].
+     * @return the X value of the point.
+     */
+    public double x(double distance) {
+        double parameter = parameterAt(distance);
+        int segment = segmentOf(parameter);
+
+        return x(segment, parameter - segment);
+    }
+
+    /**
+     * Get the Y value of a point on the path.
+     *
+     * @param distance the distance along the path. This is clipped to the
+     *                 range [0, {@link #length()}].
+     * @return the Y value of the point.
+     */
+    public double y(double distance) {
+        double parameter = parameterAt(distance);
+        int segment = segmentOf(parameter);
+
+        return y(segment, parameter - segment);
+    }
+
+    /**
+     * Get a point on the path.
+     *
+     * @param distance the distance along the path. This is clipped to the
+     *                 range [0, {@link #length()}].
+     * @return the point.
+     */
+    public PointXY pointAt(double distance) {
+        double parameter = parameterAt(distance);
+        int segment = segmentOf(parameter);
+        double t = parameter - segment;
+
+        return new PointXY(x(segment, t), y(segment, t));
+    }
+
+    /**
+     * Get the direction the path is heading in at a point.
+     *
+     * @param distance the distance along the path. This is clipped to the
+     *                 range [0, {@link #length()}].
+     * @return the direction the path is heading, in degrees, in the same
+     * form as {@code Angle.deg()}. At a cusp, where the path stops and
+     * doubles back on itself, this is the direction the path leaves the
+     * cusp in.
+     */
+    public double directionAt(double distance) {
+        double parameter = parameterAt(distance);
+        int segment = segmentOf(parameter);
+        double t = parameter - segment;
+
+        double dx = dx(segment, t);
+        double dy = dy(segment, t);
+
+        // the path's velocity is 0 at a cusp, so its direction comes from
+        // the first derivative that isn't 0
+        if (dx == 0 && dy == 0) {
+            dx = 2 * x2[segment] + 6 * x3[segment] * t;
+            dy = 2 * y2[segment] + 6 * y3[segment] * t;
+        }
+
+        if (dx == 0 && dy == 0) {
+            dx = x3[segment];
+            dy = y3[segment];
+        }
+
+        return PoseMath.fromRad(Math.atan2(dy, dx));
+    }
+
+    /**
+     * Get the curvature of the path at a point. Curvature is 1 divided by
+     * the radius of the circle the path is following at that point, so a
+     * straight section has a curvature of 0.
+     *
+     * @param distance the distance along the path. This is clipped to the
+     *                 range [0, {@link #length()}].
+     * @return the path's curvature. Positive values mean the path is turning
+     * counter-clockwise, and negative values mean it's turning clockwise.
+     * At a cusp, where the path stops and doubles back on itself (for
+     * example, a control point with a tangent of 0), this is
+     * {@link Double#POSITIVE_INFINITY}: the robot has to stop there.
+     */
+    public double curvatureAt(double distance) {
+        double parameter = parameterAt(distance);
+        int segment = segmentOf(parameter);
+        double t = parameter - segment;
+
+        double dx = dx(segment, t);
+        double dy = dy(segment, t);
+        double ddx = 2 * x2[segment] + 6 * x3[segment] * t;
+        double ddy = 2 * y2[segment] + 6 * y3[segment] * t;
+        double speed = Math.hypot(dx, dy);
+
+        if (speed == 0) return Double.POSITIVE_INFINITY;
+
+        return (dx * ddy - dy * ddx) / (speed * speed * speed);
+    }
+
+    /**
+     * Find the point on the path closest to a point.
+     *
+     * @param x the X value of the point.
+     * @param y the Y value of the point.
+     * @return the distance along the path to the closest point on the path.
+     */
+    public double project(double x, double y) {
+        return project(x, y, 0, length());
+    }
+
+    /**
+     * Find the point on the path closest to a point, only considering part
+     * of the path. Trajectories use this to keep track of the robot's
+     * progress along paths that cross or double back on themselves: only
+     * searching near where the robot was last time means it won't jump to
+     * a different pass over the same spot.
+     *
+     * @param x           the X value of the point.
+     * @param y           the Y value of the point.
+     * @param minDistance the start of the part of the path to search.
+     * @param maxDistance the end of the part of the path to search.
+     * @return the distance along the path to the closest point on the path,
+     * between {@code minDistance} and {@code maxDistance}.
+     */
+    public double project(
+        double x,
+        double y,
+        double minDistance,
+        double maxDistance
+    ) {
+        double length = length();
+
+        minDistance = Math.max(0, Math.min(minDistance, length));
+        maxDistance = Math.min(maxDistance, length);
+
+        // an empty range, like a robot that's already at the end of the
+        // path searching past it
+        if (!(maxDistance > minDistance)) return minDistance;
+
+        Projection projection = new Projection(x, y, minDistance, maxDistance);
+        search(0, projection);
+
+        return Math.max(
+            minDistance,
+            Math.min(refine(x, y, projection.distance), maxDistance)
+        );
+    }
+
+    /**
+     * The tree search finds the closest point on the chords between
+     * samples, which is slightly off the actual curve. A couple of Newton
+     * steps on the curve itself, staying near that point, fix that. Near a
+     * control point, the closest point might be on the segment on the
+     * other side of it, so that segment is tried too.
+     */
+    private double refine(double x, double y, double distance) {
+        double parameter = parameterAt(distance);
+        int segment = segmentOf(parameter);
+        double t = parameter - segment;
+        double dt = 1.0 / samplesPerSegment;
+
+        double bestT = newton(x, y, segment, t, t - dt, t + dt);
+        int bestSegment = segment;
+        double best = distanceSquared(x, y, segment, bestT);
+
+        if (t - dt < 0 && segment > 0) {
+            double otherT = newton(x, y, segment - 1, 1, 1 - dt, 1);
+            double other = distanceSquared(x, y, segment - 1, otherT);
+
+            if (other < best) {
+                best = other;
+                bestT = otherT;
+                bestSegment = segment - 1;
+            }
+        }
+
+        if (t + dt > 1 && segment < segments - 1) {
+            double otherT = newton(x, y, segment + 1, 0, 0, dt);
+            double other = distanceSquared(x, y, segment + 1, otherT);
+
+            if (other < best) {
+                bestT = otherT;
+                bestSegment = segment + 1;
+            }
+        }
+
+        // convert the parameter back into a distance, the same way
+        // parameterAt converts distances into parameters
+        double sample = (bestSegment + bestT) * samplesPerSegment;
+        int i = Math.min((int) sample, distances.length - 2);
+
+        return distances[i] + (sample - i) * (distances[i + 1] - distances[i]);
+    }
+
+    private double newton(
+        double x,
+        double y,
+        int segment,
+        double t,
+        double minT,
+        double maxT
+    ) {
+        minT = Math.max(minT, 0);
+        maxT = Math.min(maxT, 1);
+
+        for (int i = 0; i < 3; i++) {
+            double offsetX = x(segment, t) - x;
+            double offsetY = y(segment, t) - y;
+            double dx = dx(segment, t);
+            double dy = dy(segment, t);
+            double ddx = 2 * x2[segment] + 6 * x3[segment] * t;
+            double ddy = 2 * y2[segment] + 6 * y3[segment] * t;
+            double slope = dx * dx + dy * dy + offsetX * ddx + offsetY * ddy;
+
+            if (!(slope > 0)) break;
+
+            t = Math.max(
+                minT,
+                Math.min(t - (offsetX * dx + offsetY * dy) / slope, maxT)
+            );
+        }
+
+        return t;
+    }
+
+    private double distanceSquared(double x, double y, int segment, double t) {
+        double offsetX = x(segment, t) - x;
+        double offsetY = y(segment, t) - y;
+
+        return offsetX * offsetX + offsetY * offsetY;
+    }
+
+    private void search(int node, Projection projection) {
+        if (
+            distances[last[node] + 1] < projection.minDistance ||
+            distances[first[node]] > projection.maxDistance
+        ) return;
+
+        double outsideX = Math.max(
+            0,
+            Math.max(boxMinX[node] - projection.x, projection.x - boxMaxX[node])
+        );
+        double outsideY = Math.max(
+            0,
+            Math.max(boxMinY[node] - projection.y, projection.y - boxMaxY[node])
+        );
+
+        if (
+            outsideX * outsideX + outsideY * outsideY >= projection.best
+        ) return;
+
+        if (left[node] == -1) {
+            for (int i = first[node]; i <= last[node]; i++) projectOntoChord(
+                i,
+                projection
+            );
+        } else {
+            search(left[node], projection);
+            search(right[node], projection);
+        }
+    }
+
+    private void projectOntoChord(int chord, Projection projection) {
+        double ax = sampleX[chord];
+        double ay = sampleY[chord];
+        double abx = sampleX[chord + 1] - ax;
+        double aby = sampleY[chord + 1] - ay;
+        double lengthSquared = abx * abx + aby * aby;
+        double fraction = lengthSquared == 0
+            ? 0
+            : ((projection.x - ax) * abx + (projection.y - ay) * aby) /
+            lengthSquared;
+
+        double start = distances[chord];
+        double chordLength = distances[chord + 1] - start;
+        double distance = Math.max(
+            projection.minDistance,
+            Math.min(
+                start + Math.max(0, Math.min(fraction, 1)) * chordLength,
+                projection.maxDistance
+            )
+        );
+
+        fraction = (distance - start) / chordLength;
+
+        double offsetX = ax + abx * fraction - projection.x;
+        double offsetY = ay + aby * fraction - projection.y;
+        double distanceSquared = offsetX * offsetX + offsetY * offsetY;
+
+        if (distanceSquared < projection.best) {
+            projection.best = distanceSquared;
+            projection.distance = distance;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "HermitePath from <%s> to <%s> (control points: <%s>, " +
+            "length: <%s>)",
+            getStartPoint(),
+            getEndPoint(),
+            controlPoints.length,
+            length()
+        );
+    }
+
+    private static class Projection {
+        private final double x;
+        private final double y;
+        private final double minDistance;
+        private final double maxDistance;
+        private double best = Double.POSITIVE_INFINITY;
+        private double distance;
+
+        private Projection(
+            double x,
+            double y,
+            double minDistance,
+            double maxDistance
+        ) {
+            this.x = x;
+            this.y = y;
+            this.minDistance = minDistance;
+            this.maxDistance = maxDistance;
+            this.distance = minDistance;
+        }
+    }
+}
@@ -56,12 +56,30 @@ public class MonotoneCubicSpline implements Spline {
      * if the interpolateY(double) method is called and provided an X value
      * that is either less than the minimum X value or greater than the
      * maximum X value, the value will be set to either the min or max value.
+     *
+     * finding which segment an x value is in used to be a linear walk from
+     * the first control point. followers query splines with x values that
+     * move a little bit every tick, so segments are found with a
+     * SegmentLocator instead, which remembers the last segment it found.
+     * the hermite basis for each segment is also expanded into a cubic
+     * polynomial in t once, in the constructor, instead of every call.
+     *
+     * splines with swapped x and y values (isXY) don't have increasing x
+     * values from interpolateY's point of view, so they still use the
+     * linear walk.
      */
 
     private final double[] mx;
     private final double[] my;
     private final double[] mm;
 
+    // coefficients of each segment's polynomial in t. the constant term is
+    // the segment's starting y value, so it's just my[i]. null if isXY.
+    private final double[] c1;
+    private final double[] c2;
+    private final double[] c3;
+    private final SegmentLocator locator;
+
     private final PointXY start;
     private final PointXY end;
 
@@ -224,6 +242,33 @@ public class MonotoneCubicSpline implements Spline {
         this.my = y;
         this.mm = m;
 
+        if (isXY) {
+            this.c1 = null;
+            this.c2 = null;
+            this.c3 = null;
+            this.locator = null;
+        } else {
+            this.c1 = new double[n - 1];
+            this.c2 = new double[n - 1];
+            this.c3 = new double[n - 1];
+            this.locator = new SegmentLocator(x);
+
+            // expand the hermite basis functions:
+            // p(t) = y0 * (2t^3 - 3t^2 + 1) + h * m0 * (t^3 - 2t^2 + t)
+            //      + y1 * (-2t^3 + 3t^2) + h * m1 * (t^3 - t^2)
+            for (int i = 0; i < n - 1; i++) {
+                double h = x[i + 1] - x[i];
+                double y0 = y[i];
+                double y1 = y[i + 1];
+                double m0 = h * m[i];
+                double m1 = h * m[i + 1];
+
+                c1[i] = m0;
+                c2[i] = 3 * (y1 - y0) - 2 * m0 - m1;
+                c3[i] = 2 * (y0 - y1) + m0 + m1;
+            }
+        }
+
         this.start = new PointXY(mx[0], my[0]);
         int last = mx.length - 1;
         this.end = new PointXY(mx[last], my[last]);
@@ -279,14 +324,49 @@ public class MonotoneCubicSpline implements Spline {
         return reflectX(x, mx[0]);
     }
 
-    @SuppressWarnings("SuspiciousNameCombination")
     @Override
     public double interpolateY(double x) {
+        if (isXY) return interpolateSwappedY(x);
+
+        final int n = mx.length;
+
+        if (isInverted) {
+            // if the spline is inverted, the x value should be reflected
+            // over the first x value
+            x = reflectX(x);
+        }
+
+        if (Double.isNaN(x)) {
+            // NaN -> return NaN
+            return x;
+        } else if (x <= mx[0]) {
+            // if it's less than the minimum, return the y value associated
+            // with the minimum point
+            return my[0];
+        } else if (x >= mx[n - 1]) {
+            // if it's greater than the maximum, return the y value associated
+            // with the maximum point
+            return my[n - 1];
+        }
+
+        int i = locator.find(x);
+
+        // if the x value is a control point, return that control point's
+        // associated y value instead of interpolating it
+        if (x == mx[i]) return my[i];
+
+        double t = (x - mx[i]) / (mx[i + 1] - mx[i]);
+
+        return my[i] + t * (c1[i] + t * (c2[i] + t * c3[i]));
+    }
+
+    @SuppressWarnings("SuspiciousNameCombination")
+    private double interpolateSwappedY(double x) {
         final int n = mx.length;
 
-        // if x and y values are swapped, swap them locally here
-        final double[] mx = isXY ? this.my : this.mx;
-        final double[] my = isXY ? this.mx : this.my;
+        // x and y values are swapped, so swap them locally here
+        final double[] mx = this.my;
+        final double[] my = this.mx;
 
         if (isInverted) {
             // if the spline is inverted, the x value should be reflected
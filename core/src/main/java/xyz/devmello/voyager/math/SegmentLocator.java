@@ -0,0 +1,83 @@
+package xyz.devmello.voyager.math;
+
+/**
+ * Finds which segment of a piecewise function a value falls in. Splines
+ * use this to find the pair of control points surrounding an X value.
+ *
+ * <p>
+ * Followers query splines with X values that move a little bit each tick,
+ * almost always staying in the same segment or moving to the next one. A
+ * locator remembers the last segment it found and checks that segment and
+ * the one after it before falling back to a binary search, so a follower
+ * moving along a spline finds its segment in constant time, and any other
+ * access pattern finds it in {@code O(log n)} time.
+ * </p>
+ *
+ * <p>
+ * The remembered segment is only a hint: the result is always checked
+ * against the knots, so a locator shared by several threads still returns
+ * correct results, it just might not find them as quickly.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class SegmentLocator {
+    private final double[] knots;
+    private final int lastSegment;
+    private int hint = 0;
+
+    /**
+     * Create a new {@code SegmentLocator}. The array isn't copied, so it
+     * shouldn't be modified after the locator is created.
+     *
+     * @param knots the start of each segment, followed by the end of the
+     *              last segment. These values must be strictly increasing,
+     *              and there must be at least 2 of them.
+     */
+    SegmentLocator(double[] knots) {
+        if (knots.length < 2) throw new IllegalArgumentException(
+            "A segment locator needs at least 2 knots!"
+        );
+
+        this.knots = knots;
+        this.lastSegment = knots.length - 2;
+    }
+
+    /**
+     * Find the segment containing a value: the index {@code i} such that
+     * {@code knots[i] <= x < knots[i + 1]}. Values below the first knot are
+     * in the first segment, and values at or above the last knot are in the
+     * last segment.
+     *
+     * @param x the value to find. This should not be NaN.
+     * @return the index of the segment the value is in.
+     */
+    int find(double x) {
+        int i = hint;
+
+        if (knots[i] <= x) {
+            if (i == lastSegment || x < knots[i + 1]) return i;
+
+            // the value has moved past the hinted segment - check the next
+            // one before doing a binary search
+            i++;
+
+            if (i == lastSegment || x < knots[i + 1]) {
+                hint = i;
+                return i;
+            }
+        }
+
+        int low = 0;
+        int high = lastSegment;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+
+            if (knots[mid] <= x) low = mid; else high = mid - 1;
+        }
+
+        hint = low;
+        return low;
+    }
+}
@@ -0,0 +1,396 @@
+package xyz.devmello.voyager.math;
+
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * The fastest way to drive along a {@link HermitePath} without breaking a
+ * set of velocity and acceleration limits.
+ *
+ * <p>
+ * A profile is generated once, when a trajectory is built, with a forward
+ * and a backward pass over samples spaced evenly along the path:
+ * <ul>
+ *     <li>
+ *         Every sample starts out at the fastest speed allowed there: the
+ *         maximum velocity, or, on a curve, the fastest speed that keeps
+ *         centripetal acceleration ({@code v^2 * curvature}) under its
+ *         limit, whichever is lower. At a cusp, where the path stops and
+ *         doubles back on itself, the robot has to stop.
+ *     </li>
+ *     <li>
+ *         The forward pass, starting from the start velocity, lowers each
+ *         sample to the fastest speed the robot can accelerate to from the
+ *         previous sample.
+ *     </li>
+ *     <li>
+ *         The backward pass, starting from the end velocity, lowers each
+ *         sample to the fastest speed the robot can still slow down from
+ *         in time for the next sample.
+ *     </li>
+ * </ul>
+ * The result is a table of distance, velocity, acceleration and time for
+ * every sample. Because samples are evenly spaced, looking up a value at
+ * any distance along the path is a single division and an interpolation
+ * between two samples.
+ * </p>
+ *
+ * <p>
+ * Units are up to you, as long as they're consistent: if the path is in
+ * inches and the maximum velocity is in inches per second, accelerations
+ * are in inches per second squared and times are in seconds.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class VelocityProfile {
+    private final double maxVelocity;
+    private final double step;
+    private final double[] distances;
+    private final double[] velocities;
+    private final double[] accelerations;
+    private final double[] times;
+
+    private VelocityProfile(
+        double maxVelocity,
+        double step,
+        double[] distances,
+        double[] velocities,
+        double[] accelerations,
+        double[] times
+    ) {
+        this.maxVelocity = maxVelocity;
+        this.step = step;
+        this.distances = distances;
+        this.velocities = velocities;
+        this.accelerations = accelerations;
+        this.times = times;
+    }
+
+    /**
+     * Generate a profile that starts and ends at rest.
+     *
+     * @param path                       the path to drive along.
+     * @param maxVelocity                the robot's maximum velocity.
+     * @param maxAcceleration            the robot's maximum acceleration,
+     *                                   used for both speeding up and
+     *                                   slowing down.
+     * @param maxCentripetalAcceleration the most centripetal acceleration
+     *                                   the robot can handle before it
+     *                                   slides out of a turn.
+     * @param step                       the distance between samples.
+     * @return the fastest profile for the path.
+     */
+    public static VelocityProfile generate(
+        HermitePath path,
+        double maxVelocity,
+        double maxAcceleration,
+        double maxCentripetalAcceleration,
+        double step
+    ) {
+        return generate(
+            path,
+            maxVelocity,
+            maxAcceleration,
+            maxCentripetalAcceleration,
+            step,
+            0,
+            0
+        );
+    }
+
+    /**
+     * Generate a profile.
+     *
+     * @param path                       the path to drive along.
+     * @param maxVelocity                the robot's maximum velocity.
+     * @param maxAcceleration            the robot's maximum acceleration,
+     *                                   used for both speeding up and
+     *                                   slowing down.
+     * @param maxCentripetalAcceleration the most centripetal acceleration
+     *                                   the robot can handle before it
+     *                                   slides out of a turn.
+     * @param step                       the distance between samples.
+     * @param startVelocity              the robot's velocity at the start
+     *                                   of the path.
+     * @param endVelocity                the robot's velocity at the end of
+     *                                   the path.
+     * @return the fastest profile for the path.
+     */
+    public static VelocityProfile generate(
+        HermitePath path,
+        double maxVelocity,
+        double maxAcceleration,
+        double maxCentripetalAcceleration,
+        double step,
+        double startVelocity,
+        double endVelocity
+    ) {
+        if (path == null) throw new IllegalArgumentException(
+            "Path may not be null!"
+        );
+
+        if (!(maxVelocity > 0)) throw new IllegalArgumentException(
+            "Max velocity must be greater than 0!"
+        );
+
+        if (!(maxAcceleration > 0)) throw new IllegalArgumentException(
+            "Max acceleration must be greater than 0!"
+        );
+
+        if (!(maxCentripetalAcceleration > 0)) throw new IllegalArgumentException(
+            "Max centripetal acceleration must be greater than 0!"
+        );
+
+        if (!(step > 0)) throw new IllegalArgumentException(
+            "Step must be greater than 0!"
+        );
+
+        if (startVelocity < 0 || endVelocity < 0) throw new IllegalArgumentException(
+            "Start and end velocities may not be negative!"
+        );
+
+        double length = path.length();
+        int count = (int) Math.ceil(length / step) + 1;
+
+        // length / step can round up past a whole number of steps, which
+        // would put the last two samples both at the end of the path
+        if (count > 2 && (count - 2) * step >= length) count--;
+
+        double[] distances = new double[count];
+        double[] velocities = new double[count];
+        double[] accelerations = new double[count];
+        double[] times = new double[count];
+
+        // the fastest each sample can go, just looking at that sample
+        for (int i = 0; i < count; i++) {
+            double distance = Math.min(i * step, length);
+            double curvature = Math.abs(path.curvatureAt(distance));
+            double limit = maxVelocity;
+
+            // infinite curvature is a cusp, where the robot has to stop.
+            // NaN shouldn't happen, but if it does, stopping is safer than
+            // ignoring it
+            if (!(curvature < Double.POSITIVE_INFINITY)) limit = 0;
+            else if (curvature > 0) limit =
+                Math.min(limit, Math.sqrt(maxCentripetalAcceleration / curvature));
+
+            distances[i] = distance;
+            velocities[i] = limit;
+        }
+
+        // cusps at control points usually fall between two samples, so
+        // limit the samples either side of each cusp to speeds the robot
+        // can stop from (or start from) in time
+        for (int k = 0; k < path.controlPointCount(); k++) {
+            double cusp = path.controlPointDistance(k);
+
+            if (path.curvatureAt(cusp) != Double.POSITIVE_INFINITY) continue;
+
+            int before = Math.min((int) (cusp / step), count - 1);
+            int after = Math.min(before + 1, count - 1);
+
+            for (int i = before; i <= after; i++) {
+                velocities[i] = Math.min(
+                    velocities[i],
+                    Math.sqrt(2 * maxAcceleration * Math.abs(distances[i] - cusp))
+                );
+            }
+        }
+
+        // forward pass: how fast can the robot get to each sample?
+        velocities[0] = Math.min(velocities[0], startVelocity);
+        for (int i = 1; i < count; i++) {
+            double ds = distances[i] - distances[i - 1];
+            double reachable = Math.sqrt(
+                velocities[i - 1] * velocities[i - 1] + 2 * maxAcceleration * ds
+            );
+
+            velocities[i] = Math.min(velocities[i], reachable);
+        }
+
+        // backward pass: how fast can the robot go at each sample and still
+        // slow down in time?
+        velocities[count - 1] = Math.min(velocities[count - 1], endVelocity);
+        for (int i = count - 2; i >= 0; i--) {
+            double ds = distances[i + 1] - distances[i];
+            double stoppable = Math.sqrt(
+                velocities[i + 1] * velocities[i + 1] + 2 * maxAcceleration * ds
+            );
+
+            velocities[i] = Math.min(velocities[i], stoppable);
+        }
+
+        // constant acceleration between samples gives both the acceleration
+        // and how long each section takes
+        for (int i = 1; i < count; i++) {
+            double ds = distances[i] - distances[i - 1];
+            double v0 = velocities[i - 1];
+            double v1 = velocities[i];
+
+            accelerations[i - 1] = ds > 0 ? (v1 * v1 - v0 * v0) / (2 * ds) : 0;
+            times[i] = times[i - 1] + (v0 + v1 > 0 ? 2 * ds / (v0 + v1) : 0);
+        }
+
+        return new VelocityProfile(
+            maxVelocity,
+            step,
+            distances,
+            velocities,
+            accelerations,
+            times
+        );
+    }
+
+    /**
+     * Find the sample at or before a distance along the path.
+     */
+    private int indexAt(double distance) {
+        if (!(distance > 0)) return 0;
+
+        return Math.min((int) (distance / step), distances.length - 2);
+    }
+
+    private double interpolate(double[] values, double distance) {
+        if (distances.length == 1) return values[0];
+
+        int i = indexAt(distance);
+        double fraction = (distance - distances[i]) /
+            (distances[i + 1] - distances[i]);
+
+        fraction = MinMax.clip(fraction, 0, 1);
+
+        return values[i] + (values[i + 1] - values[i]) * fraction;
+    }
+
+    /**
+     * Get the maximum velocity the profile was generated with.
+     *
+     * @return the profile's maximum velocity.
+     */
+    public double maxVelocity() {
+        return maxVelocity;
+    }
+
+    /**
+     * Get the distance between samples.
+     *
+     * @return the distance between samples.
+     */
+    public double step() {
+        return step;
+    }
+
+    /**
+     * Get how many samples the profile has.
+     *
+     * @return how many samples the profile has.
+     */
+    public int size() {
+        return distances.length;
+    }
+
+    /**
+     * Get the distance along the path to a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's distance along the path.
+     */
+    public double distance(int index) {
+        return distances[index];
+    }
+
+    /**
+     * Get the velocity at a sample.
+     *
+     * @param index the index of the sample.
+     * @return the sample's velocity.
+     */
+    public double velocity(int index) {
+        return velocities[index];
+    }
+
+    /**
+     * Get the acceleration between a sample and the next sample.
+     *
+     * @param index the index of the sample.
+     * @return the acceleration from the sample to the next sample. The last
+     * sample's acceleration is always 0.
+     */
+    public double acceleration(int index) {
+        return accelerations[index];
+    }
+
+    /**
+     * Get how long it takes to get to a sample from the start of the path.
+     *
+     * @param index the index of the sample.
+     * @return the time it takes to get to the sample.
+     */
+    public double time(int index) {
+        return times[index];
+    }
+
+    /**
+     * Get how long it takes to drive the entire path.
+     *
+     * @return how long it takes to drive the entire path.
+     */
+    public double totalTime() {
+        return times[times.length - 1];
+    }
+
+    /**
+     * Get the velocity at a distance along the path.
+     *
+     * @param distance the distance along the path.
+     * @return the velocity at that distance.
+     */
+    public double velocityAt(double distance) {
+        return interpolate(velocities, distance);
+    }
+
+    /**
+     * Get the acceleration at a distance along the path.
+     *
+     * @param distance the distance along the path.
+     * @return the acceleration at that distance.
+     */
+    public double accelerationAt(double distance) {
+        return accelerations[indexAt(distance)];
+    }
+
+    /**
+     * Get how long it takes to get to a distance along the path.
+     *
+     * @param distance the distance along the path.
+     * @return how long it takes to get there from the start of the path.
+     */
+    public double timeAt(double distance) {
+        return interpolate(times, distance);
+    }
+
+    /**
+     * Get the velocity at a distance along the path, as a fraction of the
+     * maximum velocity. This is the speed a {@code Trajectory} should
+     * return, assuming the maximum velocity is how fast the robot moves
+     * when it's given a speed of 1.
+     *
+     * @param distance the distance along the path.
+     * @return the velocity at that distance, divided by the maximum
+     * velocity. This is between 0 and 1.
+     */
+    public double speedAt(double distance) {
+        return MinMax.clip(velocityAt(distance) / maxVelocity, 0, 1);
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "VelocityProfile (samples: <%s>, max velocity: <%s>, " +
+            "total time: <%s>)",
+            distances.length,
+            maxVelocity,
+            totalTime()
+        );
+    }
+}
@@ -59,6 +59,15 @@ public class Circle implements Shape<Circle> {
         return center;
     }
 
+    /**
+     * Get the circle's radius.
+     *
+     * @return the circle's radius.
+     */
+    public double getRadius() {
+        return radius;
+    }
+
     @Override
     public Circle rotate(Angle rotation) {
         return rotate(rotation, center);
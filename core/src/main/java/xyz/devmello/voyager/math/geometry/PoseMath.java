@@ -0,0 +1,164 @@
+package xyz.devmello.voyager.math.geometry;
+
+import xyz.devmello.voyager.math.Equals;
+
+/**
+ * Allocation-free versions of the {@link Angle}, {@link PointXY} and
+ * {@link Translation} operations used every tick by followers and
+ * kinematics.
+ *
+ * <p>
+ * Every method here works on plain {@code double}s and produces exactly
+ * the same numbers as the object-based operation it mirrors, including
+ * {@link Angle}'s quirks: angles within 0.01 degrees of 0 are rounded to
+ * 0, and fixed angles are in the range [0, 360) degrees. An angle is
+ * represented by its value in degrees, like an {@link Angle} created with
+ * {@link Angle#fromDeg(double)}, and its value in radians is always
+ * {@code Math.toRadians(deg)}.
+ * </p>
+ *
+ * <p>
+ * These methods are meant for code that runs every tick. Everywhere else,
+ * the object-based operations are much easier to read.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class PoseMath {
+    /**
+     * Angles within this many degrees of 0 are rounded to 0 by
+     * {@link Angle#fromDeg(double)}.
+     */
+    private static final double ZERO_TOLERANCE_DEG = 0.01;
+
+    private PoseMath() {}
+
+    /**
+     * Equivalent to {@code Angle.fromDeg(deg).deg()}.
+     *
+     * @param deg the angle, in degrees.
+     * @return the angle, in degrees.
+     */
+    public static double fromDeg(double deg) {
+        return Equals.softWithoutValidation(deg, 0, ZERO_TOLERANCE_DEG)
+            ? 0
+            : deg;
+    }
+
+    /**
+     * Equivalent to {@code Angle.fromRad(rad).deg()}.
+     *
+     * @param rad the angle, in radians.
+     * @return the angle, in degrees.
+     */
+    public static double fromRad(double rad) {
+        return fromDeg(Math.toDegrees(rad));
+    }
+
+    /**
+     * Equivalent to {@code Angle.fromDeg(deg).fix().deg()}.
+     *
+     * @param deg the angle, in degrees.
+     * @return the fixed angle, in degrees.
+     */
+    public static double fix(double deg) {
+        return fromDeg(Angle.fixDeg(fromDeg(deg)));
+    }
+
+    /**
+     * Equivalent to {@code Angle.fixedRad(rad).deg()}.
+     *
+     * @param rad the angle, in radians.
+     * @return the fixed angle, in degrees.
+     */
+    public static double fixedRad(double rad) {
+        return fromRad(Angle.fixRad(rad));
+    }
+
+    /**
+     * Equivalent to {@code Angle.fromDeg(a).add(Angle.fromDeg(b)).deg()}.
+     *
+     * @param a the first angle, in degrees.
+     * @param b the second angle, in degrees.
+     * @return the fixed sum of the two angles, in degrees.
+     */
+    public static double add(double a, double b) {
+        return fixedRad(Math.toRadians(fromDeg(a)) + Math.toRadians(fromDeg(b)));
+    }
+
+    /**
+     * Equivalent to {@code Angle.minimumDelta(a, b)}.
+     *
+     * @param a the first angle's {@link Angle#deg()}.
+     * @param b the second angle's {@link Angle#deg()}.
+     * @return the minimum delta between the two angles, in degrees.
+     */
+    public static double minimumDelta(double a, double b) {
+        double delta = fix(b) - fix(a);
+
+        if (Math.abs(delta) > 180) {
+            delta = fix(fromDeg(b + 180)) - fix(fromDeg(a + 180));
+        }
+
+        return delta;
+    }
+
+    /**
+     * Equivalent to {@code PointXY.angleTo(a, b).deg()}.
+     *
+     * @param ax the origin point's X value.
+     * @param ay the origin point's Y value.
+     * @param bx the target point's X value.
+     * @param by the target point's Y value.
+     * @return the angle from the origin to the target, in degrees.
+     */
+    public static double angleTo(double ax, double ay, double bx, double by) {
+        return fromRad(Math.atan2(by - ay, bx - ax));
+    }
+
+    /**
+     * Get the X value of
+     * {@code PointXY.inDirection(PointXY.ZERO, distance, angle)}.
+     *
+     * @param distance how far the point is from the origin.
+     * @param deg      the direction of the point, in degrees.
+     * @return the point's X value.
+     */
+    public static double inDirectionX(double distance, double deg) {
+        return 0 + (distance * Math.cos(Math.toRadians(deg)));
+    }
+
+    /**
+     * Get the Y value of
+     * {@code PointXY.inDirection(PointXY.ZERO, distance, angle)}.
+     *
+     * @param distance how far the point is from the origin.
+     * @param deg      the direction of the point, in degrees.
+     * @return the point's Y value.
+     */
+    public static double inDirectionY(double distance, double deg) {
+        return 0 + (distance * Math.sin(Math.toRadians(deg)));
+    }
+
+    /**
+     * Get the direction of a translation after
+     * {@link Translation#absoluteToRelative(Translation, Angle)} has been
+     * applied to it. The relative translation's X and Y values are
+     * {@code inDirectionX(Math.hypot(vx, vy), direction)} and
+     * {@code inDirectionY(Math.hypot(vx, vy), direction)}.
+     *
+     * @param vx         the absolute translation's X value.
+     * @param vy         the absolute translation's Y value.
+     * @param headingRad the robot's heading's {@link Angle#rad()}.
+     * @return the direction of the relative translation, in degrees.
+     */
+    public static double relativeDirection(
+        double vx,
+        double vy,
+        double headingRad
+    ) {
+        double rotation = fixedRad(headingRad * -1);
+
+        return fix(add(fix(angleTo(0, 0, vx, vy)), rotation));
+    }
+}
@@ -504,4 +504,41 @@ public class Rectangle implements Shape<Rectangle> {
     public double getSizeY() {
         return sizeY;
     }
+
+    /**
+     * Get the rectangle's first corner. The corners, in order, are A, B,
+     * C and D - each corner is connected to the next one by a side.
+     *
+     * @return the rectangle's A corner.
+     */
+    public PointXY getA() {
+        return a;
+    }
+
+    /**
+     * Get the rectangle's second corner.
+     *
+     * @return the rectangle's B corner.
+     */
+    public PointXY getB() {
+        return b;
+    }
+
+    /**
+     * Get the rectangle's third corner.
+     *
+     * @return the rectangle's C corner.
+     */
+    public PointXY getC() {
+        return c;
+    }
+
+    /**
+     * Get the rectangle's fourth corner.
+     *
+     * @return the rectangle's D corner.
+     */
+    public PointXY getD() {
+        return d;
+    }
 }
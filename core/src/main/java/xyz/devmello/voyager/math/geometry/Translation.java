@@ -341,21 +341,28 @@ public class Translation implements Serializable {
         ValidationUtils.validate(absoluteTranslation, "absoluteTranslation");
         ValidationUtils.validate(heading, "heading");
 
-        PointXY point = absoluteTranslation
-            .point()
-            .rotate(PointXY.ZERO, heading.multiply(-1));
-        Translation relativeTranslation = fromPointXY(
-            point,
+        // equivalent to rotating the translation's point around the origin
+        // by -heading, without creating any intermediate objects
+        double vx = absoluteTranslation.vx();
+        double vy = absoluteTranslation.vy();
+        double distance = Math.hypot(vx, vy);
+        double direction = PoseMath.relativeDirection(vx, vy, heading.rad());
+
+        Translation relativeTranslation = new Translation(
+            PoseMath.inDirectionX(distance, direction),
+            PoseMath.inDirectionY(distance, direction),
             absoluteTranslation.vz()
         );
 
-        Logger.trace(
-            Translation.class,
-            "Converted absolute %s to relative %s (heading: %s)",
-            absoluteTranslation,
-            relativeTranslation,
-            heading
-        );
+        if (Logger.isTraceEnabled()) {
+            Logger.trace(
+                Translation.class,
+                "Converted absolute %s to relative %s (heading: %s)",
+                absoluteTranslation,
+                relativeTranslation,
+                heading
+            );
+        }
 
         return relativeTranslation;
     }
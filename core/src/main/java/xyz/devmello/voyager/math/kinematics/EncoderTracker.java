@@ -11,6 +11,7 @@
 package xyz.devmello.voyager.math.kinematics;
 
 import java.util.function.Supplier;
+import xyz.devmello.voyager.utils.time.Time;
 
 /**
  * An {@code EncoderTracker} tracks the position of a tick-based encoder by
@@ -26,7 +27,8 @@ public class EncoderTracker {
     private final boolean isInverted;
     private int lastTicks = 0;
     private boolean hasUpdated = false;
-    private long lastMs = 0;
+    private long lastNanos = 0;
+    private boolean hasLastTime = false;
 
     /**
      * Create a new {@code EncoderTracker}.
@@ -92,11 +94,14 @@ public class EncoderTracker {
      * @return the speed of the encoder.
      */
     public double getSpeed() {
-        long currentMs = System.currentTimeMillis();
-        if (lastMs == 0) lastMs = currentMs;
-        long elapsedMs = currentMs - lastMs;
-        lastMs = currentMs;
-        double elapsedSeconds = elapsedMs / 1_000d;
+        long currentNanos = Time.nanoTime();
+        if (!hasLastTime) {
+            lastNanos = currentNanos;
+            hasLastTime = true;
+        }
+        long elapsedNanos = currentNanos - lastNanos;
+        lastNanos = currentNanos;
+        double elapsedSeconds = elapsedNanos / 1_000_000_000d;
         return getSpeedWithTime(elapsedSeconds);
     }
 }
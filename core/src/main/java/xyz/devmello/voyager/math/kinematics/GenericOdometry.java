@@ -26,7 +26,8 @@ public class GenericOdometry<T> {
     private final Angle gyroOffset;
     private final double updateIntervalMs;
     private PointXYZ position;
-    private double previousTimeMs = -1;
+    private double previousTimeMs = 0;
+    private boolean hasPreviousTime = false;
     private Angle previousAngle;
 
     public GenericOdometry(
@@ -51,9 +52,9 @@ public class GenericOdometry<T> {
     }
 
     /**
-     * Update the position based on the system's current time (as dictated
-     * by {@code Time#ms()} or {@code System#currentTimeMillis()}), the
-     * angle of the gyroscope on the robot, and the current state of the robot.
+     * Update the position based on the current time (as dictated by
+     * {@code Time#ms()}), the angle of the gyroscope on the robot, and the
+     * current state of the robot.
      *
      * <p>
      * This method integrates the velocity of the robot (as determined by
@@ -61,10 +62,10 @@ public class GenericOdometry<T> {
      * of the robot.
      * </p>
      *
-     * @param currentTimeMs the system's current time, in milliseconds.
-     *                      Use either {@code Time#ms()} or
-     *                      {@code System#currentTimeMillis()} to get this
-     *                      value.
+     * @param currentTimeMs the current time, in milliseconds. Use
+     *                      {@code Time#ms()} to get this value. Only the
+     *                      difference between calls matters, so the time
+     *                      can have any origin, and can be negative.
      * @param gyroAngle     the angle of the robot's gyroscope.
      * @param state         the current state of the robot. This value
      *                      should usually be determined by using encoders to
@@ -76,10 +77,13 @@ public class GenericOdometry<T> {
         Angle gyroAngle,
         T state
     ) {
-        double period = previousTimeMs > -1
+        // a clock's origin is arbitrary, so any value is a valid time
+        double period = hasPreviousTime
             ? (currentTimeMs - previousTimeMs)
             : 0.0;
 
+        hasPreviousTime = true;
+
         // if not enough time has elapsed, return the robot's position
         // instead of updating the position
         if (period < updateIntervalMs) {
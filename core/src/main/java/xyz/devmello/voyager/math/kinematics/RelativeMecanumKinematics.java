@@ -11,8 +11,10 @@
 package xyz.devmello.voyager.math.kinematics;
 
 import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PoseMath;
 import xyz.devmello.voyager.math.geometry.Translation;
 import xyz.devmello.voyager.math.MinMax;
+import xyz.devmello.voyager.utils.ValidationUtils;
 
 /**
  * The most simple implementation of mecanum kinematics. For most use
@@ -33,6 +35,26 @@ public class RelativeMecanumKinematics implements Kinematics<MecanumState> {
         Angle.DEG_45 // BACK RIGHT
     };
 
+    /**
+     * The sine of each of the wheels' angles.
+     */
+    private static final double[] WHEEL_SINES = new double[] {
+        WHEEL_ANGLES[0].sin(),
+        WHEEL_ANGLES[1].sin(),
+        WHEEL_ANGLES[2].sin(),
+        WHEEL_ANGLES[3].sin()
+    };
+
+    /**
+     * The cosine of each of the wheels' angles.
+     */
+    private static final double[] WHEEL_COSINES = new double[] {
+        WHEEL_ANGLES[0].cos(),
+        WHEEL_ANGLES[1].cos(),
+        WHEEL_ANGLES[2].cos(),
+        WHEEL_ANGLES[3].cos()
+    };
+
     /**
      * The kinematics' minimum magnitude.
      */
@@ -53,6 +75,11 @@ public class RelativeMecanumKinematics implements Kinematics<MecanumState> {
      */
     private final Angle angleOffset;
 
+    /**
+     * The kinematics' angle offset, in radians.
+     */
+    private final double angleOffsetRad;
+
     /**
      * Create a new instance of the {@code RelativeMecanumKinematics} class.
      *
@@ -82,15 +109,18 @@ public class RelativeMecanumKinematics implements Kinematics<MecanumState> {
         double turnMagnitude,
         Angle angleOffset
     ) {
+        ValidationUtils.validate(angleOffset, "angleOffset");
+
         this.minMagnitude = minMagnitude;
         this.maxMagnitude = maxMagnitude;
         this.turnMagnitude = turnMagnitude;
         this.angleOffset = angleOffset;
+        this.angleOffsetRad = angleOffset.rad();
     }
 
-    private static double calculatePower(Angle movement, Angle wheel) {
-        double x = movement.sin() * wheel.sin();
-        double y = movement.cos() * wheel.cos();
+    private static double calculatePower(double sin, double cos, int wheel) {
+        double x = sin * WHEEL_SINES[wheel];
+        double y = cos * WHEEL_COSINES[wheel];
 
         return x + y;
     }
@@ -102,21 +132,39 @@ public class RelativeMecanumKinematics implements Kinematics<MecanumState> {
             minMagnitude,
             maxMagnitude
         );
-        Angle angle = Angle
-            .atan2(translation.vy(), translation.vx())
-            .add(angleOffset);
+
+        // the same as Angle.atan2(vy, vx).add(angleOffset), but without
+        // creating any angles - this is called every tick
+        double direction = PoseMath.fromRad(
+            Math.atan2(translation.vy(), translation.vx())
+        );
+        double angle = Math.toRadians(
+            PoseMath.fixedRad(Math.toRadians(direction) + angleOffsetRad)
+        );
+        double sin = Math.sin(angle);
+        double cos = Math.cos(angle);
         double turn = translation.vz() * turnMagnitude;
 
-        double fl =
-            (calculatePower(angle, WHEEL_ANGLES[0]) * xyMagnitude) + turn;
-        double fr =
-            (calculatePower(angle, WHEEL_ANGLES[1]) * xyMagnitude) - turn;
-        double bl =
-            (calculatePower(angle, WHEEL_ANGLES[2]) * xyMagnitude) + turn;
-        double br =
-            (calculatePower(angle, WHEEL_ANGLES[3]) * xyMagnitude) - turn;
+        double fl = (calculatePower(sin, cos, 0) * xyMagnitude) + turn;
+        double fr = (calculatePower(sin, cos, 1) * xyMagnitude) - turn;
+        double bl = (calculatePower(sin, cos, 2) * xyMagnitude) + turn;
+        double br = (calculatePower(sin, cos, 3) * xyMagnitude) - turn;
+
+        // the same as normalizeFromMaxUnderOne, without creating a second
+        // MecanumState
+        double max = Math.max(
+            Math.max(Math.abs(fl), Math.abs(fr)),
+            Math.max(Math.abs(bl), Math.abs(br))
+        );
+
+        if (max > 1) {
+            fl = (fl / max) * 1.0;
+            fr = (fr / max) * 1.0;
+            bl = (bl / max) * 1.0;
+            br = (br / max) * 1.0;
+        }
 
-        return new MecanumState(fl, fr, bl, br).normalizeFromMaxUnderOne();
+        return new MecanumState(fl, fr, bl, br);
     }
 
     @Override
@@ -0,0 +1,266 @@
+package xyz.devmello.voyager.pathgen;
+
+/**
+ * The distance from every cell in an {@link OccupancyGrid} to the nearest
+ * blocked cell, calculated with an exact Euclidean distance transform.
+ *
+ * <p>
+ * Instead of growing every zone by the robot's radius and rasterizing the
+ * grown shapes (see {@link xyz.devmello.voyager.pathgen.zones.Zone#inflate(java.util.List, double)}),
+ * the raw zones can be rasterized once, and a {@code ClearanceMap} built
+ * from the result. Checking whether a cell is clear for a robot of a given
+ * radius is then a single comparison, and grids for several different
+ * radii (or safety margins) can be made from the same map with
+ * {@link #toOccupancy(double)}, without rasterizing anything again.
+ * </p>
+ *
+ * <p>
+ * Distances are measured between cell centers, so they're accurate to
+ * within about one cell. The transform is the linear-time lower envelope
+ * of parabolas algorithm described by Felzenszwalb and Huttenlocher, run
+ * once down every column and once along every row.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class ClearanceMap {
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    private final int width;
+    private final int height;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final float[] clearance;
+
+    private ClearanceMap(
+        int width,
+        int height,
+        double cellWidth,
+        double cellHeight,
+        float[] clearance
+    ) {
+        this.width = width;
+        this.height = height;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.clearance = clearance;
+    }
+
+    /**
+     * Calculate the clearance of every cell in a {@link LocalizedGrid},
+     * in the grid's "real" units.
+     *
+     * @param grid the grid. Cells inside a zone should already be marked
+     *             as invalid.
+     * @return a new {@code ClearanceMap}.
+     */
+    public static ClearanceMap compute(LocalizedGrid grid) {
+        return compute(grid.getOccupancy(), grid.getXRatio(), grid.getYRatio());
+    }
+
+    /**
+     * Calculate the clearance of every cell in an {@link OccupancyGrid}.
+     *
+     * @param grid       the grid.
+     * @param cellWidth  the width of a single cell.
+     * @param cellHeight the height of a single cell.
+     * @return a new {@code ClearanceMap}.
+     */
+    public static ClearanceMap compute(
+        OccupancyGrid grid,
+        double cellWidth,
+        double cellHeight
+    ) {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int longest = Math.max(width, height);
+
+        double[] squared = new double[grid.size()];
+        double[] input = new double[longest];
+        double[] output = new double[longest];
+        int[] vertices = new int[longest];
+        double[] boundaries = new double[longest + 1];
+
+        // columns first...
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                input[y] = grid.isValid(x, y) ? INFINITY : 0;
+            }
+
+            transform(input, height, cellHeight, output, vertices, boundaries);
+
+            for (int y = 0; y < height; y++) {
+                squared[y * width + x] = output[y];
+            }
+        }
+
+        // ... then rows
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(squared, y * width, input, 0, width);
+
+            transform(input, width, cellWidth, output, vertices, boundaries);
+
+            System.arraycopy(output, 0, squared, y * width, width);
+        }
+
+        float[] clearance = new float[grid.size()];
+
+        for (int i = 0; i < clearance.length; i++) {
+            clearance[i] = (float) Math.sqrt(squared[i]);
+        }
+
+        return new ClearanceMap(width, height, cellWidth, cellHeight, clearance);
+    }
+
+    /**
+     * One-dimensional squared distance transform of {@code f}, which has
+     * {@code n} samples {@code spacing} apart.
+     */
+    private static void transform(
+        double[] f,
+        int n,
+        double spacing,
+        double[] d,
+        int[] v,
+        double[] z
+    ) {
+        int k = -1;
+
+        for (int q = 0; q < n; q++) {
+            if (f[q] == INFINITY) continue;
+
+            if (k == -1) {
+                k = 0;
+                v[0] = q;
+                z[0] = -INFINITY;
+                z[1] = INFINITY;
+                continue;
+            }
+
+            double s = intersection(f, q, v[k], spacing);
+
+            while (s <= z[k]) {
+                k--;
+                s = intersection(f, q, v[k], spacing);
+            }
+
+            k++;
+            v[k] = q;
+            z[k] = s;
+            z[k + 1] = INFINITY;
+        }
+
+        if (k == -1) {
+            for (int q = 0; q < n; q++) d[q] = INFINITY;
+
+            return;
+        }
+
+        k = 0;
+
+        for (int q = 0; q < n; q++) {
+            double position = q * spacing;
+
+            while (z[k + 1] < position) k++;
+
+            double offset = position - v[k] * spacing;
+
+            d[q] = offset * offset + f[v[k]];
+        }
+    }
+
+    private static double intersection(double[] f, int q, int p, double spacing) {
+        double positionQ = q * spacing;
+        double positionP = p * spacing;
+
+        return (
+            (f[q] + positionQ * positionQ) - (f[p] + positionP * positionP)
+        ) / (2 * (positionQ - positionP));
+    }
+
+    /**
+     * Get the distance from a cell to the nearest blocked cell. Blocked
+     * cells have a clearance of 0, and if there aren't any blocked cells
+     * at all, every cell's clearance is infinite.
+     *
+     * @param x the cell's X coordinate.
+     * @param y the cell's Y coordinate.
+     * @return the cell's clearance.
+     */
+    public double getClearance(int x, int y) {
+        return clearance[y * width + x];
+    }
+
+    /**
+     * Get the distance from a cell to the nearest blocked cell.
+     *
+     * @param index the cell's index.
+     * @return the cell's clearance.
+     */
+    public double getClearance(int index) {
+        return clearance[index];
+    }
+
+    /**
+     * Is a cell far enough from every blocked cell for a robot with the
+     * given radius to be centered on it?
+     *
+     * @param x      the cell's X coordinate.
+     * @param y      the cell's Y coordinate.
+     * @param radius the robot's radius.
+     * @return true if the cell's clearance is greater than {@code radius}.
+     */
+    public boolean isClear(int x, int y, double radius) {
+        return clearance[y * width + x] > radius;
+    }
+
+    /**
+     * Create an {@link OccupancyGrid} where every cell whose clearance is
+     * less than or equal to {@code radius} is blocked. With a radius of 0,
+     * this is the grid the map was made from.
+     *
+     * @param radius the robot's radius.
+     * @return a new {@code OccupancyGrid}.
+     */
+    public OccupancyGrid toOccupancy(double radius) {
+        if (radius < 0) throw new IllegalArgumentException(
+            "Radius may not be negative!"
+        );
+
+        OccupancyGrid grid = new OccupancyGrid(width, height);
+
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int runStart = -1;
+
+            for (int x = 0; x <= width; x++) {
+                boolean blocked = x < width && clearance[row + x] <= radius;
+
+                if (blocked && runStart == -1) runStart = x;
+
+                if (!blocked && runStart != -1) {
+                    grid.setRowValid(y, runStart, x, false);
+                    runStart = -1;
+                }
+            }
+        }
+
+        return grid;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public double getCellWidth() {
+        return cellWidth;
+    }
+
+    public double getCellHeight() {
+        return cellHeight;
+    }
+}
@@ -0,0 +1,361 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An incremental search over an {@link OccupancyGrid}, using the D* Lite
+ * algorithm.
+ *
+ * <p>
+ * D* Lite searches backwards, from the goal to the start, and keeps its
+ * search state between searches. When cells become blocked or valid (for
+ * example, because a zone was added or removed) or the start moves, only
+ * the part of the search that was affected by the change is repaired, so
+ * replanning costs roughly as much as the change itself, rather than as
+ * much as a search of the whole grid. Searching towards a different goal
+ * starts from scratch.
+ * </p>
+ *
+ * <p>
+ * Changes to the grid must go through {@link #setValid(int, int, boolean)}
+ * or {@link #update(OccupancyGrid)} - if the grid is modified directly,
+ * this search won't know about it. Paths cost exactly as much as the paths
+ * found by {@link AStarSearch}, although they may take a different route
+ * when there's more than one shortest path. Like {@link AStarSearch}, the
+ * start cell may be blocked: the path can leave it, but can't go through
+ * any other blocked cell.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class DStarLiteSearch implements GridSearch {
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    /**
+     * How much higher than the start's key the lowest key in the queue
+     * has to be for the search to stop. Keys are sums of square roots, so
+     * two keys that should be equal can differ by rounding error.
+     */
+    private static final double KEY_TOLERANCE = 1e-9;
+
+    private final OccupancyGrid grid;
+    private final int width;
+    private final int height;
+    private final double[] g;
+    private final double[] rhs;
+    private final IndexedHeap open;
+    private int start = -1;
+    private int goal = -1;
+    private int lastStart = -1;
+    private double km = 0;
+    private int expanded = 0;
+
+    /**
+     * Create a new {@code DStarLiteSearch}.
+     *
+     * @param grid the grid to search.
+     */
+    public DStarLiteSearch(OccupancyGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+
+        int size = grid.size();
+
+        this.g = new double[size];
+        this.rhs = new double[size];
+        this.open = new IndexedHeap(size);
+    }
+
+    private double heuristic(int a, int b) {
+        return Math.hypot((b % width) - (a % width), (b / width) - (a / width));
+    }
+
+    /**
+     * The cost of moving from cell {@code a} to cell {@code b}. Like
+     * {@link AStarSearch}, the robot may leave the start cell even if it's
+     * blocked, but may never move into a blocked cell.
+     */
+    private double cost(int a, int b, int neighbour) {
+        if (!grid.isValid(b) || (a != start && !grid.isValid(a))) return INFINITY;
+
+        return OccupancyGrid.NEIGHBOUR_COST[neighbour];
+    }
+
+    private int neighbour(int index, int neighbour) {
+        int x = (index % width) + OccupancyGrid.NEIGHBOUR_X[neighbour];
+        int y = (index / width) + OccupancyGrid.NEIGHBOUR_Y[neighbour];
+
+        if (x < 0 || y < 0 || x >= width || y >= height) return -1;
+
+        return y * width + x;
+    }
+
+    private double lowestSuccessorCost(int index) {
+        double best = INFINITY;
+
+        for (int i = 0; i < 8; i++) {
+            int successor = neighbour(index, i);
+
+            if (successor == -1) continue;
+
+            best = Math.min(best, cost(index, successor, i) + g[successor]);
+        }
+
+        return best;
+    }
+
+    private void updateVertex(int index) {
+        double gValue = g[index];
+        double rhsValue = rhs[index];
+
+        if (gValue != rhsValue) {
+            double min = Math.min(gValue, rhsValue);
+
+            open.insertOrUpdate(index, min + heuristic(start, index) + km, min);
+        } else {
+            open.remove(index);
+        }
+    }
+
+    private static boolean isLess(double a1, double a2, double b1, double b2) {
+        return a1 < b1 || (a1 == b1 && a2 < b2);
+    }
+
+    private void reset(int startIndex, int goalIndex) {
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        open.clear();
+
+        start = startIndex;
+        lastStart = startIndex;
+        goal = goalIndex;
+        km = 0;
+
+        rhs[goal] = 0;
+        open.insertOrUpdate(goal, heuristic(start, goal), 0);
+    }
+
+    private void computeShortestPath() {
+        while (!open.isEmpty()) {
+            int current = open.peek();
+            double key1 = open.getKey(current);
+            double key2 = open.getSecondaryKey(current);
+
+            double startMin = Math.min(g[start], rhs[start]);
+
+            // keep going on a tie with the start's key, not just while the
+            // top key is lower: a tied node can still be on the start's
+            // shortest path, and leaving it inconsistent would leave the
+            // path to retrace through it out of date
+            if (
+                key1 > startMin + km + KEY_TOLERANCE &&
+                rhs[start] == g[start]
+            ) break;
+
+            double currentMin = Math.min(g[current], rhs[current]);
+            double newKey1 = currentMin + heuristic(start, current) + km;
+
+            if (isLess(key1, key2, newKey1, currentMin)) {
+                open.update(current, newKey1, currentMin);
+            } else if (g[current] > rhs[current]) {
+                g[current] = rhs[current];
+                open.remove(current);
+                expanded++;
+
+                for (int i = 0; i < 8; i++) {
+                    int predecessor = neighbour(current, i);
+
+                    if (predecessor == -1 || predecessor == goal) continue;
+
+                    rhs[predecessor] = Math.min(
+                        rhs[predecessor],
+                        cost(predecessor, current, i) + g[current]
+                    );
+
+                    updateVertex(predecessor);
+                }
+            } else {
+                double oldG = g[current];
+                g[current] = INFINITY;
+                expanded++;
+
+                for (int i = 0; i < 8; i++) {
+                    int predecessor = neighbour(current, i);
+
+                    if (predecessor == -1 || predecessor == goal) continue;
+
+                    if (rhs[predecessor] == cost(predecessor, current, i) + oldG) {
+                        rhs[predecessor] = lowestSuccessorCost(predecessor);
+                    }
+
+                    updateVertex(predecessor);
+                }
+
+                if (current != goal) rhs[current] = lowestSuccessorCost(current);
+
+                updateVertex(current);
+            }
+        }
+    }
+
+    /**
+     * Find a path between two cells. If {@code end} is the same as the last
+     * search's end, the previous search is repaired rather than repeated.
+     *
+     * @param start the start cell.
+     * @param end   the end cell.
+     * @return a list of coordinates, starting with {@code start} and ending
+     * with {@code end}. If there's no path between the two cells, this will
+     * be an empty list.
+     */
+    @Override
+    public List<Coord> search(Coord start, Coord end) {
+        int startIndex = grid.index(start.x(), start.y());
+        int goalIndex = grid.index(end.x(), end.y());
+
+        expanded = 0;
+
+        if (goalIndex != goal) {
+            reset(startIndex, goalIndex);
+        } else if (startIndex != this.start) {
+            // keys already in the queue were calculated relative to the
+            // old start - rather than recalculating all of them, raise
+            // every new key by (at most) how far the start has moved
+            int oldStart = this.start;
+
+            km += heuristic(lastStart, startIndex);
+            lastStart = startIndex;
+            this.start = startIndex;
+
+            // moves out of the start are allowed even if it's blocked, so
+            // the old and new starts' costs may have changed
+            startChanged(oldStart);
+            startChanged(startIndex);
+        }
+
+        computeShortestPath();
+
+        return retrace();
+    }
+
+    private List<Coord> retrace() {
+        if (g[start] == INFINITY) return new ArrayList<>(0);
+
+        List<Coord> path = new ArrayList<>();
+        int current = start;
+
+        path.add(new Coord(current % width, current / width));
+
+        while (current != goal) {
+            double best = INFINITY;
+            int next = -1;
+
+            for (int i = 0; i < 8; i++) {
+                int successor = neighbour(current, i);
+
+                // an inconsistent cell's g value is out of date, so it
+                // can't be trusted to lead to the goal
+                if (successor == -1 || g[successor] != rhs[successor]) continue;
+
+                double score = cost(current, successor, i) + g[successor];
+
+                if (score < best) {
+                    best = score;
+                    next = successor;
+                }
+            }
+
+            if (next == -1 || path.size() > grid.size()) {
+                return new ArrayList<>(0);
+            }
+
+            current = next;
+            path.add(new Coord(current % width, current / width));
+        }
+
+        return path;
+    }
+
+    private void startChanged(int index) {
+        if (index == goal || grid.isValid(index)) return;
+
+        rhs[index] = lowestSuccessorCost(index);
+        updateVertex(index);
+    }
+
+    private void cellChanged(int index) {
+        if (goal == -1) return;
+
+        if (index != goal) rhs[index] = lowestSuccessorCost(index);
+
+        updateVertex(index);
+
+        for (int i = 0; i < 8; i++) {
+            int other = neighbour(index, i);
+
+            if (other == -1 || other == goal) continue;
+
+            rhs[other] = lowestSuccessorCost(other);
+            updateVertex(other);
+        }
+    }
+
+    /**
+     * Change the validity of a cell. The change is applied to the grid
+     * straight away and repaired during the next search.
+     *
+     * @param x     the cell's X coordinate.
+     * @param y     the cell's Y coordinate.
+     * @param valid whether the cell should be valid.
+     */
+    public void setValid(int x, int y, boolean valid) {
+        int index = grid.index(x, y);
+
+        if (grid.isValid(index) == valid) return;
+
+        grid.setValid(index, valid);
+        cellChanged(index);
+    }
+
+    /**
+     * Make this search's grid match another grid with the same dimensions,
+     * updating only the cells that differ.
+     *
+     * @param target the grid to copy cell validity from.
+     * @return how many cells were changed.
+     */
+    public int update(OccupancyGrid target) {
+        BitSet changed = grid.difference(target);
+
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            grid.setValid(i, target.isValid(i));
+        }
+
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            cellChanged(i);
+        }
+
+        return changed.cardinality();
+    }
+
+    /**
+     * Get the number of nodes that were expanded during the last search.
+     * After a small change, this is usually much lower than the number of
+     * nodes expanded by the first search.
+     *
+     * @return how many nodes the last search expanded.
+     */
+    @Override
+    public int getExpandedCount() {
+        return expanded;
+    }
+
+    @Override
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+}
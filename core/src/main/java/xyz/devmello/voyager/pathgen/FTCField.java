@@ -8,7 +8,9 @@ import java.util.List;
 
 /**
  * Represents the FTC field with defined dimensions and wall zones.
- * Provides path generation and zone management functionality.
+ * Provides path generation and zone management functionality. The field's
+ * grid is cached between calls to {@link #getPath(PointXY, PointXY, double)},
+ * so only the first path pays for validating the grid against the zones.
  *
  * @author Pranav Yerramaneni
  */
@@ -25,6 +27,9 @@ public class FTCField {
 
     private List<Zone> zones;
 
+    private final double robotX;
+    private final double robotY;
+
     public static final Zone leftWall = new Zone(new Rectangle(new PointXY(minX, minY), new PointXY(minX, maxY),
             new PointXY(minX + 1, maxY), new PointXY(minX + 1, minY)));
 
@@ -44,7 +49,14 @@ public class FTCField {
         zones.add(rightWall);
         zones.add(topWall);
         zones.add(bottomWall);
-        this.pathGen = LocalizedPathGen.withInflatedZones(new LocalizedPathGen(zones, minX, maxX, minY, maxY), robotX, robotY);
+        this.robotX = robotX;
+        this.robotY = robotY;
+        this.pathGen = inflatedPathGen();
+    }
+
+    private LocalizedPathGen inflatedPathGen() {
+        return LocalizedPathGen.withInflatedZones(new LocalizedPathGen(zones, minX, maxX, minY, maxY), robotX, robotY)
+                .setGridCaching(true);
     }
 
     public List<Zone> getZones() {
@@ -55,6 +67,75 @@ public class FTCField {
         this.zones = zones;
     }
 
+    /**
+     * Set the algorithm used to search the field's grid.
+     *
+     * @param strategy the search strategy to use.
+     */
+    public void setSearchStrategy(SearchStrategy strategy) {
+        pathGen.setSearchStrategy(strategy);
+    }
+
+    /**
+     * Enable or disable path caching. See
+     * {@link LocalizedPathGen#setPathCaching(int)}.
+     *
+     * @param capacity the maximum number of paths to cache. If this is 0,
+     *                 path caching is disabled.
+     */
+    public void setPathCaching(int capacity) {
+        pathGen.setPathCaching(capacity);
+    }
+
+    /**
+     * Get the path cache.
+     *
+     * @return the path cache, or null if path caching is disabled.
+     */
+    public PathCache getPathCache() {
+        return pathGen.getPathCache();
+    }
+
+    /**
+     * Keep paths a given distance away from every zone, using a
+     * {@link ClearanceMap} of the field's raw zones instead of zones that
+     * have been inflated by the robot's dimensions. See
+     * {@link LocalizedPathGen#setClearance(double)}.
+     *
+     * @param clearance the minimum distance between the robot's center and
+     *                  any zone. If this is 0, the clearance map is
+     *                  removed, and paths go back to avoiding zones that
+     *                  have been inflated by the robot's dimensions. This
+     *                  may not be negative.
+     */
+    public void setClearance(double clearance) {
+        if (!(clearance >= 0)) throw new IllegalArgumentException(
+                "Clearance may not be negative! Clearance: " + clearance
+        );
+
+        boolean hasClearance = pathGen.getClearance() > 0;
+
+        if (hasClearance && clearance > 0) {
+            // already using a clearance map - reuse it
+            pathGen.setClearance(clearance);
+            return;
+        }
+
+        // without a clearance map, the inflated zones are what keep the
+        // robot away from zones
+        if (!hasClearance && clearance == 0) return;
+
+        PathCache cache = pathGen.getPathCache();
+        SearchStrategy strategy = pathGen.getSearchStrategy();
+
+        pathGen = clearance > 0
+                ? new LocalizedPathGen(zones, minX, maxX, minY, maxY).setGridCaching(true).setClearance(clearance)
+                : inflatedPathGen();
+
+        pathGen.setSearchStrategy(strategy)
+                .setPathCaching(cache == null ? 0 : cache.getCapacity());
+    }
+
     public List<PointXY> getPath(PointXY start, PointXY end, double epsilon) {
         return pathGen.getPath(start, end, epsilon);
     }
@@ -63,6 +63,8 @@ public class Grid {
     }
 
     public Node findNode(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return null;
+
         Coord coord = new Coord(x, y);
 
         if (map.containsKey(coord)) return map.get(coord);
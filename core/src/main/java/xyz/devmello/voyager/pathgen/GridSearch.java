@@ -0,0 +1,67 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.List;
+
+/**
+ * A search algorithm that finds paths on an {@link OccupancyGrid}.
+ * Implementations may keep internal state (cost arrays, heaps, etc.)
+ * between searches, so a single {@code GridSearch} shouldn't be used by
+ * more than one thread at a time.
+ *
+ * @since 1.2.0
+ */
+public interface GridSearch {
+    /**
+     * Create a new {@code GridSearch} that uses the given strategy.
+     *
+     * @param grid     the grid to search.
+     * @param strategy the search strategy to use.
+     * @return a new {@code GridSearch}.
+     */
+    static GridSearch create(OccupancyGrid grid, SearchStrategy strategy) {
+        switch (strategy) {
+            case A_STAR:
+                return new AStarSearch(grid);
+            case JUMP_POINT:
+                return new JumpPointSearch(grid);
+            case THETA_STAR:
+                return new ThetaStarSearch(grid);
+            case D_STAR_LITE:
+                return new DStarLiteSearch(grid);
+            case HIERARCHICAL:
+                return new HierarchicalSearch(grid);
+            default:
+                throw new IllegalArgumentException(
+                    "Unsupported search strategy: " + strategy
+                );
+        }
+    }
+
+    /**
+     * Find a path between two cells.
+     *
+     * @param start the start cell.
+     * @param end   the end cell.
+     * @return a list of coordinates, starting with {@code start} and ending
+     * with {@code end}. If there's no path between the two cells, this will
+     * be an empty list. Any-angle searches (see
+     * {@link SearchStrategy#isAnyAngle()}) only return the path's
+     * waypoints; other searches return every cell along the path.
+     */
+    List<Coord> search(Coord start, Coord end);
+
+    /**
+     * Get the number of nodes that were expanded (moved to the closed set)
+     * during the last search.
+     *
+     * @return how many nodes the last search expanded.
+     */
+    int getExpandedCount();
+
+    /**
+     * Get the grid this search operates on.
+     *
+     * @return the grid.
+     */
+    OccupancyGrid getGrid();
+}
@@ -0,0 +1,627 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A hierarchical (HPA*) search over an {@link OccupancyGrid}, for grids
+ * that are too large to search directly.
+ *
+ * <p>
+ * The grid is divided into square clusters. When the search is created,
+ * every place a path can cross from one cluster into its neighbour (an
+ * "entrance") is found, and the cost of moving between each pair of
+ * entrances in the same cluster is calculated. Together, the entrances
+ * form a small abstract graph that captures the connectivity of the whole
+ * grid, narrow gaps included. A search first finds a path through the
+ * abstract graph, which picks out a corridor of clusters, and then runs
+ * {@link AStarSearch} at full resolution, but only inside that corridor.
+ * </p>
+ *
+ * <p>
+ * The abstract graph is only built once, so this is best used with a grid
+ * that doesn't change between searches (for example, with grid caching
+ * enabled in {@link LocalizedPathGen}). If the grid is changed, call
+ * {@link #rebuild()}. Paths are not always optimal - the best path may
+ * leave the corridor - but they're usually within a few percent of the
+ * cost of an {@link AStarSearch} path, and a path is found if and only if
+ * {@link AStarSearch} would find one.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class HierarchicalSearch implements GridSearch {
+    /**
+     * The default width and height of a cluster, in cells.
+     */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    /**
+     * Entrances at least this long get a transition at each end, rather
+     * than a single one in the middle.
+     */
+    private static final int LONG_ENTRANCE = 6;
+
+    private static final byte NEW = 0;
+    private static final byte OPEN = 1;
+    private static final byte CLOSED = 2;
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+    private static final double DIAGONAL_COST = Math.hypot(1, 1);
+
+    private final OccupancyGrid grid;
+    private final int width;
+    private final int height;
+    private final int clusterSize;
+    private final int clustersX;
+    private final int clustersY;
+    private final AStarSearch refiner;
+
+    // abstract graph, rebuilt by rebuild()
+    private final int[] nodeOf;
+    private int[] nodeCell;
+    private int nodeCount;
+    private int[][] clusterNodes;
+    private int[] edgeStart;
+    private int[] edgeTarget;
+    private double[] edgeCost;
+
+    // scratch space for searches inside a single cluster
+    private final double[] localCost;
+    private final IndexedHeap localOpen;
+
+    // scratch space for searches on the abstract graph
+    private double[] toGoal;
+    private double[] abstractCost;
+    private int[] abstractParent;
+    private byte[] abstractState;
+    private IndexedHeap abstractOpen;
+
+    private int expanded = 0;
+
+    /**
+     * Create a new {@code HierarchicalSearch} with the default cluster
+     * size.
+     *
+     * @param grid the grid to search.
+     */
+    public HierarchicalSearch(OccupancyGrid grid) {
+        this(grid, DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Create a new {@code HierarchicalSearch}.
+     *
+     * @param grid        the grid to search.
+     * @param clusterSize the width and height of each cluster, in cells.
+     *                    Larger clusters mean a smaller abstract graph,
+     *                    but wider corridors to refine.
+     */
+    public HierarchicalSearch(OccupancyGrid grid, int clusterSize) {
+        if (clusterSize < 2) throw new IllegalArgumentException(
+            "Cluster size must be at least 2!"
+        );
+
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.clusterSize = clusterSize;
+        this.clustersX = (width + clusterSize - 1) / clusterSize;
+        this.clustersY = (height + clusterSize - 1) / clusterSize;
+        this.refiner = new AStarSearch(grid);
+        this.nodeOf = new int[grid.size()];
+        this.localCost = new double[clusterSize * clusterSize];
+        this.localOpen = new IndexedHeap(clusterSize * clusterSize);
+
+        rebuild();
+    }
+
+    private int clusterOf(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+
+        return (y / clusterSize) * clustersX + (x / clusterSize);
+    }
+
+    /**
+     * Rebuild the abstract graph. This must be called after the grid is
+     * changed.
+     */
+    public void rebuild() {
+        Arrays.fill(nodeOf, -1);
+        nodeCell = new int[64];
+        nodeCount = 0;
+
+        List<List<Integer>> clusters = new ArrayList<>(clustersX * clustersY);
+
+        for (int i = 0; i < clustersX * clustersY; i++) {
+            clusters.add(new ArrayList<>());
+        }
+
+        EdgeList edges = new EdgeList();
+
+        findStraightEntrances(clusters, edges);
+        findDiagonalEntrances(clusters, edges);
+
+        clusterNodes = new int[clusters.size()][];
+
+        for (int i = 0; i < clusters.size(); i++) {
+            List<Integer> nodes = clusters.get(i);
+            clusterNodes[i] = new int[nodes.size()];
+
+            for (int j = 0; j < nodes.size(); j++) {
+                clusterNodes[i][j] = nodes.get(j);
+            }
+        }
+
+        for (int cluster = 0; cluster < clusterNodes.length; cluster++) {
+            int[] nodes = clusterNodes[cluster];
+
+            for (int from : nodes) {
+                searchCluster(cluster, nodeCell[from]);
+
+                for (int to : nodes) {
+                    if (to == from) continue;
+
+                    double cost = localCost[localIndex(cluster, nodeCell[to])];
+
+                    if (cost != INFINITY) edges.add(from, to, cost);
+                }
+            }
+        }
+
+        edges.compile();
+
+        toGoal = new double[nodeCount];
+        abstractCost = new double[nodeCount + 2];
+        abstractParent = new int[nodeCount + 2];
+        abstractState = new byte[nodeCount + 2];
+        abstractOpen = new IndexedHeap(nodeCount + 2);
+
+        Arrays.fill(toGoal, INFINITY);
+    }
+
+    private int addNode(int cell, List<List<Integer>> clusters) {
+        if (nodeOf[cell] != -1) return nodeOf[cell];
+
+        if (nodeCount == nodeCell.length) {
+            nodeCell = Arrays.copyOf(nodeCell, nodeCount * 2);
+        }
+
+        int node = nodeCount++;
+
+        nodeCell[node] = cell;
+        nodeOf[cell] = node;
+        clusters.get(clusterOf(cell)).add(node);
+
+        return node;
+    }
+
+    private void addTransition(
+        int a,
+        int b,
+        double cost,
+        List<List<Integer>> clusters,
+        EdgeList edges
+    ) {
+        int nodeA = addNode(a, clusters);
+        int nodeB = addNode(b, clusters);
+
+        edges.add(nodeA, nodeB, cost);
+        edges.add(nodeB, nodeA, cost);
+    }
+
+    /**
+     * Find every run of cells along a cluster border where both sides of
+     * the border are valid, and add a transition (or two, for long runs)
+     * across it.
+     */
+    private void findStraightEntrances(
+        List<List<Integer>> clusters,
+        EdgeList edges
+    ) {
+        // vertical borders: cells (border - 1, y) and (border, y)
+        for (int border = clusterSize; border < width; border += clusterSize) {
+            for (int from = 0; from < height; from += clusterSize) {
+                int to = Math.min(height, from + clusterSize);
+                int runStart = -1;
+
+                for (int y = from; y <= to; y++) {
+                    boolean open = y < to &&
+                        grid.isValid(border - 1, y) &&
+                        grid.isValid(border, y);
+
+                    if (open && runStart == -1) runStart = y;
+
+                    if (!open && runStart != -1) {
+                        for (int t : transitions(runStart, y - 1)) {
+                            addTransition(
+                                grid.index(border - 1, t),
+                                grid.index(border, t),
+                                1,
+                                clusters,
+                                edges
+                            );
+                        }
+
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+
+        // horizontal borders: cells (x, border - 1) and (x, border)
+        for (int border = clusterSize; border < height; border += clusterSize) {
+            for (int from = 0; from < width; from += clusterSize) {
+                int to = Math.min(width, from + clusterSize);
+                int runStart = -1;
+
+                for (int x = from; x <= to; x++) {
+                    boolean open = x < to &&
+                        grid.isValid(x, border - 1) &&
+                        grid.isValid(x, border);
+
+                    if (open && runStart == -1) runStart = x;
+
+                    if (!open && runStart != -1) {
+                        for (int t : transitions(runStart, x - 1)) {
+                            addTransition(
+                                grid.index(t, border - 1),
+                                grid.index(t, border),
+                                1,
+                                clusters,
+                                edges
+                            );
+                        }
+
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int[] transitions(int first, int last) {
+        if (last - first + 1 < LONG_ENTRANCE) {
+            return new int[] { (first + last) / 2 };
+        }
+
+        return new int[] { first, last };
+    }
+
+    /**
+     * Add a transition for every diagonal move between two clusters that
+     * can't be replaced by two straight moves. {@link AStarSearch} allows
+     * diagonal moves between two blocked cells, so without these, the
+     * abstract graph could miss paths that squeeze through a corner.
+     */
+    private void findDiagonalEntrances(
+        List<List<Integer>> clusters,
+        EdgeList edges
+    ) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width - 1; x++) {
+                if (!grid.isValid(x, y)) continue;
+
+                for (int dy = -1; dy <= 1; dy += 2) {
+                    int targetX = x + 1;
+                    int targetY = y + dy;
+
+                    if (!grid.isValid(targetX, targetY)) continue;
+
+                    boolean sameCluster =
+                        x / clusterSize == targetX / clusterSize &&
+                        y / clusterSize == targetY / clusterSize;
+
+                    if (sameCluster) continue;
+
+                    if (grid.isValid(targetX, y) || grid.isValid(x, targetY)) {
+                        continue;
+                    }
+
+                    addTransition(
+                        grid.index(x, y),
+                        grid.index(targetX, targetY),
+                        DIAGONAL_COST,
+                        clusters,
+                        edges
+                    );
+                }
+            }
+        }
+    }
+
+    private int localIndex(int cluster, int cell) {
+        int x = (cell % width) - (cluster % clustersX) * clusterSize;
+        int y = (cell / width) - (cluster / clustersX) * clusterSize;
+
+        return y * clusterSize + x;
+    }
+
+    /**
+     * Find the cost of moving from a cell to every other cell in the same
+     * cluster, without leaving the cluster. The costs are stored in
+     * {@link #localCost}.
+     */
+    private void searchCluster(int cluster, int source) {
+        int minX = (cluster % clustersX) * clusterSize;
+        int minY = (cluster / clustersX) * clusterSize;
+        int maxX = Math.min(width, minX + clusterSize);
+        int maxY = Math.min(height, minY + clusterSize);
+
+        Arrays.fill(localCost, INFINITY);
+        localOpen.clear();
+
+        int sourceIndex = localIndex(cluster, source);
+        localCost[sourceIndex] = 0;
+        localOpen.insertOrUpdate(sourceIndex, 0);
+
+        while (!localOpen.isEmpty()) {
+            int current = localOpen.poll();
+            int currentX = minX + current % clusterSize;
+            int currentY = minY + current / clusterSize;
+            double currentCost = localCost[current];
+
+            expanded++;
+
+            for (int i = 0; i < 8; i++) {
+                int x = currentX + OccupancyGrid.NEIGHBOUR_X[i];
+                int y = currentY + OccupancyGrid.NEIGHBOUR_Y[i];
+
+                if (x < minX || y < minY || x >= maxX || y >= maxY) continue;
+
+                if (!grid.isValid(x, y)) continue;
+
+                int index = (y - minY) * clusterSize + (x - minX);
+                double score = currentCost + OccupancyGrid.NEIGHBOUR_COST[i];
+
+                if (score < localCost[index]) {
+                    localCost[index] = score;
+                    localOpen.insertOrUpdate(index, score);
+                }
+            }
+        }
+    }
+
+    private BitSet clusterMask(BitSet clusters) {
+        BitSet mask = new BitSet(grid.size());
+
+        for (int c = clusters.nextSetBit(0); c >= 0; c = clusters.nextSetBit(c + 1)) {
+            int minX = (c % clustersX) * clusterSize;
+            int minY = (c / clustersX) * clusterSize;
+            int maxX = Math.min(width, minX + clusterSize);
+            int maxY = Math.min(height, minY + clusterSize);
+
+            for (int y = minY; y < maxY; y++) {
+                mask.set(y * width + minX, y * width + maxX);
+            }
+        }
+
+        return mask;
+    }
+
+    private double heuristic(int a, int b) {
+        return Math.hypot((b % width) - (a % width), (b / width) - (a / width));
+    }
+
+    /**
+     * Find a path between two cells.
+     *
+     * @param start the start cell.
+     * @param end   the end cell.
+     * @return a list of coordinates, starting with {@code start} and ending
+     * with {@code end}. If there's no path between the two cells, this will
+     * be an empty list.
+     */
+    @Override
+    public List<Coord> search(Coord start, Coord end) {
+        expanded = 0;
+
+        int startCell = grid.index(start.x(), start.y());
+        int endCell = grid.index(end.x(), end.y());
+
+        if (!grid.isValid(endCell)) return new ArrayList<>(0);
+
+        // the abstract graph assumes every node is valid - leave invalid
+        // start cells to a plain search
+        if (!grid.isValid(startCell)) return refine(start, end, null);
+
+        int startCluster = clusterOf(startCell);
+        int endCluster = clusterOf(endCell);
+
+        BitSet corridor = new BitSet(clustersX * clustersY);
+
+        if (startCluster == endCluster) {
+            corridor.set(startCluster);
+
+            List<Coord> path = refine(start, end, clusterMask(corridor));
+
+            if (!path.isEmpty()) return path;
+        }
+
+        if (!findCorridor(startCell, endCell, corridor)) {
+            return new ArrayList<>(0);
+        }
+
+        List<Coord> path = refine(start, end, clusterMask(corridor));
+
+        return path.isEmpty() ? refine(start, end, null) : path;
+    }
+
+    private List<Coord> refine(Coord start, Coord end, BitSet mask) {
+        List<Coord> path = refiner.search(start, end, mask);
+
+        expanded += refiner.getExpandedCount();
+
+        return path;
+    }
+
+    /**
+     * Search the abstract graph, and mark every cluster the abstract path
+     * passes through in {@code corridor}.
+     *
+     * @return false if there's no path.
+     */
+    private boolean findCorridor(int startCell, int endCell, BitSet corridor) {
+        int startNode = nodeCount;
+        int endNode = nodeCount + 1;
+        int startCluster = clusterOf(startCell);
+        int endCluster = clusterOf(endCell);
+        int[] startNodes = clusterNodes[startCluster];
+        int[] endNodes = clusterNodes[endCluster];
+        double[] fromStart = new double[startNodes.length];
+
+        searchCluster(startCluster, startCell);
+
+        for (int i = 0; i < startNodes.length; i++) {
+            fromStart[i] = localCost[localIndex(startCluster, nodeCell[startNodes[i]])];
+        }
+
+        searchCluster(endCluster, endCell);
+
+        for (int node : endNodes) {
+            toGoal[node] = localCost[localIndex(endCluster, nodeCell[node])];
+        }
+
+        Arrays.fill(abstractState, NEW);
+        abstractOpen.clear();
+
+        abstractCost[startNode] = 0;
+        abstractParent[startNode] = -1;
+        abstractState[startNode] = OPEN;
+        abstractOpen.insertOrUpdate(startNode, 0);
+
+        boolean found = false;
+
+        while (!abstractOpen.isEmpty()) {
+            int current = abstractOpen.poll();
+
+            if (current == endNode) {
+                found = true;
+                break;
+            }
+
+            abstractState[current] = CLOSED;
+            expanded++;
+
+            double currentCost = abstractCost[current];
+
+            if (current == startNode) {
+                for (int i = 0; i < startNodes.length; i++) {
+                    relax(startNode, startNodes[i], currentCost + fromStart[i], endCell);
+                }
+
+                continue;
+            }
+
+            for (int e = edgeStart[current]; e < edgeStart[current + 1]; e++) {
+                relax(current, edgeTarget[e], currentCost + edgeCost[e], endCell);
+            }
+
+            if (toGoal[current] != INFINITY) {
+                relax(current, endNode, currentCost + toGoal[current], endCell);
+            }
+        }
+
+        for (int node : endNodes) toGoal[node] = INFINITY;
+
+        if (!found) return false;
+
+        corridor.set(startCluster);
+        corridor.set(endCluster);
+
+        for (int node = abstractParent[endNode]; node != startNode; node = abstractParent[node]) {
+            corridor.set(clusterOf(nodeCell[node]));
+        }
+
+        return true;
+    }
+
+    private void relax(int from, int to, double score, int endCell) {
+        if (score == INFINITY || abstractState[to] == CLOSED) return;
+
+        if (abstractState[to] == OPEN && score >= abstractCost[to]) return;
+
+        int cell = to == nodeCount + 1 ? endCell : nodeCell[to];
+
+        abstractCost[to] = score;
+        abstractParent[to] = from;
+        abstractState[to] = OPEN;
+        abstractOpen.insertOrUpdate(to, score + heuristic(cell, endCell));
+    }
+
+    /**
+     * Get the number of nodes in the abstract graph.
+     *
+     * @return how many entrance cells there are.
+     */
+    public int getAbstractNodeCount() {
+        return nodeCount;
+    }
+
+    public int getClusterSize() {
+        return clusterSize;
+    }
+
+    /**
+     * Get the number of nodes that were expanded during the last search,
+     * including nodes in the abstract graph and nodes expanded while
+     * refining the path.
+     *
+     * @return how many nodes the last search expanded.
+     */
+    @Override
+    public int getExpandedCount() {
+        return expanded;
+    }
+
+    @Override
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Edges of the abstract graph, collected in flat arrays and then
+     * sorted into compressed rows.
+     */
+    private class EdgeList {
+        private int[] from = new int[256];
+        private int[] to = new int[256];
+        private double[] cost = new double[256];
+        private int size = 0;
+
+        void add(int a, int b, double c) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+                cost = Arrays.copyOf(cost, size * 2);
+            }
+
+            from[size] = a;
+            to[size] = b;
+            cost[size] = c;
+            size++;
+        }
+
+        void compile() {
+            edgeStart = new int[nodeCount + 1];
+
+            for (int i = 0; i < size; i++) edgeStart[from[i] + 1]++;
+
+            for (int i = 0; i < nodeCount; i++) edgeStart[i + 1] += edgeStart[i];
+
+            edgeTarget = new int[size];
+            edgeCost = new double[size];
+
+            int[] next = Arrays.copyOf(edgeStart, nodeCount);
+
+            for (int i = 0; i < size; i++) {
+                int slot = next[from[i]]++;
+                edgeTarget[slot] = to[i];
+                edgeCost[slot] = cost[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.Arrays;
+
+/**
+ * An indexed binary min-heap of integer cell indices, ordered by a
+ * {@code double} key. Because every cell has a fixed slot in the
+ * {@code positions} array, checking whether a cell is in the heap is O(1)
+ * and lowering a cell's key (decrease-key) is O(log n).
+ *
+ * <p>
+ * Ties are broken by insertion order: if two cells have the same key, the
+ * one that was inserted first is polled first. Updating a cell's key does
+ * not change its insertion order. This matches the behavior of the
+ * original linear "lowest F" scan, which always picked the first node in
+ * the open list with the lowest F value.
+ * </p>
+ *
+ * <p>
+ * Cells can optionally have a secondary key, which is compared when the
+ * primary keys are equal (before insertion order). This is used by
+ * {@link DStarLiteSearch}, whose keys are pairs of values.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class IndexedHeap {
+    private final int[] positions;
+    private final long[] order;
+    private final double[] keys;
+    private final double[] secondaryKeys;
+    private int[] heap;
+    private int size = 0;
+    private long counter = 0;
+
+    /**
+     * Create a new {@code IndexedHeap}.
+     *
+     * @param capacity the number of cells the heap can index. Valid cell
+     *                 indices are {@code [0, capacity)}.
+     */
+    public IndexedHeap(int capacity) {
+        this.positions = new int[capacity];
+        this.order = new long[capacity];
+        this.keys = new double[capacity];
+        this.secondaryKeys = new double[capacity];
+        this.heap = new int[Math.max(16, Math.min(capacity, 1024))];
+
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Get the number of cells this heap can index.
+     *
+     * @return the heap's capacity.
+     */
+    public int capacity() {
+        return positions.length;
+    }
+
+    /**
+     * Is the heap empty?
+     *
+     * @return true if the heap is empty, otherwise, false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of cells currently in the heap.
+     *
+     * @return the heap's size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Is the given cell in the heap?
+     *
+     * @param cell the cell to check.
+     * @return true if the cell is in the heap, otherwise, false.
+     */
+    public boolean contains(int cell) {
+        return positions[cell] != -1;
+    }
+
+    /**
+     * Get the key of a cell that's in the heap.
+     *
+     * @param cell the cell.
+     * @return the cell's current key.
+     */
+    public double getKey(int cell) {
+        return keys[cell];
+    }
+
+    /**
+     * Get the secondary key of a cell that's in the heap.
+     *
+     * @param cell the cell.
+     * @return the cell's current secondary key.
+     */
+    public double getSecondaryKey(int cell) {
+        return secondaryKeys[cell];
+    }
+
+    /**
+     * Insert a cell into the heap, or, if the cell is already in the heap,
+     * update its key. The cell keeps its original insertion order if it
+     * was already in the heap.
+     *
+     * @param cell the cell to insert.
+     * @param key  the cell's key.
+     */
+    public void insertOrUpdate(int cell, double key) {
+        insertOrUpdate(cell, key, 0);
+    }
+
+    /**
+     * Insert a cell into the heap, or, if the cell is already in the heap,
+     * update its keys. The cell keeps its original insertion order if it
+     * was already in the heap.
+     *
+     * @param cell      the cell to insert.
+     * @param key       the cell's key.
+     * @param secondary the cell's secondary key.
+     */
+    public void insertOrUpdate(int cell, double key, double secondary) {
+        if (contains(cell)) {
+            update(cell, key, secondary);
+            return;
+        }
+
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.min(heap.length * 2, positions.length));
+        }
+
+        keys[cell] = key;
+        secondaryKeys[cell] = secondary;
+        order[cell] = counter++;
+        heap[size] = cell;
+        positions[cell] = size;
+        size++;
+
+        siftUp(size - 1);
+    }
+
+    /**
+     * Change the key of a cell that's already in the heap.
+     *
+     * @param cell the cell to update.
+     * @param key  the cell's new key.
+     */
+    public void update(int cell, double key) {
+        update(cell, key, 0);
+    }
+
+    /**
+     * Change the keys of a cell that's already in the heap.
+     *
+     * @param cell      the cell to update.
+     * @param key       the cell's new key.
+     * @param secondary the cell's new secondary key.
+     */
+    public void update(int cell, double key, double secondary) {
+        double old = keys[cell];
+        double oldSecondary = secondaryKeys[cell];
+        keys[cell] = key;
+        secondaryKeys[cell] = secondary;
+
+        if (key < old || (key == old && secondary < oldSecondary)) {
+            siftUp(positions[cell]);
+        } else if (key > old || secondary > oldSecondary) {
+            siftDown(positions[cell]);
+        }
+    }
+
+    /**
+     * Get the cell with the lowest key without removing it.
+     *
+     * @return the cell with the lowest key.
+     */
+    public int peek() {
+        if (size == 0) throw new IllegalStateException(
+            "Can't peek an empty heap!"
+        );
+
+        return heap[0];
+    }
+
+    /**
+     * Remove and return the cell with the lowest key.
+     *
+     * @return the cell with the lowest key.
+     */
+    public int poll() {
+        int top = peek();
+
+        size--;
+        positions[top] = -1;
+
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return top;
+    }
+
+    /**
+     * Remove a cell from the heap. If the cell isn't in the heap, this
+     * doesn't do anything.
+     *
+     * @param cell the cell to remove.
+     */
+    public void remove(int cell) {
+        int index = positions[cell];
+
+        if (index == -1) return;
+
+        size--;
+        positions[cell] = -1;
+
+        if (index != size) {
+            heap[index] = heap[size];
+            positions[heap[index]] = index;
+            siftUp(index);
+            siftDown(positions[heap[index]]);
+        }
+    }
+
+    /**
+     * Remove every cell from the heap.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) positions[heap[i]] = -1;
+
+        size = 0;
+        counter = 0;
+    }
+
+    private boolean less(int a, int b) {
+        double keyA = keys[a];
+        double keyB = keys[b];
+
+        if (keyA != keyB) return keyA < keyB;
+
+        double secondaryA = secondaryKeys[a];
+        double secondaryB = secondaryKeys[b];
+
+        if (secondaryA != secondaryB) return secondaryA < secondaryB;
+
+        return order[a] < order[b];
+    }
+
+    private void siftUp(int index) {
+        int cell = heap[index];
+
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap[parentIndex];
+
+            if (!less(cell, parent)) break;
+
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+
+        heap[index] = cell;
+        positions[cell] = index;
+    }
+
+    private void siftDown(int index) {
+        int cell = heap[index];
+        int half = size >>> 1;
+
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            int child = heap[childIndex];
+            int rightIndex = childIndex + 1;
+
+            if (rightIndex < size && less(heap[rightIndex], child)) {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+
+            if (!less(child, cell)) break;
+
+            heap[index] = child;
+            positions[child] = index;
+            index = childIndex;
+        }
+
+        heap[index] = cell;
+        positions[cell] = index;
+    }
+}
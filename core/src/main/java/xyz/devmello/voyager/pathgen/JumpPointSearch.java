@@ -0,0 +1,324 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A Jump Point Search over an {@link OccupancyGrid}.
+ *
+ * <p>
+ * Jump Point Search is A* with a trick that only works on uniform-cost
+ * grids: rather than adding every neighbour of a node to the open set, it
+ * "jumps" in a straight line until it finds a cell that has a neighbour
+ * which can't be reached optimally any other way (a forced neighbour).
+ * Only those jump points are added to the open set, so on large, open
+ * grids it expands orders of magnitude fewer nodes than plain A*.
+ * </p>
+ *
+ * <p>
+ * Like {@link AStarSearch}, diagonal moves are allowed even when both of
+ * the adjacent orthogonal cells are blocked, and the pruning rules are
+ * chosen to match. Paths found by this search have the same cost as paths
+ * found by {@link AStarSearch}, although the path itself may differ when
+ * there's more than one optimal path. The returned path contains every
+ * cell, not just the jump points.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class JumpPointSearch implements GridSearch {
+    private static final byte NEW = 0;
+    private static final byte OPEN = 1;
+    private static final byte CLOSED = 2;
+
+    private static final double DIAGONAL_COST = Math.hypot(1, 1);
+
+    private final OccupancyGrid grid;
+    private final int width;
+    private final byte[] state;
+    private final double[] cost;
+    private final int[] parent;
+    private final IndexedHeap open;
+    private final int[] neighbours = new int[16];
+    private int endIndex;
+    private int expanded = 0;
+
+    /**
+     * Create a new {@code JumpPointSearch}.
+     *
+     * @param grid the grid to search.
+     */
+    public JumpPointSearch(OccupancyGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+
+        int size = grid.size();
+
+        this.state = new byte[size];
+        this.cost = new double[size];
+        this.parent = new int[size];
+        this.open = new IndexedHeap(size);
+    }
+
+    private boolean isWalkable(int x, int y) {
+        return grid.isValid(x, y);
+    }
+
+    /**
+     * The cost of moving in a straight (horizontal, vertical or diagonal)
+     * line between two cells, using the same per-step costs as
+     * {@link AStarSearch}.
+     */
+    private static double octile(int dx, int dy) {
+        dx = Math.abs(dx);
+        dy = Math.abs(dy);
+
+        int diagonal = Math.min(dx, dy);
+        int straight = Math.max(dx, dy) - diagonal;
+
+        return (diagonal * DIAGONAL_COST) + straight;
+    }
+
+    @Override
+    public List<Coord> search(Coord start, Coord end) {
+        Arrays.fill(state, NEW);
+        open.clear();
+        expanded = 0;
+
+        int endX = end.x();
+        int endY = end.y();
+        int startIndex = grid.index(start.x(), start.y());
+        endIndex = grid.index(endX, endY);
+
+        cost[startIndex] = 0;
+        parent[startIndex] = -1;
+        state[startIndex] = OPEN;
+        open.insertOrUpdate(startIndex, 0);
+
+        while (!open.isEmpty()) {
+            int currentIndex = open.poll();
+
+            if (currentIndex == endIndex) return retrace(endIndex);
+
+            state[currentIndex] = CLOSED;
+            expanded++;
+
+            int currentX = currentIndex % width;
+            int currentY = currentIndex / width;
+            double currentCost = cost[currentIndex];
+
+            int count = findNeighbours(currentIndex, currentX, currentY);
+
+            for (int i = 0; i < count; i += 2) {
+                int dx = neighbours[i];
+                int dy = neighbours[i + 1];
+
+                int index = jump(currentX + dx, currentY + dy, dx, dy);
+
+                if (index == -1 || state[index] == CLOSED) continue;
+
+                int x = index % width;
+                int y = index / width;
+                double score = currentCost + octile(x - currentX, y - currentY);
+
+                if (state[index] == OPEN) {
+                    if (score < cost[index]) {
+                        cost[index] = score;
+                        parent[index] = currentIndex;
+                        open.update(index, score + Math.hypot(endX - x, endY - y));
+                    }
+                } else {
+                    cost[index] = score;
+                    parent[index] = currentIndex;
+                    state[index] = OPEN;
+                    open.insertOrUpdate(index, score + Math.hypot(endX - x, endY - y));
+                }
+            }
+        }
+
+        return new ArrayList<>(0);
+    }
+
+    /**
+     * Find the directions worth jumping in from a node, after pruning. The
+     * directions are written to {@link #neighbours} as (dx, dy) pairs.
+     *
+     * @return how many values were written.
+     */
+    private int findNeighbours(int index, int x, int y) {
+        int count = 0;
+        int parentIndex = parent[index];
+
+        if (parentIndex == -1) {
+            for (int i = 0; i < 8; i++) {
+                int dx = OccupancyGrid.NEIGHBOUR_X[i];
+                int dy = OccupancyGrid.NEIGHBOUR_Y[i];
+
+                if (isWalkable(x + dx, y + dy)) {
+                    neighbours[count++] = dx;
+                    neighbours[count++] = dy;
+                }
+            }
+
+            return count;
+        }
+
+        int dx = Integer.signum(x - parentIndex % width);
+        int dy = Integer.signum(y - parentIndex / width);
+
+        if (dx != 0 && dy != 0) {
+            if (isWalkable(x, y + dy)) {
+                neighbours[count++] = 0;
+                neighbours[count++] = dy;
+            }
+            if (isWalkable(x + dx, y)) {
+                neighbours[count++] = dx;
+                neighbours[count++] = 0;
+            }
+            if (isWalkable(x + dx, y + dy)) {
+                neighbours[count++] = dx;
+                neighbours[count++] = dy;
+            }
+            if (!isWalkable(x - dx, y)) {
+                neighbours[count++] = -dx;
+                neighbours[count++] = dy;
+            }
+            if (!isWalkable(x, y - dy)) {
+                neighbours[count++] = dx;
+                neighbours[count++] = -dy;
+            }
+        } else if (dx == 0) {
+            if (isWalkable(x, y + dy)) {
+                neighbours[count++] = 0;
+                neighbours[count++] = dy;
+            }
+            if (!isWalkable(x + 1, y)) {
+                neighbours[count++] = 1;
+                neighbours[count++] = dy;
+            }
+            if (!isWalkable(x - 1, y)) {
+                neighbours[count++] = -1;
+                neighbours[count++] = dy;
+            }
+        } else {
+            if (isWalkable(x + dx, y)) {
+                neighbours[count++] = dx;
+                neighbours[count++] = 0;
+            }
+            if (!isWalkable(x, y + 1)) {
+                neighbours[count++] = dx;
+                neighbours[count++] = 1;
+            }
+            if (!isWalkable(x, y - 1)) {
+                neighbours[count++] = dx;
+                neighbours[count++] = -1;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Move from (x, y) in the direction (dx, dy) until a jump point is
+     * found, or until the path is blocked.
+     *
+     * @return the index of the jump point, or -1 if there isn't one.
+     */
+    private int jump(int x, int y, int dx, int dy) {
+        if (dx == 0 || dy == 0) return jumpStraight(x, y, dx, dy);
+
+        while (isWalkable(x, y)) {
+            int index = grid.index(x, y);
+
+            if (index == endIndex) return index;
+
+            boolean forced =
+                (isWalkable(x - dx, y + dy) && !isWalkable(x - dx, y)) ||
+                (isWalkable(x + dx, y - dy) && !isWalkable(x, y - dy));
+
+            if (forced) return index;
+
+            if (
+                jumpStraight(x + dx, y, dx, 0) != -1 ||
+                jumpStraight(x, y + dy, 0, dy) != -1
+            ) return index;
+
+            x += dx;
+            y += dy;
+        }
+
+        return -1;
+    }
+
+    private int jumpStraight(int x, int y, int dx, int dy) {
+        while (isWalkable(x, y)) {
+            int index = grid.index(x, y);
+
+            if (index == endIndex) return index;
+
+            boolean forced;
+
+            if (dx != 0) {
+                forced =
+                    (isWalkable(x + dx, y + 1) && !isWalkable(x, y + 1)) ||
+                    (isWalkable(x + dx, y - 1) && !isWalkable(x, y - 1));
+            } else {
+                forced =
+                    (isWalkable(x + 1, y + dy) && !isWalkable(x + 1, y)) ||
+                    (isWalkable(x - 1, y + dy) && !isWalkable(x - 1, y));
+            }
+
+            if (forced) return index;
+
+            x += dx;
+            y += dy;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Walk back through the jump points, adding every cell in between
+     * each pair of jump points.
+     */
+    private List<Coord> retrace(int endIndex) {
+        List<Coord> path = new ArrayList<>();
+
+        int index = endIndex;
+        int x = index % width;
+        int y = index / width;
+        path.add(new Coord(x, y));
+
+        while (parent[index] != -1) {
+            int parentIndex = parent[index];
+            int parentX = parentIndex % width;
+            int parentY = parentIndex / width;
+            int dx = Integer.signum(parentX - x);
+            int dy = Integer.signum(parentY - y);
+
+            while (x != parentX || y != parentY) {
+                x += dx;
+                y += dy;
+                path.add(new Coord(x, y));
+            }
+
+            index = parentIndex;
+        }
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    @Override
+    public int getExpandedCount() {
+        return expanded;
+    }
+
+    @Override
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+}
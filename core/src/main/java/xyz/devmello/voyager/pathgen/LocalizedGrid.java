@@ -18,11 +18,18 @@ import xyz.devmello.voyager.math.geometry.Rectangle;
 /**
  * Wrapper class for localizing a {@link Grid}.
  *
+ * <p>
+ * Internally, cell validity is stored in an {@link OccupancyGrid}. A
+ * {@link Grid} (with one {@link Node} per cell) is only created if
+ * {@link #getGrid()} or {@link #getNode(PointXY)} is called.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.1.0
  */
 public class LocalizedGrid {
-    private final Grid grid;
+    private final OccupancyGrid occupancy;
+    private Grid grid;
     private final double minX;
     private final double minY;
     private final double maxX;
@@ -33,6 +40,15 @@ public class LocalizedGrid {
     /**
      * Create a new {@code LocalizedGrid}.
      *
+     * <p>
+     * The validity of the grid's nodes is copied into an
+     * {@link OccupancyGrid} once, when the localized grid is created, and
+     * paths are searched on that copy. Changing a node's validity
+     * directly afterwards (with {@link Node#setValid(boolean)}) won't
+     * affect the copy - use {@link #setValid(int, int, boolean)}, which
+     * updates both.
+     * </p>
+     *
      * @param grid the grid to localize.
      * @param minX the "real" minimum x.
      * @param minY the "real" minimum y.
@@ -46,7 +62,28 @@ public class LocalizedGrid {
         double maxX,
         double maxY
     ) {
+        this(OccupancyGrid.fromGrid(grid), minX, minY, maxX, maxY);
+
         this.grid = grid;
+    }
+
+    /**
+     * Create a new {@code LocalizedGrid}.
+     *
+     * @param occupancy the grid to localize.
+     * @param minX      the "real" minimum x.
+     * @param minY      the "real" minimum y.
+     * @param maxX      the "real" maximum x.
+     * @param maxY      the "real" maximum y.
+     */
+    public LocalizedGrid(
+        OccupancyGrid occupancy,
+        double minX,
+        double minY,
+        double maxX,
+        double maxY
+    ) {
+        this.occupancy = occupancy;
 
         this.minX = minX;
         this.minY = minY;
@@ -56,8 +93,8 @@ public class LocalizedGrid {
         double sizeX = maxX - minX;
         double sizeY = maxY - minY;
 
-        int xCount = grid.getWidth();
-        int yCount = grid.getHeight();
+        int xCount = occupancy.getWidth();
+        int yCount = occupancy.getHeight();
 
         this.xRatio = sizeX / xCount;
         this.yRatio = sizeY / yCount;
@@ -82,33 +119,63 @@ public class LocalizedGrid {
         double maxX,
         double maxY
     ) {
-        double sizeX = maxX - minX;
-        double sizeY = maxY - minY;
-
-        Grid grid = Grid.generateGrid(
-            (int) Math.ceil(sizeX / xScaling),
-            (int) Math.ceil(sizeY / yScaling)
+        OccupancyGrid grid = new OccupancyGrid(
+            cellCount(minX, maxX, xScaling),
+            cellCount(minY, maxY, yScaling)
         );
 
         return new LocalizedGrid(grid, minX, minY, maxX, maxY);
     }
 
     /**
-     * Convert a point to a coordinate.
-     *
-     * @param point the point to convert.
-     * @return the converted coordinate.
+     * Get the number of cells {@link #generateLocalizedGrid} creates along
+     * one axis.
      */
-    public Coord toCoord(PointXY point) {
+    static int cellCount(double min, double max, double scaling) {
+        return (int) Math.ceil((max - min) / scaling);
+    }
+
+    /**
+     * Convert a point to a coordinate, exactly as {@link #toCoord(PointXY)}
+     * would for a grid with the given boundaries and size, without
+     * creating the grid.
+     */
+    static Coord toCoord(
+        PointXY point,
+        double minX,
+        double minY,
+        double xRatio,
+        double yRatio,
+        int width,
+        int height
+    ) {
         int x = (int) Math.round((point.x() - minX) / xRatio);
         int y = (int) Math.round((point.y() - minY) / yRatio);
 
-        if (x >= grid.getWidth() - 1) x--;
-        if (y >= grid.getWidth() - 1) y--;
+        if (x >= width - 1) x--;
+        if (y >= height - 1) y--;
 
         return new Coord(x, y);
     }
 
+    /**
+     * Convert a point to a coordinate.
+     *
+     * @param point the point to convert.
+     * @return the converted coordinate.
+     */
+    public Coord toCoord(PointXY point) {
+        return toCoord(
+            point,
+            minX,
+            minY,
+            xRatio,
+            yRatio,
+            occupancy.getWidth(),
+            occupancy.getHeight()
+        );
+    }
+
     /**
      * Convert a coordinate to a point.
      *
@@ -116,14 +183,59 @@ public class LocalizedGrid {
      * @return the converted point.
      */
     public PointXY toPoint(Coord coord) {
-        double x = (coord.x() * xRatio) + minX;
-        double y = (coord.y() * yRatio) + minY;
+        return new PointXY(toX(coord.x()), toY(coord.y()));
+    }
 
-        return new PointXY(x, y);
+    /**
+     * Convert a cell's X coordinate to a "real" X value.
+     *
+     * @param x the cell's X coordinate.
+     * @return the "real" X value.
+     */
+    public double toX(int x) {
+        return (x * xRatio) + minX;
+    }
+
+    /**
+     * Convert a cell's Y coordinate to a "real" Y value.
+     *
+     * @param y the cell's Y coordinate.
+     * @return the "real" Y value.
+     */
+    public double toY(int y) {
+        return (y * yRatio) + minY;
     }
 
     public Node getNode(PointXY point) {
-        return grid.findNode(toCoord(point));
+        return getGrid().findNode(toCoord(point));
+    }
+
+    /**
+     * Set the validity of a cell. If a {@link Grid} has already been
+     * created by {@link #getGrid()}, the matching node is updated as well.
+     *
+     * @param x     the cell's X coordinate.
+     * @param y     the cell's Y coordinate.
+     * @param valid whether the cell should be valid.
+     */
+    public void setValid(int x, int y, boolean valid) {
+        occupancy.setValid(x, y, valid);
+
+        if (grid != null) grid.findNode(x, y).setValid(valid);
+    }
+
+    /**
+     * If a {@link Grid} has already been created by {@link #getGrid()},
+     * update its nodes to match the validity of the {@link OccupancyGrid}.
+     * This is needed after cells are blocked directly on the occupancy
+     * grid, without going through {@link #setValid(int, int, boolean)}.
+     */
+    void syncGrid() {
+        if (grid == null) return;
+
+        for (Node node : grid.getNodes()) {
+            node.setValid(occupancy.isValid(node.getX(), node.getY()));
+        }
     }
 
     public List<PointXY> toPoints(List<Coord> coords) {
@@ -152,7 +264,34 @@ public class LocalizedGrid {
         return maxY;
     }
 
+    public double getXRatio() {
+        return xRatio;
+    }
+
+    public double getYRatio() {
+        return yRatio;
+    }
+
+    /**
+     * Get the {@link OccupancyGrid} that stores this grid's cell validity.
+     *
+     * @return the occupancy grid.
+     */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Get a {@link Grid} representation of this grid. The first time this
+     * is called, a {@link Node} is created for every cell, which is very
+     * slow for large grids - prefer {@link #getOccupancy()} wherever
+     * possible.
+     *
+     * @return a {@link Grid} with the same validity as this grid.
+     */
     public Grid getGrid() {
+        if (grid == null) grid = occupancy.toGrid();
+
         return grid;
     }
 
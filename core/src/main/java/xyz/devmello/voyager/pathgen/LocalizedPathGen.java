@@ -11,6 +11,7 @@
 package xyz.devmello.voyager.pathgen;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import xyz.devmello.voyager.math.geometry.PointXY;
 import xyz.devmello.voyager.pathgen.zones.Zone;
@@ -22,11 +23,11 @@ import xyz.devmello.voyager.pathgen.zones.Zone;
  * you should use - it's designed to be as simple as possible.
  *
  * <p>
- * Please note that my experience with algorithms is... just about none, and
- * this is an absolutely horribly inefficient implementation of the A*
- * pathfinding algorithm. You should not expect performant pathfinding, and
- * you should not try to stress-test the path generator - it will break,
- * I promise you that.
+ * By default, paths are found with A* and then simplified with
+ * {@link PathOptimizer}. Other algorithms can be selected with
+ * {@link #setSearchStrategy(SearchStrategy)} - {@link SearchStrategy#THETA_STAR}
+ * in particular finds shorter, any-angle paths that don't need to be
+ * simplified at all.
  * </p>
  *
  * @author Colin Robertson
@@ -41,6 +42,18 @@ public class LocalizedPathGen {
     private final double gridMinY;
     private final double gridMaxX;
     private final double gridMaxY;
+    private boolean cacheGrid = false;
+    private LocalizedGrid cachedGrid;
+    private SearchStrategy strategy = SearchStrategy.A_STAR;
+    private GridSearch cachedSearch;
+    private List<Zone> cachedZones;
+    private PathCache pathCache;
+    private long zoneVersion = 0;
+    private List<Zone> versionedZones;
+    private double clearance = 0;
+    private ClearanceMap clearanceMap;
+    private LocalizedGrid clearanceGrid;
+    private long clearanceVersion;
 
     /**
      * Create a new LocalizedPathGen with no zones and auto-calculated grid boundaries during pathfinding.
@@ -127,7 +140,38 @@ public class LocalizedPathGen {
                 generator.gridMinX,
                 generator.gridMinY,
                 generator.gridMaxX,
-                generator.gridMaxY);
+                generator.gridMaxY)
+                .setSearchStrategy(generator.strategy)
+                .setGridCaching(generator.cacheGrid)
+                .setPathCaching(generator.pathCache == null ? 0 : generator.pathCache.getCapacity());
+    }
+
+    /**
+     * Create a LocalizedPathGen that keeps paths a given distance away from
+     * the generator's zones, using a {@link ClearanceMap} instead of
+     * inflating each zone.
+     *
+     * @param generator the generator to use
+     * @param clearance the minimum distance between the robot's center and
+     *                  any zone
+     * @return a new LocalizedPathGen
+     * @see #setClearance(double)
+     */
+    public static LocalizedPathGen withClearance(
+            LocalizedPathGen generator,
+            double clearance) {
+        return new LocalizedPathGen(
+                generator.zones,
+                generator.xScaling,
+                generator.yScaling,
+                generator.gridMinX,
+                generator.gridMinY,
+                generator.gridMaxX,
+                generator.gridMaxY)
+                .setSearchStrategy(generator.strategy)
+                .setGridCaching(generator.cacheGrid)
+                .setPathCaching(generator.pathCache == null ? 0 : generator.pathCache.getCapacity())
+                .setClearance(clearance);
     }
 
     /**
@@ -264,14 +308,102 @@ public class LocalizedPathGen {
      *
      * @param start the start point.
      * @param end   the end point.
-     * @param epsilon the epsilon value to use for optimization.
+     * @param epsilon the epsilon value to use for optimization. This is
+     *                ignored by any-angle search strategies, which don't
+     *                need to be optimized.
      * @return a path between the two points. If there is no valid path,
      * this will return null. If there aren't any obstacles, this will return
      * a list containing the start and end points. Otherwise, this will
      * contain several points that allow you to go from point A to point B.
      */
     public List<PointXY> getPath(PointXY start, PointXY end, double epsilon) {
-        // Determine grid boundaries - use custom boundaries if defined, otherwise calculate from points
+        if (pathCache == null) return generatePath(start, end, epsilon);
+
+        pathCache.setVersion(getZoneVersion());
+
+        PathCache.Key key = cacheKey(start, end, epsilon);
+        List<PointXY> cached = pathCache.get(start, end, key, this::isClear);
+
+        if (cached != null) return cached.isEmpty() ? null : cached;
+
+        List<PointXY> path = generatePath(start, end, epsilon);
+
+        pathCache.put(key, path);
+
+        return path;
+    }
+
+    /**
+     * Create a path cache key from the grid that would be searched for a
+     * request, and the cells of that grid the start and end points map to.
+     * Requests with the same key search exactly the same cells. If the
+     * grid's boundaries are auto-calculated, they depend on the exact start
+     * and end points, so only the same request has the same key.
+     */
+    private PathCache.Key cacheKey(PointXY start, PointXY end, double epsilon) {
+        double[] bounds = gridBounds(start, end);
+        double minX = bounds[0];
+        double minY = bounds[1];
+        double maxX = bounds[2];
+        double maxY = bounds[3];
+
+        // the same ratios a grid generated with these bounds would have
+        int width = LocalizedGrid.cellCount(minX, maxX, xScaling);
+        int height = LocalizedGrid.cellCount(minY, maxY, yScaling);
+        double xRatio = (maxX - minX) / width;
+        double yRatio = (maxY - minY) / height;
+
+        return pathCache.key(
+                minX,
+                minY,
+                maxX,
+                maxY,
+                LocalizedGrid.toCoord(start, minX, minY, xRatio, yRatio, width, height),
+                LocalizedGrid.toCoord(end, minX, minY, xRatio, yRatio, width, height),
+                epsilon
+        );
+    }
+
+    /**
+     * Is a straight line between two points clear of every solid zone (and
+     * at least {@link #getClearance()} away from them)? The line is checked
+     * at points half a cell apart, so this is as precise as the grid.
+     */
+    private boolean isClear(PointXY a, PointXY b) {
+        double step = Math.min(xScaling, yScaling) / 2;
+        int steps = Math.max(1, (int) Math.ceil(a.absDistance(b) / step));
+
+        for (int i = 0; i <= steps; i++) {
+            double t = (double) i / steps;
+            PointXY point = new PointXY(
+                    a.x() + (b.x() - a.x()) * t,
+                    a.y() + (b.y() - a.y()) * t
+            );
+
+            for (Zone zone : zones) {
+                if (!zone.isSolid()) continue;
+
+                if (zone.isPointInShape(point)) return false;
+
+                if (clearance > 0) {
+                    PointXY closest = zone.getShape().getClosestPoint(point);
+
+                    if (closest.absDistance(point) < clearance) return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the boundaries of the grid a path between two points is searched
+     * on: the configured boundaries, grown to fit both points, or just the
+     * points themselves if the boundaries are auto-calculated.
+     *
+     * @return the boundaries, as [minX, minY, maxX, maxY].
+     */
+    private double[] gridBounds(PointXY start, PointXY end) {
         double minX = Double.isInfinite(gridMinX) ?
                 PointXY.minimumX(start, end) :
                 Math.min(gridMinX, PointXY.minimumX(start, end));
@@ -288,6 +420,136 @@ public class LocalizedPathGen {
                 PointXY.maximumY(start, end) :
                 Math.max(gridMaxY, PointXY.maximumY(start, end));
 
+        return new double[]{minX, minY, maxX, maxY};
+    }
+
+    private List<PointXY> generatePath(PointXY start, PointXY end, double epsilon) {
+        // Determine grid boundaries - use custom boundaries if defined, otherwise calculate from points
+        double[] bounds = gridBounds(start, end);
+
+        LocalizedGrid grid = getGrid(bounds[0], bounds[1], bounds[2], bounds[3]);
+
+        PathGen gen = cacheGrid
+                ? new PathGen(cachedSearch, grid.toCoord(start), grid.toCoord(end))
+                : new PathGen(grid.getOccupancy(), grid.toCoord(start), grid.toCoord(end), strategy);
+
+        List<PointXY> points = grid.toPoints(gen.findCoordPath());
+
+        if (points.isEmpty()) return null;
+
+        if (strategy.isAnyAngle()) {
+            // every segment has already been checked against the grid, so
+            // there's nothing to optimize - just snap the ends to the
+            // exact start and end points
+            points.set(0, start);
+            points.set(points.size() - 1, end);
+            return points;
+        }
+
+        if (!points.get(0).equals(start)) points.add(0, start);
+        if (!points.get(points.size() - 1).equals(end)) points.add(end);
+        //return points;
+        return PathOptimizer.optimize(points, epsilon);
+    }
+
+    /**
+     * Get a validated grid with the given boundaries. If grid caching is
+     * enabled and the boundaries and zones haven't changed since the last
+     * call, the previous grid is reused instead of being rebuilt.
+     */
+    private LocalizedGrid getGrid(double minX, double minY, double maxX, double maxY) {
+        if (cacheGrid && cachedGrid != null) {
+            boolean sameBounds = cachedGrid.getMinX() == minX &&
+                    cachedGrid.getMinY() == minY &&
+                    cachedGrid.getMaxX() == maxX &&
+                    cachedGrid.getMaxY() == maxY;
+
+            if (sameBounds && cachedZones.equals(zones)) return cachedGrid;
+
+            if (sameBounds && cachedSearch instanceof DStarLiteSearch) {
+                // repair the existing search instead of starting over -
+                // the cached grid is updated in place
+                DStarLiteSearch search = (DStarLiteSearch) cachedSearch;
+
+                if (clearance == 0) {
+                    repairZones(search);
+                } else {
+                    // an inflated zone's reach depends on the whole
+                    // clearance map, so the grid is rebuilt and diffed
+                    LocalizedGrid grid = validatedGrid(minX, minY, maxX, maxY);
+
+                    search.update(grid.getOccupancy());
+                    cachedGrid.syncGrid();
+                }
+
+                cachedZones = new ArrayList<>(zones);
+
+                return cachedGrid;
+            }
+        }
+
+        LocalizedGrid grid = validatedGrid(minX, minY, maxX, maxY);
+
+        if (cacheGrid) {
+            cachedGrid = grid;
+            cachedSearch = GridSearch.create(grid.getOccupancy(), strategy);
+            cachedZones = new ArrayList<>(zones);
+        }
+
+        return grid;
+    }
+
+    /**
+     * Update the cached grid and D* Lite search for the zones that were
+     * added or removed since the grid was cached. Only those zones are
+     * rasterized: cells under an added zone are blocked, and cells under a
+     * removed zone are unblocked unless another zone still covers them.
+     */
+    private void repairZones(DStarLiteSearch search) {
+        // filtered the same way a freshly validated grid would be
+        List<Zone> current = NodeValidator.filterZones(cachedGrid, zones);
+        List<Zone> previous = NodeValidator.filterZones(cachedGrid, cachedZones);
+        List<Zone> added = new ArrayList<>(current);
+        List<Zone> removed = new ArrayList<>(previous);
+
+        for (Zone zone : previous) added.remove(zone);
+        for (Zone zone : current) removed.remove(zone);
+
+        OccupancyGrid occupancy = cachedGrid.getOccupancy();
+        int width = occupancy.getWidth();
+        int height = occupancy.getHeight();
+        BitSet blocked = ZoneRasterizer.cells(cachedGrid, added, 0, height);
+        BitSet freed = ZoneRasterizer.cells(cachedGrid, removed, 0, height);
+
+        freed.andNot(blocked);
+
+        if (!freed.isEmpty()) {
+            // only the rows the removed zones covered need checking
+            freed.andNot(ZoneRasterizer.cells(
+                    cachedGrid,
+                    current,
+                    freed.nextSetBit(0) / width,
+                    ((freed.length() - 1) / width) + 1
+            ));
+        }
+
+        for (int i = blocked.nextSetBit(0); i >= 0; i = blocked.nextSetBit(i + 1)) {
+            setValid(search, occupancy.x(i), occupancy.y(i), false);
+        }
+
+        for (int i = freed.nextSetBit(0); i >= 0; i = freed.nextSetBit(i + 1)) {
+            setValid(search, occupancy.x(i), occupancy.y(i), true);
+        }
+    }
+
+    private void setValid(DStarLiteSearch search, int x, int y, boolean valid) {
+        // the search has to see the change first, it ignores cells that
+        // are already set to the right value
+        search.setValid(x, y, valid);
+        cachedGrid.setValid(x, y, valid);
+    }
+
+    private LocalizedGrid validatedGrid(double minX, double minY, double maxX, double maxY) {
         LocalizedGrid grid = LocalizedGrid.generateLocalizedGrid(
                 xScaling,
                 yScaling,
@@ -297,22 +559,261 @@ public class LocalizedPathGen {
                 maxY
         );
 
-        NodeValidator.validateNodes(grid, zones);
+        if (clearance == 0) {
+            NodeValidator.validateNodes(grid, zones);
+
+            return grid;
+        }
+
+        return new LocalizedGrid(
+                getClearanceMap(grid).toOccupancy(clearance),
+                minX,
+                minY,
+                maxX,
+                maxY
+        );
+    }
+
+    /**
+     * Get a clearance map for the raw (not inflated) zones. The map only
+     * depends on the zones and the grid, not the clearance radius, so it's
+     * reused until either of those changes.
+     */
+    private ClearanceMap getClearanceMap(LocalizedGrid grid) {
+        long version = getZoneVersion();
+
+        boolean reusable = clearanceMap != null &&
+                clearanceVersion == version &&
+                clearanceGrid.getMinX() == grid.getMinX() &&
+                clearanceGrid.getMinY() == grid.getMinY() &&
+                clearanceGrid.getMaxX() == grid.getMaxX() &&
+                clearanceGrid.getMaxY() == grid.getMaxY() &&
+                clearanceGrid.getOccupancy().getWidth() == grid.getOccupancy().getWidth() &&
+                clearanceGrid.getOccupancy().getHeight() == grid.getOccupancy().getHeight();
+
+        if (!reusable) {
+            NodeValidator.validateNodes(grid, zones);
+
+            clearanceMap = ClearanceMap.compute(grid);
+            clearanceGrid = grid;
+            clearanceVersion = version;
+        }
+
+        return clearanceMap;
+    }
+
+    /**
+     * Enable or disable grid caching. By default, every call to
+     * {@link #getPath(PointXY, PointXY, double)} rebuilds the grid and
+     * re-validates every node against every zone. With caching enabled, the
+     * validated grid is kept and reused for as long as the grid's boundaries
+     * and the list of zones stay the same, so repeated queries only pay for
+     * the search itself.
+     *
+     * <p>
+     * The cache is invalidated whenever a zone is added or removed, either
+     * through {@link #addZone(Zone)} and {@link #removeZone(Zone)} or by
+     * modifying the list of zones directly. With
+     * {@link SearchStrategy#D_STAR_LITE}, the cached grid is updated in
+     * place instead, and the next search only repairs the part of the path
+     * affected by the change. If grid boundaries are
+     * auto-calculated from the start and end points, the cache can only be
+     * reused when the boundaries work out to be the same.
+     * </p>
+     *
+     * @param cacheGrid whether the grid should be cached.
+     * @return this, used for method chaining.
+     */
+    public LocalizedPathGen setGridCaching(boolean cacheGrid) {
+        this.cacheGrid = cacheGrid;
+
+        if (!cacheGrid) clearGridCache();
+
+        return this;
+    }
 
-        PathGen gen = new PathGen(
-                grid.getGrid(),
-                grid.getNode(start),
-                grid.getNode(end)
+    /**
+     * Enable or disable path caching. With path caching enabled, paths are
+     * stored in a {@link PathCache}, keyed by the grid that would be
+     * searched and the cells of it the start and end points map to, the
+     * epsilon value, and the current zone version (see
+     * {@link #getZoneVersion()}). Asking for a path between points that map
+     * to the same cells of the same grid as an earlier request returns the
+     * earlier path, with its first and last points replaced by the new
+     * start and end points, without searching the grid at all - as long as
+     * the new first and last legs don't cross a zone. If grid boundaries
+     * are auto-calculated, the grid depends on the exact start and end
+     * points, so only repeating exactly the same request hits the cache.
+     *
+     * <p>
+     * The cache is cleared automatically whenever the zones change or the
+     * search strategy is changed.
+     * </p>
+     *
+     * @param capacity the maximum number of paths to cache. If this is 0,
+     *                 path caching is disabled.
+     * @return this, used for method chaining.
+     */
+    public LocalizedPathGen setPathCaching(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException(
+                "Cache capacity may not be negative!"
         );
 
-        List<PointXY> points = grid.toPoints(gen.findCoordPath());
+        pathCache = capacity == 0 ? null : new PathCache(capacity);
 
-        if (points.isEmpty()) return null;
+        return this;
+    }
 
-        if (!points.get(0).equals(start)) points.add(0, start);
-        if (!points.get(points.size() - 1).equals(end)) points.add(end);
-        //return points;
-        return PathOptimizer.optimize(points, epsilon);
+    /**
+     * Get the path cache, which can be used to check how many lookups hit
+     * or missed the cache.
+     *
+     * @return the path cache, or null if path caching is disabled.
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * Keep paths at least a given distance away from every zone. By
+     * default, this is 0, and paths may pass right next to zones.
+     *
+     * <p>
+     * Rather than growing each zone by {@code clearance} (as
+     * {@link #withInflatedZones(LocalizedPathGen, double, double)} does),
+     * the raw zones are rasterized once and a {@link ClearanceMap} is
+     * built from the result. Any cell closer than {@code clearance} to a
+     * zone is then blocked. The clearance map is kept for as long as the
+     * zones and grid boundaries stay the same, so changing the clearance
+     * (for example, to plan for a different robot, or with a different
+     * safety margin) doesn't rasterize the zones again.
+     * </p>
+     *
+     * @param clearance the minimum distance between the center of the
+     *                  robot and any zone. This is usually the robot's
+     *                  radius, plus any safety margin.
+     * @return this, used for method chaining.
+     */
+    public LocalizedPathGen setClearance(double clearance) {
+        if (clearance < 0) throw new IllegalArgumentException(
+                "Clearance may not be negative!"
+        );
+
+        if (this.clearance == clearance) return this;
+
+        this.clearance = clearance;
+
+        clearGridCache();
+
+        if (pathCache != null) pathCache.clear();
+
+        return this;
+    }
+
+    /**
+     * Get the minimum distance between paths and zones.
+     *
+     * @return the clearance.
+     */
+    public double getClearance() {
+        return clearance;
+    }
+
+    /**
+     * Get the zone version. This starts at 0 and is incremented every time
+     * the set of zones is found to have changed, either through
+     * {@link #addZone(Zone)} and {@link #removeZone(Zone)} or by modifying
+     * the list of zones directly.
+     *
+     * @return the current zone version.
+     */
+    public long getZoneVersion() {
+        if (versionedZones == null) {
+            versionedZones = new ArrayList<>(zones);
+        } else if (!versionedZones.equals(zones)) {
+            versionedZones = new ArrayList<>(zones);
+            zoneVersion++;
+        }
+
+        return zoneVersion;
+    }
+
+    /**
+     * Set the algorithm used to search the grid. By default, this is
+     * {@link SearchStrategy#A_STAR}.
+     *
+     * @param strategy the search strategy to use.
+     * @return this, used for method chaining.
+     */
+    public LocalizedPathGen setSearchStrategy(SearchStrategy strategy) {
+        if (strategy == null) throw new IllegalArgumentException(
+                "Search strategy may not be null!"
+        );
+
+        this.strategy = strategy;
+
+        if (pathCache != null) pathCache.clear();
+
+        if (cachedGrid != null) {
+            cachedSearch = GridSearch.create(cachedGrid.getOccupancy(), strategy);
+        }
+
+        return this;
+    }
+
+    /**
+     * Get the algorithm used to search the grid.
+     *
+     * @return the search strategy.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Is grid caching enabled?
+     *
+     * @return true if grid caching is enabled, otherwise, false.
+     */
+    public boolean isGridCaching() {
+        return cacheGrid;
+    }
+
+    /**
+     * Discard the cached grid, if there is one. The next path will be
+     * generated using a freshly validated grid.
+     */
+    public void clearGridCache() {
+        cachedGrid = null;
+        cachedSearch = null;
+        cachedZones = null;
+    }
+
+    /**
+     * Add a zone for the path generator to avoid.
+     *
+     * @param zone the zone to add.
+     */
+    public void addZone(Zone zone) {
+        zones.add(zone);
+    }
+
+    /**
+     * Remove a zone from the path generator.
+     *
+     * @param zone the zone to remove.
+     */
+    public void removeZone(Zone zone) {
+        zones.remove(zone);
+    }
+
+    /**
+     * Get the zones the path generator avoids.
+     *
+     * @return the path generator's zones.
+     */
+    public List<Zone> getZones() {
+        return zones;
     }
 
     /**
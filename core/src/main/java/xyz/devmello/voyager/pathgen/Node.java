@@ -11,10 +11,7 @@
 package xyz.devmello.voyager.pathgen;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import xyz.devmello.voyager.math.geometry.PointXY;
 import xyz.devmello.voyager.utils.StringUtils;
@@ -62,32 +59,6 @@ public class Node {
         return nodes;
     }
 
-    private static void tryAddNode(
-        boolean condition,
-        int x,
-        int y,
-        Function<Coord, Node> getNode,
-        List<Node> nodes
-    ) {
-        if (condition) {
-            Node node = getNode.apply(new Coord(x, y));
-            nodes.add(node);
-        }
-    }
-
-    private static void tryAddNodes(
-        Map<Coord, Boolean> map,
-        Function<Coord, Node> getNode,
-        List<Node> nodes
-    ) {
-        for (Map.Entry<Coord, Boolean> entry : map.entrySet()) {
-            Coord coord = entry.getKey();
-            boolean condition = entry.getValue();
-
-            tryAddNode(condition, coord.x(), coord.y(), getNode, nodes);
-        }
-    }
-
     public static List<Node> getValidNodes(List<Node> nodes) {
         return nodes
             .stream()
@@ -102,42 +73,31 @@ public class Node {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Calculate this node's neighbours. Neighbours are listed in the same
+     * order as {@link OccupancyGrid#NEIGHBOUR_X} and
+     * {@link OccupancyGrid#NEIGHBOUR_Y}, skipping any that fall outside
+     * of the grid.
+     *
+     * @param grid the grid the node belongs to.
+     */
     public void calculateNeighbours(Grid grid) {
-        List<Node> nodes = new ArrayList<>();
+        List<Node> nodes = new ArrayList<>(8);
 
-        int x = getX();
-        int y = getY();
+        int width = grid.getWidth();
+        int height = grid.getHeight();
 
-        Coord coord = new Coord(x, y);
+        for (int i = 0; i < 8; i++) {
+            int neighbourX = x + OccupancyGrid.NEIGHBOUR_X[i];
+            int neighbourY = y + OccupancyGrid.NEIGHBOUR_Y[i];
 
-        int minX = 0;
-        int minY = 0;
-        int maxX = grid.getWidth() - 1;
-        int maxY = grid.getHeight() - 1;
+            boolean inBounds = neighbourX >= 0 &&
+                neighbourY >= 0 &&
+                neighbourX < width &&
+                neighbourY < height;
 
-        Map<Coord, Boolean> map = new HashMap<>();
-
-        boolean validMinX = x > minX; // x - 1
-        boolean validMaxX = x < maxX; // x + 1
-        boolean validMinY = y > minY; // y - 1
-        boolean validMaxY = y < maxY; // y + 1
-
-        boolean validDiagNorthwest = validMinX && validMinY; // x - 1, y - 1
-        boolean validDiagSoutheast = validMaxX && validMaxY; // x + 1, y + 1
-        boolean validDiagNortheast = validMaxX && validMinY; // x + 1, y - 1
-        boolean validDiagSouthwest = validMinX && validMaxY; // x - 1, y + 1
-
-        map.put(new Coord(x - 1, y), validMinX);
-        map.put(new Coord(x + 1, y), validMaxX);
-        map.put(new Coord(x, y - 1), validMinY);
-        map.put(new Coord(x, y + 1), validMaxY);
-
-        map.put(new Coord(x - 1, y - 1), validDiagNorthwest);
-        map.put(new Coord(x + 1, y + 1), validDiagSoutheast);
-        map.put(new Coord(x + 1, y - 1), validDiagNorthwest);
-        map.put(new Coord(x - 1, y + 1), validDiagSouthwest);
-
-        tryAddNodes(map, grid::findNode, nodes);
+            if (inBounds) nodes.add(grid.findNode(neighbourX, neighbourY));
+        }
 
         setNeighbours(nodes);
     }
@@ -29,12 +29,71 @@ public class NodeValidator {
      * update the validity of each of the nodes by determining if the node
      * is inside a solid zone (not valid) or not (valid).
      *
+     * <p>
+     * Zones are rasterized one row at a time by {@link ZoneRasterizer},
+     * rather than testing every node against every zone.
+     * </p>
+     *
      * @param grid  the grid to validate the nodes of.
      * @param zones the list of zones to use for validation.
      */
     public static void validateNodes(LocalizedGrid grid, List<Zone> zones) {
-        List<Node> nodes = grid.getGrid().getNodes();
+        List<Zone> filteredZones = filterZones(grid, zones);
+
+        if (filteredZones.size() == 0) return;
+
+        ZoneRasterizer.rasterize(grid, filteredZones);
+    }
+
+    /**
+     * Validate a set of nodes by testing each node against each zone with
+     * {@link PointXY#isInside(xyz.devmello.voyager.math.geometry.Shape)}.
+     * This gives the same result as {@link #validateNodes(LocalizedGrid, List)}
+     * (apart from nodes that lie almost exactly on a zone's edge) but is
+     * much slower.
+     *
+     * @param grid  the grid to validate the nodes of.
+     * @param zones the list of zones to use for validation.
+     * @deprecated use {@link #validateNodes(LocalizedGrid, List)} instead.
+     */
+    @Deprecated
+    public static void validateNodesPointwise(
+        LocalizedGrid grid,
+        List<Zone> zones
+    ) {
+        List<Zone> filteredZones = filterZones(grid, zones);
+
+        if (filteredZones.size() == 0) return;
+
+        OccupancyGrid occupancy = grid.getOccupancy();
+        int width = occupancy.getWidth();
+        int height = occupancy.getHeight();
 
+        for (int y = 0; y < height; y++) {
+            double realY = grid.toY(y);
+
+            for (int x = 0; x < width; x++) {
+                PointXY point = new PointXY(grid.toX(x), realY);
+
+                for (Zone zone : filteredZones) {
+                    if (point.isInside(zone.getShape())) {
+                        grid.setValid(x, y, false);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the solid zones that collide with the grid's bounds. These are
+     * the only zones {@link #validateNodes(LocalizedGrid, List)} blocks
+     * cells for.
+     */
+    static List<Zone> filterZones(
+        LocalizedGrid grid,
+        List<Zone> zones
+    ) {
         Rectangle bounds = grid.getRectangle();
 
         List<Zone> filteredZones = new ArrayList<>(zones.size());
@@ -45,14 +104,6 @@ public class NodeValidator {
             }
         }
 
-        if (filteredZones.size() == 0) return;
-
-        for (Node node : nodes) {
-            PointXY point = grid.toPoint(new Coord(node));
-
-            for (Zone zone : filteredZones) {
-                if (point.isInside(zone.getShape())) node.setValid(false);
-            }
-        }
+        return filteredZones;
     }
 }
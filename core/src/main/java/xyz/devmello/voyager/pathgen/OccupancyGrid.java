@@ -0,0 +1,321 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.BitSet;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * A compact, primitive alternative to {@link Grid}. Instead of one
+ * {@link Node} object (plus a list of neighbours) per cell, an
+ * {@code OccupancyGrid} stores a single bit per cell: set if the cell is
+ * blocked, clear if it's valid.
+ *
+ * <p>
+ * Cells are addressed by their index, {@code y * width + x}. Neighbours
+ * aren't stored anywhere - they're found by adding one of the fixed
+ * offsets in {@link #NEIGHBOUR_X} and {@link #NEIGHBOUR_Y} to a cell's
+ * coordinates. A 288x288 grid takes about 10 KB, as opposed to tens of
+ * megabytes for the equivalent {@link Grid}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class OccupancyGrid {
+    /**
+     * X offsets of a cell's eight neighbours: the four straight
+     * neighbours (-x, +x, -y, +y), then the four diagonals.
+     * {@link Node#calculateNeighbours(Grid)} uses the same order, and
+     * searches visit neighbours in this order, so it decides which of
+     * several equally short paths is returned.
+     */
+    public static final int[] NEIGHBOUR_X = { -1, 1, 0, 0, -1, 1, 1, -1 };
+
+    /**
+     * Y offsets of a cell's eight neighbours.
+     */
+    public static final int[] NEIGHBOUR_Y = { 0, 0, -1, 1, -1, 1, -1, 1 };
+
+    /**
+     * The cost of moving to each of the neighbours in {@link #NEIGHBOUR_X}
+     * and {@link #NEIGHBOUR_Y}.
+     */
+    public static final double[] NEIGHBOUR_COST = new double[8];
+
+    static {
+        for (int i = 0; i < 8; i++) {
+            NEIGHBOUR_COST[i] = Math.hypot(NEIGHBOUR_X[i], NEIGHBOUR_Y[i]);
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final BitSet blocked;
+
+    /**
+     * Create a new {@code OccupancyGrid}. Every cell starts out valid.
+     *
+     * @param width  the grid's width.
+     * @param height the grid's height.
+     */
+    public OccupancyGrid(int width, int height) {
+        this(width, height, new BitSet(width * height));
+    }
+
+    private OccupancyGrid(int width, int height, BitSet blocked) {
+        if (width < 0 || height < 0) throw new IllegalArgumentException(
+            "Grid dimensions may not be negative!"
+        );
+
+        this.width = width;
+        this.height = height;
+        this.blocked = blocked;
+    }
+
+    /**
+     * Create an {@code OccupancyGrid} with the same dimensions and node
+     * validity as a {@link Grid}.
+     *
+     * @param grid the grid to convert.
+     * @return a new {@code OccupancyGrid}.
+     */
+    public static OccupancyGrid fromGrid(Grid grid) {
+        OccupancyGrid occupancy = new OccupancyGrid(
+            grid.getWidth(),
+            grid.getHeight()
+        );
+
+        for (Node node : grid.getNodes()) {
+            if (node.isInvalid()) {
+                occupancy.setValid(node.getX(), node.getY(), false);
+            }
+        }
+
+        return occupancy;
+    }
+
+    /**
+     * Create a {@link Grid} with the same dimensions and node validity as
+     * this {@code OccupancyGrid}. This is expensive - it creates one
+     * {@link Node} per cell, and calculates each node's neighbours.
+     *
+     * @return a new {@link Grid}.
+     */
+    public Grid toGrid() {
+        Grid grid = Grid.generateGrid(width, height);
+
+        for (int i = blocked.nextSetBit(0); i >= 0; i = blocked.nextSetBit(i + 1)) {
+            grid.findNode(x(i), y(i)).setValid(false);
+        }
+
+        return grid;
+    }
+
+    /**
+     * Create a copy of this grid.
+     *
+     * @return a copy of this grid.
+     */
+    public OccupancyGrid copy() {
+        return new OccupancyGrid(width, height, (BitSet) blocked.clone());
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Get the total number of cells in the grid.
+     *
+     * @return {@code width * height}.
+     */
+    public int size() {
+        return width * height;
+    }
+
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public int x(int index) {
+        return index % width;
+    }
+
+    public int y(int index) {
+        return index / width;
+    }
+
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Is a cell valid? Cells outside the grid are never valid.
+     *
+     * @param x the cell's X coordinate.
+     * @param y the cell's Y coordinate.
+     * @return true if the cell is inside the grid and isn't blocked.
+     */
+    public boolean isValid(int x, int y) {
+        return isInBounds(x, y) && !blocked.get(index(x, y));
+    }
+
+    /**
+     * Is a cell valid?
+     *
+     * @param index the cell's index. This must be inside the grid.
+     * @return true if the cell isn't blocked.
+     */
+    public boolean isValid(int index) {
+        return !blocked.get(index);
+    }
+
+    public void setValid(int x, int y, boolean valid) {
+        setValid(index(x, y), valid);
+    }
+
+    public void setValid(int index, boolean valid) {
+        blocked.set(index, !valid);
+    }
+
+    /**
+     * Mark a horizontal run of cells, from {@code fromX} (inclusive) to
+     * {@code toX} (exclusive), as valid or blocked.
+     *
+     * @param y     the row.
+     * @param fromX the first cell in the run.
+     * @param toX   the cell after the last cell in the run.
+     * @param valid whether the cells should be valid.
+     */
+    public void setRowValid(int y, int fromX, int toX, boolean valid) {
+        blocked.set(index(fromX, y), index(toX, y), !valid);
+    }
+
+    /**
+     * Mark every cell whose index is set in {@code cells} as blocked. This
+     * is synchronized, so several threads can rasterize different parts of
+     * the grid into their own {@link BitSet}s and merge them in safely.
+     *
+     * @param cells the indices of the cells to block.
+     */
+    public synchronized void blockAll(BitSet cells) {
+        blocked.or(cells);
+    }
+
+    /**
+     * Find the cells whose validity differs between this grid and another
+     * grid with the same dimensions.
+     *
+     * @param other the grid to compare against.
+     * @return a {@link BitSet} with a bit set for every cell that's valid
+     * in one grid and blocked in the other.
+     */
+    public BitSet difference(OccupancyGrid other) {
+        if (width != other.width || height != other.height) {
+            throw new IllegalArgumentException(
+                "Can't compare grids with different dimensions!"
+            );
+        }
+
+        BitSet difference = (BitSet) blocked.clone();
+        difference.xor(other.blocked);
+
+        return difference;
+    }
+
+    /**
+     * Is there a clear line of sight between two cells?
+     *
+     * <p>
+     * Each cell is treated as a unit square centered on its coordinates,
+     * and every square the straight line between the two cells passes
+     * through must be valid. If the line passes exactly through the corner
+     * shared by four squares, both of the squares beside the corner must be
+     * valid as well. This is stricter than the movement rules used by
+     * {@link AStarSearch}, so a line of sight never cuts a corner an
+     * obstacle could be hiding in.
+     * </p>
+     *
+     * @param x0 the first cell's X coordinate.
+     * @param y0 the first cell's Y coordinate.
+     * @param x1 the second cell's X coordinate.
+     * @param y1 the second cell's Y coordinate.
+     * @return true if there's a line of sight, otherwise, false.
+     */
+    public boolean hasLineOfSight(int x0, int y0, int x1, int y1) {
+        if (!isValid(x0, y0) || !isValid(x1, y1)) return false;
+
+        long nx = Math.abs(x1 - x0);
+        long ny = Math.abs(y1 - y0);
+        int sx = Integer.signum(x1 - x0);
+        int sy = Integer.signum(y1 - y0);
+
+        int x = x0;
+        int y = y0;
+
+        for (long ix = 0, iy = 0; ix < nx || iy < ny; ) {
+            long decision = ((1 + 2 * ix) * ny) - ((1 + 2 * iy) * nx);
+
+            if (decision == 0) {
+                if (!isValid(x + sx, y) || !isValid(x, y + sy)) return false;
+
+                x += sx;
+                y += sy;
+                ix++;
+                iy++;
+            } else if (decision < 0) {
+                x += sx;
+                ix++;
+            } else {
+                y += sy;
+                iy++;
+            }
+
+            if (!isValid(x, y)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the number of blocked cells.
+     *
+     * @return how many cells are blocked.
+     */
+    public int getBlockedCount() {
+        return blocked.cardinality();
+    }
+
+    @Override
+    public int hashCode() {
+        return blocked.hashCode() * 31 + width;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof OccupancyGrid) {
+            OccupancyGrid grid = (OccupancyGrid) obj;
+            return width == grid.width &&
+                height == grid.height &&
+                blocked.equals(grid.blocked);
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                builder.append(isValid(j, i) ? "." : "#");
+            }
+            builder.append(StringUtils.format(" (row %s)\n", i));
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,307 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * A bounded, least-recently-used cache of paths, used by
+ * {@link LocalizedPathGen} to skip path generation entirely when the same
+ * path is requested more than once.
+ *
+ * <p>
+ * Entries are keyed by the boundaries of the grid that would be searched,
+ * the cells of that grid the start and end points map to, the optimization
+ * epsilon, and a zone version stamp. Two requests that would search the
+ * same cells of the same grid share an entry - the cached path is returned
+ * with its first and last points replaced by the exact start and end
+ * points that were requested, as long as the legs leading to and from
+ * those points are still clear. When the zone version changes, every
+ * entry is discarded.
+ * </p>
+ *
+ * <p>
+ * Requests that don't have a path are cached as well, so asking for an
+ * impossible path repeatedly doesn't repeatedly search the whole grid.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class PathCache {
+    private static final List<PointXY> NO_PATH = new ArrayList<>(0);
+
+    private final int capacity;
+    private final Map<Key, List<PointXY>> entries;
+    private long version = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Create a new {@code PathCache}.
+     *
+     * @param capacity the maximum number of paths the cache will hold. Once
+     *                 the cache is full, the least recently used path is
+     *                 evicted to make room for a new one.
+     */
+    public PathCache(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException(
+            "Cache capacity must be at least 1!"
+        );
+
+        this.capacity = capacity;
+        this.entries =
+            new LinkedHashMap<Key, List<PointXY>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                    Map.Entry<Key, List<PointXY>> eldest
+                ) {
+                    return size() > PathCache.this.capacity;
+                }
+            };
+    }
+
+    /**
+     * Set the zone version stamp. If it's different from the current
+     * version, the cache is cleared.
+     *
+     * @param version the new zone version.
+     */
+    public void setVersion(long version) {
+        if (this.version == version) return;
+
+        this.version = version;
+        entries.clear();
+    }
+
+    /**
+     * Look up a path.
+     *
+     * <p>
+     * The cached path was found for start and end points that map to the
+     * same cells, but they may not be exactly the same points. If the
+     * requested start point is different, the leg from it to the path's
+     * second point is checked with {@code isClear}, and likewise for the
+     * leg leading to a different end point. If either leg isn't clear, the
+     * lookup counts as a miss.
+     * </p>
+     *
+     * @param start   the requested start point.
+     * @param end     the requested end point.
+     * @param key     the key returned by {@link #key}.
+     * @param isClear whether a straight line between two points is clear.
+     * @return null if there's no usable cached entry. If there's an entry
+     * for a request that doesn't have a path, this returns an empty list.
+     * Otherwise, a copy of the cached path, starting with {@code start}
+     * and ending with {@code end}.
+     */
+    public List<PointXY> get(
+        PointXY start,
+        PointXY end,
+        Key key,
+        BiPredicate<PointXY, PointXY> isClear
+    ) {
+        List<PointXY> path = entries.get(key);
+
+        if (path == null) {
+            misses++;
+            return null;
+        }
+
+        if (path == NO_PATH) {
+            hits++;
+            return new ArrayList<>(0);
+        }
+
+        int last = path.size() - 1;
+        List<PointXY> copy = new ArrayList<>(path);
+        copy.set(0, start);
+        copy.set(last, end);
+
+        boolean isStartClear = start.equals(path.get(0)) ||
+            isClear.test(start, copy.get(1));
+        boolean isEndClear = end.equals(path.get(last)) ||
+            isClear.test(copy.get(last - 1), end);
+
+        if (!isStartClear || !isEndClear) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+
+        return copy;
+    }
+
+    /**
+     * Store a path.
+     *
+     * @param key  the key returned by {@link #key}.
+     * @param path the path, or null if there is no path.
+     */
+    public void put(Key key, List<PointXY> path) {
+        entries.put(
+            key,
+            path == null || path.isEmpty() ? NO_PATH : new ArrayList<>(path)
+        );
+    }
+
+    /**
+     * Create a key for a request.
+     *
+     * @param minX    the minimum X of the grid that would be searched.
+     * @param minY    the minimum Y of the grid that would be searched.
+     * @param maxX    the maximum X of the grid that would be searched.
+     * @param maxY    the maximum Y of the grid that would be searched.
+     * @param start   the cell of that grid the start point maps to.
+     * @param end     the cell of that grid the end point maps to.
+     * @param epsilon the optimization epsilon.
+     * @return a key for the request at the current zone version.
+     */
+    public Key key(
+        double minX,
+        double minY,
+        double maxX,
+        double maxY,
+        Coord start,
+        Coord end,
+        double epsilon
+    ) {
+        return new Key(
+            new double[] { minX, minY, maxX, maxY },
+            start,
+            end,
+            epsilon,
+            version
+        );
+    }
+
+    /**
+     * Discard every cached path. Hit and miss counts are kept.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Reset the hit and miss counts to zero.
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the number of lookups that found a cached path.
+     *
+     * @return how many lookups were hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of lookups that didn't find a cached path.
+     *
+     * @return how many lookups were misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the fraction of lookups that found a cached path.
+     *
+     * @return the hit rate, from 0 to 1. If there haven't been any lookups,
+     * this is 0.
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "PathCache(size=%s/%s, hits=%s, misses=%s)",
+            entries.size(),
+            capacity,
+            hits,
+            misses
+        );
+    }
+
+    /**
+     * A path cache key.
+     */
+    public static final class Key {
+        private final double[] bounds;
+        private final int startX;
+        private final int startY;
+        private final int endX;
+        private final int endY;
+        private final double epsilon;
+        private final long version;
+
+        private Key(
+            double[] bounds,
+            Coord start,
+            Coord end,
+            double epsilon,
+            long version
+        ) {
+            this.bounds = bounds;
+            this.startX = start.x();
+            this.startY = start.y();
+            this.endX = end.x();
+            this.endY = end.y();
+            this.epsilon = epsilon;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) return false;
+
+            Key key = (Key) obj;
+
+            return Arrays.equals(bounds, key.bounds) &&
+                startX == key.startX &&
+                startY == key.startY &&
+                endX == key.endX &&
+                endY == key.endY &&
+                Double.compare(epsilon, key.epsilon) == 0 &&
+                version == key.version;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Arrays.hashCode(bounds);
+            hash = hash * 31 + startX;
+            hash = hash * 31 + startY;
+            hash = hash * 31 + endX;
+            hash = hash * 31 + endY;
+            hash = hash * 31 + Double.hashCode(epsilon);
+            hash = hash * 31 + Long.hashCode(version);
+
+            return hash;
+        }
+    }
+}
@@ -31,9 +31,12 @@ import java.util.List;
  * @since 0.1.0
  */
 public class PathGen {
-    private final Grid grid;
     private final Node start;
     private final Node end;
+    private Grid grid;
+    private OccupancyGrid occupancy;
+    private SearchStrategy strategy = SearchStrategy.A_STAR;
+    private GridSearch search;
     private List<Node> path;
     private List<Node> openList;
 
@@ -50,22 +53,157 @@ public class PathGen {
         this.end = end;
     }
 
-    public List<Coord> findCoordPath() {
-        return Coord.convertNodes(findPath());
+    /**
+     * Create a new path generator that operates on an {@link OccupancyGrid}.
+     * This is much faster than using a {@link Grid}, as no {@link Node}s
+     * need to be created.
+     *
+     * @param occupancy the generator's grid.
+     * @param start     the path's start point.
+     * @param end       the path's end point.
+     */
+    public PathGen(OccupancyGrid occupancy, Coord start, Coord end) {
+        this.occupancy = occupancy;
+        this.start = start == null ? null : new Node(start.x(), start.y());
+        this.end = end == null ? null : new Node(end.x(), end.y());
     }
 
     /**
-     * Find a path. Wow!
+     * Create a new path generator that operates on an {@link OccupancyGrid}
+     * and uses a specific search strategy.
      *
-     * @return a path. Or something.
+     * @param occupancy the generator's grid.
+     * @param start     the path's start point.
+     * @param end       the path's end point.
+     * @param strategy  the search strategy to use.
      */
-    public List<Node> findPath() {
+    public PathGen(
+        OccupancyGrid occupancy,
+        Coord start,
+        Coord end,
+        SearchStrategy strategy
+    ) {
+        this(occupancy, start, end);
+
+        if (strategy == null) throw new IllegalArgumentException(
+            "Search strategy may not be null!"
+        );
+
+        this.strategy = strategy;
+    }
+
+    /**
+     * Create a new path generator that reuses an existing
+     * {@link GridSearch} (and its grid). Reusing a search avoids
+     * reallocating its internal arrays for every path.
+     *
+     * @param search the search to use.
+     * @param start  the path's start point.
+     * @param end    the path's end point.
+     */
+    public PathGen(GridSearch search, Coord start, Coord end) {
+        this(search.getGrid(), start, end);
+
+        this.search = search;
+    }
+
+    private void validateEndpoints() {
         if (start == null) throw new IllegalArgumentException(
             "Start node may not be null!"
         );
         if (end == null) throw new IllegalArgumentException(
             "End node may not be null!"
         );
+    }
+
+    /**
+     * Find a path, as a list of coordinates.
+     *
+     * <p>
+     * By default, this uses an {@link AStarSearch}, which keeps its open
+     * set in an indexed binary heap and operates on an
+     * {@link OccupancyGrid}. It returns the same path as
+     * {@link #findPathLinearScan()}, just a whole lot faster. Other search
+     * strategies can be selected with {@link SearchStrategy}.
+     * </p>
+     *
+     * @return a path. If there's no path, this is an empty list.
+     */
+    public List<Coord> findCoordPath() {
+        validateEndpoints();
+
+        Coord startCoord = new Coord(start);
+        Coord endCoord = new Coord(end);
+        OccupancyGrid occupancy = getOccupancy();
+
+        if (!occupancy.isInBounds(start.getX(), start.getY())) {
+            throw new IllegalArgumentException(
+                "Start node must be inside the grid!"
+            );
+        }
+        if (!occupancy.isInBounds(end.getX(), end.getY())) {
+            throw new IllegalArgumentException(
+                "End node must be inside the grid!"
+            );
+        }
+
+        if (start.equals(end)) {
+            List<Coord> coords = new ArrayList<>(2);
+            coords.add(startCoord);
+            coords.add(endCoord);
+            return coords;
+        }
+
+        if (search == null) search = GridSearch.create(occupancy, strategy);
+
+        return search.search(startCoord, endCoord);
+    }
+
+    /**
+     * Find a path. Wow!
+     *
+     * @return a path. Or something.
+     * @see #findCoordPath()
+     */
+    public List<Node> findPath() {
+        List<Coord> coords = findCoordPath();
+
+        this.path = new ArrayList<>(coords.size());
+
+        for (int i = coords.size() - 1; i >= 0; i--) {
+            Coord coord = coords.get(i);
+
+            if (grid != null) {
+                path.add(grid.findNode(coord));
+            } else {
+                Node node = new Node(coord.x(), coord.y());
+                node.setValid(occupancy.isValid(coord.x(), coord.y()));
+                path.add(node);
+            }
+        }
+
+        return getPath();
+    }
+
+    /**
+     * Find a path using the original list-based A* implementation. The open
+     * and closed sets are plain lists, so every iteration does a linear scan
+     * for the lowest F value and a linear {@code contains} check for each
+     * neighbour - this gets very slow on large grids.
+     *
+     * <p>
+     * This is only kept around as a reference for tests and benchmarks. Use
+     * {@link #findPath()} instead.
+     * </p>
+     *
+     * @return a path. Or something.
+     * @deprecated use {@link #findPath()}, which returns the same path.
+     */
+    @Deprecated
+    public List<Node> findPathLinearScan() {
+        validateEndpoints();
+
+        Grid grid = getGrid();
 
         start.calculateNeighbours(grid);
         end.calculateNeighbours(grid);
@@ -145,10 +283,32 @@ public class PathGen {
         return lowest;
     }
 
+    /**
+     * Get the generator's grid. If the generator was created with an
+     * {@link OccupancyGrid}, this creates a {@link Grid} the first time
+     * it's called, which is slow.
+     *
+     * @return the generator's grid.
+     */
     public Grid getGrid() {
+        if (grid == null) grid = occupancy.toGrid();
+
         return grid;
     }
 
+    /**
+     * Get the generator's {@link OccupancyGrid}. If the generator was
+     * created with a {@link Grid}, this converts it the first time it's
+     * called.
+     *
+     * @return the generator's occupancy grid.
+     */
+    public OccupancyGrid getOccupancy() {
+        if (occupancy == null) occupancy = OccupancyGrid.fromGrid(grid);
+
+        return occupancy;
+    }
+
     public List<Node> getPath() {
         List<Node> newPath = new ArrayList<>();
 
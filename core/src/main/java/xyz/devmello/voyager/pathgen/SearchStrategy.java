@@ -0,0 +1,68 @@
+package xyz.devmello.voyager.pathgen;
+
+/**
+ * Algorithms a {@link PathGen} or {@link LocalizedPathGen} can use to
+ * search a grid.
+ *
+ * @since 1.2.0
+ */
+public enum SearchStrategy {
+    /**
+     * Use {@link AStarSearch}. This is the default.
+     */
+    A_STAR(false),
+
+    /**
+     * Use {@link JumpPointSearch}. This finds paths with the same cost as
+     * {@link #A_STAR}, but usually expands far fewer nodes, especially on
+     * large, open grids.
+     */
+    JUMP_POINT(false),
+
+    /**
+     * Use {@link ThetaStarSearch}. This is an any-angle search: paths
+     * aren't restricted to moving between neighbouring cells, so they're
+     * shorter than {@link #A_STAR} paths and only contain the points where
+     * the path turns. Paths found with this strategy don't need to be
+     * simplified with {@link PathOptimizer}.
+     */
+    THETA_STAR(true),
+
+    /**
+     * Use {@link DStarLiteSearch}. This finds paths with the same cost as
+     * {@link #A_STAR}, but keeps its search state between searches, so
+     * when zones are added or removed or the start point moves, replanning
+     * only repairs the part of the path that changed. This is only useful
+     * with grid caching enabled (see
+     * {@link LocalizedPathGen#setGridCaching(boolean)}); otherwise, every
+     * search starts from scratch.
+     */
+    D_STAR_LITE(false),
+
+    /**
+     * Use {@link HierarchicalSearch}. The grid is divided into clusters,
+     * and a full resolution search is only run inside the corridor of
+     * clusters picked by a search of a much smaller abstract graph. This
+     * makes very fine grids practical, at the cost of paths that are
+     * occasionally a few percent longer than {@link #A_STAR} paths. The
+     * abstract graph is built once per grid, so this should be used with
+     * grid caching enabled.
+     */
+    HIERARCHICAL(false);
+
+    private final boolean anyAngle;
+
+    SearchStrategy(boolean anyAngle) {
+        this.anyAngle = anyAngle;
+    }
+
+    /**
+     * Does this strategy produce any-angle paths? Any-angle paths only
+     * contain waypoints, and consecutive waypoints usually aren't adjacent.
+     *
+     * @return true if this strategy is any-angle, otherwise, false.
+     */
+    public boolean isAnyAngle() {
+        return anyAngle;
+    }
+}
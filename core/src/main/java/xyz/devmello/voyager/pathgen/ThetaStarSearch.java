@@ -0,0 +1,223 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An any-angle search over an {@link OccupancyGrid}, using the Lazy Theta*
+ * algorithm.
+ *
+ * <p>
+ * Theta* is A* with one change: when a node is reached, its parent may be
+ * any earlier node on the path, not just the neighbour it was reached
+ * from, as long as there's a clear line of sight (see
+ * {@link OccupancyGrid#hasLineOfSight(int, int, int, int)}) between the
+ * two. Paths aren't restricted to 45 degree angles, so they're shorter
+ * than A* paths, and they only contain the points where the path actually
+ * turns. The lazy variant only checks line of sight when a node is
+ * expanded rather than every time it's reached, which saves most of the
+ * line of sight checks.
+ * </p>
+ *
+ * <p>
+ * Because every segment of the path has already been checked against the
+ * grid, the path doesn't need to be simplified afterwards - there's no
+ * need for {@link PathOptimizer}. Segments longer than a single step have
+ * a line of sight, and diagonal steps are never taken between two blocked
+ * cells.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class ThetaStarSearch implements GridSearch {
+    private static final byte NEW = 0;
+    private static final byte OPEN = 1;
+    private static final byte CLOSED = 2;
+
+    private final OccupancyGrid grid;
+    private final int width;
+    private final int height;
+    private final byte[] state;
+    private final double[] cost;
+    private final int[] parent;
+    private final IndexedHeap open;
+    private int expanded = 0;
+
+    /**
+     * Create a new {@code ThetaStarSearch}.
+     *
+     * @param grid the grid to search.
+     */
+    public ThetaStarSearch(OccupancyGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+
+        int size = grid.size();
+
+        this.state = new byte[size];
+        this.cost = new double[size];
+        this.parent = new int[size];
+        this.open = new IndexedHeap(size);
+    }
+
+    /**
+     * Can the search step from a cell to one of its neighbours? Diagonal
+     * steps can't squeeze between two blocked cells.
+     */
+    private boolean canStep(int x, int y, int neighbour) {
+        int dx = OccupancyGrid.NEIGHBOUR_X[neighbour];
+        int dy = OccupancyGrid.NEIGHBOUR_Y[neighbour];
+
+        if (dx == 0 || dy == 0) return true;
+
+        return grid.isValid(x + dx, y) || grid.isValid(x, y + dy);
+    }
+
+    private double distance(int a, int b) {
+        return Math.hypot((b % width) - (a % width), (b / width) - (a / width));
+    }
+
+    /**
+     * Find a path between two cells.
+     *
+     * @param start the start cell.
+     * @param end   the end cell.
+     * @return a list of waypoints, starting with {@code start} and ending
+     * with {@code end}. Consecutive waypoints are usually not adjacent. If
+     * there's no path between the two cells, this will be an empty list.
+     */
+    @Override
+    public List<Coord> search(Coord start, Coord end) {
+        Arrays.fill(state, NEW);
+        open.clear();
+        expanded = 0;
+
+        int endX = end.x();
+        int endY = end.y();
+        int startIndex = grid.index(start.x(), start.y());
+        int endIndex = grid.index(endX, endY);
+
+        cost[startIndex] = 0;
+        parent[startIndex] = startIndex;
+        state[startIndex] = OPEN;
+        open.insertOrUpdate(startIndex, 0);
+
+        while (!open.isEmpty()) {
+            int currentIndex = open.poll();
+
+            setVertex(currentIndex);
+
+            if (currentIndex == endIndex) return retrace(startIndex, endIndex);
+
+            state[currentIndex] = CLOSED;
+            expanded++;
+
+            int currentX = currentIndex % width;
+            int currentY = currentIndex / width;
+            int currentParent = parent[currentIndex];
+            double parentCost = cost[currentParent];
+
+            for (int i = 0; i < 8; i++) {
+                int x = currentX + OccupancyGrid.NEIGHBOUR_X[i];
+                int y = currentY + OccupancyGrid.NEIGHBOUR_Y[i];
+
+                if (x < 0 || y < 0 || x >= width || y >= height) continue;
+
+                int index = y * width + x;
+                byte nodeState = state[index];
+
+                if (nodeState == CLOSED || !grid.isValid(index)) continue;
+
+                if (!canStep(currentX, currentY, i)) continue;
+
+                // assume there's a line of sight from the current node's
+                // parent - this is checked later, in setVertex
+                double score = parentCost + distance(currentParent, index);
+
+                if (nodeState == NEW || score < cost[index]) {
+                    cost[index] = score;
+                    parent[index] = currentParent;
+                    state[index] = OPEN;
+                    open.insertOrUpdate(index, score + Math.hypot(endX - x, endY - y));
+                }
+            }
+        }
+
+        return new ArrayList<>(0);
+    }
+
+    /**
+     * Make sure a node that's about to be expanded can actually see its
+     * parent. If it can't, its parent becomes whichever expanded neighbour
+     * gives it the lowest cost. The node was opened from at least one of
+     * those neighbours, so there's always one to fall back to.
+     */
+    private void setVertex(int index) {
+        int parentIndex = parent[index];
+
+        if (parentIndex == index) return;
+
+        int x = index % width;
+        int y = index / width;
+
+        if (grid.hasLineOfSight(parentIndex % width, parentIndex / width, x, y)) return;
+
+        double best = Double.POSITIVE_INFINITY;
+        int bestParent = parentIndex;
+
+        for (int i = 0; i < 8; i++) {
+            int neighbourX = x + OccupancyGrid.NEIGHBOUR_X[i];
+            int neighbourY = y + OccupancyGrid.NEIGHBOUR_Y[i];
+
+            if (!grid.isInBounds(neighbourX, neighbourY)) continue;
+
+            int neighbour = neighbourY * width + neighbourX;
+
+            if (state[neighbour] != CLOSED) continue;
+
+            // stepping from the neighbour back to this node is the reverse
+            // of stepping from this node to the neighbour
+            if (!canStep(x, y, i)) continue;
+
+            double score = cost[neighbour] + OccupancyGrid.NEIGHBOUR_COST[i];
+
+            if (score < best) {
+                best = score;
+                bestParent = neighbour;
+            }
+        }
+
+        parent[index] = bestParent;
+        cost[index] = best;
+    }
+
+    private List<Coord> retrace(int startIndex, int endIndex) {
+        List<Coord> path = new ArrayList<>();
+
+        int index = endIndex;
+
+        while (index != startIndex) {
+            path.add(new Coord(index % width, index / width));
+            index = parent[index];
+        }
+
+        path.add(new Coord(startIndex % width, startIndex / width));
+
+        Collections.reverse(path);
+
+        return path;
+    }
+
+    @Override
+    public int getExpandedCount() {
+        return expanded;
+    }
+
+    @Override
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+}
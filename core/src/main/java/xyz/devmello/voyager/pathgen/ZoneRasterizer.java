@@ -0,0 +1,355 @@
+package xyz.devmello.voyager.pathgen;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import xyz.devmello.voyager.math.geometry.Circle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.math.geometry.Shape;
+import xyz.devmello.voyager.math.geometry.Triangle;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+
+/**
+ * Marks the cells of a {@link LocalizedGrid} that are covered by zones as
+ * invalid, one row at a time.
+ *
+ * <p>
+ * Instead of testing every cell against every zone, the rasterizer works
+ * out, for each row of the grid, the span of X values each zone covers,
+ * and blocks that whole run of cells at once. {@link Rectangle}s and
+ * {@link Triangle}s are rasterized as convex polygons, and {@link Circle}s
+ * as discs; the cost is proportional to the number of rows a zone covers,
+ * not the number of cells. Any other kind of shape falls back to testing
+ * each cell in its rows with {@link Shape#isPointInShape(PointXY)}.
+ * </p>
+ *
+ * <p>
+ * Large grids are split into bands of rows which are rasterized in
+ * parallel on the common {@link ForkJoinPool}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class ZoneRasterizer {
+    /**
+     * Grids with fewer rows than this are rasterized on the calling thread.
+     */
+    private static final int ROWS_PER_TASK = 32;
+
+    /**
+     * Points this close (in cells) to a zone's edge count as inside it.
+     */
+    private static final double EPSILON = 1e-9;
+
+    private ZoneRasterizer() {}
+
+    /**
+     * Mark every cell of the grid that's inside one of the given solid
+     * zones as invalid. Non-solid zones are ignored.
+     *
+     * @param grid  the grid to rasterize the zones onto.
+     * @param zones the zones to rasterize.
+     */
+    public static void rasterize(LocalizedGrid grid, List<Zone> zones) {
+        List<Span> spans = spans(zones);
+
+        if (spans.isEmpty()) return;
+
+        run(new RasterizeTask(
+            grid,
+            spans,
+            null,
+            0,
+            grid.getOccupancy().getHeight()
+        ));
+
+        grid.syncGrid();
+    }
+
+    /**
+     * Get the cells of the grid that are inside one of the given solid
+     * zones, without changing the grid. Only rows from {@code fromRow}
+     * (inclusive) to {@code toRow} (exclusive) are rasterized, so a small
+     * part of the grid can be checked without paying for the rest of it.
+     *
+     * @param grid    the grid the zones are rasterized against.
+     * @param zones   the zones to rasterize.
+     * @param fromRow the first row to rasterize.
+     * @param toRow   the row after the last row to rasterize.
+     * @return the indices of the covered cells.
+     */
+    public static BitSet cells(
+        LocalizedGrid grid,
+        List<Zone> zones,
+        int fromRow,
+        int toRow
+    ) {
+        BitSet cells = new BitSet();
+        List<Span> spans = spans(zones);
+
+        fromRow = Math.max(fromRow, 0);
+        toRow = Math.min(toRow, grid.getOccupancy().getHeight());
+
+        if (spans.isEmpty() || fromRow >= toRow) return cells;
+
+        run(new RasterizeTask(grid, spans, cells, fromRow, toRow));
+
+        return cells;
+    }
+
+    private static List<Span> spans(List<Zone> zones) {
+        List<Span> spans = new ArrayList<>(zones.size());
+
+        for (Zone zone : zones) {
+            if (zone.isSolid()) spans.add(Span.of(zone.getShape()));
+        }
+
+        return spans;
+    }
+
+    private static void run(RasterizeTask task) {
+        if (task.toRow - task.fromRow <= ROWS_PER_TASK) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    private static class RasterizeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final LocalizedGrid grid;
+        private final List<Span> spans;
+        private final BitSet cells;
+        private final int fromRow;
+        private final int toRow;
+
+        RasterizeTask(
+            LocalizedGrid grid,
+            List<Span> spans,
+            BitSet cells,
+            int fromRow,
+            int toRow
+        ) {
+            this.grid = grid;
+            this.spans = spans;
+            this.cells = cells;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow > ROWS_PER_TASK) {
+                int middle = (fromRow + toRow) >>> 1;
+
+                invokeAll(
+                    new RasterizeTask(grid, spans, cells, fromRow, middle),
+                    new RasterizeTask(grid, spans, cells, middle, toRow)
+                );
+
+                return;
+            }
+
+            OccupancyGrid occupancy = grid.getOccupancy();
+            int width = occupancy.getWidth();
+            double minX = grid.getMinX();
+            double xRatio = grid.getXRatio();
+            BitSet blocked = new BitSet();
+            double[] range = new double[2];
+
+            for (int y = fromRow; y < toRow; y++) {
+                double realY = grid.toY(y);
+                int rowStart = y * width;
+
+                for (Span span : spans) {
+                    if (span instanceof PointSpan) {
+                        PointSpan point = (PointSpan) span;
+
+                        for (int x = 0; x < width; x++) {
+                            if (point.contains(grid.toX(x), realY)) {
+                                blocked.set(rowStart + x);
+                            }
+                        }
+
+                        continue;
+                    }
+
+                    if (!span.getRange(realY, range)) continue;
+
+                    int from = (int) Math.ceil(((range[0] - minX) / xRatio) - EPSILON);
+                    int to = (int) Math.floor(((range[1] - minX) / xRatio) + EPSILON);
+
+                    from = Math.max(from, 0);
+                    to = Math.min(to, width - 1);
+
+                    if (from <= to) blocked.set(rowStart + from, rowStart + to + 1);
+                }
+            }
+
+            if (blocked.isEmpty()) return;
+
+            if (cells == null) {
+                occupancy.blockAll(blocked);
+            } else {
+                synchronized (cells) {
+                    cells.or(blocked);
+                }
+            }
+        }
+    }
+
+    /**
+     * The horizontal extent of a shape, one row at a time.
+     */
+    private abstract static class Span {
+        static Span of(Shape<?> shape) {
+            if (shape instanceof Rectangle) {
+                Rectangle rectangle = (Rectangle) shape;
+
+                return new PolygonSpan(
+                    rectangle.getA(),
+                    rectangle.getB(),
+                    rectangle.getC(),
+                    rectangle.getD()
+                );
+            } else if (shape instanceof Triangle) {
+                Triangle triangle = (Triangle) shape;
+
+                return new PolygonSpan(
+                    triangle.getA(),
+                    triangle.getB(),
+                    triangle.getC()
+                );
+            } else if (shape instanceof Circle) {
+                Circle circle = (Circle) shape;
+
+                return new CircleSpan(circle.getCenter(), circle.getRadius());
+            }
+
+            return new PointSpan(shape);
+        }
+
+        /**
+         * Get the range of X values the shape covers at a given Y value.
+         *
+         * @param y     the Y value.
+         * @param range an array the minimum and maximum X values are
+         *              written to.
+         * @return false if the shape doesn't cover this Y value at all.
+         */
+        abstract boolean getRange(double y, double[] range);
+    }
+
+    private static class PolygonSpan extends Span {
+        private final double[] xs;
+        private final double[] ys;
+        private final double minY;
+        private final double maxY;
+
+        PolygonSpan(PointXY... points) {
+            this.xs = new double[points.length];
+            this.ys = new double[points.length];
+
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < points.length; i++) {
+                xs[i] = points[i].x();
+                ys[i] = points[i].y();
+                minY = Math.min(minY, ys[i]);
+                maxY = Math.max(maxY, ys[i]);
+            }
+
+            this.minY = minY;
+            this.maxY = maxY;
+        }
+
+        @Override
+        boolean getRange(double y, double[] range) {
+            if (y < minY - EPSILON || y > maxY + EPSILON) return false;
+
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+
+            for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                double x1 = xs[j];
+                double y1 = ys[j];
+                double x2 = xs[i];
+                double y2 = ys[i];
+
+                double low = Math.min(y1, y2);
+                double high = Math.max(y1, y2);
+
+                if (y < low - EPSILON || y > high + EPSILON) continue;
+
+                if (high - low <= EPSILON) {
+                    min = Math.min(min, Math.min(x1, x2));
+                    max = Math.max(max, Math.max(x1, x2));
+                } else {
+                    double t = Math.max(0, Math.min(1, (y - y1) / (y2 - y1)));
+                    double x = x1 + (t * (x2 - x1));
+                    min = Math.min(min, x);
+                    max = Math.max(max, x);
+                }
+            }
+
+            if (min > max) return false;
+
+            range[0] = min;
+            range[1] = max;
+
+            return true;
+        }
+    }
+
+    private static class CircleSpan extends Span {
+        private final double centerX;
+        private final double centerY;
+        private final double radius;
+
+        CircleSpan(PointXY center, double radius) {
+            this.centerX = center.x();
+            this.centerY = center.y();
+            this.radius = radius;
+        }
+
+        @Override
+        boolean getRange(double y, double[] range) {
+            double dy = y - centerY;
+            double squared = (radius * radius) - (dy * dy);
+
+            if (squared < 0) return false;
+
+            double half = Math.sqrt(squared);
+
+            range[0] = centerX - half;
+            range[1] = centerX + half;
+
+            return true;
+        }
+    }
+
+    /**
+     * Fallback for shapes the rasterizer doesn't know about.
+     */
+    private static class PointSpan extends Span {
+        private final Shape<?> shape;
+
+        PointSpan(Shape<?> shape) {
+            this.shape = shape;
+        }
+
+        boolean contains(double x, double y) {
+            return shape.isPointInShape(new PointXY(x, y));
+        }
+
+        @Override
+        boolean getRange(double y, double[] range) {
+            return false;
+        }
+    }
+}
@@ -12,8 +12,9 @@
  * Ahh. Path generation. This is also the part of Pathfinder that actually
  * finds paths. Internally, this uses the A star pathfinding algorithm
  * to find paths. This algorithm works based on integer points and a sort
- * of two-dimensional data structure ({@link java.util.HashMap} is used for
- * performance purposes), so decimal/double points need to be converted to
+ * of two-dimensional data structure (an
+ * {@link xyz.devmello.voyager.pathgen.OccupancyGrid}, which stores one bit
+ * per cell), so decimal/double points need to be converted to
  * integers. How do you do this, you may be asking? I'll tell you how.
  * Use {@link xyz.devmello.voyager.pathgen.LocalizedPathGen}! A lovely
  * class. Truly, just lovely. Fantastic, even. I'm currently in English class
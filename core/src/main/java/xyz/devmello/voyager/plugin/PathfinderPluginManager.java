@@ -12,10 +12,12 @@ package xyz.devmello.voyager.plugin;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 import xyz.devmello.voyager.Voyager;
 import xyz.devmello.voyager.execution.follower.Follower;
 import xyz.devmello.voyager.logging.Logger;
 import xyz.devmello.voyager.pathgen.zones.Zone;
+import xyz.devmello.voyager.profiling.TickProfiler;
 
 /**
  * A manager for controlling the loading and usage of any plugins being
@@ -55,7 +57,7 @@ public class PathfinderPluginManager {
     public void onLoad(Voyager voyager) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onLoad for %s plugins",
             plugins.size()
@@ -67,43 +69,74 @@ public class PathfinderPluginManager {
     public void preTick(Voyager voyager) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running preTick for %s plugins",
             plugins.size()
         );
 
-        plugins.forEach(plugin -> plugin.preTick(voyager));
+        runTickHook(
+            voyager,
+            TickProfiler.Hook.PRE_TICK,
+            PathfinderPlugin::preTick
+        );
     }
 
     public void onTick(Voyager voyager) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onTick for %s plugins",
             plugins.size()
         );
 
-        plugins.forEach(plugin -> plugin.onTick(voyager));
+        runTickHook(
+            voyager,
+            TickProfiler.Hook.ON_TICK,
+            PathfinderPlugin::onTick
+        );
     }
 
     public void postTick(Voyager voyager) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running postTick for %s plugins",
             plugins.size()
         );
 
-        plugins.forEach(plugin -> plugin.postTick(voyager));
+        runTickHook(
+            voyager,
+            TickProfiler.Hook.POST_TICK,
+            PathfinderPlugin::postTick
+        );
+    }
+
+    /**
+     * Run one of the per-tick hooks for every plugin, recording how long
+     * each plugin took if {@link Voyager#getProfiler()} is set.
+     */
+    private void runTickHook(
+        Voyager voyager,
+        TickProfiler.Hook hook,
+        BiConsumer<PathfinderPlugin, Voyager> phase
+    ) {
+        TickProfiler profiler = voyager.getProfiler();
+        long time = TickProfiler.start(profiler);
+
+        for (PathfinderPlugin plugin : plugins) {
+            phase.accept(plugin, voyager);
+
+            if (profiler != null) time = profiler.lap(plugin, hook, time);
+        }
     }
 
     public void preClear(Voyager voyager) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running preClear for %s plugins",
             plugins.size()
@@ -115,7 +148,7 @@ public class PathfinderPluginManager {
     public void onClear(Voyager voyager) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onClear for %s plugins",
             plugins.size()
@@ -127,7 +160,7 @@ public class PathfinderPluginManager {
     public void onEnterZone(Voyager voyager, Zone zone) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onEnterZone for %s plugins",
             plugins.size()
@@ -139,7 +172,7 @@ public class PathfinderPluginManager {
     public void onExitZone(Voyager voyager, Zone zone) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onExitZone for %s plugins",
             plugins.size()
@@ -151,7 +184,7 @@ public class PathfinderPluginManager {
     public void whileInsideZone(Voyager voyager, Zone zone) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running whileInsideZone for %s plugins",
             plugins.size()
@@ -163,7 +196,7 @@ public class PathfinderPluginManager {
     public void onStartFollower(Voyager voyager, Follower follower) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onStartFollower for %s plugins",
             plugins.size()
@@ -175,7 +208,7 @@ public class PathfinderPluginManager {
     public void onFinishFollower(Voyager voyager, Follower follower) {
         if (plugins.size() == 0) return;
 
-        Logger.trace(
+        Logger.traceLong(
             PathfinderPluginManager.class,
             "Running onFinishFollower for %s plugins",
             plugins.size()
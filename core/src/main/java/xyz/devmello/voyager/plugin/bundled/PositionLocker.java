@@ -92,15 +92,18 @@ public class PositionLocker extends PathfinderPlugin {
     }
 
     private void ensurePosition() {
+        PointXYZ current = voyager.getPosition();
+        PointXYZ target = new PointXYZ(
+            lockX ? position.x() : current.x(),
+            lockY ? position.y() : current.y(),
+            lockZ ? position.z() : current.z()
+        );
+
+        // same as Odometry#offsetSoPositionIs, but using the raw position
+        // read at the start of the tick rather than reading it again
         voyager
             .getOdometry()
-            .offsetSoPositionIs(
-                new PointXYZ(
-                    lockX ? position.x() : voyager.getPosition().x(),
-                    lockY ? position.y() : voyager.getPosition().y(),
-                    lockZ ? position.z() : voyager.getPosition().z()
-                )
-            );
+            .setOffset(voyager.getRawPosition().multiply(-1).add(target));
     }
 
     @Override
@@ -39,6 +39,7 @@ public class StatTracker extends PathfinderPlugin {
     private double totalDistance = 0;
     private PointXY lastPoint = null;
     private double lastMs = 0;
+    private boolean hasStarted = false;
 
     @Override
     public String getName() {
@@ -47,7 +48,11 @@ public class StatTracker extends PathfinderPlugin {
 
     @Override
     public void onTick(Voyager voyager) {
-        if (lastMs == 0) lastMs = Time.ms();
+        // a clock's origin is arbitrary, so 0 is a perfectly valid time
+        if (!hasStarted) {
+            lastMs = Time.ms();
+            hasStarted = true;
+        }
 
         ticks++;
 
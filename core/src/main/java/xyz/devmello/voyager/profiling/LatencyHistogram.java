@@ -0,0 +1,274 @@
+package xyz.devmello.voyager.profiling;
+
+import java.util.Arrays;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * A fixed-size histogram of durations, in nanoseconds.
+ *
+ * <p>
+ * Buckets are log-linear: every power of two is split into
+ * {@link #SUB_BUCKETS} equally sized buckets, so any recorded value can be
+ * reported to within about 6% of its real value, from a single nanosecond
+ * up to several years. All of the buckets are allocated when the histogram
+ * is created, and recording a value is a few arithmetic operations and an
+ * array increment - nothing is allocated.
+ * </p>
+ *
+ * <p>
+ * Histograms aren't synchronized. They're meant to be written by a single
+ * thread (the thread running {@code Voyager.tick()}). Reading a histogram
+ * from another thread while it's being written may produce slightly
+ * inconsistent results, but won't fail.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class LatencyHistogram {
+    /**
+     * log2 of {@link #SUB_BUCKETS}.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * How many buckets each power of two is split into.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long total = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    /**
+     * Create a new, empty {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() {}
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+
+        int group = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+
+        return (long) (SUB_BUCKETS + sub) << (group - 1);
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+
+        return lowestValueOf(bucket) + (1L << (bucket / SUB_BUCKETS - 1)) - 1;
+    }
+
+    /**
+     * Record a duration. Negative durations are recorded as 0.
+     *
+     * @param nanos the duration, in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+
+        counts[bucketOf(nanos)]++;
+        count++;
+        total += nanos;
+
+        if (nanos < min) min = nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    /**
+     * Discard every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Copy every recorded value into another histogram, replacing whatever
+     * it had recorded. This doesn't allocate anything, so it can be used
+     * to take a consistent copy of a histogram on the thread that's
+     * writing to it.
+     *
+     * @param target the histogram to copy into.
+     */
+    public void copyInto(LatencyHistogram target) {
+        System.arraycopy(counts, 0, target.counts, 0, BUCKET_COUNT);
+        target.count = count;
+        target.total = total;
+        target.min = min;
+        target.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the sum of every recorded value.
+     *
+     * @return the total duration, in nanoseconds.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Get the smallest recorded value.
+     *
+     * @return the smallest duration, in nanoseconds, or 0 if nothing has
+     * been recorded.
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Get the largest recorded value. Unlike percentiles, this is exact.
+     *
+     * @return the largest duration, in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Get the mean of every recorded value. Unlike percentiles, this is
+     * exact.
+     *
+     * @return the mean duration, in nanoseconds, or 0 if nothing has been
+     * recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Get a percentile of the recorded values. The result is the highest
+     * value in the bucket the percentile falls in, so it's never less than
+     * the real percentile, and never more than about 6% greater.
+     *
+     * @param percentile the percentile, from 0 to 100.
+     * @return the value at that percentile, in nanoseconds, or 0 if
+     * nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(
+                "Percentile must be between 0 and 100!"
+            );
+        }
+
+        if (count == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+
+            if (seen >= rank) return Math.min(highestValueOf(i), max);
+        }
+
+        return max;
+    }
+
+    public long getP50() {
+        return getPercentile(50);
+    }
+
+    public long getP99() {
+        return getPercentile(99);
+    }
+
+    /**
+     * Summarize this histogram.
+     *
+     * @return a new {@link Summary}.
+     */
+    public Summary summarize() {
+        return new Summary(
+            count,
+            getMean(),
+            getP50(),
+            getP99(),
+            getMax()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return summarize().toString();
+    }
+
+    /**
+     * An immutable summary of a {@link LatencyHistogram}.
+     */
+    public static final class Summary {
+        private final long count;
+        private final double mean;
+        private final long p50;
+        private final long p99;
+        private final long max;
+
+        private Summary(long count, double mean, long p50, long p99, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        private static String us(double nanos) {
+            return StringUtils.format("%sus", Math.round(nanos / 100) / 10.0);
+        }
+
+        @Override
+        public String toString() {
+            return StringUtils.format(
+                "n=%s mean=%s p50=%s p99=%s max=%s",
+                count,
+                us(mean),
+                us(p50),
+                us(p99),
+                us(max)
+            );
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package xyz.devmello.voyager.profiling;
+
+/**
+ * The phases of a single {@code Voyager.tick()}, in the order they run.
+ *
+ * @since 1.2.0
+ */
+public enum TickPhase {
+    /**
+     * Ticking the odometry system and reading the robot's position.
+     */
+    ODOMETRY,
+
+    /**
+     * Every plugin's {@code preTick} hook.
+     */
+    PRE_TICK,
+
+    /**
+     * Updating the zone processor.
+     */
+    ZONES,
+
+    /**
+     * Ticking the executor manager, which ticks the current follower.
+     */
+    EXECUTOR,
+
+    /**
+     * Every plugin's {@code onTick} hook and every on-tick operation.
+     */
+    ON_TICK,
+
+    /**
+     * Every plugin's {@code postTick} hook.
+     */
+    POST_TICK,
+
+    /**
+     * The whole tick, from start to finish.
+     */
+    TOTAL,
+}
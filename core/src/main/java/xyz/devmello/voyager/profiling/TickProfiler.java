@@ -0,0 +1,244 @@
+package xyz.devmello.voyager.profiling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import xyz.devmello.voyager.plugin.PathfinderPlugin;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * An opt-in profiler for {@code Voyager.tick()}. Enable it with
+ * {@code voyager.enableProfiling()}.
+ *
+ * <p>
+ * Every tick, the profiler records how long each {@link TickPhase} took,
+ * how long each plugin's {@code preTick}, {@code onTick} and
+ * {@code postTick} hooks took, and how long each named on-tick operation
+ * took. Durations are measured with {@link System#nanoTime()} and kept in
+ * {@link LatencyHistogram}s, so after the first tick (which creates a
+ * histogram for every plugin and operation it sees) profiling doesn't
+ * allocate anything.
+ * </p>
+ *
+ * <p>
+ * {@link #summarize()} and {@link #toString()} produce a snapshot of every
+ * histogram, which is useful for finding the plugin or odometry system
+ * that's taking up the most of the loop's time.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class TickProfiler {
+    private static final TickPhase[] PHASES = TickPhase.values();
+    private static final Hook[] HOOKS = Hook.values();
+
+    /**
+     * The plugin hooks that are called every tick.
+     */
+    public enum Hook {
+        PRE_TICK,
+        ON_TICK,
+        POST_TICK,
+    }
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[PHASES.length];
+    private final Map<PathfinderPlugin, LatencyHistogram[]> plugins =
+        new LinkedHashMap<>();
+    private final Map<String, LatencyHistogram> operations =
+        new LinkedHashMap<>();
+
+    /**
+     * Create a new {@code TickProfiler}.
+     */
+    public TickProfiler() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Get the current time, if there's a profiler.
+     *
+     * @param profiler the profiler, which may be null.
+     * @return {@link System#nanoTime()} if the profiler isn't null,
+     * otherwise, 0.
+     */
+    public static long start(TickProfiler profiler) {
+        return profiler == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Record the end of a phase, if there's a profiler.
+     *
+     * @param profiler the profiler, which may be null.
+     * @param phase    the phase that just finished.
+     * @param start    when the phase started.
+     * @return the current time, which is when the next phase starts, or 0
+     * if there's no profiler.
+     */
+    public static long lap(TickProfiler profiler, TickPhase phase, long start) {
+        if (profiler == null) return 0;
+
+        long now = System.nanoTime();
+        profiler.phases[phase.ordinal()].record(now - start);
+
+        return now;
+    }
+
+    /**
+     * Record the end of a plugin hook.
+     *
+     * @param plugin the plugin.
+     * @param hook   the hook that just finished.
+     * @param start  when the hook started.
+     * @return the current time.
+     */
+    public long lap(PathfinderPlugin plugin, Hook hook, long start) {
+        long now = System.nanoTime();
+        LatencyHistogram[] histograms = plugins.get(plugin);
+
+        if (histograms == null) {
+            histograms = new LatencyHistogram[HOOKS.length];
+
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+
+            plugins.put(plugin, histograms);
+        }
+
+        histograms[hook.ordinal()].record(now - start);
+
+        return now;
+    }
+
+    /**
+     * Record the end of a named on-tick operation.
+     *
+     * @param name  the operation's name.
+     * @param start when the operation started.
+     * @return the current time.
+     */
+    public long lap(String name, long start) {
+        long now = System.nanoTime();
+        LatencyHistogram histogram = operations.get(name);
+
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            operations.put(name, histogram);
+        }
+
+        histogram.record(now - start);
+
+        return now;
+    }
+
+    /**
+     * Get the histogram for a phase.
+     *
+     * @param phase the phase.
+     * @return the phase's histogram.
+     */
+    public LatencyHistogram getPhase(TickPhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Get the histogram for one of a plugin's hooks.
+     *
+     * @param plugin the plugin.
+     * @param hook   the hook.
+     * @return the hook's histogram, or null if the plugin hasn't been
+     * profiled yet.
+     */
+    public LatencyHistogram getPlugin(PathfinderPlugin plugin, Hook hook) {
+        LatencyHistogram[] histograms = plugins.get(plugin);
+
+        return histograms == null ? null : histograms[hook.ordinal()];
+    }
+
+    /**
+     * Get the histogram for a named on-tick operation.
+     *
+     * @param name the operation's name.
+     * @return the operation's histogram, or null if the operation hasn't
+     * been profiled yet.
+     */
+    public LatencyHistogram getOperation(String name) {
+        return operations.get(name);
+    }
+
+    /**
+     * Discard everything that's been recorded.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phases) histogram.reset();
+
+        for (LatencyHistogram[] histograms : plugins.values()) {
+            for (LatencyHistogram histogram : histograms) histogram.reset();
+        }
+
+        for (LatencyHistogram histogram : operations.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Summarize every histogram. Keys are {@code phase/<phase>},
+     * {@code plugin/<plugin name>/<hook>} and {@code onTick/<name>}, in
+     * the order they were first recorded. Plugin hooks that have never
+     * been recorded are left out.
+     *
+     * @return a new map of summaries.
+     */
+    public Map<String, LatencyHistogram.Summary> summarize() {
+        Map<String, LatencyHistogram.Summary> summaries = new LinkedHashMap<>();
+
+        for (TickPhase phase : PHASES) {
+            summaries.put(
+                "phase/" + phase.name().toLowerCase(),
+                phases[phase.ordinal()].summarize()
+            );
+        }
+
+        for (Map.Entry<PathfinderPlugin, LatencyHistogram[]> entry : plugins.entrySet()) {
+            for (Hook hook : HOOKS) {
+                LatencyHistogram histogram = entry.getValue()[hook.ordinal()];
+
+                if (histogram.getCount() == 0) continue;
+
+                summaries.put(
+                    StringUtils.format(
+                        "plugin/%s/%s",
+                        entry.getKey().getName(),
+                        hook.name().toLowerCase()
+                    ),
+                    histogram.summarize()
+                );
+            }
+        }
+
+        for (Map.Entry<String, LatencyHistogram> entry : operations.entrySet()) {
+            summaries.put(
+                "onTick/" + entry.getKey(),
+                entry.getValue().summarize()
+            );
+        }
+
+        return summaries;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<String, LatencyHistogram.Summary> entry : summarize().entrySet()) {
+            builder
+                .append(entry.getKey())
+                .append(": ")
+                .append(entry.getValue())
+                .append('\n');
+        }
+
+        return builder.toString();
+    }
+}
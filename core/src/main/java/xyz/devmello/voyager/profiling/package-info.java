@@ -0,0 +1,6 @@
+/**
+ * Tools for measuring where time goes during {@code Voyager.tick()}.
+ *
+ * @since 1.2.0
+ */
+package xyz.devmello.voyager.profiling;
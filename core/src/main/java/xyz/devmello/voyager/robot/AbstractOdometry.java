@@ -48,6 +48,14 @@ public abstract class AbstractOdometry implements Odometry {
             );
         }
 
+        return toPosition(rawPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PointXYZ toPosition(PointXYZ rawPosition) {
         return modifier.apply(rawPosition).add(offset);
     }
 
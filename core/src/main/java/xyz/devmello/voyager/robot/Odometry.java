@@ -81,21 +81,41 @@ public interface Odometry {
      * center of the robot's position.
      */
     default PointXYZ getPosition() {
-        return ValidationUtils
-            .validate(
+        return toPosition(
+            ValidationUtils.validate(
                 getRawPosition(),
                 "getRawPosition()",
                 "your getRawPosition() method implementation returned null, " +
                 "which it should never do!"
             )
-            .add(
-                ValidationUtils.validate(
-                    getOffset(),
-                    "getOffset()",
-                    "your getOffset() method implementation returned null, " +
-                    "which it should never do!"
-                )
-            );
+        );
+    }
+
+    /**
+     * Convert a raw position (as returned by {@link #getRawPosition()}) into
+     * a position, by applying this odometry system's offset. This doesn't
+     * read anything from the robot, so it's cheap to call - Pathfinder
+     * uses it to re-apply the current offset to the raw position it read
+     * at the start of a tick.
+     *
+     * <p>
+     * If you override {@link #getPosition()}, you should override this
+     * method as well, so the two are consistent.
+     * </p>
+     *
+     * @param rawPosition the raw position.
+     * @return the position, with the offset applied.
+     * @since 1.2.0
+     */
+    default PointXYZ toPosition(PointXYZ rawPosition) {
+        return rawPosition.add(
+            ValidationUtils.validate(
+                getOffset(),
+                "getOffset()",
+                "your getOffset() method implementation returned null, " +
+                "which it should never do!"
+            )
+        );
     }
 
     /**
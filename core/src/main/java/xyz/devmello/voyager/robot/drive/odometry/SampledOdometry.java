@@ -0,0 +1,414 @@
+package xyz.devmello.voyager.robot.drive.odometry;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.robot.Odometry;
+import xyz.devmello.voyager.utils.StringUtils;
+import xyz.devmello.voyager.utils.time.Time;
+
+/**
+ * An {@link Odometry} wrapper that reads another odometry system on its own
+ * thread, so the thread running {@code Voyager.tick()} never has to wait
+ * for sensor reads.
+ *
+ * <p>
+ * Some odometry systems are slow to read. The goBILDA Pinpoint, for
+ * example, does an I2C bulk read every time it's ticked, which can block
+ * for several milliseconds. Wrapping it in a {@code SampledOdometry} and
+ * calling {@link #start()} moves that work onto a background thread, which
+ * calls the wrapped system's {@link Odometry#tick()} and
+ * {@link Odometry#getRawPosition()} in a loop, at a fixed rate. Each
+ * reading is published as an immutable {@link Sample} through a single
+ * volatile reference, so reading the latest position is wait-free and
+ * never sees a half-written pose.
+ * </p>
+ *
+ * <p>
+ * Offsets and modifiers are forwarded to the wrapped system, so
+ * {@link #getPosition()} behaves exactly like the wrapped system's
+ * {@code getPosition()} would, except that the raw position may be up to
+ * one sampling period old. Use {@link #getSampleAgeNanos()} and
+ * {@link #getSampleRateHz()} to keep an eye on how stale positions are.
+ * Until {@link #start()} is called (and after {@link #stop()} is called),
+ * the wrapped system is read on the calling thread, every time
+ * {@link #tick()} is called, just as if it wasn't wrapped.
+ * </p>
+ *
+ * <p>
+ * The wrapped system is only ever used by one thread at a time: reads
+ * (on either thread) and {@link #setOffset(PointXYZ)} share a lock, so
+ * setting an offset never races a sensor read - on the Pinpoint, both are
+ * I2C transactions. The background thread is paced with
+ * {@link System#nanoTime()}, not {@link Time}, because it's reading real
+ * hardware: a {@link xyz.devmello.voyager.utils.time.VirtualClock} doesn't
+ * make it sample any faster, and sampling doesn't move a virtual clock.
+ * </p>
+ *
+ * <p>
+ * If reading the wrapped system throws an exception on the background
+ * thread, the exception is counted and logged, the previous sample is
+ * kept, and sampling continues.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class SampledOdometry implements Odometry {
+    /**
+     * The sampling rate used by {@link #SampledOdometry(Odometry)}, in
+     * hertz. This is about as fast as a goBILDA Pinpoint updates.
+     */
+    public static final double DEFAULT_RATE_HZ = 1_000;
+
+    /**
+     * How heavily each new sampling interval is weighted in the moving
+     * average used by {@link #getSampleRateHz()}.
+     */
+    private static final double RATE_SMOOTHING = 0.1;
+
+    private final Odometry source;
+    private final Object sourceLock = new Object();
+    private final double rateHz;
+    private volatile Sample sample = null;
+    private volatile double averageIntervalNanos = 0;
+    private volatile boolean running = false;
+    private volatile long errors = 0;
+    private volatile Throwable lastError = null;
+    private Thread thread;
+
+    /**
+     * Create a new {@code SampledOdometry} that samples at
+     * {@link #DEFAULT_RATE_HZ}.
+     *
+     * @param source the odometry system to sample.
+     */
+    public SampledOdometry(Odometry source) {
+        this(source, DEFAULT_RATE_HZ);
+    }
+
+    /**
+     * Create a new {@code SampledOdometry}.
+     *
+     * @param source the odometry system to sample.
+     * @param rateHz how many times per second to sample. If the wrapped
+     *               system can't be read this quickly, it's sampled as
+     *               fast as it can be read.
+     */
+    public SampledOdometry(Odometry source, double rateHz) {
+        if (source == null) throw new IllegalArgumentException(
+            "Source odometry may not be null!"
+        );
+
+        // spinning as fast as possible would keep a whole core busy, so
+        // there has to be some rate to sleep between samples
+        if (!(rateHz > 0)) throw new IllegalArgumentException(
+            "Sampling rate must be positive!"
+        );
+
+        this.source = source;
+        this.rateHz = rateHz;
+    }
+
+    /**
+     * Start sampling on a background thread. If sampling has already
+     * started, this does nothing.
+     *
+     * @return {@code this}, used for method chaining.
+     */
+    public synchronized SampledOdometry start() {
+        if (running) return this;
+
+        running = true;
+        thread = new Thread(this::run, "voyager-odometry-sampler");
+        thread.setDaemon(true);
+        thread.start();
+
+        return this;
+    }
+
+    /**
+     * Stop sampling on the background thread, and wait for it to finish.
+     * After this, the wrapped system is read whenever {@link #tick()} is
+     * called.
+     */
+    public synchronized void stop() {
+        if (!running) return;
+
+        running = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        thread = null;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long periodNanos = Math.max(1, Math.round(1_000_000_000 / rateHz));
+        long deadline = System.nanoTime();
+
+        while (running) {
+            try {
+                synchronized (sourceLock) {
+                    sample();
+                }
+            } catch (RuntimeException e) {
+                errors++;
+                lastError = e;
+
+                Logger.warn(
+                    SampledOdometry.class,
+                    "Failed to sample odometry <%s>: %s",
+                    source,
+                    e
+                );
+            }
+
+            deadline += periodNanos;
+
+            long remaining = deadline - System.nanoTime();
+
+            // if sampling took longer than a whole period, start the
+            // schedule again from now instead of catching up
+            if (remaining <= 0) deadline -= remaining;
+
+            while (remaining > 0 && running) {
+                LockSupport.parkNanos(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    // must be called while holding sourceLock
+    private void sample() {
+        source.tick();
+
+        PointXYZ rawPosition = source.getRawPosition();
+
+        if (rawPosition == null) throw new NullPointerException(
+            "The sampled odometry system reported a null position!"
+        );
+
+        long now = Time.nanoTime();
+        Sample previous = sample;
+
+        if (previous != null) {
+            double interval = now - previous.timestampNanos;
+
+            averageIntervalNanos = averageIntervalNanos == 0
+                ? interval
+                : averageIntervalNanos +
+                (interval - averageIntervalNanos) * RATE_SMOOTHING;
+        }
+
+        sample = new Sample(
+            rawPosition,
+            now,
+            previous == null ? 1 : previous.sequence + 1
+        );
+    }
+
+    /**
+     * Get the latest sample. If nothing has been sampled yet, the wrapped
+     * system is read on the calling thread.
+     *
+     * @return the latest sample.
+     */
+    public Sample getSample() {
+        Sample current = sample;
+
+        if (current == null) {
+            synchronized (sourceLock) {
+                if (sample == null) sample();
+
+                current = sample;
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * If sampling hasn't been started, read the wrapped system now.
+     * Otherwise, this does nothing - the background thread is responsible
+     * for reading the wrapped system.
+     */
+    @Override
+    public void tick() {
+        if (running) return;
+
+        synchronized (sourceLock) {
+            sample();
+        }
+    }
+
+    /**
+     * Get the raw position from the latest sample.
+     *
+     * @return the latest raw position.
+     */
+    @Override
+    public PointXYZ getRawPosition() {
+        return getSample().rawPosition;
+    }
+
+    @Override
+    public PointXYZ getPosition() {
+        return source.toPosition(getRawPosition());
+    }
+
+    @Override
+    public PointXYZ toPosition(PointXYZ rawPosition) {
+        return source.toPosition(rawPosition);
+    }
+
+    @Override
+    public PointXYZ getOffset() {
+        return source.getOffset();
+    }
+
+    /**
+     * Set the wrapped system's offset. This waits for any read of the
+     * wrapped system that's in progress to finish first.
+     *
+     * @param offset the new offset.
+     */
+    @Override
+    public void setOffset(PointXYZ offset) {
+        synchronized (sourceLock) {
+            source.setOffset(offset);
+        }
+    }
+
+    @Override
+    public Function<PointXYZ, PointXYZ> getOdometryModifier() {
+        return source.getOdometryModifier();
+    }
+
+    @Override
+    public void setOdometryModifier(Function<PointXYZ, PointXYZ> modifier) {
+        source.setOdometryModifier(modifier);
+    }
+
+    /**
+     * Get how long ago the latest sample was taken.
+     *
+     * @return the latest sample's age, in nanoseconds, or
+     * {@link Long#MAX_VALUE} if nothing has been sampled yet.
+     */
+    public long getSampleAgeNanos() {
+        Sample current = sample;
+
+        return current == null
+            ? Long.MAX_VALUE
+            : Time.nanoTime() - current.timestampNanos;
+    }
+
+    /**
+     * Get a moving average of how many samples are being taken per second.
+     *
+     * @return the sampling rate, in hertz, or 0 if fewer than two samples
+     * have been taken.
+     */
+    public double getSampleRateHz() {
+        double interval = averageIntervalNanos;
+
+        return interval <= 0 ? 0 : 1_000_000_000 / interval;
+    }
+
+    /**
+     * Get the total number of samples that have been taken.
+     *
+     * @return how many samples have been taken.
+     */
+    public long getSampleCount() {
+        Sample current = sample;
+
+        return current == null ? 0 : current.sequence;
+    }
+
+    /**
+     * Get the number of times reading the wrapped system has failed on the
+     * background thread.
+     *
+     * @return how many samples have failed.
+     */
+    public long getErrorCount() {
+        return errors;
+    }
+
+    /**
+     * Get the most recent exception thrown while sampling on the background
+     * thread.
+     *
+     * @return the last exception, or null if there hasn't been one.
+     */
+    public Throwable getLastError() {
+        return lastError;
+    }
+
+    public Odometry getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format(
+            "SampledOdometry(source=%s, rate=%sHz, age=%sus)",
+            source,
+            Math.round(getSampleRateHz()),
+            sample == null ? "-" : getSampleAgeNanos() / 1_000
+        );
+    }
+
+    /**
+     * A single, immutable reading of the wrapped odometry system.
+     */
+    public static final class Sample {
+        private final PointXYZ rawPosition;
+        private final long timestampNanos;
+        private final long sequence;
+
+        private Sample(PointXYZ rawPosition, long timestampNanos, long sequence) {
+            this.rawPosition = rawPosition;
+            this.timestampNanos = timestampNanos;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Get the wrapped system's raw position.
+         *
+         * @return the raw position.
+         */
+        public PointXYZ getRawPosition() {
+            return rawPosition;
+        }
+
+        /**
+         * Get when the sample was taken, according to {@link Time#nanoTime()}.
+         *
+         * @return the sample's timestamp, in nanoseconds.
+         */
+        public long getTimestampNanos() {
+            return timestampNanos;
+        }
+
+        /**
+         * Get the sample's sequence number. The first sample is 1, and
+         * each sample after that is one greater than the last.
+         *
+         * @return the sample's sequence number.
+         */
+        public long getSequence() {
+            return sequence;
+        }
+    }
+}
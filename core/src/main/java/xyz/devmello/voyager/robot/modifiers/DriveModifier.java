@@ -105,6 +105,10 @@ public class DriveModifier {
      * @return the modified translation.
      */
     public Translation modify(Translation translation) {
+        // translations are immutable, so there's no need to copy one that
+        // isn't going to be changed
+        if (!swapXY && !invertX && !invertY) return translation;
+
         double x = swapXY ? translation.vy() : translation.vx();
         double y = swapXY ? translation.vx() : translation.vy();
         x = invertX ? x * -1 : x;
@@ -0,0 +1,49 @@
+package xyz.devmello.voyager.utils.time;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A monotonic source of time, in nanoseconds. Every part of Pathfinder that
+ * needs to know the current time gets it from {@link Time}, which gets it
+ * from the {@code Clock} set with {@link Time#setClock(Clock)}.
+ *
+ * <p>
+ * By default, that's {@link SystemClock}, which uses
+ * {@link System#nanoTime()}. Tests and simulators can use a
+ * {@link VirtualClock} instead, which only moves when it's told to, so an
+ * entire autonomous routine can be run much faster than real time.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface Clock {
+    /**
+     * Get the current time, in nanoseconds. The origin is arbitrary, so
+     * this is only meaningful when compared to another value from the same
+     * clock. Successive calls never return a smaller value.
+     *
+     * @return the current time, in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Block until {@link #nanoTime()} reaches a deadline. The thread is
+     * parked until {@code spinNanos} before the deadline, then spins for
+     * the rest of the time.
+     *
+     * @param deadline  the deadline, in nanoseconds.
+     * @param spinNanos how long before the deadline to stop parking and
+     *                  start spinning.
+     */
+    default void sleepUntil(long deadline, long spinNanos) {
+        while (true) {
+            long remaining = deadline - nanoTime();
+
+            if (remaining <= 0) return;
+
+            if (remaining > spinNanos) {
+                LockSupport.parkNanos(remaining - spinNanos);
+            }
+        }
+    }
+}
@@ -33,11 +33,16 @@ public class ElapsedTimer {
     /**
      * The time the elapsed timer started at. If the timer has not started yet,
      * this value will be 0. If the timer has already started, this will be
-     * the time the timer started in, in milliseconds.
+     * the time the timer started in, in nanoseconds.
      *
-     * @see Time#longMs()
+     * @see Time#nanoTime()
      */
-    private long start = 0;
+    private long startNanos = 0;
+
+    /**
+     * Has the timer been started?
+     */
+    private boolean isStarted = false;
 
     /**
      * Create a new {@code ElapsedTimer}. The timer will NOT start
@@ -78,8 +83,12 @@ public class ElapsedTimer {
      * @param timeMs   how long to wait for, in milliseconds.
      */
     public static void wait(double timeMs) {
-        ElapsedTimer timer = new ElapsedTimer(true);
-        while (!timer.isElapsedLessThan(timeMs));
+        // sleep rather than spin, and let a VirtualClock skip the wait
+        // entirely
+        Time.sleepUntil(
+            Time.nanoTime() + (long) (timeMs * 1_000_000),
+            1_000_000
+        );
     }
 
     /**
@@ -110,7 +119,8 @@ public class ElapsedTimer {
      * Start the timer.
      */
     public void start() {
-        start = Time.longMs();
+        startNanos = Time.nanoTime();
+        isStarted = true;
     }
 
     /**
@@ -119,9 +129,17 @@ public class ElapsedTimer {
      * @return the elapsed time, in milliseconds.
      */
     public long getElapsed() {
-        long current = Time.longMs();
+        return elapsedNanos() / 1_000_000;
+    }
 
-        return current - start;
+    /**
+     * Get the elapsed time, in nanoseconds.
+     *
+     * @return the elapsed time, in nanoseconds.
+     * @since 1.2.0
+     */
+    public long elapsedNanos() {
+        return Time.nanoTime() - startNanos;
     }
 
     /**
@@ -130,7 +148,7 @@ public class ElapsedTimer {
      * @return a new {@code TimeSpan} representing an amount of elapsed time.
      */
     public TimeSpan getTimeSpan() {
-        return new TimeSpan(start, getElapsed());
+        return new TimeSpan(startNanos / 1_000_000, getElapsed());
     }
 
     /**
@@ -227,7 +245,7 @@ public class ElapsedTimer {
      * {@code this} has not yet started, return false.
      */
     public boolean hasStarted() {
-        return start != 0;
+        return isStarted;
     }
 
     /**
@@ -236,6 +254,7 @@ public class ElapsedTimer {
      * is instantaneous, it would return {@code 0}.
      */
     public void reset() {
-        start = Time.longMs();
+        startNanos = Time.nanoTime();
+        isStarted = true;
     }
 }
@@ -0,0 +1,25 @@
+package xyz.devmello.voyager.utils.time;
+
+/**
+ * The default {@link Clock}, backed by {@link System#nanoTime()}.
+ *
+ * @since 1.2.0
+ */
+public final class SystemClock implements Clock {
+    /**
+     * The only instance of {@code SystemClock}.
+     */
+    public static final SystemClock INSTANCE = new SystemClock();
+
+    private SystemClock() {}
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "SystemClock";
+    }
+}
@@ -12,48 +12,125 @@ package xyz.devmello.voyager.utils.time;
 
 /**
  * Utilities related to time. This includes convenience methods to get
- * the system's current time, as well as convenience methods to calculate
+ * the current time, as well as convenience methods to calculate
  * a timestamp based on the current timestamp - for example, check out
  * {@link #secondsFromNow(double)}.
  *
+ * <p>
+ * The current time comes from a {@link Clock}, which is a
+ * {@link SystemClock} unless it's been changed with
+ * {@link #setClock(Clock)}. Times are monotonic and have an arbitrary
+ * origin - they're meant for measuring elapsed time, not for telling the
+ * date.
+ * </p>
+ *
  * @author Colin Robertson
  * @since 0.0.0
  */
 public class Time {
 
+    private static volatile Clock clock = SystemClock.INSTANCE;
+
     private Time() {}
 
     /**
-     * Get the system's current time in milliseconds.
+     * Set the clock every time measurement in Pathfinder is based on.
+     *
+     * @param clock the clock to use.
+     * @since 1.2.0
+     */
+    public static void setClock(Clock clock) {
+        if (clock == null) throw new IllegalArgumentException(
+            "Clock may not be null!"
+        );
+
+        Time.clock = clock;
+    }
+
+    /**
+     * Go back to using the {@link SystemClock}.
+     *
+     * @since 1.2.0
+     */
+    public static void useSystemClock() {
+        setClock(SystemClock.INSTANCE);
+    }
+
+    /**
+     * Get the clock every time measurement in Pathfinder is based on.
+     *
+     * @return the current clock.
+     * @since 1.2.0
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Get the current time in nanoseconds. This is monotonic and has an
+     * arbitrary origin, so it may be negative: only use it to measure
+     * elapsed time, never as a wall-clock or epoch time.
+     *
+     * @return the current time in nanoseconds.
+     * @since 1.2.0
+     */
+    public static long nanoTime() {
+        return clock.nanoTime();
+    }
+
+    /**
+     * Block until {@link #nanoTime()} reaches a deadline. With a
+     * {@link VirtualClock}, this returns immediately.
+     *
+     * @param deadline  the deadline, in nanoseconds.
+     * @param spinNanos how long before the deadline to stop sleeping and
+     *                  start spinning.
+     * @since 1.2.0
+     */
+    public static void sleepUntil(long deadline, long spinNanos) {
+        clock.sleepUntil(deadline, spinNanos);
+    }
+
+    /**
+     * Get the current time in milliseconds. This has sub-millisecond
+     * precision. It's monotonic and has an arbitrary origin, so it may be
+     * negative: only use it to measure elapsed time, never as a wall-clock
+     * or epoch time (use {@link System#currentTimeMillis()} for that).
      *
-     * @return the system's current time in milliseconds.
+     * @return the current time in milliseconds.
      */
     public static double ms() {
-        return (double) System.currentTimeMillis();
+        return clock.nanoTime() / 1_000_000d;
     }
 
     /**
-     * Get the system's current time in milliseconds.
+     * Get the current time in milliseconds, rounded towards zero. It's
+     * monotonic and has an arbitrary origin, so it may be negative: only
+     * use it to measure elapsed time, never as a wall-clock or epoch time.
      *
-     * @return the system's current time in milliseconds.
+     * @return the current time in milliseconds.
      */
     public static long longMs() {
-        return System.currentTimeMillis();
+        return clock.nanoTime() / 1_000_000;
     }
 
     /**
-     * Get the system's current time, in seconds.
+     * Get the current time, in seconds. It's monotonic and has an arbitrary
+     * origin, so it may be negative: only use it to measure elapsed time,
+     * never as a wall-clock or epoch time.
      *
-     * @return the system's current time, in seconds.
+     * @return the current time, in seconds.
      */
     public static double seconds() {
         return ms() / 1_000;
     }
 
     /**
-     * Get the system's current time, in seconds.
+     * Get the current time, in seconds, rounded towards zero. It's monotonic
+     * and has an arbitrary origin, so it may be negative: only use it to
+     * measure elapsed time, never as a wall-clock or epoch time.
      *
-     * @return the system's current time, in seconds.
+     * @return the current time, in seconds.
      */
     public static long longSeconds() {
         return longMs() / 1_000;
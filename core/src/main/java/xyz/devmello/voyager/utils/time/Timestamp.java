@@ -22,8 +22,11 @@ public class Timestamp {
      * The timestamp's value.
      *
      * <p>
-     * Values reported by the {@link System#currentTimeMillis()} are provided
-     * as longs, but we convert them to doubles because those are cooler.
+     * Timestamps created by {@link #now()} hold {@link Time#ms()}, which is
+     * monotonic and has an arbitrary origin (it may be negative). Only
+     * compare them with other timestamps from the same clock; they aren't
+     * wall-clock or epoch times, and can't be compared with
+     * {@link System#currentTimeMillis()}.
      * </p>
      */
     private final double value;
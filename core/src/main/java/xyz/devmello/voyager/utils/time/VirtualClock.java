@@ -0,0 +1,109 @@
+package xyz.devmello.voyager.utils.time;
+
+import java.util.concurrent.atomic.AtomicLong;
+import xyz.devmello.voyager.utils.StringUtils;
+
+/**
+ * A {@link Clock} that only moves when it's told to.
+ *
+ * <p>
+ * Install one with {@link Time#setClock(Clock)} to run Pathfinder without
+ * any real time passing - for example, in a simulator or a test, advance
+ * the clock by a fixed step after every tick:
+ * <pre>{@code
+ * VirtualClock clock = new VirtualClock();
+ * Time.setClock(clock);
+ *
+ * while (voyager.isActive()) {
+ *     voyager.tick();
+ *     clock.advanceMs(5);
+ * }
+ *
+ * Time.useSystemClock();
+ * }</pre>
+ * Anything that waits for a deadline with
+ * {@link #sleepUntil(long, long)} (like {@code TickScheduler} and
+ * {@link ElapsedTimer#wait(double)}) jumps the clock straight to the
+ * deadline instead of waiting, so a fixed-rate loop runs as fast as the
+ * CPU allows while still seeing perfectly uniform time steps. Loops that
+ * busy-wait on the time without sleeping won't end until something else
+ * advances the clock.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class VirtualClock implements Clock {
+    private final AtomicLong nanos;
+
+    /**
+     * Create a new {@code VirtualClock}, starting at 0.
+     */
+    public VirtualClock() {
+        this(0);
+    }
+
+    /**
+     * Create a new {@code VirtualClock}.
+     *
+     * @param startNanos the clock's initial time, in nanoseconds.
+     */
+    public VirtualClock(long startNanos) {
+        this.nanos = new AtomicLong(startNanos);
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+
+    /**
+     * Move the clock forwards.
+     *
+     * @param deltaNanos how far to move the clock, in nanoseconds.
+     * @return the clock's new time, in nanoseconds.
+     */
+    public long advanceNanos(long deltaNanos) {
+        if (deltaNanos < 0) throw new IllegalArgumentException(
+            "A clock can't move backwards!"
+        );
+
+        return nanos.addAndGet(deltaNanos);
+    }
+
+    /**
+     * Move the clock forwards.
+     *
+     * @param deltaMs how far to move the clock, in milliseconds.
+     * @return the clock's new time, in nanoseconds.
+     */
+    public long advanceMs(double deltaMs) {
+        return advanceNanos(Math.round(deltaMs * 1_000_000));
+    }
+
+    /**
+     * Move the clock forwards.
+     *
+     * @param deltaSeconds how far to move the clock, in seconds.
+     * @return the clock's new time, in nanoseconds.
+     */
+    public long advanceSeconds(double deltaSeconds) {
+        return advanceNanos(Math.round(deltaSeconds * 1_000_000_000));
+    }
+
+    /**
+     * Jump the clock to the deadline (if it hasn't already passed),
+     * without waiting.
+     *
+     * @param deadline  the deadline, in nanoseconds.
+     * @param spinNanos ignored.
+     */
+    @Override
+    public void sleepUntil(long deadline, long spinNanos) {
+        nanos.accumulateAndGet(deadline, Math::max);
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format("VirtualClock(%sns)", nanos.get());
+    }
+}
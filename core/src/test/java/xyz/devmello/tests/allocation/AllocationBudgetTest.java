@@ -0,0 +1,315 @@
+package xyz.devmello.tests.allocation;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.Voyager;
+import xyz.devmello.voyager.execution.trajectory.multi.target.MultiTargetBuilder;
+import xyz.devmello.voyager.execution.trajectory.multi.target.MultiTargetTrajectory;
+import xyz.devmello.voyager.execution.trajectory.multi.target.TargetPrecision;
+import xyz.devmello.voyager.execution.trajectory.multi.target.TrajectoryTarget;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+import xyz.devmello.voyager.plugin.bundled.GyroOdometry;
+import xyz.devmello.voyager.robot.AbstractDrive;
+import xyz.devmello.voyager.robot.AbstractOdometry;
+import xyz.devmello.voyager.robot.Robot;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for {@link Voyager#tick()}. Each test drives a
+ * {@code Voyager} with a simulated drive and odometry, measures how many
+ * bytes the ticking thread allocates per tick once the JIT has warmed up,
+ * and fails if that's over the scenario's budget.
+ *
+ * <p>
+ * Allocation is measured with
+ * {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * JVMs without it (or with it disabled) skip these tests instead of
+ * failing them.
+ * </p>
+ *
+ * <p>
+ * Every budget can be overridden with a system property named
+ * {@code voyager.allocationBudget.<scenario>}, in bytes per tick. That's
+ * meant for JVMs that don't do escape analysis (an interpreter-only run
+ * allocates several times more), not for hiding regressions: if a change
+ * pushes a scenario over its budget, find the allocation, or raise the
+ * documented budget here along with a reason.
+ * </p>
+ *
+ * <p>
+ * Budgets are about double the highest number measured on a HotSpot JVM,
+ * where how much escape analysis removes changes a bit from run to run. Every
+ * budget includes the {@link PointXYZ} the simulated odometry creates each
+ * tick, which a real odometry would create too.
+ * </p>
+ */
+class AllocationBudgetTest {
+    private static final String PROPERTY_PREFIX = "voyager.allocationBudget.";
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 10_000;
+
+    /**
+     * Ticking with no active followers. Measured at 48 to 88 bytes per tick,
+     * which is the position the odometry creates.
+     */
+    private static final long IDLE_BUDGET = 192;
+
+    /**
+     * The core follower path - a single linear trajectory followed by a
+     * {@code GenericFollower}. Measured at 180 to 350 bytes per tick: the
+     * position, and the translation the follower hands to the drive.
+     */
+    private static final long LINEAR_BUDGET = 768;
+
+    /**
+     * An {@code AdvancedSplineTrajectory} through three points. Measured at
+     * 490 to 610 bytes per tick, most of which is the spline trajectory
+     * finding the next marker.
+     */
+    private static final long SPLINE_BUDGET = 1_280;
+
+    /**
+     * A {@link MultiTargetTrajectory} that drives around a square twice.
+     * Measured at 140 to 260 bytes per tick.
+     */
+    private static final long MULTI_TARGET_BUDGET = 512;
+
+    /**
+     * The linear trajectory with eight rectangular zones the robot never
+     * enters. Measured at 3,000 to 3,150 bytes per tick; almost all of that is
+     * {@link Rectangle#isPointInShape(xyz.devmello.voyager.math.geometry.PointXY)},
+     * which allocates around 500 bytes per call, plus the lists the zone
+     * processor builds every tick.
+     */
+    private static final long ZONES_BUDGET = 6_144;
+
+    /**
+     * The linear trajectory with the plugins loaded by
+     * {@link Voyager#loadBundledPlugins()}. Measured at 250 to 500 bytes per
+     * tick.
+     */
+    private static final long BUNDLED_PLUGINS_BUDGET = 1_024;
+
+    /**
+     * The linear trajectory with {@link GyroOdometry} correcting the
+     * odometry's heading. Measured at 460 to 700 bytes per tick; the
+     * plugin sets a new offset on the odometry every tick.
+     */
+    private static final long GYRO_ODOMETRY_BUDGET = 1_536;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    private double x;
+    private double y;
+    private double z;
+    private Translation translation = Translation.ZERO;
+
+    @BeforeAll
+    static void enableAllocationMeasurement() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        assumeTrue(
+            bean instanceof com.sun.management.ThreadMXBean,
+            "this JVM can't measure per-thread allocation"
+        );
+
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+
+        assumeTrue(
+            threadBean.isThreadAllocatedMemorySupported(),
+            "this JVM can't measure per-thread allocation"
+        );
+
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long budget(String scenario, long defaultBudget) {
+        return Long.getLong(PROPERTY_PREFIX + scenario, defaultBudget);
+    }
+
+    /**
+     * Create a {@code Voyager} whose odometry integrates the last
+     * translation given to its drive. Translations are relative to the
+     * robot, so they're rotated by the robot's heading before being
+     * applied.
+     */
+    private Voyager simulatedVoyager() {
+        AbstractOdometry odometry = new AbstractOdometry() {
+            @Override
+            public PointXYZ getRawPosition() {
+                return new PointXYZ(x, y, z);
+            }
+
+            @Override
+            public void tick() {
+                double heading = Math.toRadians(z);
+                double cos = Math.cos(heading);
+                double sin = Math.sin(heading);
+
+                x += 0.1 * (translation.vx() * cos - translation.vy() * sin);
+                y += 0.1 * (translation.vx() * sin + translation.vy() * cos);
+                z -= translation.vz();
+            }
+        };
+        AbstractDrive drive = new AbstractDrive(
+            t -> translation = t,
+            () -> translation
+        );
+
+        return new Voyager(new Robot(drive, odometry), 0.01)
+            .setSpeed(0.5)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(2));
+    }
+
+    private static double bytesPerTick(Voyager voyager) {
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_TICKS; i++) voyager.tick();
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_TICKS; i++) voyager.tick();
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        return (after - before) / (double) MEASURED_TICKS;
+    }
+
+    private static void assertWithinBudget(
+        String scenario,
+        long defaultBudget,
+        Voyager voyager,
+        boolean shouldBeActive
+    ) {
+        long budget = budget(scenario, defaultBudget);
+        double measured = bytesPerTick(voyager);
+
+        // make sure the measured ticks did what the scenario says they did,
+        // so a follower finishing early doesn't make a budget look easy
+        assertEquals(
+            shouldBeActive,
+            voyager.isActive(),
+            scenario + " finished before it was measured"
+        );
+        assertTrue(
+            measured <= budget,
+            String.format(
+                "%s allocated %.1f bytes per tick, over its budget of %d " +
+                "(set -D%s%s to override)",
+                scenario,
+                measured,
+                budget,
+                PROPERTY_PREFIX,
+                scenario
+            )
+        );
+    }
+
+    @Test
+    void testIdle() {
+        assertWithinBudget("idle", IDLE_BUDGET, simulatedVoyager(), false);
+    }
+
+    @Test
+    void testLinear() {
+        Voyager voyager = simulatedVoyager()
+            .goTo(new PointXYZ(2000, 2000, 45));
+
+        assertWithinBudget("linear", LINEAR_BUDGET, voyager, true);
+    }
+
+    @Test
+    void testSpline() {
+        Voyager voyager = simulatedVoyager()
+            .splineTo(
+                new PointXYZ(400, 200, 0),
+                new PointXYZ(1000, 800, 20),
+                new PointXYZ(2000, 1200, 45)
+            );
+
+        assertWithinBudget("spline", SPLINE_BUDGET, voyager, true);
+    }
+
+    @Test
+    void testMultiTarget() {
+        // each leg only moves along one axis: a target is only complete once
+        // the robot has passed it on every axis at the same time
+        MultiTargetBuilder builder = new MultiTargetBuilder()
+            .setSpeed(0.5)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(2))
+            .setPrecision(TargetPrecision.FAST);
+
+        for (int i = 0; i < 2; i++) {
+            builder
+                .addTargetPoint(new PointXYZ(300, 0, 0))
+                .addTargetPoint(new PointXYZ(300, 300, 0))
+                .addTargetPoint(new PointXYZ(0, 300, 0))
+                .addTargetPoint(new PointXYZ(0, 0, 0));
+        }
+
+        TrajectoryTarget[] targets = builder.build();
+        Voyager voyager = simulatedVoyager()
+            .followTrajectory(new MultiTargetTrajectory(targets));
+
+        assertWithinBudget("multiTarget", MULTI_TARGET_BUDGET, voyager, true);
+    }
+
+    @Test
+    void testZones() {
+        Voyager voyager = simulatedVoyager();
+
+        for (int i = 0; i < 8; i++) {
+            double minX = -50 - i * 5;
+
+            voyager.addZone(
+                "zone" + i,
+                new Zone(new Rectangle(minX, 20, minX + 5, 25))
+            );
+        }
+
+        voyager.goTo(new PointXYZ(2000, 2000, 45));
+
+        assertWithinBudget("zones", ZONES_BUDGET, voyager, true);
+    }
+
+    @Test
+    void testBundledPlugins() {
+        Voyager voyager = simulatedVoyager()
+            .loadBundledPlugins()
+            .goTo(new PointXYZ(2000, 2000, 45));
+
+        assertWithinBudget(
+            "bundledPlugins",
+            BUNDLED_PLUGINS_BUDGET,
+            voyager,
+            true
+        );
+    }
+
+    @Test
+    void testGyroOdometry() {
+        // a boxed constant, so the gyro supplier doesn't allocate
+        Double gyroAngle = 0.0;
+        Voyager voyager = simulatedVoyager();
+
+        voyager.getPluginManager()
+            .loadPlugin(new GyroOdometry(() -> gyroAngle, 0.5));
+        voyager.goTo(new PointXYZ(2000, 2000, 45));
+
+        assertWithinBudget(
+            "gyroOdometry",
+            GYRO_ODOMETRY_BUDGET,
+            voyager,
+            true
+        );
+    }
+}
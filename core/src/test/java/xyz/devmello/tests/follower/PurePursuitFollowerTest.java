@@ -0,0 +1,271 @@
+package xyz.devmello.tests.follower;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.execution.follower.Follower;
+import xyz.devmello.voyager.execution.follower.GenericFollower;
+import xyz.devmello.voyager.execution.follower.PurePursuitFollower;
+import xyz.devmello.voyager.execution.follower.generators.PurePursuitFollowerGenerator;
+import xyz.devmello.voyager.execution.trajectory.LinearTrajectory;
+import xyz.devmello.voyager.execution.trajectory.Trajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
+import xyz.devmello.voyager.execution.trajectory.multi.segment.MultiSegmentTrajectory;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectory;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import xyz.devmello.voyager.execution.trajectory.spline.InterpolationMode;
+import xyz.devmello.voyager.math.control.ProportionalController;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.robot.AbstractDrive;
+import xyz.devmello.voyager.robot.AbstractOdometry;
+import xyz.devmello.voyager.robot.Robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PurePursuitFollowerTest {
+    private static final int MAX_TICKS = 5_000;
+
+    private static AdvancedSplineTrajectory spline(double speed) {
+        return new AdvancedSplineTrajectoryBuilder()
+            .setStep(2)
+            .setSpeed(speed)
+            .setInterpolationMode(InterpolationMode.CUBIC)
+            .setTolerance(1)
+            .setAngleTolerance(Angle.fromDeg(10))
+            .add(new PointXYZ(0, 0, 0))
+            .add(new PointXYZ(30, 25, 0))
+            .add(new PointXYZ(60, 10, 0))
+            .add(new PointXYZ(90, 40, 0))
+            .build();
+    }
+
+    private static LinearTrajectory linear(double x, double y) {
+        return new LinearTrajectory(
+            new PointXYZ(x, y, 0),
+            0.5,
+            1,
+            Angle.fromDeg(10)
+        );
+    }
+
+    /**
+     * How a simulated run went.
+     */
+    private static class Run {
+        int ticks = 0;
+        boolean isDone = false;
+        double maxError = 0;
+        double totalError = 0;
+        // the largest error after the robot has covered half the path
+        double lateMaxError = 0;
+
+        double meanError() {
+            return totalError / ticks;
+        }
+    }
+
+    /**
+     * Follow a path with a robot that doesn't respond right away: each
+     * tick, its velocity only moves part of the way towards the velocity
+     * it's been told to drive at, like a real drivetrain with inertia.
+     * Cross-track error is measured against a densely baked copy of the
+     * path.
+     */
+    private static Run simulate(
+        Follower follower,
+        BakedTrajectory reference,
+        double startX,
+        double startY
+    ) {
+        double maxVelocity = 1;
+        double response = 0.15;
+        double x = startX;
+        double y = startY;
+        double z = 0;
+        double vx = 0;
+        double vy = 0;
+        Translation[] last = new Translation[1];
+        Run run = new Run();
+
+        for (; run.ticks < MAX_TICKS; run.ticks++) {
+            if (follower.tick(new PointXYZ(x, y, z), t -> last[0] = t)) {
+                run.isDone = true;
+                break;
+            }
+
+            // relative to absolute
+            double heading = Math.toRadians(z);
+            double cos = Math.cos(heading);
+            double sin = Math.sin(heading);
+            double ax = last[0].vx() * cos - last[0].vy() * sin;
+            double ay = last[0].vx() * sin + last[0].vy() * cos;
+
+            vx += (ax * maxVelocity - vx) * response;
+            vy += (ay * maxVelocity - vy) * response;
+            x += vx;
+            y += vy;
+            z -= last[0].vz();
+
+            double error = Double.POSITIVE_INFINITY;
+            int closest = 0;
+            for (int i = 0; i < reference.size(); i++) {
+                double distance = Math.hypot(reference.x(i) - x, reference.y(i) - y);
+
+                if (distance < error) {
+                    error = distance;
+                    closest = i;
+                }
+            }
+
+            run.maxError = Math.max(run.maxError, error);
+            run.totalError += error;
+
+            if (reference.distance(closest) > reference.length() / 2) {
+                run.lateMaxError = Math.max(run.lateMaxError, error);
+            }
+        }
+
+        return run;
+    }
+
+    private static PurePursuitFollower follower(double speed) {
+        AdvancedSplineTrajectory trajectory = spline(speed);
+
+        return new PurePursuitFollower(
+            trajectory,
+            trajectory.bake(0.5),
+            new ProportionalController(-0.05),
+            2,
+            4
+        );
+    }
+
+    @Test
+    void testFollowsWithALaggingDrive() {
+        for (double speed : new double[] { 0.3, 1 }) {
+            BakedTrajectory reference = spline(speed).bake(0.1);
+            PurePursuitFollower follower = follower(speed);
+            Run run = simulate(follower, reference, 0, 0);
+
+            assertTrue(run.isDone, "speed " + speed);
+            assertEquals(reference.length(), follower.getProgress(), 1, "speed " + speed);
+            assertTrue(
+                run.maxError < (speed < 1 ? 0.5 : 2),
+                "speed " + speed + ": " + run.maxError
+            );
+            assertTrue(
+                run.meanError() < (speed < 1 ? 0.2 : 0.75),
+                "speed " + speed + ": " + run.meanError()
+            );
+        }
+    }
+
+    @Test
+    void testRecoversFromStartingOffThePath() {
+        for (double speed : new double[] { 0.3, 1 }) {
+            BakedTrajectory reference = spline(speed).bake(0.1);
+            Run run = simulate(follower(speed), reference, 0, 6);
+
+            assertTrue(run.isDone, "speed " + speed);
+            assertTrue(
+                run.lateMaxError < (speed < 1 ? 0.5 : 2),
+                "speed " + speed + ": " + run.lateMaxError
+            );
+        }
+    }
+
+    @Test
+    void testFinishesOnAPathThatStartsWhereItEnds() {
+        AdvancedSplineTrajectory out = spline(0.5);
+        BakedTrajectory there = out.bake(0.5);
+        // the same path, backwards
+        int size = there.size();
+        double[] x = new double[size];
+        double[] y = new double[size];
+        double[] heading = new double[size];
+        double[] speed = new double[size];
+        double[] distance = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = there.x(size - 1 - i);
+            y[i] = there.y(size - 1 - i) + 1;
+            speed[i] = 0.5;
+            distance[i] = there.length() - there.distance(size - 1 - i);
+        }
+        BakedTrajectory loop = BakedTrajectory.concat(Arrays.asList(
+            there,
+            new BakedTrajectory(
+                x,
+                y,
+                heading,
+                speed,
+                distance,
+                2,
+                1,
+                Angle.fromDeg(10)
+            )
+        ));
+        PurePursuitFollower follower = new PurePursuitFollower(
+            loop,
+            loop,
+            new ProportionalController(-0.05),
+            2,
+            4
+        );
+
+        // right at the end point, but at the start of the path
+        Translation[] last = new Translation[1];
+        assertFalse(follower.tick(new PointXYZ(0, 1, 0), t -> last[0] = t));
+
+        Run run = simulate(follower, loop, 0, 0);
+        assertTrue(run.isDone);
+        assertEquals(loop.length(), follower.getProgress(), 1);
+    }
+
+    @Test
+    void testGeneratorFallsBackForUnbakeableTrajectories() {
+        Robot robot = new Robot(
+            new AbstractDrive(t -> {}, () -> Translation.ZERO),
+            new AbstractOdometry() {
+                @Override
+                public PointXYZ getRawPosition() {
+                    return PointXYZ.ZERO;
+                }
+            }
+        );
+        PurePursuitFollowerGenerator generator = new PurePursuitFollowerGenerator(
+            new ProportionalController(-0.05),
+            2,
+            4
+        );
+
+        assertTrue(generator.generate(robot, spline(0.5)) instanceof PurePursuitFollower);
+        assertTrue(generator.generate(robot, spline(0.5).bake(0.5)) instanceof PurePursuitFollower);
+        assertTrue(generator.generate(
+            robot,
+            new MultiSegmentTrajectory(spline(0.5), spline(0.5))
+        ) instanceof PurePursuitFollower);
+
+        assertTrue(generator.generate(robot, linear(10, 10)) instanceof GenericFollower);
+        assertTrue(generator.generate(
+            robot,
+            new MultiSegmentTrajectory(linear(10, 10), linear(20, 0))
+        ) instanceof GenericFollower);
+        assertTrue(generator.generate(
+            robot,
+            new MultiSegmentTrajectory(spline(0.5), linear(20, 0))
+        ) instanceof GenericFollower);
+        assertTrue(generator.generate(
+            robot,
+            new MultiSegmentTrajectory(
+                spline(0.5),
+                new MultiSegmentTrajectory(linear(20, 0))
+            )
+        ) instanceof GenericFollower);
+        assertTrue(generator.generate(
+            robot,
+            new MultiSegmentTrajectory(new ArrayList<Trajectory>())
+        ) instanceof GenericFollower);
+    }
+}
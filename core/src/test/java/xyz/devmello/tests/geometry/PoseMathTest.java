@@ -0,0 +1,143 @@
+package xyz.devmello.tests.geometry;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.PoseMath;
+import xyz.devmello.voyager.math.geometry.Translation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every {@link PoseMath} method produces exactly the same
+ * numbers as the object-based operation it replaces.
+ */
+class PoseMathTest {
+    private static final int CASES = 100_000;
+
+    private static final double[] EDGES = {
+        0, -0.0, 0.005, -0.005, 0.01, -0.01, 0.02, 45, 90, 179.995, 180,
+        180.005, 270, 359.995, 360, 360.005, -90, -180, -360, 720, 1e6,
+    };
+
+    private final Random random = new Random(0x5eed);
+
+    private double nextDeg() {
+        int kind = random.nextInt(4);
+
+        if (kind == 0) return EDGES[random.nextInt(EDGES.length)];
+        if (kind == 1) return (random.nextDouble() - 0.5) * 0.04;
+
+        return (random.nextDouble() - 0.5) * 2_000;
+    }
+
+    private double nextCoordinate() {
+        return random.nextInt(8) == 0
+            ? random.nextInt(5) - 2
+            : (random.nextDouble() - 0.5) * 200;
+    }
+
+    private static void assertSameNumber(double expected, double actual, String what) {
+        // == rather than assertEquals, which tells 0.0 and -0.0 apart
+        assertTrue(
+            expected == actual,
+            () -> what + ": expected " + expected + " but was " + actual
+        );
+    }
+
+    @Test
+    void testAngleOperations() {
+        for (int i = 0; i < CASES; i++) {
+            double a = nextDeg();
+            double b = nextDeg();
+            // minimumDelta takes the degrees of existing angles
+            double fixedA = Angle.fromDeg(a).deg();
+            double fixedB = Angle.fromDeg(b).deg();
+            double rad = Math.toRadians(nextDeg());
+            String args = " (" + a + ", " + b + ", " + rad + ")";
+
+            assertSameNumber(Angle.fromDeg(a).deg(), PoseMath.fromDeg(a), "fromDeg" + args);
+            assertSameNumber(Angle.fromRad(rad).deg(), PoseMath.fromRad(rad), "fromRad" + args);
+            assertSameNumber(Angle.fromDeg(a).fix().deg(), PoseMath.fix(a), "fix" + args);
+            assertSameNumber(Angle.fixedRad(rad).deg(), PoseMath.fixedRad(rad), "fixedRad" + args);
+            assertSameNumber(
+                Angle.fromDeg(a).add(Angle.fromDeg(b)).deg(),
+                PoseMath.add(a, b),
+                "add" + args
+            );
+            assertSameNumber(
+                Angle.minimumDelta(Angle.fromDeg(a), Angle.fromDeg(b)),
+                PoseMath.minimumDelta(fixedA, fixedB),
+                "minimumDelta" + args
+            );
+        }
+    }
+
+    @Test
+    void testPointOperations() {
+        for (int i = 0; i < CASES; i++) {
+            double ax = nextCoordinate();
+            double ay = nextCoordinate();
+            double bx = nextCoordinate();
+            double by = nextCoordinate();
+            double distance = nextCoordinate();
+            // directions are always the degrees of an existing angle
+            double deg = Angle.fromDeg(nextDeg()).deg();
+            String args = " (" + ax + ", " + ay + ", " + bx + ", " + by + ")";
+
+            assertSameNumber(
+                PointXY.angleTo(new PointXY(ax, ay), new PointXY(bx, by)).deg(),
+                PoseMath.angleTo(ax, ay, bx, by),
+                "angleTo" + args
+            );
+
+            PointXY point = PointXY.inDirection(
+                PointXY.ZERO,
+                distance,
+                Angle.fromDeg(deg)
+            );
+
+            assertSameNumber(point.x(), PoseMath.inDirectionX(distance, deg), "inDirectionX");
+            assertSameNumber(point.y(), PoseMath.inDirectionY(distance, deg), "inDirectionY");
+        }
+    }
+
+    @Test
+    void testRelativeDirection() {
+        for (int i = 0; i < CASES; i++) {
+            double vx = nextCoordinate();
+            double vy = nextCoordinate();
+            Angle heading = Angle.fromDeg(nextDeg());
+            String args = " (" + vx + ", " + vy + ", " + heading + ")";
+
+            // how Translation.absoluteToRelative used to work
+            PointXY relative = new PointXY(vx, vy).rotate(
+                PointXY.ZERO,
+                heading.multiply(-1)
+            );
+
+            double direction = PoseMath.relativeDirection(vx, vy, heading.rad());
+            double magnitude = Math.hypot(vx, vy);
+
+            assertSameNumber(
+                relative.x(),
+                PoseMath.inDirectionX(magnitude, direction),
+                "relative X" + args
+            );
+            assertSameNumber(
+                relative.y(),
+                PoseMath.inDirectionY(magnitude, direction),
+                "relative Y" + args
+            );
+
+            Translation translation = Translation.absoluteToRelative(
+                new Translation(vx, vy, 0),
+                heading
+            );
+
+            assertSameNumber(relative.x(), translation.vx(), "absoluteToRelative" + args);
+            assertSameNumber(relative.y(), translation.vy(), "absoluteToRelative" + args);
+        }
+    }
+}
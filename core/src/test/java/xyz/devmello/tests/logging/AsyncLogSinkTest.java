@@ -0,0 +1,163 @@
+package xyz.devmello.tests.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.logging.AsyncLogSink;
+import xyz.devmello.voyager.logging.LogLevel;
+import xyz.devmello.voyager.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogSinkTest {
+    private final StringBuffer output = new StringBuffer();
+
+    @BeforeEach
+    void setUp() {
+        Logger.useSyncOutput();
+        Logger.setOutput(output::append);
+        Logger.setLoggingLevel(LogLevel.TRACE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Logger.useSyncOutput();
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.setOutput(null);
+    }
+
+    private static void publish(AsyncLogSink sink, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            sink.publish(LogLevel.INFO, "test", "message <%s>", i);
+        }
+    }
+
+    @Test
+    void testDropOldestKeepsNewestMessages() {
+        AsyncLogSink sink = new AsyncLogSink(
+            3,
+            AsyncLogSink.OverflowPolicy.DROP_OLDEST
+        );
+
+        assertEquals(4, sink.getCapacity());
+
+        publish(sink, 1, 6);
+
+        assertEquals(4, sink.size());
+        assertEquals(2, sink.getDroppedCount());
+        assertEquals(4, sink.drain());
+        assertEquals(0, sink.size());
+
+        String written = output.toString();
+        assertFalse(written.contains("message <1>"), written);
+        assertFalse(written.contains("message <2>"), written);
+        for (int i = 3; i <= 6; i++) {
+            assertTrue(written.contains("message <" + i + ">"), written);
+        }
+        assertTrue(written.indexOf("<3>") < written.indexOf("<6>"));
+    }
+
+    @Test
+    void testDropNewestKeepsOldestMessages() {
+        AsyncLogSink sink = new AsyncLogSink(
+            4,
+            AsyncLogSink.OverflowPolicy.DROP_NEWEST
+        );
+
+        publish(sink, 1, 6);
+
+        assertEquals(4, sink.size());
+        assertEquals(2, sink.getDroppedCount());
+        assertEquals(4, sink.drain());
+
+        String written = output.toString();
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(written.contains("message <" + i + ">"), written);
+        }
+        assertFalse(written.contains("message <5>"), written);
+        assertFalse(written.contains("message <6>"), written);
+
+        // room again once drained
+        publish(sink, 7, 7);
+        assertEquals(1, sink.size());
+        assertEquals(2, sink.getDroppedCount());
+    }
+
+    @Test
+    void testPrimitiveArgumentsAreFormattedLikeSyncOutput() {
+        AsyncLogSink sink = new AsyncLogSink(
+            8,
+            AsyncLogSink.OverflowPolicy.DROP_NEWEST
+        );
+
+        sink.publish(LogLevel.INFO, "test", "<%s> <%s>", new Object[] { 3, 1.5 });
+        sink.publish(LogLevel.INFO, "test", "<%s>", 2.5);
+        sink.drain();
+
+        String written = output.toString();
+        assertTrue(written.contains("<3> <1.5>"), written);
+        assertTrue(written.contains("<2.5>"), written);
+    }
+
+    @Test
+    void testSetAsyncSinkStartsTheSink() throws InterruptedException {
+        AsyncLogSink sink = new AsyncLogSink(
+            16,
+            AsyncLogSink.OverflowPolicy.DROP_NEWEST
+        ).setIdleNanos(100_000);
+
+        assertFalse(sink.isRunning());
+
+        Logger.setAsyncSink(sink);
+
+        assertTrue(sink.isRunning());
+
+        Logger.info(AsyncLogSinkTest.class, "drained <%s>", (Object) 1);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (
+            !output.toString().contains("drained <1>") &&
+            System.currentTimeMillis() < deadline
+        ) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(output.toString().contains("drained <1>"), output.toString());
+
+        Logger.useSyncOutput();
+
+        assertFalse(sink.isRunning());
+    }
+
+    @Test
+    void testFailedWritesAreDroppedWithoutStoppingTheSink()
+        throws InterruptedException {
+        AsyncLogSink sink = new AsyncLogSink(
+            16,
+            AsyncLogSink.OverflowPolicy.DROP_NEWEST
+        ).setIdleNanos(100_000);
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken toString");
+            }
+        };
+
+        Logger.setAsyncSink(sink);
+        Logger.info(AsyncLogSinkTest.class, "broken <%s>", broken);
+        Logger.info(AsyncLogSinkTest.class, "after <%s>", (Object) 2);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (
+            !output.toString().contains("after <2>") &&
+            System.currentTimeMillis() < deadline
+        ) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(output.toString().contains("after <2>"), output.toString());
+        assertFalse(output.toString().contains("broken"), output.toString());
+        assertEquals(1, sink.getDroppedCount());
+        assertTrue(sink.isRunning());
+    }
+}
@@ -0,0 +1,87 @@
+package xyz.devmello.tests.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.logging.AsyncLogSink;
+import xyz.devmello.voyager.logging.LogLevel;
+import xyz.devmello.voyager.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggerTest {
+    private final StringBuilder output = new StringBuilder();
+
+    @BeforeEach
+    void setUp() {
+        Logger.useSyncOutput();
+        Logger.setOutput(output::append);
+        Logger.setLoggingLevel(LogLevel.TRACE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Logger.useSyncOutput();
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.setOutput(null);
+    }
+
+    @Test
+    void testIntArgumentsKeepTheirFormat() {
+        Logger.traceLong(LoggerTest.class, "one: <%s>", 3);
+        assertTrue(output.toString().contains("one: <3>"), output.toString());
+
+        output.setLength(0);
+        Logger.trace(LoggerTest.class, "mixed: <%s> <%s>", 3, 1.5);
+        assertTrue(output.toString().contains("mixed: <3> <1.5>"), output.toString());
+
+        output.setLength(0);
+        Logger.debug(LoggerTest.class, "ints: <%s> <%s> <%s>", 1, 2, 3);
+        assertTrue(output.toString().contains("ints: <1> <2> <3>"), output.toString());
+
+        output.setLength(0);
+        Logger.debugDouble(LoggerTest.class, "double: <%s>", 2.5);
+        assertTrue(output.toString().contains("double: <2.5>"), output.toString());
+    }
+
+    @Test
+    void testDisabledLevelsAreNotOutputted() {
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.traceLong(LoggerTest.class, "hidden: <%s>", 1);
+        Logger.debugDouble(LoggerTest.class, "hidden: <%s>", 1.5);
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    void testCharArgumentsAreNotNumbers() {
+        Logger.trace(LoggerTest.class, "char: <%s>", 'x');
+        assertTrue(output.toString().contains("char: <x>"), output.toString());
+
+        output.setLength(0);
+        Logger.debug(LoggerTest.class, "char: <%s>", 'y');
+        assertTrue(output.toString().contains("char: <y>"), output.toString());
+
+        output.setLength(0);
+        Logger.useAsyncOutput(16, AsyncLogSink.OverflowPolicy.DROP_NEWEST);
+        Logger.trace(LoggerTest.class, "async char: <%s>", 'z');
+        Logger.useSyncOutput();
+        assertTrue(output.toString().contains("async char: <z>"), output.toString());
+    }
+
+    @Test
+    void testBoxedArgumentsUseTheVarargsOverload() {
+        Integer missing = null;
+        Double alsoMissing = null;
+
+        Logger.trace(LoggerTest.class, "boxed: <%s>", missing);
+        assertTrue(output.toString().contains("boxed: <null>"), output.toString());
+
+        output.setLength(0);
+        Logger.debug(LoggerTest.class, "boxed: <%s>", alsoMissing);
+        assertTrue(output.toString().contains("boxed: <null>"), output.toString());
+
+        output.setLength(0);
+        Logger.debug(LoggerTest.class, "boxed: <%s>", (Long) 4L);
+        assertTrue(output.toString().contains("boxed: <4>"), output.toString());
+    }
+}
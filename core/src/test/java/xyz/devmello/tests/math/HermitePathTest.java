@@ -0,0 +1,266 @@
+package xyz.devmello.tests.math;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.execution.trajectory.spline.HermitePathTrajectory;
+import xyz.devmello.voyager.execution.trajectory.spline.HermitePathTrajectoryBuilder;
+import xyz.devmello.voyager.math.HermitePath;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HermitePathTest {
+    private static final int BRUTE_FORCE_SAMPLES = 20_000;
+
+    private static final HermitePath S_CURVE = new HermitePath(
+        new PointXY(0, 0),
+        new PointXY(20, 10),
+        new PointXY(40, -10),
+        new PointXY(60, 0)
+    );
+
+    // goes up, loops around to the left, and crosses its own path on the
+    // way back down
+    private static final HermitePath LOOP = new HermitePath(
+        new PointXY(0, 0),
+        new PointXY(0, 20),
+        new PointXY(-10, 30),
+        new PointXY(-20, 20),
+        new PointXY(-10, 10),
+        new PointXY(10, 10)
+    );
+
+    private static double distance(PointXY a, double x, double y) {
+        return Math.hypot(a.x() - x, a.y() - y);
+    }
+
+    /**
+     * The length of the path, measured by adding up lots of tiny chords.
+     */
+    private static double polylineLength(HermitePath path) {
+        double total = 0;
+        PointXY previous = path.pointAt(0);
+
+        for (int i = 1; i <= BRUTE_FORCE_SAMPLES; i++) {
+            PointXY point = path.pointAt(path.length() * i / BRUTE_FORCE_SAMPLES);
+            total += point.absDistance(previous);
+            previous = point;
+        }
+
+        return total;
+    }
+
+    /**
+     * The distance from a point to the closest point on part of the path,
+     * found by checking lots of points along it.
+     */
+    private static double bruteForceClearance(
+        HermitePath path,
+        double x,
+        double y,
+        double from,
+        double to
+    ) {
+        double best = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i <= BRUTE_FORCE_SAMPLES; i++) {
+            double s = from + (to - from) * i / BRUTE_FORCE_SAMPLES;
+            best = Math.min(best, distance(path.pointAt(s), x, y));
+        }
+
+        return best;
+    }
+
+    @Test
+    void testStraightLine() {
+        HermitePath path = new HermitePath(new PointXY(0, 0), new PointXY(10, 0));
+
+        assertEquals(10, path.length(), 1e-9);
+
+        for (double s = 0; s <= 10; s += 0.5) {
+            assertEquals(s, path.x(s), 1e-9);
+            assertEquals(0, path.y(s), 1e-9);
+            assertEquals(0, path.directionAt(s), 1e-9);
+            assertEquals(0, path.curvatureAt(s), 1e-9);
+        }
+
+        // distances are clipped to the path
+        assertEquals(0, path.x(-5), 1e-9);
+        assertEquals(10, path.x(15), 1e-9);
+        assertEquals(3.5, path.project(3.5, 4), 1e-9);
+        assertEquals(10, path.project(20, 0), 1e-9);
+    }
+
+    @Test
+    void testLengthMatchesPolyline() {
+        for (HermitePath path : new HermitePath[] { S_CURVE, LOOP }) {
+            assertEquals(polylineLength(path), path.length(), 1e-4 * path.length());
+        }
+    }
+
+    @Test
+    void testPointAtIsParameterizedByArcLength() {
+        for (HermitePath path : new HermitePath[] { S_CURVE, LOOP }) {
+            assertEquals(0, path.getStartPoint().absDistance(path.pointAt(0)), 1e-9);
+            assertEquals(
+                0,
+                path.getEndPoint().absDistance(path.pointAt(path.length())),
+                1e-9
+            );
+
+            for (int k = 0; k < path.controlPointCount(); k++) {
+                assertEquals(
+                    0,
+                    path.getControlPoint(k).absDistance(
+                        path.pointAt(path.controlPointDistance(k))
+                    ),
+                    1e-9
+                );
+            }
+
+            // equal steps along the path should be (nearly) equal chords.
+            // the arc length table is linear between samples, so steps are
+            // only accurate to a few percent
+            double step = 0.5;
+            for (double s = 0; s + step <= path.length(); s += 0.37) {
+                double chord = path.pointAt(s).absDistance(path.pointAt(s + step));
+                assertEquals(step, chord, step * 0.05, "s = " + s);
+            }
+        }
+    }
+
+    @Test
+    void testWholePathProjectionMatchesBruteForce() {
+        Random random = new Random(22);
+
+        for (HermitePath path : new HermitePath[] { S_CURVE, LOOP }) {
+            for (int i = 0; i < 100; i++) {
+                double x = -30 + random.nextDouble() * 100;
+                double y = -20 + random.nextDouble() * 60;
+
+                double projected = path.project(x, y);
+                double expected = bruteForceClearance(path, x, y, 0, path.length());
+
+                assertTrue(projected >= 0 && projected <= path.length());
+                assertEquals(
+                    expected,
+                    distance(path.pointAt(projected), x, y),
+                    1e-3,
+                    "(" + x + ", " + y + ")"
+                );
+            }
+        }
+    }
+
+    @Test
+    void testWindowedProjectionMatchesBruteForce() {
+        Random random = new Random(2022);
+
+        for (HermitePath path : new HermitePath[] { S_CURVE, LOOP }) {
+            for (int i = 0; i < 100; i++) {
+                double from = random.nextDouble() * path.length();
+                double to = Math.min(path.length(), from + random.nextDouble() * 20);
+                double x = -30 + random.nextDouble() * 100;
+                double y = -20 + random.nextDouble() * 60;
+
+                double projected = path.project(x, y, from, to);
+                double expected = bruteForceClearance(path, x, y, from, to);
+
+                assertTrue(projected >= from && projected <= to);
+                assertEquals(
+                    expected,
+                    distance(path.pointAt(projected), x, y),
+                    1e-3,
+                    "(" + x + ", " + y + ") in [" + from + ", " + to + "]"
+                );
+            }
+        }
+    }
+
+    @Test
+    void testProjectionOnLoopStaysOnItsPass() {
+        // the loop passes near (0, 10) twice: once on the way up, once on
+        // the way back. the whole path projects onto whichever pass is
+        // closer, but a window only sees its own pass
+        double up = LOOP.controlPointDistance(1);
+        double back = LOOP.controlPointDistance(4);
+        double first = LOOP.project(0, 10, 0, up);
+        double second = LOOP.project(0, 10, back, LOOP.length());
+
+        assertTrue(first <= up);
+        assertTrue(second >= back);
+        assertEquals(
+            bruteForceClearance(LOOP, 0, 10, 0, up),
+            distance(LOOP.pointAt(first), 0, 10),
+            1e-3
+        );
+        assertEquals(
+            bruteForceClearance(LOOP, 0, 10, back, LOOP.length()),
+            distance(LOOP.pointAt(second), 0, 10),
+            1e-3
+        );
+        assertEquals(10, LOOP.pointAt(first).y(), 0.5);
+    }
+
+    @Test
+    void testEmptyProjectionRanges() {
+        double length = S_CURVE.length();
+
+        assertEquals(length, S_CURVE.project(60, 0, length, length + 10));
+        assertEquals(length, S_CURVE.project(0, 0, length + 5, length + 10));
+        assertEquals(5, S_CURVE.project(60, 0, 5, 5));
+        assertEquals(5, S_CURVE.project(60, 0, 5, 2));
+        assertEquals(0, S_CURVE.project(60, 0, -10, -5));
+    }
+
+    @Test
+    void testBacktrackingPathHasACusp() {
+        HermitePath path = new HermitePath(
+            new PointXY(0, 0),
+            new PointXY(10, 0),
+            new PointXY(0, 0)
+        );
+        double cusp = path.controlPointDistance(1);
+
+        assertEquals(20, path.length(), 1e-9);
+        assertEquals(10, cusp, 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, path.curvatureAt(cusp));
+        assertEquals(0, path.directionAt(cusp - 1), 1e-9);
+        assertEquals(180, path.directionAt(cusp), 1e-9);
+        assertEquals(180, path.directionAt(cusp + 1), 1e-9);
+    }
+
+    @Test
+    void testNextMarkerAfterTheEnd() {
+        HermitePathTrajectory trajectory = new HermitePathTrajectoryBuilder()
+            .setSpeed(0.5)
+            .setLookahead(2)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .add(0, 0, 0)
+            .add(10, 5, 0)
+            .add(20, 0, 0)
+            .build();
+        double length = trajectory.getPath().length();
+
+        // drive along the path until the end
+        for (double s = 0; s <= length; s += 0.5) {
+            PointXY point = trajectory.getPath().pointAt(s);
+            trajectory.nextMarker(new PointXYZ(point.x(), point.y(), 0));
+        }
+
+        PointXYZ end = new PointXYZ(20, 0, 0);
+        PointXYZ marker = trajectory.nextMarker(end);
+
+        assertEquals(length, trajectory.getProgress(), 1e-9);
+        assertTrue(marker.isNear(end, 1e-6));
+
+        // and keep asking once it's there
+        for (int i = 0; i < 5; i++) trajectory.nextMarker(end);
+
+        assertTrue(trajectory.isDone(end));
+        assertEquals(length, trajectory.getProgress(), 1e-9);
+    }
+}
@@ -0,0 +1,287 @@
+package xyz.devmello.tests.math;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.math.HermitePath;
+import xyz.devmello.voyager.math.VelocityProfile;
+import xyz.devmello.voyager.math.geometry.PointXY;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VelocityProfileTest {
+    private static final double EPSILON = 1e-9;
+
+    private static final HermitePath STRAIGHT = new HermitePath(
+        new PointXY(0, 0),
+        new PointXY(100, 0)
+    );
+
+    private static HermitePath randomPath(Random random) {
+        PointXY[] points = new PointXY[3 + random.nextInt(5)];
+        double x = 0;
+        double y = 0;
+
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new PointXY(x, y);
+            x += 10 + random.nextDouble() * 30;
+            y += -30 + random.nextDouble() * 60;
+        }
+
+        return new HermitePath(points);
+    }
+
+    /**
+     * Check every sample of a profile against the limits it was generated
+     * with, and check the table is consistent with itself.
+     */
+    private static void assertWithinLimits(
+        HermitePath path,
+        VelocityProfile profile,
+        double maxVelocity,
+        double maxAcceleration,
+        double maxCentripetal
+    ) {
+        int last = profile.size() - 1;
+
+        assertEquals(0, profile.distance(0));
+        assertEquals(path.length(), profile.distance(last), EPSILON);
+        assertEquals(0, profile.time(0));
+        assertEquals(0, profile.acceleration(last));
+
+        for (int i = 0; i <= last; i++) {
+            double v = profile.velocity(i);
+            double curvature = Math.abs(path.curvatureAt(profile.distance(i)));
+            String sample = "sample " + i + " of " + profile;
+
+            assertTrue(v >= 0, sample);
+            assertTrue(v <= maxVelocity + EPSILON, sample);
+            assertTrue(
+                v * v * curvature <= maxCentripetal * (1 + EPSILON) + EPSILON,
+                sample
+            );
+
+            if (i == last) continue;
+
+            double ds = profile.distance(i + 1) - profile.distance(i);
+            double v1 = profile.velocity(i + 1);
+            double a = profile.acceleration(i);
+            double dt = profile.time(i + 1) - profile.time(i);
+
+            assertTrue(ds > 0, sample);
+            assertTrue(Math.abs(a) <= maxAcceleration * (1 + EPSILON), sample);
+            assertEquals((v1 * v1 - v * v) / (2 * ds), a, EPSILON, sample);
+            assertTrue(dt > 0, sample);
+            assertEquals(2 * ds / (v + v1), dt, EPSILON * (1 + dt), sample);
+        }
+    }
+
+    @Test
+    void testRandomPathsStayWithinLimits() {
+        Random random = new Random(23);
+
+        for (int i = 0; i < 50; i++) {
+            HermitePath path = randomPath(random);
+            double maxVelocity = 10 + random.nextDouble() * 50;
+            double maxAcceleration = 10 + random.nextDouble() * 100;
+            double maxCentripetal = 10 + random.nextDouble() * 100;
+            double step = 0.1 + random.nextDouble();
+
+            VelocityProfile profile = VelocityProfile.generate(
+                path,
+                maxVelocity,
+                maxAcceleration,
+                maxCentripetal,
+                step
+            );
+
+            assertEquals(0, profile.velocity(0));
+            assertEquals(0, profile.velocity(profile.size() - 1));
+            assertWithinLimits(
+                path,
+                profile,
+                maxVelocity,
+                maxAcceleration,
+                maxCentripetal
+            );
+        }
+    }
+
+    @Test
+    void testStartAndEndVelocities() {
+        Random random = new Random(230);
+
+        for (int i = 0; i < 50; i++) {
+            HermitePath path = randomPath(random);
+            double start = random.nextDouble() * 40;
+            double end = random.nextDouble() * 40;
+
+            VelocityProfile profile = VelocityProfile.generate(
+                path,
+                30,
+                60,
+                100,
+                0.25,
+                start,
+                end
+            );
+
+            assertTrue(profile.velocity(0) <= start + EPSILON);
+            assertTrue(profile.velocity(profile.size() - 1) <= end + EPSILON);
+            assertWithinLimits(path, profile, 30, 60, 100);
+        }
+
+        // on a straight line there's nothing else in the way
+        VelocityProfile profile = VelocityProfile.generate(
+            STRAIGHT,
+            30,
+            60,
+            100,
+            0.5,
+            12,
+            7
+        );
+
+        assertEquals(12, profile.velocity(0), EPSILON);
+        assertEquals(12, profile.velocityAt(0), EPSILON);
+        assertEquals(7, profile.velocity(profile.size() - 1), EPSILON);
+        assertEquals(7, profile.velocityAt(STRAIGHT.length()), EPSILON);
+
+        // start and end velocities faster than the maximum are capped
+        profile = VelocityProfile.generate(STRAIGHT, 30, 60, 100, 0.5, 50, 50);
+
+        assertEquals(30, profile.velocity(0), EPSILON);
+        assertEquals(30, profile.velocity(profile.size() - 1), EPSILON);
+    }
+
+    @Test
+    void testTrapezoidOnAStraightLine() {
+        double maxVelocity = 30;
+        double maxAcceleration = 60;
+        VelocityProfile profile = VelocityProfile.generate(
+            STRAIGHT,
+            maxVelocity,
+            maxAcceleration,
+            100,
+            0.5
+        );
+
+        // accelerate for 0.5 s (7.5 units), cruise for 85 units, and slow
+        // down for 0.5 s. samples fall on the ends of the ramps, so the
+        // table is exact
+        double ramp = maxVelocity / maxAcceleration;
+        double rampDistance = maxVelocity * ramp / 2;
+        double cruise = (STRAIGHT.length() - 2 * rampDistance) / maxVelocity;
+
+        assertEquals(0.5, profile.distance(1), EPSILON);
+        assertEquals(2 * ramp + cruise, profile.totalTime(), 1e-6);
+        assertEquals(ramp, profile.timeAt(rampDistance), 1e-6);
+        assertEquals(maxVelocity, profile.velocityAt(50), EPSILON);
+        assertEquals(1, profile.speedAt(50), EPSILON);
+        assertEquals(maxAcceleration, profile.accelerationAt(1), EPSILON);
+        assertEquals(0, profile.accelerationAt(50), EPSILON);
+        assertEquals(-maxAcceleration, profile.accelerationAt(99), EPSILON);
+        assertWithinLimits(STRAIGHT, profile, maxVelocity, maxAcceleration, 100);
+    }
+
+    @Test
+    void testTimeIsMonotone() {
+        Random random = new Random(2023);
+        HermitePath path = randomPath(random);
+        VelocityProfile profile = VelocityProfile.generate(path, 30, 60, 100, 0.3);
+        double previous = 0;
+
+        for (double s = 0; s <= path.length(); s += 0.07) {
+            double time = profile.timeAt(s);
+
+            assertTrue(time >= previous, "s = " + s);
+            previous = time;
+        }
+
+        assertEquals(profile.totalTime(), profile.timeAt(path.length()), EPSILON);
+    }
+
+    @Test
+    void testStepsThatDivideTheLength() {
+        // length / step can round up past a whole number, which used to
+        // leave two samples at the end of the path. a single step can't
+        // start and end at rest, so that's skipped
+        HermitePath path = new HermitePath(
+            new PointXY(0, 0),
+            new PointXY(20, 10),
+            new PointXY(40, 0)
+        );
+        double length = path.length();
+
+        for (int n = 2; n <= 300; n++) {
+            VelocityProfile profile = VelocityProfile.generate(
+                path,
+                30,
+                60,
+                100,
+                length / n
+            );
+
+            assertTrue(profile.size() == n + 1 || profile.size() == n + 2);
+            assertEquals(0, profile.velocityAt(length), "n = " + n);
+            assertEquals(profile.totalTime(), profile.timeAt(length), "n = " + n);
+            assertFalse(Double.isNaN(profile.speedAt(length * (n - 0.5) / n)));
+            assertWithinLimits(path, profile, 30, 60, 100);
+        }
+    }
+
+    @Test
+    void testStopsAtCusps() {
+        // doubles back on itself at the middle control point
+        HermitePath path = new HermitePath(
+            new PointXY(0, 0),
+            new PointXY(10, 0),
+            new PointXY(0, 0)
+        );
+        double cusp = path.controlPointDistance(1);
+
+        for (double step : new double[] { 0.5, 0.3, 0.7 }) {
+            VelocityProfile profile = VelocityProfile.generate(path, 30, 60, 100, step);
+
+            for (int i = 0; i < profile.size(); i++) {
+                double v = profile.velocity(i);
+                double maxStopping = Math.sqrt(
+                    2 * 60 * Math.abs(profile.distance(i) - cusp)
+                );
+
+                assertFalse(Double.isNaN(v));
+                assertTrue(v <= maxStopping + EPSILON, "step " + step + ", sample " + i);
+            }
+
+            assertTrue(profile.velocityAt(cusp) <= Math.sqrt(2 * 60 * step) + EPSILON);
+            assertTrue(Double.isFinite(profile.totalTime()));
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VelocityProfile.generate(null, 30, 60, 100, 0.5)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VelocityProfile.generate(STRAIGHT, 0, 60, 100, 0.5)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VelocityProfile.generate(STRAIGHT, 30, -1, 100, 0.5)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VelocityProfile.generate(STRAIGHT, 30, 60, 0, 0.5)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VelocityProfile.generate(STRAIGHT, 30, 60, 100, 0)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VelocityProfile.generate(STRAIGHT, 30, 60, 100, 0.5, -1, 0)
+        );
+    }
+}
@@ -0,0 +1,222 @@
+package xyz.devmello.tests.odometry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.robot.AbstractOdometry;
+import xyz.devmello.voyager.robot.drive.odometry.SampledOdometry;
+import xyz.devmello.voyager.utils.time.Time;
+import xyz.devmello.voyager.utils.time.VirtualClock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampledOdometryTest {
+    private SampledOdometry sampled;
+
+    @AfterEach
+    void tearDown() {
+        if (sampled != null) sampled.stop();
+        Time.useSystemClock();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * An odometry system whose X position is the number of times it's
+     * been ticked, and which notices if it's ever used by two threads at
+     * once.
+     */
+    private static class CountingOdometry extends AbstractOdometry {
+        private final AtomicInteger ticks = new AtomicInteger();
+        private final AtomicInteger users = new AtomicInteger();
+        private final AtomicBoolean overlapped = new AtomicBoolean();
+        private volatile boolean shouldFail = false;
+
+        private void enter() {
+            if (users.incrementAndGet() != 1) overlapped.set(true);
+        }
+
+        private void exit() {
+            users.decrementAndGet();
+        }
+
+        @Override
+        public void tick() {
+            enter();
+
+            try {
+                if (shouldFail) throw new IllegalStateException("bus error");
+
+                ticks.incrementAndGet();
+
+                // a slow-ish read, so any overlap is likely to be seen
+                Thread.yield();
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public PointXYZ getRawPosition() {
+            return new PointXYZ(ticks.get(), 0, 0);
+        }
+
+        @Override
+        public void setOffset(PointXYZ offset) {
+            enter();
+
+            try {
+                super.setOffset(offset);
+                Thread.yield();
+            } finally {
+                exit();
+            }
+        }
+    }
+
+    @Test
+    void testReadsSynchronouslyUntilStarted() {
+        CountingOdometry source = new CountingOdometry();
+        sampled = new SampledOdometry(source);
+
+        assertFalse(sampled.isRunning());
+        assertEquals(0, sampled.getSampleCount());
+
+        // the first read samples on the calling thread
+        assertEquals(1, sampled.getRawPosition().x());
+
+        for (int i = 2; i <= 5; i++) {
+            sampled.tick();
+
+            assertEquals(i, source.ticks.get());
+            assertEquals(i, sampled.getRawPosition().x());
+            assertEquals(i, sampled.getSample().getSequence());
+        }
+
+        assertEquals(0, sampled.getErrorCount());
+    }
+
+    @Test
+    void testBackgroundSamplesArePublished() throws InterruptedException {
+        CountingOdometry source = new CountingOdometry();
+        sampled = new SampledOdometry(source, 1_000).start();
+
+        assertTrue(sampled.isRunning());
+
+        await(() -> sampled.getSampleCount() >= 20);
+
+        // ticking doesn't read the source while sampling in the background
+        int ticks = source.ticks.get();
+        SampledOdometry.Sample sample = sampled.getSample();
+        sampled.tick();
+
+        assertTrue(source.ticks.get() - ticks <= 2);
+        assertEquals(sample.getSequence(), (long) sample.getRawPosition().x());
+        assertTrue(sampled.getSampleRateHz() > 0);
+
+        sampled.stop();
+
+        assertFalse(sampled.isRunning());
+
+        // back to reading on the calling thread
+        long count = sampled.getSampleCount();
+        sampled.tick();
+
+        assertEquals(count + 1, sampled.getSampleCount());
+        assertFalse(source.overlapped.get());
+    }
+
+    @Test
+    void testOffsetsDontRaceSampling() throws InterruptedException {
+        CountingOdometry source = new CountingOdometry();
+        sampled = new SampledOdometry(source).start();
+
+        await(() -> sampled.getSampleCount() >= 10);
+
+        for (int i = 0; i < 2_000; i++) {
+            sampled.setOffset(new PointXYZ(i, 0, 0));
+        }
+
+        assertFalse(source.overlapped.get());
+        assertEquals(1_999, sampled.getOffset().x());
+        assertEquals(
+            sampled.getRawPosition().x() + 1_999,
+            sampled.getPosition().x(),
+            1_000
+        );
+    }
+
+    @Test
+    void testErrorsAreCountedAndTheLastSampleKept() throws InterruptedException {
+        CountingOdometry source = new CountingOdometry();
+        sampled = new SampledOdometry(source, 1_000);
+
+        sampled.tick();
+        source.shouldFail = true;
+
+        // a failing synchronous read throws to the caller
+        assertThrows(IllegalStateException.class, sampled::tick);
+        assertEquals(0, sampled.getErrorCount());
+
+        sampled.start();
+
+        await(() -> sampled.getErrorCount() >= 3);
+
+        assertEquals(1, sampled.getSampleCount());
+        assertEquals(1, sampled.getRawPosition().x());
+        assertTrue(sampled.getLastError() instanceof IllegalStateException);
+
+        source.shouldFail = false;
+
+        await(() -> sampled.getSampleCount() >= 3);
+    }
+
+    @Test
+    void testPacingIgnoresVirtualClock() throws InterruptedException {
+        VirtualClock clock = new VirtualClock(1_000);
+        Time.setClock(clock);
+
+        CountingOdometry source = new CountingOdometry();
+        sampled = new SampledOdometry(source, 500).start();
+
+        await(() -> sampled.getSampleCount() >= 5);
+        Thread.sleep(20);
+
+        // sampling doesn't move virtual time...
+        assertEquals(1_000, clock.nanoTime());
+
+        // ...and virtual time doesn't speed up sampling: 500Hz of real
+        // time, not as fast as possible
+        long count = sampled.getSampleCount();
+        Thread.sleep(50);
+        assertTrue(sampled.getSampleCount() - count < 100);
+    }
+
+    @Test
+    void testDefaultRateDoesNotSpin() throws InterruptedException {
+        CountingOdometry source = new CountingOdometry();
+
+        assertThrows(IllegalArgumentException.class, () -> new SampledOdometry(source, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SampledOdometry(source, Double.NaN));
+
+        sampled = new SampledOdometry(source).start();
+
+        await(() -> sampled.getSampleCount() >= 5);
+
+        // the default constructor samples at DEFAULT_RATE_HZ, not as fast
+        // as the source can be read
+        long count = sampled.getSampleCount();
+        Thread.sleep(50);
+        assertTrue(sampled.getSampleCount() - count < 200);
+    }
+}
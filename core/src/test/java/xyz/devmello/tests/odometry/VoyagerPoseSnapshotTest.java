@@ -0,0 +1,172 @@
+package xyz.devmello.tests.odometry;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.Voyager;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+import xyz.devmello.voyager.plugin.bundled.PositionLocker;
+import xyz.devmello.voyager.plugin.bundled.StatTracker;
+import xyz.devmello.voyager.robot.AbstractDrive;
+import xyz.devmello.voyager.robot.AbstractOdometry;
+import xyz.devmello.voyager.robot.Robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoyagerPoseSnapshotTest {
+    /**
+     * An odometry system that counts how many times its raw position has
+     * been read, and moves one unit along the X axis every time it's
+     * ticked.
+     */
+    private static class CountingOdometry extends AbstractOdometry {
+        private int reads = 0;
+        private double x = 0;
+
+        @Override
+        public PointXYZ getRawPosition() {
+            reads++;
+
+            return new PointXYZ(x, 0, 0);
+        }
+
+        @Override
+        public void tick() {
+            x++;
+        }
+    }
+
+    private final CountingOdometry odometry = new CountingOdometry();
+
+    private Voyager voyager() {
+        AbstractDrive drive = new AbstractDrive(
+            t -> {},
+            () -> Translation.ZERO
+        );
+
+        return new Voyager(new Robot(drive, odometry), 0.01);
+    }
+
+    @Test
+    void testRawPositionIsReadOncePerTick() {
+        Voyager voyager = voyager();
+        PositionLocker locker = new PositionLocker();
+
+        voyager.loadPlugin(locker);
+        voyager.loadPlugin(new StatTracker());
+        locker.setPosition(new PointXYZ(5, 5, 0)).lockPosition();
+        voyager.addZone(
+            "zone",
+            new Zone(new Rectangle(-100, -100, 100, 100))
+        );
+        voyager.onTick(v -> v.getPosition());
+
+        for (int i = 0; i < 10; i++) {
+            odometry.reads = 0;
+            voyager.tick();
+            assertEquals(1, odometry.reads);
+        }
+    }
+
+    @Test
+    void testOffsetSetMidTickIsVisibleImmediately() {
+        Voyager voyager = voyager();
+        PositionLocker locker = new PositionLocker();
+        AtomicReference<PointXYZ> seen = new AtomicReference<>();
+
+        voyager.loadPlugin(locker);
+        locker.setPosition(new PointXYZ(5, 5, 0)).lockPosition();
+        voyager.onTick("locked", v -> seen.set(v.getPosition()));
+        voyager.tick();
+
+        // the locker sets the offset during pre-tick, so the on-tick
+        // operation should already see the locked position
+        assertEquals(new PointXYZ(5, 5, 0), seen.get());
+
+        voyager.onTick(
+            "offset",
+            v -> {
+                v.getOdometry().setOffset(new PointXYZ(0, 10, 0));
+                seen.set(v.getPosition());
+            }
+        );
+        voyager.removeOnTick("locked");
+        locker.unlockPosition();
+        voyager.tick();
+
+        assertEquals(new PointXYZ(2, 10, 0), seen.get());
+    }
+
+    @Test
+    void testLivePositionReadsOdometryAgain() {
+        Voyager voyager = voyager();
+        AtomicReference<Integer> readsBefore = new AtomicReference<>();
+        AtomicReference<Integer> readsAfter = new AtomicReference<>();
+
+        voyager.onTick(
+            v -> {
+                readsBefore.set(odometry.reads);
+                v.getLivePosition();
+                readsAfter.set(odometry.reads);
+            }
+        );
+        voyager.tick();
+
+        assertEquals(readsBefore.get() + 1, readsAfter.get());
+    }
+
+    @Test
+    void testSnapshotIsReleasedAfterTick() {
+        Voyager voyager = voyager();
+
+        voyager.tick();
+        odometry.x = 100;
+        odometry.reads = 0;
+
+        assertEquals(new PointXYZ(100, 0, 0), voyager.getPosition());
+        assertEquals(new PointXYZ(100, 0, 0), voyager.getRawPosition());
+        assertEquals(2, odometry.reads);
+    }
+
+    @Test
+    void testSnapshotIsReleasedWhenTickThrows() {
+        Voyager voyager = voyager();
+
+        voyager.onTick(
+            v -> {
+                throw new IllegalStateException("on tick failed");
+            }
+        );
+
+        assertThrows(IllegalStateException.class, voyager::tick);
+
+        odometry.x = 100;
+        odometry.reads = 0;
+
+        assertEquals(new PointXYZ(100, 0, 0), voyager.getPosition());
+        assertEquals(1, odometry.reads);
+    }
+
+    @Test
+    void testDisablingSnapshotsReadsLive() {
+        Voyager voyager = voyager().setIsUsingPoseSnapshot(false);
+        AtomicReference<PointXYZ> seen = new AtomicReference<>();
+
+        assertFalse(voyager.isUsingPoseSnapshot());
+
+        voyager.onTick(
+            v -> {
+                v.getPosition();
+                odometry.x = 100;
+                seen.set(v.getPosition());
+            }
+        );
+        odometry.reads = 0;
+        voyager.tick();
+
+        assertEquals(new PointXYZ(100, 0, 0), seen.get());
+        assertEquals(2, odometry.reads);
+    }
+}
@@ -4,6 +4,8 @@ import xyz.devmello.voyager.math.geometry.PointXY;
 import xyz.devmello.voyager.math.geometry.Rectangle;
 import xyz.devmello.voyager.pathgen.FTCField;
 import xyz.devmello.voyager.pathgen.LocalizedPathGen;
+import xyz.devmello.voyager.pathgen.Coord;
+import xyz.devmello.voyager.pathgen.PathCache;
 import xyz.devmello.voyager.pathgen.zones.Zone;
 
 
@@ -169,4 +171,157 @@ class LocalizedPathGenTest {
             assertFalse(obstacle.isPointInShape(point), "Path should not go through the obstacle");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCachedGridMatchesUncached() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(new PointXY(-10, -10), new PointXY(10, 10))));
+
+        LocalizedPathGen uncached = new LocalizedPathGen(new ArrayList<>(zones), -72, 72, -72, 72);
+        LocalizedPathGen cached = new LocalizedPathGen(new ArrayList<>(zones), -72, 72, -72, 72)
+                .setGridCaching(true);
+
+        PointXY startPoint = new PointXY(-60, 0);
+        PointXY endPoint = new PointXY(60, 0);
+
+        assertEquals(uncached.getPath(startPoint, endPoint, 3), cached.getPath(startPoint, endPoint, 3));
+        assertEquals(uncached.getPath(endPoint, startPoint, 3), cached.getPath(endPoint, startPoint, 3));
+
+        // adding a zone must invalidate the cached grid
+        Zone wall = new Zone(new Rectangle(new PointXY(-40, -72), new PointXY(-30, 72)));
+        uncached.addZone(wall);
+        cached.addZone(wall);
+
+        assertNull(uncached.getPath(startPoint, endPoint, 3));
+        assertNull(cached.getPath(startPoint, endPoint, 3));
+
+        cached.removeZone(wall);
+        assertNotNull(cached.getPath(startPoint, endPoint, 3));
+    }
+
+    @Test
+    void testPathCache() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(new PointXY(-10, -10), new PointXY(10, 10))));
+
+        LocalizedPathGen uncached = new LocalizedPathGen(new ArrayList<>(zones), -72, 72, -72, 72);
+        LocalizedPathGen cached = new LocalizedPathGen(new ArrayList<>(zones), -72, 72, -72, 72)
+                .setGridCaching(true)
+                .setPathCaching(8);
+        PathCache cache = cached.getPathCache();
+
+        PointXY startPoint = new PointXY(-60, 0);
+        PointXY endPoint = new PointXY(60, 0);
+
+        List<PointXY> expected = uncached.getPath(startPoint, endPoint, 3);
+        assertEquals(expected, cached.getPath(startPoint, endPoint, 3));
+        assertEquals(expected, cached.getPath(startPoint, endPoint, 3));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // points in the same cells hit the cache, but keep their exact values
+        PointXY nearStart = new PointXY(-59.7, 0.2);
+        PointXY nearEnd = new PointXY(60.4, 0.3);
+        List<PointXY> near = cached.getPath(nearStart, nearEnd, 3);
+        assertEquals(2, cache.getHits());
+        assertEquals(nearStart, near.get(0));
+        assertEquals(nearEnd, near.get(near.size() - 1));
+
+        // a different epsilon is a different query
+        cached.getPath(startPoint, endPoint, 1);
+        assertEquals(2, cache.getMisses());
+
+        // changing the zones invalidates every entry
+        Zone wall = new Zone(new Rectangle(new PointXY(-40, -72), new PointXY(-30, 72)));
+        cached.addZone(wall);
+        assertNull(cached.getPath(startPoint, endPoint, 3));
+        assertNull(cached.getPath(startPoint, endPoint, 3));
+        assertEquals(3, cache.getMisses());
+        assertEquals(3, cache.getHits());
+
+        cached.removeZone(wall);
+        assertEquals(expected, cached.getPath(startPoint, endPoint, 3));
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    void testPathCacheEvictsLeastRecentlyUsed() {
+        LocalizedPathGen gen = new LocalizedPathGen(new ArrayList<>(), -72, 72, -72, 72)
+                .setPathCaching(2);
+        PathCache cache = gen.getPathCache();
+
+        PointXY a = new PointXY(-60, -60);
+        PointXY b = new PointXY(60, 60);
+        PointXY c = new PointXY(0, 60);
+
+        gen.getPath(a, b, 3);
+        gen.getPath(a, c, 3);
+        gen.getPath(a, b, 3);
+        gen.getPath(b, c, 3);
+        assertEquals(2, cache.size());
+
+        // a -> c was the least recently used, so it should be gone
+        gen.getPath(a, b, 3);
+        gen.getPath(a, c, 3);
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    void testPathCacheWithAutomaticBoundsOnlyHitsExactRequests() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(new PointXY(-10, -10), new PointXY(10, 10))));
+
+        LocalizedPathGen gen = new LocalizedPathGen(zones, 1, 1)
+                .setPathCaching(8);
+        PathCache cache = gen.getPathCache();
+
+        PointXY startPoint = new PointXY(-30, -20);
+        PointXY endPoint = new PointXY(30, 20);
+
+        gen.getPath(startPoint, endPoint, 3);
+        gen.getPath(startPoint, endPoint, 3);
+        assertEquals(1, cache.getHits());
+
+        // the grid is anchored on the exact points, so a nearby start point
+        // would search a different grid
+        gen.getPath(new PointXY(-30.2, -20), endPoint, 3);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void testPathCacheChecksReplacedLegs() {
+        PathCache cache = new PathCache(4);
+        PathCache.Key key = cache.key(-72, -72, 72, 72, new Coord(12, 72), new Coord(132, 72), 3);
+        PointXY start = new PointXY(-60, 0);
+        PointXY end = new PointXY(60, 0);
+        List<PointXY> path = new ArrayList<>();
+        path.add(start);
+        path.add(new PointXY(0, 20));
+        path.add(end);
+
+        cache.put(key, path);
+
+        // the same endpoints don't need checking
+        assertEquals(path, cache.get(start, end, key, (a, b) -> fail("checked " + a + " -> " + b)));
+
+        // a new start point is only used if its leg is clear
+        PointXY nearStart = new PointXY(-59.7, 0.2);
+        List<PointXY> legs = new ArrayList<>();
+        List<PointXY> hit = cache.get(nearStart, end, key, (a, b) -> {
+            legs.add(a);
+            legs.add(b);
+            return true;
+        });
+        assertEquals(nearStart, hit.get(0));
+        assertEquals(end, hit.get(2));
+        assertEquals(nearStart, legs.get(0));
+        assertEquals(new PointXY(0, 20), legs.get(1));
+        assertEquals(2, legs.size());
+
+        assertNull(cache.get(nearStart, end, key, (a, b) -> false));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+}
@@ -0,0 +1,648 @@
+package xyz.devmello.tests.pathgen;
+
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.Circle;
+import xyz.devmello.voyager.math.geometry.PointXY;
+import xyz.devmello.voyager.math.geometry.Rectangle;
+import xyz.devmello.voyager.math.geometry.Triangle;
+import xyz.devmello.voyager.pathgen.ClearanceMap;
+import xyz.devmello.voyager.pathgen.Coord;
+import xyz.devmello.voyager.pathgen.DStarLiteSearch;
+import xyz.devmello.voyager.pathgen.FTCField;
+import xyz.devmello.voyager.pathgen.LocalizedGrid;
+import xyz.devmello.voyager.pathgen.LocalizedPathGen;
+import xyz.devmello.voyager.pathgen.GridSearch;
+import xyz.devmello.voyager.pathgen.HierarchicalSearch;
+import xyz.devmello.voyager.pathgen.Node;
+import xyz.devmello.voyager.pathgen.NodeValidator;
+import xyz.devmello.voyager.pathgen.OccupancyGrid;
+import xyz.devmello.voyager.pathgen.PathGen;
+import xyz.devmello.voyager.pathgen.SearchStrategy;
+import xyz.devmello.voyager.pathgen.ZoneRasterizer;
+import xyz.devmello.voyager.pathgen.zones.Zone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathGenTest {
+    static List<Zone> obstacles() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(new PointXY(-15.3, 24.5), new PointXY(14.8, -23.8))));
+        zones.add(new Zone(new Rectangle(new PointXY(-25.2, -24), new PointXY(24.9, -22))));
+        zones.add(new Zone(new Rectangle(new PointXY(-25.4, 25.0), new PointXY(24.7, 23))));
+        zones.add(new Zone(new Rectangle(new PointXY(30, -72), new PointXY(34, 40))));
+        zones.add(new Zone(new Rectangle(new PointXY(-34, -40), new PointXY(-30, 72))));
+        return zones;
+    }
+
+    static LocalizedGrid fieldGrid(double scaling, List<Zone> zones) {
+        LocalizedGrid grid = LocalizedGrid.generateLocalizedGrid(
+                scaling,
+                scaling,
+                FTCField.minX,
+                FTCField.minY,
+                FTCField.maxX,
+                FTCField.maxY
+        );
+        NodeValidator.validateNodes(grid, zones);
+        return grid;
+    }
+
+    static double cost(List<Coord> path) {
+        double cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            Coord a = path.get(i - 1);
+            Coord b = path.get(i);
+            cost += Math.hypot(b.x() - a.x(), b.y() - a.y());
+        }
+        return cost;
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testHeapSearchMatchesLinearScan() {
+        PointXY[][] queries = {
+                {new PointXY(56, 0.4), new PointXY(-52.5, 0.4)},
+                {new PointXY(-60, -60), new PointXY(60, 60)},
+                {new PointXY(50, -60), new PointXY(-50, 60)},
+                {new PointXY(0, 40), new PointXY(0, -40)},
+        };
+
+        for (double scaling : new double[] { 2, 1 }) {
+            for (PointXY[] query : queries) {
+                LocalizedGrid grid = fieldGrid(scaling, obstacles());
+                Node start = grid.getNode(query[0]);
+                Node end = grid.getNode(query[1]);
+
+                List<Coord> expected = Coord.convertNodes(
+                        new PathGen(grid.getGrid(), start, end).findPathLinearScan()
+                );
+                List<Coord> actual = new PathGen(grid.getGrid(), start, end).findCoordPath();
+
+                assertFalse(actual.isEmpty(), "Path should not be empty");
+                assertEquals(expected, actual, "Heap search should match the linear scan");
+            }
+        }
+    }
+
+    @Test
+    void testNoPathIsEmpty() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(new PointXY(-10, -72), new PointXY(10, 72))));
+        LocalizedGrid grid = fieldGrid(2, zones);
+
+        List<Coord> path = new PathGen(
+                grid.getGrid(),
+                grid.getNode(new PointXY(-60, 0)),
+                grid.getNode(new PointXY(60, 0))
+        ).findCoordPath();
+
+        assertTrue(path.isEmpty(), "Blocked path should be empty");
+    }
+
+    static void assertValidPath(OccupancyGrid grid, List<Coord> path) {
+        for (int i = 1; i < path.size(); i++) {
+            Coord a = path.get(i - 1);
+            Coord b = path.get(i);
+            assertTrue(Math.abs(a.x() - b.x()) <= 1 && Math.abs(a.y() - b.y()) <= 1,
+                    "Path cells should be adjacent: " + a + " -> " + b);
+            assertTrue(grid.isValid(b.x(), b.y()), "Path should only use valid cells");
+        }
+    }
+
+    static void assertSameCost(SearchStrategy strategy, OccupancyGrid grid, Coord start, Coord end) {
+        List<Coord> expected = GridSearch.create(grid, SearchStrategy.A_STAR).search(start, end);
+        List<Coord> actual = GridSearch.create(grid, strategy).search(start, end);
+
+        assertEquals(expected.isEmpty(), actual.isEmpty(), strategy + " should find a path iff A* does");
+        if (actual.isEmpty()) return;
+
+        assertEquals(start, actual.get(0));
+        assertEquals(end, actual.get(actual.size() - 1));
+        assertValidPath(grid, actual);
+        assertEquals(cost(expected), cost(actual), 1e-9, strategy + " path should cost the same as A*");
+    }
+
+    @Test
+    void testJumpPointCostMatchesAStar() {
+        LocalizedGrid field = fieldGrid(1, obstacles());
+        PointXY[] points = {
+                new PointXY(56, 0.4), new PointXY(-52.5, 0.4), new PointXY(-60, -60),
+                new PointXY(60, 60), new PointXY(0, 40), new PointXY(0, -40),
+        };
+        for (PointXY a : points) {
+            for (PointXY b : points) {
+                assertSameCost(SearchStrategy.JUMP_POINT, field.getOccupancy(), field.toCoord(a), field.toCoord(b));
+            }
+        }
+
+        Random random = new Random(2021);
+        for (int trial = 0; trial < 300; trial++) {
+            OccupancyGrid grid = new OccupancyGrid(12 + random.nextInt(30), 12 + random.nextInt(30));
+            double density = random.nextDouble() * 0.4;
+            for (int i = 0; i < grid.size(); i++) grid.setValid(i, random.nextDouble() >= density);
+
+            Coord start = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            Coord end = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            grid.setValid(start.x(), start.y(), true);
+            grid.setValid(end.x(), end.y(), true);
+            if (start.equals(end)) continue;
+
+            assertSameCost(SearchStrategy.JUMP_POINT, grid, start, end);
+        }
+    }
+
+    @Test
+    void testThetaStarPathsAreShorterAndVisible() {
+        Random random = new Random(144);
+        for (int trial = 0; trial < 200; trial++) {
+            OccupancyGrid grid = new OccupancyGrid(12 + random.nextInt(40), 12 + random.nextInt(40));
+            double density = random.nextDouble() * 0.3;
+            for (int i = 0; i < grid.size(); i++) grid.setValid(i, random.nextDouble() >= density);
+
+            Coord start = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            Coord end = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            grid.setValid(start.x(), start.y(), true);
+            grid.setValid(end.x(), end.y(), true);
+            if (start.equals(end)) continue;
+
+            // Theta* never squeezes diagonally between two blocked cells,
+            // so compare it against a grid search with the same rule
+            double expected = noSqueezeCost(grid, start, end);
+            List<Coord> actual = GridSearch.create(grid, SearchStrategy.THETA_STAR).search(start, end);
+
+            assertEquals(Double.isInfinite(expected), actual.isEmpty(), "Theta* should find a path iff one exists");
+            if (actual.isEmpty()) continue;
+
+            assertEquals(start, actual.get(0));
+            assertEquals(end, actual.get(actual.size() - 1));
+            assertTrue(cost(actual) <= expected + 1e-9, "Theta* paths should never be longer than grid paths");
+
+            for (int i = 1; i < actual.size(); i++) {
+                Coord a = actual.get(i - 1);
+                Coord b = actual.get(i);
+                boolean adjacent = Math.abs(a.x() - b.x()) <= 1 && Math.abs(a.y() - b.y()) <= 1;
+                assertTrue(
+                        adjacent || grid.hasLineOfSight(a.x(), a.y(), b.x(), b.y()),
+                        "Every Theta* segment should have line of sight: " + a + " -> " + b
+                );
+                assertFalse(
+                        adjacent && isSqueeze(grid, a, b),
+                        "Theta* should not step between two blocked cells: " + a + " -> " + b
+                );
+            }
+        }
+    }
+
+    static boolean isSqueeze(OccupancyGrid grid, Coord a, Coord b) {
+        return a.x() != b.x() && a.y() != b.y() &&
+                !grid.isValid(b.x(), a.y()) && !grid.isValid(a.x(), b.y());
+    }
+
+    /**
+     * Dijkstra over 8-connected cells, without diagonal steps between two
+     * blocked cells.
+     */
+    static double noSqueezeCost(OccupancyGrid grid, Coord start, Coord end) {
+        int width = grid.getWidth();
+        double[] best = new double[grid.size()];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        PriorityQueue<double[]> queue = new PriorityQueue<>((p, q) -> Double.compare(p[0], q[0]));
+        int startIndex = grid.index(start.x(), start.y());
+        best[startIndex] = 0;
+        queue.add(new double[] { 0, startIndex });
+
+        while (!queue.isEmpty()) {
+            double[] entry = queue.poll();
+            int index = (int) entry[1];
+            if (entry[0] > best[index]) continue;
+
+            Coord current = new Coord(index % width, index / width);
+            for (int i = 0; i < 8; i++) {
+                Coord next = new Coord(current.x() + OccupancyGrid.NEIGHBOUR_X[i], current.y() + OccupancyGrid.NEIGHBOUR_Y[i]);
+                if (!grid.isValid(next.x(), next.y()) || isSqueeze(grid, current, next)) continue;
+
+                int nextIndex = grid.index(next.x(), next.y());
+                double score = entry[0] + OccupancyGrid.NEIGHBOUR_COST[i];
+                if (score < best[nextIndex]) {
+                    best[nextIndex] = score;
+                    queue.add(new double[] { score, nextIndex });
+                }
+            }
+        }
+
+        return best[grid.index(end.x(), end.y())];
+    }
+
+    @Test
+    void testThetaStarFieldPath() {
+        FTCField field = new FTCField(new ArrayList<>(obstacles().subList(0, 3)), 10, 14);
+        field.setSearchStrategy(SearchStrategy.THETA_STAR);
+
+        PointXY start = new PointXY(56.0, 0.4);
+        PointXY end = new PointXY(-52.5, 0.4);
+        List<PointXY> path = field.getPath(start, end, 3);
+
+        assertNotNull(path);
+        assertEquals(start, path.get(0));
+        assertEquals(end, path.get(path.size() - 1));
+        assertTrue(path.size() <= 8, "Any-angle paths should only contain a few waypoints");
+
+        Zone obstacle = obstacles().get(0);
+        for (int i = 1; i < path.size(); i++) {
+            PointXY a = path.get(i - 1);
+            PointXY b = path.get(i);
+            for (double t = 0; t <= 1; t += 0.01) {
+                PointXY p = new PointXY(a.x() + (b.x() - a.x()) * t, a.y() + (b.y() - a.y()) * t);
+                assertFalse(obstacle.isPointInShape(p), "Path should not go through the obstacle");
+            }
+        }
+    }
+
+    static List<Zone> mixedZones() {
+        List<Zone> zones = new ArrayList<>(obstacles());
+        zones.add(new Zone(new Circle(new PointXY(45, 45), 12.3)));
+        zones.add(new Zone(new Circle(new PointXY(-70, 10), 8)));
+        zones.add(new Zone(new Triangle(new PointXY(-60, -60), new PointXY(-40, -55), new PointXY(-52, -35))));
+        zones.add(new Zone(new Rectangle(new PointXY(40, -50), new PointXY(60, -40)).rotate(Angle.fromDeg(30))));
+        return zones;
+    }
+
+    /**
+     * Signed distance from a point to a zone's edge: positive inside,
+     * negative outside.
+     */
+    static double signedDistance(Zone zone, PointXY point) {
+        if (zone.getShape() instanceof Circle) {
+            Circle circle = (Circle) zone.getShape();
+            return circle.getRadius() - circle.getCenter().absDistance(point);
+        }
+
+        PointXY[] corners;
+        if (zone.getShape() instanceof Rectangle) {
+            Rectangle r = (Rectangle) zone.getShape();
+            corners = new PointXY[] { r.getA(), r.getB(), r.getC(), r.getD() };
+        } else {
+            Triangle t = (Triangle) zone.getShape();
+            corners = new PointXY[] { t.getA(), t.getB(), t.getC() };
+        }
+
+        double area = 0;
+        for (int i = 0; i < corners.length; i++) {
+            PointXY u = corners[i];
+            PointXY v = corners[(i + 1) % corners.length];
+            area += u.x() * v.y() - v.x() * u.y();
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < corners.length; i++) {
+            PointXY u = corners[i];
+            PointXY v = corners[(i + 1) % corners.length];
+            double cross = (v.x() - u.x()) * (point.y() - u.y()) - (v.y() - u.y()) * (point.x() - u.x());
+            min = Math.min(min, Math.signum(area) * cross / u.absDistance(v));
+        }
+        return min;
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testRasterizerMatchesZones() {
+        List<Zone> zones = mixedZones();
+
+        for (double scaling : new double[] { 2, 1, 0.75, 0.6, 0.5 }) {
+            LocalizedGrid actual = LocalizedGrid.generateLocalizedGrid(
+                    scaling, scaling, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY
+            );
+            ZoneRasterizer.rasterize(actual, zones);
+            OccupancyGrid occupancy = actual.getOccupancy();
+
+            for (int y = 0; y < occupancy.getHeight(); y++) {
+                for (int x = 0; x < occupancy.getWidth(); x++) {
+                    PointXY point = new PointXY(actual.toX(x), actual.toY(y));
+                    double distance = Double.NEGATIVE_INFINITY;
+                    for (Zone zone : zones) distance = Math.max(distance, signedDistance(zone, point));
+
+                    // skip cells that are right on an edge
+                    if (Math.abs(distance) < 1e-6) continue;
+
+                    assertEquals(distance < 0, occupancy.isValid(x, y), "Wrong validity at " + point);
+                }
+            }
+
+            // the old point-in-shape test is slightly inaccurate, but should
+            // agree almost everywhere
+            actual = fieldGrid(scaling, zones);
+            occupancy = actual.getOccupancy();
+            LocalizedGrid pointwise = LocalizedGrid.generateLocalizedGrid(
+                    scaling, scaling, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY
+            );
+            NodeValidator.validateNodesPointwise(pointwise, zones);
+            int mismatches = 0;
+            for (int i = 0; i < occupancy.size(); i++) {
+                if (occupancy.isValid(i) != pointwise.getOccupancy().isValid(i)) mismatches++;
+            }
+            assertTrue(mismatches <= occupancy.size() / 1000, "Too many mismatches: " + mismatches);
+        }
+    }
+
+    @Test
+    void testRasterizerUpdatesMaterializedGrid() {
+        LocalizedGrid grid = LocalizedGrid.generateLocalizedGrid(
+                2, 2, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY
+        );
+        grid.getGrid();
+        NodeValidator.validateNodes(grid, mixedZones());
+
+        assertEquals(grid.getOccupancy(), OccupancyGrid.fromGrid(grid.getGrid()));
+    }
+
+    /**
+     * Replan with D* Lite and A* after random cells are blocked and
+     * unblocked and the start moves along the path, and check both find
+     * equally short paths. If {@code blockedStart} is true, the start is
+     * allowed to be inside a blocked cell, which A* lets the robot leave.
+     */
+    private static void assertDStarLiteMatchesAStar(long seed, boolean blockedStart) {
+        Random random = new Random(seed);
+        for (int trial = 0; trial < 20; trial++) {
+            OccupancyGrid grid = new OccupancyGrid(10 + random.nextInt(30), 10 + random.nextInt(30));
+            for (int i = 0; i < grid.size(); i++) grid.setValid(i, random.nextDouble() >= 0.2);
+
+            Coord start = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            Coord end = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            grid.setValid(start.x(), start.y(), !blockedStart);
+            grid.setValid(end.x(), end.y(), true);
+
+            DStarLiteSearch search = new DStarLiteSearch(grid);
+
+            for (int step = 0; step < 10; step++) {
+                String message = "seed " + seed + ", trial " + trial + ", step " + step;
+                List<Coord> expected = GridSearch.create(grid.copy(), SearchStrategy.A_STAR).search(start, end);
+                List<Coord> actual = search.search(start, end);
+
+                assertEquals(expected.isEmpty(), actual.isEmpty(), "D* Lite should find a path iff A* does: " + message);
+                if (!actual.isEmpty()) {
+                    assertEquals(start, actual.get(0));
+                    assertEquals(end, actual.get(actual.size() - 1));
+                    assertValidPath(grid, actual);
+                    assertEquals(cost(expected), cost(actual), 1e-9, "D* Lite path should cost the same as A*: " + message);
+
+                    // move partway along the path, like a robot would
+                    start = actual.get(Math.min(actual.size() - 1, random.nextInt(4)));
+                }
+
+                for (int i = 0; i < 1 + random.nextInt(15); i++) {
+                    int x = random.nextInt(grid.getWidth());
+                    int y = random.nextInt(grid.getHeight());
+                    if (x == end.x() && y == end.y()) continue;
+                    if (!blockedStart && x == start.x() && y == start.y()) continue;
+                    search.setValid(x, y, !grid.isValid(x, y));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDStarLiteMatchesAStarAfterChanges() {
+        for (long seed = 0; seed < 200; seed++) assertDStarLiteMatchesAStar(seed, false);
+    }
+
+    @Test
+    void testDStarLiteLeavesABlockedStart() {
+        for (long seed = 0; seed < 200; seed++) assertDStarLiteMatchesAStar(seed, true);
+    }
+
+    @Test
+    void testDStarLiteStartsInsideAZone() {
+        // a zone just big enough to block the start cell, like a robot
+        // that's been pushed into the edge of an obstacle
+        Zone zone = new Zone(new Rectangle(new PointXY(-0.9, -0.9), new PointXY(0.9, 0.9)));
+        PointXY start = new PointXY(0.4, 0.4);
+        PointXY end = new PointXY(50.4, 20.4);
+
+        LocalizedPathGen aStar = new LocalizedPathGen(Collections.singletonList(zone), 1, 1, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY)
+                .setSearchStrategy(SearchStrategy.A_STAR);
+        LocalizedPathGen dStarLite = new LocalizedPathGen(new ArrayList<>(Collections.singletonList(zone)), 1, 1, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY)
+                .setGridCaching(true)
+                .setSearchStrategy(SearchStrategy.D_STAR_LITE);
+
+        assertTrue(zone.isPointInShape(start));
+        assertNotNull(aStar.getPath(start, end, 0.5), "A* should leave the zone");
+        List<PointXY> path = dStarLite.getPath(start, end, 0.5);
+        assertNotNull(path, "D* Lite should leave the zone like A* does");
+        assertEquals(end, path.get(path.size() - 1));
+
+        // and again after the robot has moved to another blocked cell
+        assertNotNull(dStarLite.getPath(new PointXY(-0.4, 0.4), end, 0.5));
+    }
+
+    @Test
+    void testDStarLiteRepairsAfterZoneChange() {
+        List<Zone> zones = new ArrayList<>(obstacles().subList(0, 3));
+        LocalizedPathGen gen = new LocalizedPathGen(zones, 1, 1, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY)
+                .setGridCaching(true)
+                .setSearchStrategy(SearchStrategy.D_STAR_LITE);
+        PointXY start = new PointXY(56, 0.4);
+        PointXY end = new PointXY(-52.5, 0.4);
+        assertNotNull(gen.getPath(start, end, 0.5));
+
+        Zone opponent = new Zone(new Circle(new PointXY(30, 30), 10));
+        gen.addZone(opponent);
+        List<PointXY> path = gen.getPath(start, end, 0.5);
+        assertNotNull(path);
+        for (PointXY point : path) assertFalse(opponent.isPointInShape(point));
+
+        gen.removeZone(opponent);
+        assertNotNull(gen.getPath(start, end, 0.5));
+    }
+
+    @Test
+    void testRasterizerCellsMatchRasterize() {
+        List<Zone> zones = mixedZones();
+        LocalizedGrid grid = LocalizedGrid.generateLocalizedGrid(
+                1, 1, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY
+        );
+        ZoneRasterizer.rasterize(grid, zones);
+        OccupancyGrid occupancy = grid.getOccupancy();
+        int width = occupancy.getWidth();
+
+        for (int[] rows : new int[][] { { 0, occupancy.getHeight() }, { 10, 50 }, { 100, 101 }, { -5, 3 }, { 40, 40 } }) {
+            BitSet cells = ZoneRasterizer.cells(grid, zones, rows[0], rows[1]);
+            for (int i = 0; i < occupancy.size(); i++) {
+                int y = i / width;
+                boolean inRows = y >= rows[0] && y < rows[1];
+                assertEquals(inRows && !occupancy.isValid(i), cells.get(i), "Wrong cell " + i);
+            }
+        }
+    }
+
+    @Test
+    void testDStarLiteZoneRepairMatchesRebuild() {
+        Random random = new Random(3);
+        List<Zone> pool = new ArrayList<>(mixedZones());
+        for (int i = 0; i < 10; i++) {
+            PointXY center = new PointXY(random.nextDouble() * 120 - 60, random.nextDouble() * 120 - 60);
+            pool.add(random.nextBoolean()
+                    ? new Zone(new Circle(center, 5 + random.nextDouble() * 20))
+                    : new Zone(new Rectangle(center, center.add(new PointXY(random.nextDouble() * 60 - 30, random.nextDouble() * 60 - 30)))));
+        }
+
+        List<Zone> zones = new ArrayList<>();
+        LocalizedPathGen dStarLite = new LocalizedPathGen(zones, 1, 1, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY)
+                .setGridCaching(true)
+                .setSearchStrategy(SearchStrategy.D_STAR_LITE);
+        PointXY start = new PointXY(-68.4, -68.4);
+        PointXY end = new PointXY(68.4, 68.4);
+
+        for (int step = 0; step < 60; step++) {
+            Zone zone = pool.get(random.nextInt(pool.size()));
+            if (zones.contains(zone)) dStarLite.removeZone(zone);
+            else dStarLite.addZone(zone);
+
+            List<PointXY> actual = dStarLite.getPath(start, end, 0.5);
+            LocalizedGrid rebuilt = fieldGrid(1, zones);
+            List<Coord> expected = GridSearch.create(rebuilt.getOccupancy(), SearchStrategy.A_STAR)
+                    .search(rebuilt.toCoord(start), rebuilt.toCoord(end));
+
+            assertEquals(expected.isEmpty(), actual == null, "Reachability differs at step " + step);
+            if (actual == null) continue;
+            for (PointXY point : actual.subList(1, actual.size())) {
+                Coord coord = rebuilt.toCoord(point);
+                assertTrue(rebuilt.getOccupancy().isValid(coord.x(), coord.y()), "Blocked waypoint " + point + " at step " + step);
+            }
+        }
+    }
+
+    @Test
+    void testHierarchicalPathsAreValidAndNearOptimal() {
+        Random random = new Random(9);
+        for (int trial = 0; trial < 200; trial++) {
+            OccupancyGrid grid = new OccupancyGrid(10 + random.nextInt(60), 10 + random.nextInt(60));
+            double density = random.nextDouble() * 0.35;
+            for (int i = 0; i < grid.size(); i++) grid.setValid(i, random.nextDouble() >= density);
+
+            Coord start = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            Coord end = new Coord(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+            grid.setValid(start.x(), start.y(), true);
+            grid.setValid(end.x(), end.y(), true);
+
+            List<Coord> expected = GridSearch.create(grid, SearchStrategy.A_STAR).search(start, end);
+            List<Coord> actual = new HierarchicalSearch(grid, 2 + random.nextInt(12)).search(start, end);
+
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "Hierarchical search should find a path iff A* does");
+            if (actual.isEmpty()) continue;
+
+            assertEquals(start, actual.get(0));
+            assertEquals(end, actual.get(actual.size() - 1));
+            assertValidPath(grid, actual);
+            assertTrue(cost(actual) <= cost(expected) * 1.25 + 1e-9, "Hierarchical path is much too long");
+        }
+    }
+
+    @Test
+    void testHierarchicalFindsNarrowGap() {
+        List<Zone> zones = new ArrayList<>();
+        zones.add(new Zone(new Rectangle(new PointXY(-10, -72), new PointXY(10, 30))));
+        zones.add(new Zone(new Rectangle(new PointXY(-10, 30.6), new PointXY(10, 72))));
+        LocalizedGrid field = fieldGrid(0.25, zones);
+
+        Coord start = field.toCoord(new PointXY(-60, 0));
+        Coord end = field.toCoord(new PointXY(60, 0));
+        HierarchicalSearch search = new HierarchicalSearch(field.getOccupancy());
+        List<Coord> path = search.search(start, end);
+        List<Coord> expected = GridSearch.create(field.getOccupancy(), SearchStrategy.A_STAR).search(start, end);
+
+        assertFalse(path.isEmpty(), "Hierarchical search should find the gap");
+        assertValidPath(field.getOccupancy(), path);
+        assertTrue(cost(path) <= cost(expected) * 1.05);
+    }
+
+    @Test
+    void testClearanceMapMatchesBruteForce() {
+        Random random = new Random(33);
+        for (int trial = 0; trial < 50; trial++) {
+            OccupancyGrid grid = new OccupancyGrid(1 + random.nextInt(40), 1 + random.nextInt(40));
+            double density = random.nextDouble() * 0.1;
+            for (int i = 0; i < grid.size(); i++) grid.setValid(i, random.nextDouble() >= density);
+            double cellWidth = 0.25 + random.nextDouble();
+            double cellHeight = 0.25 + random.nextDouble();
+
+            ClearanceMap map = ClearanceMap.compute(grid, cellWidth, cellHeight);
+
+            for (int i = 0; i < grid.size(); i++) {
+                double expected = Double.POSITIVE_INFINITY;
+                for (int j = 0; j < grid.size(); j++) {
+                    if (grid.isValid(j)) continue;
+                    double dx = (grid.x(i) - grid.x(j)) * cellWidth;
+                    double dy = (grid.y(i) - grid.y(j)) * cellHeight;
+                    expected = Math.min(expected, Math.hypot(dx, dy));
+                }
+                if (Double.isInfinite(expected)) {
+                    assertTrue(Double.isInfinite(map.getClearance(i)));
+                } else {
+                    assertEquals(expected, map.getClearance(i), 1e-4 * (1 + expected));
+                }
+            }
+
+            assertEquals(grid, map.toOccupancy(0));
+        }
+    }
+
+    @Test
+    void testClearanceKeepsPathsAway() {
+        List<Zone> zones = new ArrayList<>();
+        Rectangle obstacle = new Rectangle(new PointXY(-10, -30), new PointXY(10, 30));
+        zones.add(new Zone(obstacle));
+        LocalizedPathGen gen = new LocalizedPathGen(zones, 1, 1, FTCField.minX, FTCField.minY, FTCField.maxX, FTCField.maxY)
+                .setGridCaching(true);
+
+        PointXY start = new PointXY(-50, 0);
+        PointXY end = new PointXY(50, 0);
+
+        for (double clearance : new double[] { 4, 12, 0 }) {
+            gen.setClearance(clearance);
+            List<PointXY> path = gen.getPath(start, end, 0.1);
+            assertNotNull(path);
+
+            for (PointXY point : path) {
+                double distance = obstacle.isPointInShape(point) ? 0 : obstacle.getClosestPoint(point).absDistance(point);
+                assertTrue(distance >= clearance - 1.5, "Path passes too close to the obstacle: " + point);
+            }
+        }
+
+        // nothing can get past a wall with this much clearance
+        gen.setClearance(45);
+        assertNull(gen.getPath(new PointXY(-65, 0), new PointXY(65, 0), 0.1));
+    }
+
+    @Test
+    void testFieldZeroClearanceKeepsInflatedZones() {
+        PointXY start = new PointXY(56.0, 0.4);
+        PointXY end = new PointXY(-52.5, 0.4);
+
+        FTCField reference = new FTCField(new ArrayList<>(obstacles().subList(0, 3)), 10, 14);
+        List<PointXY> expected = reference.getPath(start, end, 3);
+        assertNotNull(expected);
+
+        // 0 on a default field, and 0 after a clearance map, should both
+        // go back to the robot-size inflated zones
+        FTCField field = new FTCField(new ArrayList<>(obstacles().subList(0, 3)), 10, 14);
+        field.setClearance(0);
+        assertEquals(expected, field.getPath(start, end, 3));
+
+        field.setClearance(6);
+        assertNotNull(field.getPath(start, end, 3));
+        field.setClearance(0);
+        assertEquals(expected, field.getPath(start, end, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> field.setClearance(-1));
+        assertThrows(IllegalArgumentException.class, () -> field.setClearance(Double.NaN));
+    }
+}
@@ -0,0 +1,126 @@
+package xyz.devmello.tests.profiling;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.profiling.LatencyHistogram;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    private static long exactPercentile(long[] sorted, double percentile) {
+        int rank = (int) Math.max(1, Math.ceil(percentile / 100 * sorted.length));
+
+        return sorted[rank - 1];
+    }
+
+    private static void assertClose(long expected, long actual) {
+        // percentiles are the top of their bucket: never low, never more
+        // than one sub-bucket (1/16) high
+        assertTrue(actual >= expected, actual + " < " + expected);
+        assertTrue(
+            actual <= expected + expected / LatencyHistogram.SUB_BUCKETS,
+            actual + " too far above " + expected
+        );
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getP50());
+        assertEquals(0, histogram.getP99());
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < LatencyHistogram.SUB_BUCKETS; i++) {
+            histogram.record(i);
+        }
+
+        for (int i = 0; i < LatencyHistogram.SUB_BUCKETS; i++) {
+            double percentile = 100.0 * (i + 1) / LatencyHistogram.SUB_BUCKETS;
+            assertEquals(i, histogram.getPercentile(percentile));
+        }
+
+        histogram.record(-5);
+        assertEquals(0, histogram.getMin());
+    }
+
+    @Test
+    void testPercentilesOfUniformValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long i = 1; i <= 10_000; i++) histogram.record(i * 1_000);
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(1_000, histogram.getMin());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500.0, histogram.getMean(), 1e-6);
+        assertClose(5_000_000, histogram.getP50());
+        assertClose(9_900_000, histogram.getP99());
+        assertEquals(10_000_000, histogram.getPercentile(100));
+        assertClose(1_000, histogram.getPercentile(0));
+    }
+
+    @Test
+    void testPercentilesMatchSortedSamples() {
+        Random random = new Random(42);
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] samples = new long[5_000];
+
+        for (int i = 0; i < samples.length; i++) {
+            // log-uniform between 1ns and ~1s
+            samples[i] = (long) Math.exp(random.nextDouble() * Math.log(1e9));
+            histogram.record(samples[i]);
+        }
+
+        Arrays.sort(samples);
+
+        for (double percentile : new double[] { 1, 10, 25, 50, 75, 90, 99, 99.9 }) {
+            assertClose(
+                exactPercentile(samples, percentile),
+                histogram.getPercentile(percentile)
+            );
+        }
+
+        assertEquals(samples[samples.length - 1], histogram.getMax());
+        assertEquals(samples[0], histogram.getMin());
+    }
+
+    @Test
+    void testResetAndCopy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram copy = new LatencyHistogram();
+
+        histogram.record(100);
+        histogram.record(300);
+        copy.record(1_000_000);
+        histogram.copyInto(copy);
+
+        assertEquals(2, copy.getCount());
+        assertEquals(400, copy.getTotal());
+        assertEquals(300, copy.getMax());
+        assertEquals(histogram.getP50(), copy.getP50());
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(2, copy.getCount());
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+}
@@ -0,0 +1,69 @@
+package xyz.devmello.tests.profiling;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.profiling.LatencyHistogram;
+import xyz.devmello.voyager.profiling.TickPhase;
+import xyz.devmello.voyager.profiling.TickProfiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickProfilerTest {
+    private static final long MS = 1_000_000;
+
+    @Test
+    void testNullProfilerIsFree() {
+        assertEquals(0, TickProfiler.start(null));
+        assertEquals(0, TickProfiler.lap(null, TickPhase.TOTAL, 123));
+    }
+
+    @Test
+    void testPhaseLapsAreRecorded() {
+        TickProfiler profiler = new TickProfiler();
+
+        for (int i = 1; i <= 100; i++) {
+            // pretend each phase started i ms ago
+            long start = System.nanoTime() - i * MS;
+            long next = TickProfiler.lap(profiler, TickPhase.EXECUTOR, start);
+
+            assertTrue(next - start >= i * MS);
+        }
+
+        LatencyHistogram executor = profiler.getPhase(TickPhase.EXECUTOR);
+
+        assertEquals(100, executor.getCount());
+        assertEquals(0, profiler.getPhase(TickPhase.ODOMETRY).getCount());
+        assertTrue(executor.getMin() >= MS);
+        assertTrue(executor.getMax() >= 100 * MS);
+        assertTrue(executor.getP50() >= 50 * MS);
+        assertTrue(executor.getP99() >= 99 * MS);
+        // laps are taken right after the start is made up, so they
+        // shouldn't be more than a bucket (plus a little slack) high
+        assertTrue(executor.getP50() < 50 * MS * 17 / 16 + 5 * MS);
+    }
+
+    @Test
+    void testOperationsAndSummaries() {
+        TickProfiler profiler = new TickProfiler();
+
+        assertNull(profiler.getOperation("vision"));
+
+        profiler.lap("vision", System.nanoTime() - 2 * MS);
+        profiler.lap("vision", System.nanoTime() - 4 * MS);
+
+        LatencyHistogram vision = profiler.getOperation("vision");
+        assertEquals(2, vision.getCount());
+        assertTrue(vision.getMin() >= 2 * MS);
+        assertTrue(vision.getMax() >= 4 * MS);
+
+        Map<String, LatencyHistogram.Summary> summaries = profiler.summarize();
+
+        assertTrue(summaries.containsKey("phase/total"));
+        assertEquals(2, summaries.get("onTick/vision").getCount());
+        assertEquals(vision.getP99(), summaries.get("onTick/vision").getP99());
+
+        profiler.reset();
+
+        assertEquals(0, profiler.getOperation("vision").getCount());
+    }
+}
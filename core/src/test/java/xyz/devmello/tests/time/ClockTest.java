@@ -0,0 +1,221 @@
+package xyz.devmello.tests.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.Voyager;
+import xyz.devmello.voyager.execution.trajectory.TimedTrajectory;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+import xyz.devmello.voyager.math.geometry.Translation;
+import xyz.devmello.voyager.math.kinematics.GenericOdometry;
+import xyz.devmello.voyager.math.kinematics.Kinematics;
+import xyz.devmello.voyager.plugin.bundled.StatTracker;
+import xyz.devmello.voyager.robot.AbstractDrive;
+import xyz.devmello.voyager.robot.AbstractOdometry;
+import xyz.devmello.voyager.robot.Robot;
+import xyz.devmello.voyager.utils.time.ElapsedTimer;
+import xyz.devmello.voyager.utils.time.SystemClock;
+import xyz.devmello.voyager.utils.time.Time;
+import xyz.devmello.voyager.utils.time.VirtualClock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClockTest {
+    @AfterEach
+    void tearDown() {
+        Time.useSystemClock();
+    }
+
+    @Test
+    void testVirtualClockOnlyMovesWhenTold() {
+        VirtualClock clock = new VirtualClock(100);
+
+        assertEquals(100, clock.nanoTime());
+        assertEquals(100, clock.nanoTime());
+        assertEquals(1_100, clock.advanceNanos(1_000));
+        assertEquals(2_001_100, clock.advanceMs(2));
+        assertEquals(1_502_001_100, clock.advanceSeconds(1.5));
+        assertThrows(IllegalArgumentException.class, () -> clock.advanceNanos(-1));
+    }
+
+    @Test
+    void testVirtualClockSleepJumpsForwardsOnly() {
+        VirtualClock clock = new VirtualClock();
+
+        clock.sleepUntil(5_000, 1_000);
+        assertEquals(5_000, clock.nanoTime());
+
+        // a deadline that's already passed doesn't move the clock back
+        clock.sleepUntil(1_000, 0);
+        assertEquals(5_000, clock.nanoTime());
+    }
+
+    @Test
+    void testSetClock() {
+        assertSame(SystemClock.INSTANCE, Time.getClock());
+        assertThrows(IllegalArgumentException.class, () -> Time.setClock(null));
+
+        VirtualClock clock = new VirtualClock(3_000_000_000L);
+        Time.setClock(clock);
+
+        assertSame(clock, Time.getClock());
+        assertEquals(3_000_000_000L, Time.nanoTime());
+        assertEquals(3_000, Time.longMs());
+        assertEquals(3_000.0, Time.ms());
+        assertEquals(3, Time.longSeconds());
+        assertEquals(3.0, Time.seconds());
+
+        clock.advanceMs(0.5);
+        assertEquals(3_000.5, Time.ms());
+
+        Time.useSystemClock();
+
+        assertSame(SystemClock.INSTANCE, Time.getClock());
+    }
+
+    @Test
+    void testSystemClockIsMonotonic() {
+        long last = Time.nanoTime();
+
+        for (int i = 0; i < 1_000; i++) {
+            long now = Time.nanoTime();
+            assertTrue(now >= last);
+            last = now;
+        }
+
+        long deadline = Time.nanoTime() + 2_000_000;
+        Time.sleepUntil(deadline, 500_000);
+        assertTrue(Time.nanoTime() >= deadline);
+    }
+
+    @Test
+    void testElapsedTimerFollowsTheClock() {
+        VirtualClock clock = new VirtualClock(7_000_000);
+        Time.setClock(clock);
+
+        ElapsedTimer timer = new ElapsedTimer();
+        assertFalse(timer.hasStarted());
+
+        timer.start();
+        assertTrue(timer.hasStarted());
+        assertEquals(0, timer.elapsedNanos());
+
+        clock.advanceMs(250);
+        assertEquals(250_000_000, timer.elapsedNanos());
+        assertEquals(250, timer.elapsedMs());
+        assertEquals(0.25, timer.elapsedSeconds());
+
+        timer.reset();
+        assertEquals(0, timer.elapsedMs());
+    }
+
+    @Test
+    void testElapsedTimerWaitSkipsVirtualTime() {
+        VirtualClock clock = new VirtualClock();
+        Time.setClock(clock);
+
+        long before = System.nanoTime();
+        ElapsedTimer.wait(60_000.0);
+        long realNanos = System.nanoTime() - before;
+
+        assertEquals(60_000_000_000L, clock.nanoTime());
+        assertTrue(realNanos < 1_000_000_000L, "waited " + realNanos + "ns");
+
+        int[] runs = { 0 };
+        ElapsedTimer.waitThenRun(() -> runs[0]++, 10);
+        assertEquals(1, runs[0]);
+        assertEquals(60_010_000_000L, clock.nanoTime());
+    }
+
+    @Test
+    void testStatTrackerStartsAtVirtualTimeZero() {
+        VirtualClock clock = new VirtualClock(0);
+        Time.setClock(clock);
+
+        AbstractOdometry odometry = new AbstractOdometry() {
+            @Override
+            public PointXYZ getRawPosition() {
+                return PointXYZ.ZERO;
+            }
+        };
+        Translation[] translation = { Translation.ZERO };
+        AbstractDrive drive = new AbstractDrive(
+            t -> translation[0] = t,
+            () -> translation[0]
+        );
+        Voyager voyager = new Voyager(new Robot(drive, odometry), 0.01);
+        voyager.loadPlugin(new StatTracker());
+
+        voyager.tick();
+        clock.advanceMs(10);
+        voyager.tick();
+
+        // the first tick was at t = 0, so the second tick already has a
+        // period to measure
+        assertEquals(2L, voyager.getData(StatTracker.KEY_TICKS));
+
+        for (int i = 0; i < 30; i++) {
+            clock.advanceMs(10);
+            voyager.tick();
+        }
+
+        double tps = (double) voyager.getData(StatTracker.KEY_TPS);
+        assertTrue(tps > 0 && tps <= 100, "tps: " + tps);
+        assertEquals(32L, voyager.getData(StatTracker.KEY_TICKS));
+    }
+
+    @Test
+    void testTimedTrajectoryStartsAtVirtualTimeZero() {
+        VirtualClock clock = new VirtualClock(0);
+        Time.setClock(clock);
+
+        TimedTrajectory trajectory = new TimedTrajectory(
+            new Translation(0, 1, 0),
+            500,
+            0.5,
+            1
+        );
+
+        // starts timing on the first call, at t = 0
+        assertFalse(trajectory.isDone(PointXYZ.ZERO));
+        clock.advanceMs(499);
+        assertFalse(trajectory.isDone(PointXYZ.ZERO));
+        clock.advanceMs(1);
+        assertTrue(trajectory.isDone(PointXYZ.ZERO));
+    }
+
+    @Test
+    void testGenericOdometryIntegratesAtNegativeTimes() {
+        VirtualClock clock = new VirtualClock(-10_000_000_000L);
+        Time.setClock(clock);
+
+        Kinematics<Translation> kinematics = new Kinematics<Translation>() {
+            @Override
+            public Translation calculate(Translation translation) {
+                return translation;
+            }
+
+            @Override
+            public Translation toTranslation(Translation state) {
+                return state;
+            }
+        };
+        GenericOdometry<Translation> odometry = new GenericOdometry<>(
+            kinematics,
+            Angle.ZERO,
+            PointXYZ.ZERO
+        );
+        Translation state = new Translation(2, 0, 0);
+
+        // the first update only records the time
+        assertEquals(
+            PointXYZ.ZERO,
+            odometry.updateWithTime(Time.ms(), Angle.ZERO, state)
+        );
+        clock.advanceSeconds(1.5);
+        assertEquals(
+            new PointXYZ(3, 0, 0),
+            odometry.updateWithTime(Time.ms(), Angle.ZERO, state)
+        );
+    }
+}
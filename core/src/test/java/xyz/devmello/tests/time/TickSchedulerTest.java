@@ -0,0 +1,130 @@
+package xyz.devmello.tests.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.TickScheduler;
+import xyz.devmello.voyager.utils.time.Time;
+import xyz.devmello.voyager.utils.time.VirtualClock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickSchedulerTest {
+    private static final long PERIOD = 5_000_000;
+
+    private VirtualClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualClock(1_000_000_000);
+        Time.setClock(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Time.useSystemClock();
+    }
+
+    @Test
+    void testPeriod() {
+        assertEquals(PERIOD, new TickScheduler(200).getPeriodNanos());
+        assertThrows(IllegalArgumentException.class, () -> new TickScheduler(0));
+        assertThrows(IllegalArgumentException.class, () -> new TickScheduler(Double.NaN));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TickScheduler(Double.POSITIVE_INFINITY)
+        );
+    }
+
+    @Test
+    void testDeadlinesDontDrift() {
+        TickScheduler scheduler = new TickScheduler(200);
+        long start = clock.nanoTime();
+        scheduler.start();
+
+        for (int i = 1; i <= 1_000; i++) {
+            // each tick does a varying amount of work, always less than a
+            // period
+            clock.advanceNanos((i * 7_919L) % PERIOD);
+            scheduler.awaitNextTick();
+
+            assertEquals(start + i * PERIOD, clock.nanoTime());
+        }
+
+        assertEquals(1_000, scheduler.getTickCount());
+        assertEquals(0, scheduler.getOverrunCount());
+        assertEquals(0, scheduler.getMaxOverrunNanos());
+        assertEquals(1_000, scheduler.getJitter().getCount());
+        assertEquals(0, scheduler.getJitter().getMax());
+    }
+
+    @Test
+    void testOverrunsRestartTheSchedule() {
+        TickScheduler scheduler = new TickScheduler(200);
+        long start = clock.nanoTime();
+
+        scheduler.awaitNextTick();
+        assertEquals(start + PERIOD, clock.nanoTime());
+
+        // overrun the second deadline by 3ms
+        clock.advanceNanos(PERIOD + 3_000_000);
+        scheduler.awaitNextTick();
+
+        long overrun = start + 2 * PERIOD + 3_000_000;
+        assertEquals(overrun, clock.nanoTime());
+        assertEquals(1, scheduler.getOverrunCount());
+        assertEquals(3_000_000, scheduler.getMaxOverrunNanos());
+        assertEquals(3_000_000, scheduler.getJitter().getMax());
+
+        // the next deadline is one period after the overrun tick, not
+        // the missed deadline
+        scheduler.awaitNextTick();
+        assertEquals(overrun + PERIOD, clock.nanoTime());
+
+        // a smaller overrun doesn't lower the max
+        clock.advanceNanos(PERIOD + 1_000_000);
+        scheduler.awaitNextTick();
+
+        assertEquals(2, scheduler.getOverrunCount());
+        assertEquals(3_000_000, scheduler.getMaxOverrunNanos());
+        assertEquals(4, scheduler.getTickCount());
+    }
+
+    @Test
+    void testJitterIsPeriodError() {
+        TickScheduler scheduler = new TickScheduler(200);
+
+        scheduler.awaitNextTick();
+        scheduler.awaitNextTick();
+
+        // the clock jumps ahead between ticks, so the period is 2ms long
+        clock.advanceNanos(PERIOD + 2_000_000);
+        scheduler.awaitNextTick();
+
+        assertEquals(3, scheduler.getJitter().getCount());
+        assertEquals(2_000_000, scheduler.getJitter().getMax());
+        assertEquals(0, scheduler.getJitter().getMin());
+
+        scheduler.resetStatistics();
+
+        assertEquals(0, scheduler.getTickCount());
+        assertEquals(0, scheduler.getOverrunCount());
+        assertEquals(0, scheduler.getJitter().getCount());
+    }
+
+    @Test
+    void testStartRestartsSchedule() {
+        TickScheduler scheduler = new TickScheduler(200);
+
+        scheduler.awaitNextTick();
+
+        // a long pause, then an explicit restart: no overrun
+        clock.advanceSeconds(10);
+        long resumed = clock.nanoTime();
+        scheduler.start();
+        scheduler.awaitNextTick();
+
+        assertEquals(resumed + PERIOD, clock.nanoTime());
+        assertEquals(0, scheduler.getOverrunCount());
+    }
+}
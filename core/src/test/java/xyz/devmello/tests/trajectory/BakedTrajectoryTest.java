@@ -0,0 +1,207 @@
+package xyz.devmello.tests.trajectory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectory;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import xyz.devmello.voyager.math.geometry.Angle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BakedTrajectoryTest {
+    private static AdvancedSplineTrajectory spline(double... points) {
+        AdvancedSplineTrajectoryBuilder builder = new AdvancedSplineTrajectoryBuilder()
+            .setStep(0.1)
+            .setSpeed(0.5)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(5));
+
+        for (int i = 0; i < points.length; i += 2) builder.add(
+            points[i],
+            points[i + 1],
+            Angle.fromDeg(0)
+        );
+
+        return builder.build();
+    }
+
+    private static BakedTrajectory line(
+        double startX,
+        double startY,
+        double endX,
+        double endY,
+        int segments
+    ) {
+        double[] x = new double[segments + 1];
+        double[] y = new double[segments + 1];
+        double[] heading = new double[segments + 1];
+        double[] speed = new double[segments + 1];
+        double[] distance = new double[segments + 1];
+        double length = Math.hypot(endX - startX, endY - startY);
+
+        for (int i = 0; i <= segments; i++) {
+            x[i] = startX + (endX - startX) * i / segments;
+            y[i] = startY + (endY - startY) * i / segments;
+            heading[i] = i;
+            speed[i] = 0.5;
+            distance[i] = length * i / segments;
+        }
+
+        return new BakedTrajectory(
+            x,
+            y,
+            heading,
+            speed,
+            distance,
+            1,
+            0.5,
+            Angle.fromDeg(5)
+        );
+    }
+
+    /**
+     * Check a baked trajectory's samples are roughly {@code spacing} apart,
+     * and its distances match its polyline.
+     */
+    private static void assertSpaced(BakedTrajectory baked, double spacing) {
+        for (int i = 1; i < baked.size(); i++) {
+            double chord = Math.hypot(
+                baked.x(i) - baked.x(i - 1),
+                baked.y(i) - baked.y(i - 1)
+            );
+            double step = baked.distance(i) - baked.distance(i - 1);
+
+            assertTrue(chord <= step + 1e-9, "sample " + i);
+            assertTrue(step <= spacing * 1.25, "sample " + i + ": " + step);
+
+            if (i < baked.size() - 1) assertTrue(
+                step >= spacing - 1e-9,
+                "sample " + i + ": " + step
+            );
+        }
+    }
+
+    @Test
+    void testBakingASteepSpline() {
+        // nearly vertical: only 0.2 wide, but about 40 long
+        AdvancedSplineTrajectory trajectory = spline(0, 0, 0.1, 30, 0.2, 40);
+        BakedTrajectory baked = trajectory.bake(1);
+
+        assertTrue(baked.size() >= 35, "only " + baked.size() + " samples");
+        assertTrue(baked.length() >= 39, "length " + baked.length());
+        assertEquals(0, baked.x(0));
+        assertEquals(0, baked.y(0));
+        assertEquals(0.2, baked.x(baked.size() - 1), 1e-12);
+        assertEquals(40, baked.y(baked.size() - 1), 1e-9);
+        assertSpaced(baked, 1);
+    }
+
+    @Test
+    void testBakingAShallowSpline() {
+        AdvancedSplineTrajectory trajectory = spline(0, 0, 20, 10, 40, 25, 60, 30);
+
+        for (double spacing : new double[] { 0.1, 0.5, 2 }) {
+            BakedTrajectory baked = trajectory.bake(spacing);
+
+            assertEquals(60, baked.x(baked.size() - 1), 1e-12);
+            assertSpaced(baked, spacing);
+        }
+
+        // finer spacing only makes the polyline longer, and only slightly
+        double coarse = trajectory.bake(2).length();
+        double fine = trajectory.bake(0.1).length();
+
+        assertTrue(fine >= coarse);
+        assertEquals(fine, coarse, fine * 0.01);
+    }
+
+    @Test
+    void testBakingADecreasingSpline() {
+        BakedTrajectory baked = spline(40, 0, 20, -10, 0, 0).bake(0.5);
+
+        assertEquals(40, baked.x(0));
+        assertEquals(0, baked.x(baked.size() - 1), 1e-12);
+        assertSpaced(baked, 0.5);
+    }
+
+    @Test
+    void testConcat() {
+        BakedTrajectory first = line(0, 0, 10, 0, 10);
+        // overlaps the end of the first line by 2
+        BakedTrajectory second = line(8, 0, 8, 10, 10);
+        BakedTrajectory joined = BakedTrajectory.concat(Arrays.asList(
+            first,
+            line(8, 0, 20, 0, 12),
+            second
+        ));
+
+        // the second line picks up where the first left off, at (10, 0),
+        // and the third starts from the closest sample to (20, 0)
+        assertEquals(0, joined.distance(0));
+        assertEquals(0, joined.x(0));
+
+        for (int i = 1; i < joined.size(); i++) {
+            double chord = Math.hypot(
+                joined.x(i) - joined.x(i - 1),
+                joined.y(i) - joined.y(i - 1)
+            );
+
+            assertTrue(chord > 0);
+            assertEquals(
+                joined.distance(i - 1) + chord,
+                joined.distance(i),
+                1e-9
+            );
+        }
+
+        int atTen = 10;
+        assertEquals(10, joined.x(atTen), 1e-9);
+        assertEquals(0, joined.y(atTen), 1e-9);
+        assertEquals(11, joined.x(atTen + 1), 1e-9);
+        assertEquals(20, joined.x(atTen + 10), 1e-9);
+        assertEquals(8, joined.x(joined.size() - 1), 1e-9);
+        assertEquals(10, joined.y(joined.size() - 1), 1e-9);
+
+        // the lookahead and tolerances come from the last trajectory
+        assertEquals(second.lookahead(), joined.lookahead());
+        assertEquals(second.tolerance(), joined.tolerance());
+        assertEquals(second.angleTolerance(), joined.angleTolerance());
+    }
+
+    @Test
+    void testConcatMergesDuplicateSamples() {
+        BakedTrajectory joined = BakedTrajectory.concat(Arrays.asList(
+            line(0, 0, 10, 0, 10),
+            line(10, 0, 10, 10, 10)
+        ));
+
+        // (10, 0) appears once, with the later trajectory's heading
+        assertEquals(21, joined.size());
+        assertEquals(10, joined.x(10), 1e-9);
+        assertEquals(0, joined.heading(10));
+        assertEquals(20, joined.length(), 1e-9);
+    }
+
+    @Test
+    void testConcatOfOne() {
+        BakedTrajectory only = line(0, 0, 10, 0, 10);
+        BakedTrajectory joined = BakedTrajectory.concat(
+            Collections.singletonList(only)
+        );
+
+        assertNotSame(only, joined);
+        assertEquals(only.size(), joined.size());
+        assertEquals(only.length(), joined.length());
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BakedTrajectory.concat(Collections.emptyList())
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BakedTrajectory.concat(null)
+        );
+    }
+}
@@ -0,0 +1,367 @@
+package xyz.devmello.tests.trajectory;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.devmello.voyager.execution.trajectory.baked.BakedTrajectory;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryCache;
+import xyz.devmello.voyager.execution.trajectory.baked.TrajectoryHash;
+import xyz.devmello.voyager.execution.trajectory.spline.AdvancedSplineTrajectoryBuilder;
+import xyz.devmello.voyager.execution.trajectory.spline.HermitePathTrajectoryBuilder;
+import xyz.devmello.voyager.execution.trajectory.spline.InterpolationMode;
+import xyz.devmello.voyager.execution.trajectory.spline.MultiSplineBuilder;
+import xyz.devmello.voyager.logging.LogLevel;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.math.geometry.Angle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrajectoryCacheTest {
+    private static final long KEY = 0x1234_5678_9abc_def0L;
+
+    @TempDir
+    File directory;
+
+    private TrajectoryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TrajectoryCache(directory);
+
+        // corrupt files are logged as warnings
+        Logger.setLoggingLevel(LogLevel.ERROR);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Logger.setLoggingLevel(LogLevel.WARN);
+    }
+
+    private static AdvancedSplineTrajectoryBuilder builder() {
+        return new AdvancedSplineTrajectoryBuilder()
+            .setStep(0.1)
+            .setSpeed(0.5)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .add(0, 0, Angle.fromDeg(0))
+            .add(20, 10, Angle.fromDeg(45))
+            .add(40, 0, Angle.fromDeg(90));
+    }
+
+    private static BakedTrajectory baked() {
+        return builder().build().bake(0.5);
+    }
+
+    private static void assertSameSamples(
+        BakedTrajectory expected,
+        BakedTrajectory actual
+    ) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.lookahead(), actual.lookahead());
+        assertEquals(expected.tolerance(), actual.tolerance());
+        assertEquals(expected.angleTolerance().deg(), actual.angleTolerance().deg());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.x(i), actual.x(i));
+            assertEquals(expected.y(i), actual.y(i));
+            assertEquals(expected.heading(i), actual.heading(i));
+            assertEquals(expected.speed(i), actual.speed(i));
+            assertEquals(expected.distance(i), actual.distance(i));
+        }
+    }
+
+    private void overwrite(long offset, int value) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(cache.fileFor(KEY), "rw")) {
+            file.seek(offset);
+            file.writeInt(value);
+        }
+    }
+
+    @Test
+    void testRoundTrip() {
+        BakedTrajectory trajectory = baked();
+
+        assertNull(cache.load(KEY));
+        assertTrue(cache.save(KEY, trajectory));
+        assertTrue(cache.fileFor(KEY).isFile());
+        assertSameSamples(trajectory, cache.load(KEY));
+
+        // saving again replaces the file
+        BakedTrajectory other = builder().build().bake(2);
+        assertTrue(cache.save(KEY, other));
+        assertSameSamples(other, cache.load(KEY));
+
+        // and no temporary files are left behind
+        assertEquals(1, directory.listFiles().length);
+    }
+
+    @Test
+    void testTruncatedFiles() throws IOException {
+        cache.save(KEY, baked());
+        long length = cache.fileFor(KEY).length();
+
+        for (long size : new long[] { 0, 10, 40, length - 8, length - 1 }) {
+            cache.save(KEY, baked());
+
+            try (RandomAccessFile file = new RandomAccessFile(cache.fileFor(KEY), "rw")) {
+                file.setLength(size);
+            }
+
+            assertNull(cache.load(KEY), "length " + size);
+        }
+    }
+
+    @Test
+    void testCorruptFiles() throws IOException {
+        cache.save(KEY, baked());
+        overwrite(0, 0xdeadbeef);
+        assertNull(cache.load(KEY));
+
+        // a sample count that doesn't match the file's length
+        cache.save(KEY, baked());
+        overwrite(16, 3);
+        assertNull(cache.load(KEY));
+
+        cache.save(KEY, baked());
+        overwrite(16, -1);
+        assertNull(cache.load(KEY));
+
+        // samples that aren't a valid trajectory: distances that don't
+        // start at 0
+        BakedTrajectory trajectory = baked();
+        cache.save(KEY, trajectory);
+        try (RandomAccessFile file = new RandomAccessFile(cache.fileFor(KEY), "rw")) {
+            file.seek(cache.fileFor(KEY).length() - 8L * trajectory.size());
+            file.writeDouble(1);
+        }
+        assertNull(cache.load(KEY));
+
+        // garbage
+        try (DataOutputStream output = new DataOutputStream(
+            new FileOutputStream(cache.fileFor(KEY))
+        )) {
+            for (int i = 0; i < 100; i++) output.writeInt(i * 31);
+        }
+        assertNull(cache.load(KEY));
+    }
+
+    @Test
+    void testVersionMismatch() throws IOException {
+        cache.save(KEY, baked());
+        overwrite(4, TrajectoryCache.VERSION - 1);
+        assertNull(cache.load(KEY));
+
+        cache.save(KEY, baked());
+        overwrite(4, TrajectoryCache.VERSION + 1);
+        assertNull(cache.load(KEY));
+    }
+
+    @Test
+    void testKeyMismatch() {
+        BakedTrajectory trajectory = baked();
+        cache.save(KEY, trajectory);
+
+        // a file that's been copied to the wrong name
+        File wrong = cache.fileFor(KEY + 1);
+        assertTrue(cache.fileFor(KEY).renameTo(wrong));
+
+        assertNull(cache.load(KEY));
+        assertNull(cache.load(KEY + 1));
+    }
+
+    @Test
+    void testGetOrBake() {
+        AtomicInteger builds = new AtomicInteger();
+        AdvancedSplineTrajectoryBuilder builder = builder();
+
+        BakedTrajectory first = cache.getOrBake(builder.cacheKey(), 0.5, () -> {
+            builds.incrementAndGet();
+            return builder.build();
+        });
+        BakedTrajectory second = cache.getOrBake(builder.cacheKey(), 0.5, () -> {
+            builds.incrementAndGet();
+            return builder.build();
+        });
+
+        assertEquals(1, builds.get());
+        assertSameSamples(first, second);
+
+        // a different spacing is stored separately
+        BakedTrajectory coarse = cache.getOrBake(builder.cacheKey(), 2, () -> {
+            builds.incrementAndGet();
+            return builder.build();
+        });
+
+        assertEquals(2, builds.get());
+        assertTrue(coarse.size() < first.size());
+        assertEquals(2, directory.listFiles().length);
+
+        // a corrupt file is baked again
+        File file = cache.fileFor(
+            new TrajectoryHash().add(builder.cacheKey()).add(0.5).value()
+        );
+        assertTrue(file.delete());
+        cache.getOrBake(builder.cacheKey(), 0.5, () -> {
+            builds.incrementAndGet();
+            return builder.build();
+        });
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    void testGetOrBakeMultiSpline() {
+        MultiSplineBuilder builder = new MultiSplineBuilder()
+            .setDefaultSpeed(0.5)
+            .setDefaultTolerance(0.5)
+            .setDefaultAngleTolerance(Angle.fromDeg(5))
+            .setDefaultStep(0.1)
+            .add(0, 0, Angle.fromDeg(0), 0.1)
+            .add(20, 10, Angle.fromDeg(0), 0.1)
+            .add(40, 0, Angle.fromDeg(0), 0.1);
+
+        BakedTrajectory first = cache.getOrBake(
+            builder.cacheKey(),
+            0.5,
+            builder::buildSegments
+        );
+        BakedTrajectory second = cache.getOrBake(
+            builder.cacheKey(),
+            0.5,
+            builder::buildSegments
+        );
+
+        assertTrue(first.size() > 1);
+        assertSameSamples(first, second);
+    }
+
+    @Test
+    void testHash() {
+        assertEquals(new TrajectoryHash().value(), new TrajectoryHash().value());
+        assertEquals(
+            new TrajectoryHash().add(1.0).add("a").value(),
+            new TrajectoryHash().add(1.0).add("a").value()
+        );
+
+        // doubles are hashed by their bits, and order matters
+        assertNotEquals(
+            new TrajectoryHash().add(1.0).value(),
+            new TrajectoryHash().add(1.0000001).value()
+        );
+        assertNotEquals(
+            new TrajectoryHash().add(1).add(2).value(),
+            new TrajectoryHash().add(2).add(1).value()
+        );
+        assertNotEquals(
+            new TrajectoryHash().add("ab").add("c").value(),
+            new TrajectoryHash().add("a").add("bc").value()
+        );
+        assertNotEquals(
+            new TrajectoryHash().add((String) null).value(),
+            new TrajectoryHash().add("").value()
+        );
+        assertNotEquals(
+            new TrajectoryHash().add((Angle) null).value(),
+            new TrajectoryHash().add(Angle.fromDeg(0)).value()
+        );
+    }
+
+    @Test
+    void testAdvancedSplineCacheKeys() {
+        assertEquals(builder().cacheKey(), builder().cacheKey());
+        assertNotEquals(builder().cacheKey(), builder().setStep(0.2).cacheKey());
+        assertNotEquals(builder().cacheKey(), builder().setTolerance(1).cacheKey());
+        assertNotEquals(
+            builder().cacheKey(),
+            builder().setAngleTolerance(Angle.fromDeg(6)).cacheKey()
+        );
+        assertNotEquals(
+            builder().cacheKey(),
+            builder().add(60, 0, Angle.fromDeg(90)).cacheKey()
+        );
+        assertNotEquals(
+            builder().add(60, 0, Angle.fromDeg(90), 0.5).cacheKey(),
+            builder().add(60, 0, Angle.fromDeg(90), 0.7).cacheKey()
+        );
+
+        // custom spline generators can't be hashed
+        assertThrows(
+            IllegalStateException.class,
+            () -> builder()
+                .setInterpolationMode(InterpolationMode.CUSTOM)
+                .cacheKey()
+        );
+    }
+
+    @Test
+    void testMultiSplineCacheKeys() {
+        MultiSplineBuilder a = new MultiSplineBuilder()
+            .setDefaultSpeed(0.5)
+            .setDefaultTolerance(0.5)
+            .setDefaultAngleTolerance(Angle.fromDeg(5))
+            .setDefaultStep(0.1)
+            .add(0, 0, Angle.fromDeg(0), 0.1)
+            .add(20, 10, Angle.fromDeg(0), 0.1)
+            .add(40, 0, Angle.fromDeg(0), 0.1);
+        MultiSplineBuilder b = new MultiSplineBuilder()
+            .setDefaultSpeed(0.5)
+            .setDefaultTolerance(0.5)
+            .setDefaultAngleTolerance(Angle.fromDeg(5))
+            .setDefaultStep(0.1)
+            .add(0, 0, Angle.fromDeg(0), 0.1)
+            .add(20, 10, Angle.fromDeg(0), 0.1)
+            .add(40, 0, Angle.fromDeg(0), 0.1);
+
+        assertEquals(a.cacheKey(), b.cacheKey());
+
+        b.add(60, 10, Angle.fromDeg(0), 0.1);
+        assertNotEquals(a.cacheKey(), b.cacheKey());
+
+        assertNotEquals(
+            a.cacheKey(),
+            new MultiSplineBuilder()
+                .setDefaultSpeed(0.6)
+                .setDefaultTolerance(0.5)
+                .setDefaultAngleTolerance(Angle.fromDeg(5))
+                .setDefaultStep(0.1)
+                .add(0, 0, Angle.fromDeg(0), 0.1)
+                .add(20, 10, Angle.fromDeg(0), 0.1)
+                .add(40, 0, Angle.fromDeg(0), 0.1)
+                .cacheKey()
+        );
+    }
+
+    @Test
+    void testHermitePathCacheKeys() {
+        HermitePathTrajectoryBuilder a = new HermitePathTrajectoryBuilder()
+            .setSpeed(0.5)
+            .setLookahead(2)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .add(0, 0, 0)
+            .add(10, 5, 0)
+            .add(20, 0, 0);
+        HermitePathTrajectoryBuilder b = new HermitePathTrajectoryBuilder()
+            .setSpeed(0.5)
+            .setLookahead(2)
+            .setTolerance(0.5)
+            .setAngleTolerance(Angle.fromDeg(5))
+            .add(0, 0, 0)
+            .add(10, 5, 0)
+            .add(20, 0, 0);
+
+        assertEquals(a.cacheKey(), b.cacheKey());
+
+        b.setLookahead(3);
+        assertNotEquals(a.cacheKey(), b.cacheKey());
+
+        // different kinds of builder never share keys
+        assertNotEquals(a.cacheKey(), builder().cacheKey());
+    }
+}
@@ -0,0 +1,55 @@
+package xyz.devmello.tests.trajectory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import xyz.devmello.voyager.Voyager;
+import xyz.devmello.voyager.execution.trajectory.LinearTrajectory;
+import xyz.devmello.voyager.execution.trajectory.Trajectory;
+import xyz.devmello.voyager.logging.LogLevel;
+import xyz.devmello.voyager.logging.Logger;
+import xyz.devmello.voyager.math.geometry.Angle;
+import xyz.devmello.voyager.math.geometry.PointXYZ;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrajectoryMapTest {
+    private static final Trajectory TRAJECTORY = new LinearTrajectory(
+        new PointXYZ(10, 10, 0),
+        0.5,
+        2,
+        Angle.fromDeg(5)
+    );
+
+    @AfterEach
+    void tearDown() {
+        Voyager.clearTrajectoryMap();
+        Logger.setLoggingLevel(LogLevel.WARN);
+        Logger.setOutput(null);
+    }
+
+    @Test
+    void testStackTracesOnlyRecordedWhenDebugging() {
+        Voyager.addTrajectory("group", "quiet", TRAJECTORY);
+
+        assertSame(TRAJECTORY, Voyager.getTrajectory("group", "quiet"));
+        assertTrue(Voyager.getStackTraceMap().isEmpty());
+
+        IllegalArgumentException duplicate = assertThrows(
+            IllegalArgumentException.class,
+            () -> Voyager.addTrajectory("group", "quiet", TRAJECTORY)
+        );
+        assertTrue(duplicate.getMessage().contains("Enable debug logging"), duplicate.getMessage());
+
+        Logger.setOutput(line -> {});
+        Logger.setLoggingLevel(LogLevel.DEBUG);
+        Voyager.addTrajectory("group", "traced", TRAJECTORY);
+
+        assertEquals(1, Voyager.getStackTraceMap().size());
+
+        duplicate = assertThrows(
+            IllegalArgumentException.class,
+            () -> Voyager.addTrajectory("group", "traced", TRAJECTORY)
+        );
+        assertTrue(duplicate.getMessage().contains("testStackTracesOnlyRecordedWhenDebugging"), duplicate.getMessage());
+    }
+}
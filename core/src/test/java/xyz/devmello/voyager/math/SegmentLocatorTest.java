@@ -0,0 +1,144 @@
+package xyz.devmello.voyager.math;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentLocatorTest {
+    private static final double[] KNOTS = { -3, -1, 0, 0.5, 2, 7, 7.25, 10 };
+
+    /**
+     * The segment containing x, found the slow way.
+     */
+    private static int expected(double[] knots, double x) {
+        int i = 0;
+
+        while (i < knots.length - 2 && knots[i + 1] <= x) i++;
+
+        return i;
+    }
+
+    private static void assertFinds(double[] knots, SegmentLocator locator, double x) {
+        assertEquals(expected(knots, x), locator.find(x), () -> "x = " + x);
+    }
+
+    @Test
+    void testKnotsBelongToTheSegmentTheyStart() {
+        SegmentLocator locator = new SegmentLocator(KNOTS);
+
+        for (int i = 0; i < KNOTS.length - 1; i++) {
+            assertEquals(i, locator.find(KNOTS[i]));
+        }
+
+        // the last knot ends the last segment
+        assertEquals(KNOTS.length - 2, locator.find(KNOTS[KNOTS.length - 1]));
+
+        // and again in reverse, so the hint is always ahead
+        for (int i = KNOTS.length - 2; i >= 0; i--) {
+            assertEquals(i, locator.find(KNOTS[i]));
+        }
+    }
+
+    @Test
+    void testValuesOutsideTheKnots() {
+        SegmentLocator locator = new SegmentLocator(KNOTS);
+        int last = KNOTS.length - 2;
+
+        assertEquals(0, locator.find(-100));
+        assertEquals(0, locator.find(Math.nextDown(KNOTS[0])));
+        assertEquals(last, locator.find(10));
+        assertEquals(last, locator.find(1e9));
+        assertEquals(last, locator.find(Double.POSITIVE_INFINITY));
+        assertEquals(0, locator.find(Double.NEGATIVE_INFINITY));
+
+        // from the last segment straight to below the first knot
+        assertEquals(last, locator.find(8));
+        assertEquals(0, locator.find(-4));
+    }
+
+    @Test
+    void testHintedAndFallbackPaths() {
+        SegmentLocator locator = new SegmentLocator(KNOTS);
+
+        // same segment, then the next one: both answered from the hint
+        assertFinds(KNOTS, locator, -2);
+        assertFinds(KNOTS, locator, -1.5);
+        assertFinds(KNOTS, locator, -0.5);
+
+        // skip a segment forwards: binary search
+        assertFinds(KNOTS, locator, 1);
+
+        // move backwards within and across segments
+        assertFinds(KNOTS, locator, 0.75);
+        assertFinds(KNOTS, locator, 0.25);
+        assertFinds(KNOTS, locator, -2.5);
+
+        // just either side of a knot
+        assertFinds(KNOTS, locator, Math.nextDown(7));
+        assertFinds(KNOTS, locator, 7);
+        assertFinds(KNOTS, locator, Math.nextUp(7));
+        assertFinds(KNOTS, locator, Math.nextDown(7));
+    }
+
+    @Test
+    void testRandomAccessPatternsMatchLinearSearch() {
+        Random random = new Random(21);
+
+        for (int trial = 0; trial < 200; trial++) {
+            int count = 2 + random.nextInt(40);
+            double[] knots = new double[count];
+
+            knots[0] = random.nextGaussian() * 10;
+            for (int i = 1; i < count; i++) {
+                knots[i] = knots[i - 1] + 1e-3 + random.nextDouble() * 5;
+            }
+
+            SegmentLocator locator = new SegmentLocator(knots);
+            double min = knots[0] - 5;
+            double span = knots[count - 1] - knots[0] + 10;
+            double x = min + random.nextDouble() * span;
+
+            for (int query = 0; query < 500; query++) {
+                switch (random.nextInt(5)) {
+                    case 0:
+                        // a follower creeping forwards
+                        x += random.nextDouble() * 0.5;
+                        break;
+                    case 1:
+                        // backwards
+                        x -= random.nextDouble() * 2;
+                        break;
+                    case 2:
+                        // anywhere at all
+                        x = min + random.nextDouble() * span;
+                        break;
+                    case 3:
+                        // exactly on a knot
+                        x = knots[random.nextInt(count)];
+                        break;
+                    default:
+                        // one ulp either side of a knot
+                        x = knots[random.nextInt(count)];
+                        x = random.nextBoolean() ? Math.nextUp(x) : Math.nextDown(x);
+                        break;
+                }
+
+                assertFinds(knots, locator, x);
+            }
+        }
+    }
+
+    @Test
+    void testSingleSegment() {
+        SegmentLocator locator = new SegmentLocator(new double[] { 1, 2 });
+
+        assertEquals(0, locator.find(0));
+        assertEquals(0, locator.find(1.5));
+        assertEquals(0, locator.find(3));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new SegmentLocator(new double[] { 1 })
+        );
+    }
+}
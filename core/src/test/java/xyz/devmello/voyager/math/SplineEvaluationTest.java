@@ -0,0 +1,207 @@
+package xyz.devmello.voyager.math;
+
+import java.lang.reflect.Field;
+import java.util.Random;
+import org.apache.commons.math3.analysis.interpolation.AkimaSplineInterpolator;
+import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
+import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares spline evaluation against the way splines were evaluated before
+ * segments were located with a {@link SegmentLocator}.
+ */
+class SplineEvaluationTest {
+    private static final int SPLINES = 300;
+    private static final int QUERIES = 400;
+
+    private final Random random = new Random(1021);
+
+    private static Object field(Object object, String name) throws ReflectiveOperationException {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+
+        return field.get(object);
+    }
+
+    /**
+     * MonotoneCubicSpline.interpolateY as it was: a linear walk from the
+     * first control point, and the Hermite basis evaluated on every call.
+     */
+    @SuppressWarnings("SuspiciousNameCombination")
+    private static double oldInterpolateY(MonotoneCubicSpline spline, double x)
+        throws ReflectiveOperationException {
+        double[] thisX = (double[]) field(spline, "mx");
+        double[] thisY = (double[]) field(spline, "my");
+        double[] mm = (double[]) field(spline, "mm");
+        boolean isXY = (boolean) field(spline, "isXY");
+        boolean isInverted = (boolean) field(spline, "isInverted");
+
+        final int n = thisX.length;
+        final double[] mx = isXY ? thisY : thisX;
+        final double[] my = isXY ? thisX : thisY;
+
+        if (isInverted) x = thisX[0] * 2 - x;
+
+        if (Double.isNaN(x)) return x;
+        else if (x <= mx[0]) return my[0];
+        else if (x >= mx[n - 1]) return my[n - 1];
+
+        int i = 0;
+        while (x >= mx[i + 1]) {
+            i += 1;
+
+            if (x == mx[i]) return my[i];
+        }
+
+        double h = mx[i + 1] - mx[i];
+        double t = (x - mx[i]) / h;
+
+        return (
+            (my[i] * (1 + 2 * t) + h * mm[i] * t) *
+            (1 - t) *
+            (1 - t) +
+            (my[i + 1] * (3 - 2 * t) + h * mm[i + 1] * (t - 1)) *
+            t *
+            t
+        );
+    }
+
+    private double[] increasing(int count, double start, double maxStep) {
+        double[] values = new double[count];
+
+        values[0] = start;
+        for (int i = 1; i < count; i++) {
+            values[i] = values[i - 1] + 0.05 + random.nextDouble() * maxStep;
+        }
+
+        return values;
+    }
+
+    private static double[] negate(double[] values) {
+        double[] negated = new double[values.length];
+
+        for (int i = 0; i < values.length; i++) negated[i] = -values[i];
+
+        return negated;
+    }
+
+    /**
+     * X values moving along the spline like a follower would, with the
+     * occasional jump, backwards step, exact control point, or value
+     * outside the spline.
+     */
+    private double nextQuery(double previous, double[] x) {
+        double min = Math.min(x[0], x[x.length - 1]);
+        double max = Math.max(x[0], x[x.length - 1]);
+        double span = max - min;
+
+        switch (random.nextInt(6)) {
+            case 0: return min + random.nextDouble() * span;
+            case 1: return x[random.nextInt(x.length)];
+            case 2: return min - random.nextDouble() * span;
+            case 3: return max + random.nextDouble() * span;
+            case 4: return previous - random.nextDouble() * span * 0.1;
+            default: return previous + random.nextDouble() * span * 0.02;
+        }
+    }
+
+    private static void assertClose(double expected, double actual, String what) {
+        double tolerance = 1e-12 * Math.max(1, Math.abs(expected));
+
+        assertEquals(expected, actual, tolerance, what);
+    }
+
+    @Test
+    void testMonotoneCubicSplineMatchesOldEvaluation() throws ReflectiveOperationException {
+        for (int s = 0; s < SPLINES; s++) {
+            int count = 2 + random.nextInt(12);
+            double[] x = increasing(count, random.nextGaussian() * 20, 10);
+            double[] y = increasing(count, random.nextGaussian() * 20, 10);
+
+            if (random.nextBoolean()) y = negate(y);
+            // inverted splines have decreasing x values
+            if (random.nextInt(3) == 0) x = negate(x);
+
+            MonotoneCubicSpline spline = new MonotoneCubicSpline(x, y);
+            double query = x[0];
+
+            for (int q = 0; q < QUERIES; q++) {
+                query = nextQuery(query, x);
+
+                assertClose(
+                    oldInterpolateY(spline, query),
+                    spline.interpolateY(query),
+                    "spline " + s + " at x = " + query
+                );
+            }
+
+            assertTrue(Double.isNaN(spline.interpolateY(Double.NaN)));
+        }
+    }
+
+    @Test
+    void testSwappedMonotoneCubicSplineMatchesOldEvaluation() throws ReflectiveOperationException {
+        // duplicate x values make the spline swap its x and y values
+        double[] x = { 0, 0, 5, 10 };
+        double[] y = { 0, 4, 9, 20 };
+        MonotoneCubicSpline spline = new MonotoneCubicSpline(x, y);
+
+        assertTrue((boolean) field(spline, "isXY"));
+
+        for (double query = -5; query <= 25; query += 0.0625) {
+            assertEquals(
+                oldInterpolateY(spline, query),
+                spline.interpolateY(query),
+                "x = " + query
+            );
+        }
+    }
+
+    @Test
+    void testApacheSplineMatchesPolynomialSplineFunction() {
+        for (ApacheSpline.Interpolator interpolator : ApacheSpline.Interpolator.values()) {
+            for (int s = 0; s < SPLINES; s++) {
+                int count = 5 + random.nextInt(10);
+                double[] x = increasing(count, random.nextGaussian() * 20, 10);
+                double[] y = new double[count];
+
+                for (int i = 0; i < count; i++) y[i] = random.nextGaussian() * 30;
+
+                boolean isInverted = random.nextInt(3) == 0;
+                if (isInverted) x = negate(x);
+
+                // the spline reflects inverted x values in place
+                ApacheSpline spline = new ApacheSpline(interpolator, x.clone(), y);
+
+                double[] knots = x.clone();
+                if (isInverted) {
+                    for (int i = 1; i < count; i++) knots[i] = x[0] - (x[i] - x[0]);
+                }
+
+                PolynomialSplineFunction function = interpolator == ApacheSpline.Interpolator.CUBIC
+                    ? new SplineInterpolator().interpolate(knots, y)
+                    : new AkimaSplineInterpolator().interpolate(knots, y);
+                double minX = knots[0];
+                double maxX = knots[count - 1];
+                double query = x[0];
+
+                for (int q = 0; q < QUERIES; q++) {
+                    query = nextQuery(query, x);
+
+                    // ApacheSpline.interpolateY as it was
+                    double reflected = isInverted ? x[0] - (query - x[0]) : query;
+                    double clamped = Math.max(minX, Math.min(maxX, reflected));
+
+                    assertEquals(
+                        function.value(clamped),
+                        spline.interpolateY(query),
+                        interpolator + " spline " + s + " at x = " + query
+                    );
+                }
+            }
+        }
+    }
+}